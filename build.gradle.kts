@@ -2,13 +2,20 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.0"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.category"
 version = "0.0.1-SNAPSHOT"
 
+// ./gradlew build -PjavaVersion=21 로 Java 21 툴체인에서 컴파일하고 테스트, bootRun, jmh, loadTest 도 그 JDK 로 실행한다.
+// 가상 스레드 모드(virtual 프로파일)는 Java 21 런타임이 필요하다. 로컬에 없는 JDK 는 settings.gradle.kts 의 foojay 리졸버가 받는다.
+val javaVersion = providers.gradleProperty("javaVersion").map(String::toInt).getOrElse(17)
+
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(javaVersion))
+    }
 }
 
 repositories {
@@ -36,6 +43,24 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Compares max sustainable RPS and p99 of ProductController endpoints on platform and virtual threads."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.musinsa.category.benchmark.ThreadModeLoadTest")
+    systemProperties(providers.gradlePropertiesPrefixedBy("loadTest.").get())
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
@@ -0,0 +1,96 @@
+package org.musinsa.category.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.service.BrandProductService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 상품 N 개를 가진 브랜드 하나를 addBrandAndProducts 로 추가하는(커밋과 인덱스 반영 포함) 지연 시간.
+ * 보조 카운터 {@code rows} 는 초당 저장한 브랜드+상품 행 수다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=BrandInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BrandInsertBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int productsPerBrand;
+
+    private ConfigurableApplicationContext context;
+    private BrandProductService brandProductService;
+    private JdbcTemplate jdbcTemplate;
+    private List<ProductDto> products;
+    private long brandSequence;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = CatalogBenchmarkState.startApplication();
+        brandProductService = context.getBean(BrandProductService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        products = new ArrayList<>(productsPerBrand);
+        for (int i = 0; i < productsPerBrand; i++) {
+            String category = SyntheticCatalogGenerator.CATEGORIES[i % SyntheticCatalogGenerator.CATEGORIES.length];
+            products.add(new ProductDto(null, category, 1_000L + i, null));
+        }
+    }
+
+    /**
+     * 반복마다 테이블을 비워 DB 크기가 결과에 섞이지 않게 한다.
+     */
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.update("DELETE FROM product");
+        jdbcTemplate.update("DELETE FROM brand");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ApiResponseDto addBrandAndProducts(Rows counter) {
+        BrandProductRequestDto request = new BrandProductRequestDto(
+                new BrandDto(null, SyntheticCatalogGenerator.brandName(++brandSequence)), products);
+
+        ApiResponseDto response = brandProductService.addBrandAndProducts(request);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(response.getMessage());
+        }
+        counter.rows += productsPerBrand + 1;
+        return response;
+    }
+}
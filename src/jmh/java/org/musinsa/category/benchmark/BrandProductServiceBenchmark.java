@@ -0,0 +1,56 @@
+package org.musinsa.category.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.service.BrandProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 임의 브랜드의 상품 하나의 가격을 바꾸는 updateBrandAndProducts 한 건(커밋과 인덱스 반영 포함)의 지연 시간.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=BrandProductServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrandProductServiceBenchmark {
+
+    private BrandProductService brandProductService;
+    private int populatedBrands;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogBenchmarkState state) {
+        brandProductService = state.getBean(BrandProductService.class);
+        populatedBrands = state.populatedBrands();
+        random = new SplittableRandom(state.seed);
+    }
+
+    @Benchmark
+    public ApiResponseDto updateBrandAndProducts() {
+        long brandId = random.nextInt(populatedBrands) + 1;
+        ProductDto product = new ProductDto(brandId, SyntheticCatalogGenerator.CATEGORIES[0],
+                1_000L + 100L * random.nextInt(1_000), null);
+        BrandProductRequestDto request = new BrandProductRequestDto(
+                new BrandDto(brandId, SyntheticCatalogGenerator.brandName(brandId)), List.of(product));
+
+        ApiResponseDto response = brandProductService.updateBrandAndProducts(request);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(response.getMessage());
+        }
+        return response;
+    }
+}
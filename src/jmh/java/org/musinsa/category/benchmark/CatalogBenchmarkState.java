@@ -0,0 +1,79 @@
+package org.musinsa.category.benchmark;
+
+import java.util.UUID;
+import org.musinsa.category.CategoryApplication;
+import org.musinsa.category.domain.index.CatalogIndexUpdater;
+import org.musinsa.category.domain.service.CategoryService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 트라이얼마다 독립된 H2 인메모리 DB 로 애플리케이션 컨텍스트를 띄우고 합성 카탈로그를 적재한다.
+ */
+@State(Scope.Benchmark)
+public class CatalogBenchmarkState {
+
+    @Param({"10000", "100000", "1000000"})
+    public int products;
+
+    @Param({"1000", "10000", "100000"})
+    public int brands;
+
+    @Param({"42"})
+    public long seed;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = startApplication();
+
+        new SyntheticCatalogGenerator(context.getBean(JdbcTemplate.class), seed).generate(brands, products);
+        context.getBean(CatalogIndexUpdater.class).reload();
+    }
+
+    /**
+     * 비어 있는 독립 H2 인메모리 DB 로 웹 서버 없이 애플리케이션 컨텍스트를 띄운다.
+     * <p>
+     * JMH jar 에는 여러 의존성의 spring.factories 중 하나만 남아 ApplicationReadyEvent 가 발행되지 않으므로
+     * 기동 시 리스너가 하던 카테고리 적재를 직접 호출한다.
+     */
+    static ConfigurableApplicationContext startApplication() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CategoryApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID()
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        context.getBean(CategoryService.class).load();
+        return context;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 상품이 하나 이상 있는 브랜드 수.
+     */
+    public int populatedBrands() {
+        return Math.min(brands, products);
+    }
+}
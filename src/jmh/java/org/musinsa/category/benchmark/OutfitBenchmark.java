@@ -0,0 +1,89 @@
+package org.musinsa.category.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.BrandCategoryMatrix;
+import org.musinsa.category.domain.index.BrandPriceRanking;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CategoryPriceIndex;
+import org.musinsa.category.domain.index.OutfitTable;
+import org.musinsa.category.domain.index.OutfitTable.Outfit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 코디 조합 풀이의 지연 시간. 브랜드마다 8개 카테고리 상품을 하나씩 가진 합성 스냅샷을 DB 없이 만들어, 스냅샷 버전마다 한 번
+ * 드는 표 생성과 요청마다 드는 풀이를 따로 잰다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=OutfitBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OutfitBenchmark {
+
+    @Param({"1000", "100000"})
+    public int brands;
+
+    @Param({"42"})
+    public long seed;
+
+    private CatalogSnapshot snapshot;
+    private OutfitTable table;
+    private long budget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        List<ProductPriceDto> products = new ArrayList<>(brands * SyntheticCatalogGenerator.CATEGORIES.length);
+        long productId = 1;
+        for (long brandId = 1; brandId <= brands; brandId++) {
+            for (String category : SyntheticCatalogGenerator.CATEGORIES) {
+                products.add(new ProductPriceDto(productId++, brandId, SyntheticCatalogGenerator.brandName(brandId),
+                        category, 1_000L + 100L * random.nextInt(1_000)));
+            }
+        }
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.reload(products);
+        BrandPriceRanking ranking = new BrandPriceRanking();
+        ranking.reload(products);
+        snapshot = new CatalogSnapshot(1L, index.getSummaryMap(), ranking.getRanking(),
+                BrandCategoryMatrix.of(ranking.getRanking()), CategoryPriceIndex.of(ranking.getRanking()));
+        table = buildTable();
+        budget = 12_345L * SyntheticCatalogGenerator.CATEGORIES.length;
+    }
+
+    @Benchmark
+    public OutfitTable buildTable() {
+        return OutfitTable.of(snapshot, Comparator.comparingInt(
+                category -> Arrays.asList(SyntheticCatalogGenerator.CATEGORIES).indexOf(category)));
+    }
+
+    @Benchmark
+    public Outfit cheapestWithTwoBrands() {
+        return table.cheapest(table.allCategories(), 2);
+    }
+
+    @Benchmark
+    public Outfit cheapestWithFourBrands() {
+        return table.cheapest(table.allCategories(), 4);
+    }
+
+    @Benchmark
+    public Outfit withinBudget() {
+        return table.withinBudget(table.allCategories(), budget);
+    }
+}
@@ -0,0 +1,76 @@
+package org.musinsa.category.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.service.PriceUpdateService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 임의 (브랜드, 카테고리) 가격 변경 N 건을 updatePrices 한 번으로 반영하는(커밋과 인덱스 반영 포함) 처리량.
+ * 보조 카운터 {@code updates} 는 초당 반영한 가격 변경 수다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PriceUpdateBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PriceUpdateBenchmark {
+
+    @Param({"1000", "10000"})
+    public int updatesPerCall;
+
+    private PriceUpdateService priceUpdateService;
+    private int products;
+    private int brands;
+    private SplittableRandom random;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Updates {
+        public long updates;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updates = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogBenchmarkState state) {
+        priceUpdateService = state.getBean(PriceUpdateService.class);
+        products = state.products;
+        brands = state.brands;
+        random = new SplittableRandom(state.seed);
+    }
+
+    @Benchmark
+    public PriceUpdateResultDto updatePrices(Updates counter) {
+        List<PriceUpdateDto> updates = new ArrayList<>(updatesPerCall);
+        for (int k = 0; k < updatesPerCall; k++) {
+            int i = random.nextInt(products);
+            String category = SyntheticCatalogGenerator.CATEGORIES[(i / brands) % SyntheticCatalogGenerator.CATEGORIES.length];
+            updates.add(new PriceUpdateDto((long) i % brands + 1, category, 1_000L + 100L * random.nextInt(1_000)));
+        }
+
+        PriceUpdateResultDto result = priceUpdateService.updatePrices(updates);
+        if (!result.getConflicts().isEmpty()) {
+            throw new IllegalStateException("unexpected conflicts: " + result.getConflicts().size());
+        }
+        counter.updates += updatesPerCall;
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package org.musinsa.category.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 스냅샷이 없을 때 조회 API 가 타는 DB 경로의 지연 시간과 호출당 할당량(gc.alloc.rate.norm).
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ProductRepositoryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductRepositoryBenchmark {
+
+    private ProductRepository productRepository;
+    private int categoryId;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogBenchmarkState state) {
+        productRepository = state.getBean(ProductRepository.class);
+        categoryId = state.getBean(CategoryDictionary.class).findId(SyntheticCatalogGenerator.CATEGORIES[0]).orElseThrow();
+    }
+
+    @Benchmark
+    public List<CategoryLowestPriceDto> findLowestPriceByCategory() {
+        return productRepository.findLowestPriceByCategory();
+    }
+
+    @Benchmark
+    public List<ProductPriceDto> findLowestPriceBrandProducts() {
+        BrandTotalPriceDto lowest = productRepository.findBrandWithLowestTotalPrice().get(0);
+        return productRepository.findCheapestActiveProductPricesByBrandId(lowest.brandId());
+    }
+
+    @Benchmark
+    public List<ProductPriceDto> findLowestAndHighestPriceProductsByCategory() {
+        return productRepository.findLowestAndHighestPriceProductsByCategory(categoryId);
+    }
+}
@@ -0,0 +1,68 @@
+package org.musinsa.category.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.api.dto.LowestPriceBatchResultDto;
+import org.musinsa.category.api.dto.LowestPriceInfoDto;
+import org.musinsa.category.domain.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 조회 API 의 서비스 계층 지연 시간. 일괄 조회는 8개 카테고리의 공집합이 아닌 부분집합 255개를 한 번에 계산한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ProductServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductServiceBenchmark {
+
+    private ProductService productService;
+    private List<List<String>> subsets;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogBenchmarkState state) {
+        productService = state.getBean(ProductService.class);
+        String[] categories = SyntheticCatalogGenerator.CATEGORIES;
+        subsets = new ArrayList<>();
+        for (int mask = 1; mask < 1 << categories.length; mask++) {
+            List<String> subset = new ArrayList<>();
+            for (int bit = 0; bit < categories.length; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    subset.add(categories[bit]);
+                }
+            }
+            subsets.add(subset);
+        }
+    }
+
+    @Benchmark
+    public LowestPriceInfoDto getLowestPriceByCategory() {
+        return productService.getLowestPriceByCategory();
+    }
+
+    @Benchmark
+    public LowestPriceBatchResultDto getLowestPricesByCategories() {
+        return productService.getLowestPricesByCategories(subsets);
+    }
+
+    @Benchmark
+    public Map<String, Object> getLowestPriceBrandInfo() {
+        return productService.getLowestPriceBrandInfo();
+    }
+
+    @Benchmark
+    public Map<String, Object> getCategoryPriceInfo() {
+        return productService.getCategoryPriceInfo(SyntheticCatalogGenerator.CATEGORIES[0]);
+    }
+}
@@ -0,0 +1,96 @@
+package org.musinsa.category.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.index.BrandPriceTotal;
+import org.musinsa.category.domain.shard.ShardedCatalogStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 샤드 수에 따른 scatter-gather 조회와 라우팅된 가격 쓰기의 지연 시간. 브랜드마다 8개 카테고리 상품을 하나씩 가진 합성
+ * 카탈로그를 샤드마다 별도의 내장 H2 에 나눠 담는다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ShardScatterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShardScatterBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    @Param({"category", "brand"})
+    public String strategy;
+
+    @Param({"10000"})
+    public int brands;
+
+    @Param({"42"})
+    public long seed;
+
+    private ShardedCatalogStore store;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new ShardedCatalogStore(true, strategy, shards,
+                "jdbc:h2:mem:bench-shard-" + UUID.randomUUID() + "-%d;DB_CLOSE_DELAY=-1");
+        random = new Random(seed);
+        List<ProductPriceDto> products = new ArrayList<>(brands * SyntheticCatalogGenerator.CATEGORIES.length);
+        long productId = 1;
+        for (long brandId = 1; brandId <= brands; brandId++) {
+            for (String category : SyntheticCatalogGenerator.CATEGORIES) {
+                products.add(new ProductPriceDto(productId++, brandId, SyntheticCatalogGenerator.brandName(brandId),
+                        category, 1_000L + 100L * random.nextInt(1_000)));
+            }
+        }
+        store.reload(products);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    public List<CategoryLowestPriceDto> findLowestPriceByCategory() {
+        return store.findLowestPriceByCategory();
+    }
+
+    @Benchmark
+    public Optional<BrandPriceTotal> findLowestTotalBrand() {
+        return store.findLowestTotalBrand();
+    }
+
+    /**
+     * 임의 브랜드 100개의 한 카테고리 가격을 바꾼다. 변경은 소유 샤드로만 간다.
+     */
+    @Benchmark
+    public void changePrices() {
+        List<CategoryPrice> prices = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            prices.add(new CategoryPrice((long) random.nextInt(brands) + 1,
+                    SyntheticCatalogGenerator.CATEGORIES[random.nextInt(SyntheticCatalogGenerator.CATEGORIES.length)],
+                    1_000L + 100L * random.nextInt(1_000)));
+        }
+        store.changePrices(prices);
+    }
+}
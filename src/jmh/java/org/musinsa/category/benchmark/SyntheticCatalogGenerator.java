@@ -0,0 +1,81 @@
+package org.musinsa.category.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 합성 카탈로그를 만든다. 같은 시드와 크기면 항상 같은 데이터가 만들어진다.
+ * <p>
+ * i 번째 상품(ID = i + 1)은 브랜드 {@code i % brands + 1} 에 속하고, 카테고리는 {@code i / brands} 를
+ * 카테고리 수로 나눈 나머지로 정해진다. 따라서 브랜드 b 의 첫 상품은 ID 가 b 이고 카테고리는 {@link #CATEGORIES}[0] 이다.
+ * 카테고리 행은 애플리케이션 기동 시 채워진 기본 카테고리를 그대로 쓴다.
+ */
+public class SyntheticCatalogGenerator {
+
+    public static final String[] CATEGORIES = {"상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리"};
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+
+    public SyntheticCatalogGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+    }
+
+    public void generate(int brands, int products) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Random random = new Random(seed);
+
+        List<Object[]> brandRows = new ArrayList<>(Math.min(brands, BATCH_SIZE));
+        for (int b = 1; b <= brands; b++) {
+            brandRows.add(new Object[]{(long) b, brandName(b), now, now, 1L});
+            if (brandRows.size() == BATCH_SIZE) {
+                insertBrands(brandRows);
+            }
+        }
+        insertBrands(brandRows);
+
+        int[] categoryIds = new int[CATEGORIES.length];
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            categoryIds[c] = jdbcTemplate.queryForObject("SELECT id FROM category WHERE name = ?", Integer.class, CATEGORIES[c]);
+        }
+
+        List<Object[]> productRows = new ArrayList<>(Math.min(products, BATCH_SIZE));
+        for (int i = 0; i < products; i++) {
+            long brandId = i % brands + 1;
+            int categoryId = categoryIds[(i / brands) % CATEGORIES.length];
+            long price = 1_000L + 100L * random.nextInt(1_000);
+            productRows.add(new Object[]{(long) i + 1, brandId, categoryId, price, now, now, 1L});
+            if (productRows.size() == BATCH_SIZE) {
+                insertProducts(productRows);
+            }
+        }
+        insertProducts(productRows);
+
+        jdbcTemplate.execute("ALTER SEQUENCE brand_seq RESTART WITH " + (brands + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE product_seq RESTART WITH " + (products + 1));
+    }
+
+    public static String brandName(long brandId) {
+        return String.format("BRAND-%06d", brandId);
+    }
+
+    private void insertBrands(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO brand (id, name, create_dt, update_dt, ver_no) VALUES (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, brand_id, category_id, price, create_dt, update_dt, ver_no) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
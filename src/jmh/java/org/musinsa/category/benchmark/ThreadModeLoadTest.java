@@ -0,0 +1,270 @@
+package org.musinsa.category.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import javax.sql.DataSource;
+import org.musinsa.category.CategoryApplication;
+import org.musinsa.category.domain.index.CatalogIndexUpdater;
+import org.musinsa.category.runtime.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@code ProductController} 엔드포인트의 최대 지속 가능 RPS 와 p99 를 플랫폼 스레드 모드와 가상 스레드 모드(virtual
+ * 프로파일)에서 비교한다.
+ * <p>
+ * 모드마다 독립된 H2 인메모리 DB 로 웹 서버를 띄우고 {@link SyntheticCatalogGenerator} 로 카탈로그를 적재한 뒤, 엔드포인트별로
+ * 고정 간격(open-loop) 요청을 {@code startRps} 부터 두 배씩 올린다. 지연은 예정 발송 시각부터 재므로 서버가 밀려도 과소
+ * 측정되지 않는다. p99 가 {@code slo} 이하이고 오류가 1% 이하인 가장 높은 단계가 최대 지속 가능 RPS 다. 원격 DB 왕복은
+ * {@link LatencyInjectingDataSource} 로 흉내 낸다. 결과는 표로 출력하고 {@code output} 에 JSON 으로 저장한다.
+ * <p>
+ * 설정은 {@code -PloadTest.<이름>=<값>} 으로 바꾼다: modes, brands, products, dbLatency, dbPoolSize, slo, startRps, maxRps,
+ * stepDuration, output.
+ */
+public final class ThreadModeLoadTest {
+
+    private static final double MAX_ERROR_RATIO = 0.01;
+    private static final int BISECT_STEPS = 2;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        List<EndpointResult> results = new ArrayList<>();
+        for (String mode : settings.modes()) {
+            if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+                System.out.printf("skipping virtual mode: Java 21 runtime required, running on %d%n", Runtime.version().feature());
+                continue;
+            }
+            try (ConfigurableApplicationContext context = startApplication(mode, settings)) {
+                new SyntheticCatalogGenerator(context.getBean(JdbcTemplate.class), 42L)
+                        .generate(settings.brands(), settings.products());
+                context.getBean(CatalogIndexUpdater.class).reload();
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+                VirtualThreadPinningMonitor monitor = context.getBeanProvider(VirtualThreadPinningMonitor.class).getIfAvailable();
+                for (Endpoint endpoint : endpoints(port, settings)) {
+                    long pinnedBefore = monitor == null ? 0 : monitor.getPinnedCount();
+                    EndpointResult result = measure(mode, endpoint, client, settings);
+                    long pinned = monitor == null ? 0 : monitor.getPinnedCount() - pinnedBefore;
+                    results.add(result.withPinned(pinned));
+                    System.out.printf("%-7s %-24s maxRps=%d p99=%.1fms%n", mode, endpoint.name(), result.maxRps(), result.p99Millis());
+                }
+            }
+        }
+        print(results);
+        write(settings.output(), settings, results);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String mode, Settings settings) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CategoryApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource && !(bean instanceof LatencyInjectingDataSource)
+                                ? new LatencyInjectingDataSource(dataSource, settings.dbLatency())
+                                : bean;
+                    }
+                }));
+        if ("virtual".equals(mode)) {
+            builder.profiles("virtual");
+        }
+        // application.yml 보다 우선하도록 기본 속성이 아닌 커맨드라인 인자로 넘긴다.
+        return builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.hikari.maximum-pool-size=" + settings.dbPoolSize(),
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN");
+    }
+
+    private static List<Endpoint> endpoints(int port, Settings settings) {
+        String base = "http://localhost:" + port + "/product/v1";
+        String[] categories = SyntheticCatalogGenerator.CATEGORIES;
+        return List.of(
+                new Endpoint("GET /lowest-price", seq -> get(base + "/lowest-price")),
+                new Endpoint("GET /brand/lowest-price", seq -> get(base + "/brand/lowest-price")),
+                new Endpoint("GET /category/price", seq -> get(base + "/category/price?category="
+                        + URLEncoder.encode(categories[seq % categories.length], StandardCharsets.UTF_8))),
+                new Endpoint("GET /brand/ranking", seq -> get(base + "/brand/ranking?limit=20")),
+                new Endpoint("PUT /prices", seq -> HttpRequest.newBuilder(URI.create(base + "/prices"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(String.format(
+                                "{\"updates\":[{\"brandId\":%d,\"category\":\"%s\",\"price\":%d}]}",
+                                seq % settings.brands() + 1, categories[seq % categories.length], 1_000L + seq % 1_000 * 100L)))
+                        .build())
+        );
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    /**
+     * 예열 후 두 배씩 올려 처음 실패하는 단계를 찾고, 마지막 통과 단계와 그 사이를 {@value #BISECT_STEPS} 번 이분한다.
+     */
+    private static EndpointResult measure(String mode, Endpoint endpoint, HttpClient client, Settings settings)
+            throws InterruptedException {
+        runStep(client, endpoint, settings.startRps(), settings.stepDuration());
+
+        List<Step> steps = new ArrayList<>();
+        Step best = null;
+        int failedRps = 0;
+        for (int rps = settings.startRps(); rps <= settings.maxRps(); rps *= 2) {
+            Step step = runStep(client, endpoint, rps, settings.stepDuration());
+            steps.add(step);
+            if (!step.sustainable(settings.slo())) {
+                failedRps = rps;
+                break;
+            }
+            best = step;
+        }
+        for (int i = 0; i < BISECT_STEPS && best != null && failedRps > 0; i++) {
+            int rps = (best.rps() + failedRps) / 2;
+            if (rps <= best.rps()) {
+                break;
+            }
+            Step step = runStep(client, endpoint, rps, settings.stepDuration());
+            steps.add(step);
+            if (step.sustainable(settings.slo())) {
+                best = step;
+            } else {
+                failedRps = rps;
+            }
+        }
+        return new EndpointResult(mode, endpoint.name(), best == null ? 0 : best.rps(),
+                best == null ? Double.NaN : best.p50Millis(), best == null ? Double.NaN : best.p99Millis(), 0, steps);
+    }
+
+    /**
+     * 정해진 간격으로 요청을 보내고 모든 응답(또는 타임아웃)을 기다린다.
+     */
+    private static Step runStep(HttpClient client, Endpoint endpoint, int rps, Duration duration)
+            throws InterruptedException {
+        int total = (int) Math.max(1, rps * duration.toMillis() / 1_000);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long[] latencies = new long[total];
+        Arrays.fill(latencies, REQUEST_TIMEOUT.toNanos());
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int seq = i;
+            client.sendAsync(endpoint.request().apply(seq), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[seq] = System.nanoTime() - intended;
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        done.countDown();
+                    });
+        }
+        if (!done.await(duration.plus(REQUEST_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS)) {
+            errors.addAndGet((int) done.getCount());
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new Step(rps, total, errors.get(), millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void print(List<EndpointResult> results) {
+        System.out.println();
+        System.out.printf("%-24s %-9s %10s %10s %10s %8s%n", "endpoint", "mode", "maxRps", "p50(ms)", "p99(ms)", "pinned");
+        results.stream()
+                .sorted(Comparator.comparing(EndpointResult::endpoint).thenComparing(EndpointResult::mode))
+                .forEach(r -> System.out.printf("%-24s %-9s %10d %10.1f %10.1f %8d%n",
+                        r.endpoint(), r.mode(), r.maxRps(), r.p50Millis(), r.p99Millis(), r.pinnedEvents()));
+    }
+
+    private static void write(Path output, Settings settings, List<EndpointResult> results) throws Exception {
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).findAndRegisterModules()
+                .writeValue(output.toFile(), new Report(Runtime.version().toString(), settings.toString(), results));
+        System.out.println("results written to " + output.toAbsolutePath());
+    }
+
+    private record Endpoint(String name, IntFunction<HttpRequest> request) {
+    }
+
+    record Step(int rps, int requests, int errors, double p50Millis, double p99Millis) {
+
+        boolean sustainable(Duration slo) {
+            return errors <= requests * MAX_ERROR_RATIO && p99Millis <= slo.toMillis();
+        }
+    }
+
+    record EndpointResult(String mode, String endpoint, int maxRps, double p50Millis, double p99Millis,
+                          long pinnedEvents, List<Step> steps) {
+
+        EndpointResult withPinned(long pinned) {
+            return new EndpointResult(mode, endpoint, maxRps, p50Millis, p99Millis, pinned, steps);
+        }
+    }
+
+    record Report(String javaVersion, String settings, List<EndpointResult> results) {
+    }
+
+    record Settings(List<String> modes, int brands, int products, Duration dbLatency, int dbPoolSize, Duration slo,
+                    int startRps, int maxRps, Duration stepDuration, Path output) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    List.of(property("modes", "platform,virtual").split(",")),
+                    Integer.parseInt(property("brands", "1000")),
+                    Integer.parseInt(property("products", "10000")),
+                    DurationStyle.detectAndParse(property("dbLatency", "2ms")),
+                    Integer.parseInt(property("dbPoolSize", "50")),
+                    DurationStyle.detectAndParse(property("slo", "100ms")),
+                    Integer.parseInt(property("startRps", "100")),
+                    Integer.parseInt(property("maxRps", "25600")),
+                    DurationStyle.detectAndParse(property("stepDuration", "5s")),
+                    Path.of(property("output", "build/results/loadtest/results.json")));
+        }
+
+        private static String property(String name, String defaultValue) {
+            return System.getProperty("loadTest." + name, defaultValue);
+        }
+    }
+}
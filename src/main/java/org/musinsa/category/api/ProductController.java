@@ -9,23 +9,56 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandDeleteRequestDto;
+import org.musinsa.category.api.dto.BrandDeleteResultDto;
+import org.musinsa.category.api.dto.BrandPatchRequestDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.BrandRankingDto;
+import org.musinsa.category.api.dto.CatalogArchiveStatsDto;
+import org.musinsa.category.api.dto.CatalogImportResultDto;
+import org.musinsa.category.api.dto.CategoryPriceEventDto;
+import org.musinsa.category.api.dto.CategoryRankingDto;
+import org.musinsa.category.api.dto.LowestPriceBatchRequestDto;
+import org.musinsa.category.api.dto.LowestPriceBatchResultDto;
 import org.musinsa.category.api.dto.LowestPriceInfoDto;
+import org.musinsa.category.api.dto.OutfitDto;
+import org.musinsa.category.api.dto.PriceHistogramDto;
+import org.musinsa.category.api.dto.PriceQueueResultDto;
+import org.musinsa.category.api.dto.PriceQueueStatsDto;
+import org.musinsa.category.api.dto.PriceRangeDto;
+import org.musinsa.category.api.dto.PriceUpdateRequestDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto;
+import org.musinsa.category.api.stream.LowestPriceStreamBroker;
+import org.musinsa.category.domain.dto.ProductPatchDto;
 import org.musinsa.category.domain.service.BrandProductService;
+import org.musinsa.category.domain.service.CatalogArchiveService;
+import org.musinsa.category.domain.service.CatalogImportService;
+import org.musinsa.category.domain.service.OutfitService;
+import org.musinsa.category.domain.service.PriceUpdateService;
+import org.musinsa.category.domain.service.PriceWriteBehindService;
+import org.musinsa.category.domain.service.ProductPatchService;
 import org.musinsa.category.domain.service.ProductService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Validated
 @RestController
@@ -43,10 +76,17 @@ public class ProductController {
 
     private final ProductService productService;
     private final BrandProductService brandProductService;
+    private final CatalogImportService catalogImportService;
+    private final PriceUpdateService priceUpdateService;
+    private final PriceWriteBehindService priceWriteBehindService;
+    private final CatalogArchiveService catalogArchiveService;
+    private final ProductPatchService productPatchService;
+    private final LowestPriceStreamBroker lowestPriceStreamBroker;
+    private final OutfitService outfitService;
 
     @Operation(
             summary = "카테고리별 최저가 상품 조회",
-            description = "모든 카테고리에 대해 최저가 상품의 브랜드와 가격, 총액을 조회합니다.",
+            description = "모든 카테고리에 대해 최저가 상품의 브랜드와 가격, 총액을 조회합니다. categories 를 주면 해당 카테고리만 조회합니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -56,17 +96,64 @@ public class ProductController {
                                     schema = @Schema(implementation = LowestPriceInfoDto.class)
                             )
                     ),
+                    @ApiResponse(responseCode = "400", description = "알 수 없는 카테고리"),
                     @ApiResponse(responseCode = "500", description = "서버 오류")
             }
     )
     @GetMapping("/lowest-price")
-    public LowestPriceInfoDto getLowestPriceByCategory() {
-        return productService.getLowestPriceByCategory();
+    public LowestPriceInfoDto getLowestPriceByCategory(@RequestParam(required = false) List<String> categories) {
+        return productService.getLowestPriceByCategory(categories);
+    }
+
+    @Operation(
+            summary = "카테고리 부분집합별 최저가 일괄 조회",
+            description = "카테고리 목록(subsets) 마다 카테고리별 최저가 상품의 브랜드와 가격, 총액을 한 스냅샷에서 계산해 요청 순서대로 돌려줍니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = LowestPriceBatchResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "비어 있거나 너무 큰 목록, 알 수 없는 카테고리"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PostMapping("/lowest-price/batch")
+    public LowestPriceBatchResultDto getLowestPricesByCategories(@RequestBody LowestPriceBatchRequestDto request) {
+        return productService.getLowestPricesByCategories(request.getSubsets());
+    }
+
+    @Operation(
+            summary = "카테고리 최저,최고 가격 변경 구독",
+            description = "카테고리의 최저가, 최고가 또는 그 가격의 브랜드가 바뀔 때만 price-change 이벤트를 보내는 SSE 스트림입니다. "
+                    + "연결 직후 현재 상태를 보내며, categories 를 주면 해당 카테고리만 받습니다. 재연결 때 Last-Event-ID 를 주면 그 이후 바뀐 카테고리만 받습니다. "
+                    + "따라오지 못해 변경을 버린 구독자는 구독한 카테고리의 현재 상태 전체를 price-resync 이벤트로 받습니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 시작",
+                            content = @Content(
+                                    mediaType = "text/event-stream",
+                                    schema = @Schema(implementation = CategoryPriceEventDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "구독자 수 초과"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping(value = "/lowest-price/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowestPrices(@RequestParam(required = false) List<String> categories,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return lowestPriceStreamBroker.subscribe(categories, lastEventId);
     }
 
     @Operation(
             summary = "단일브랜드 브랜드와 카테고리의 상품가격,총액 조회",
-            description = "단일 브랜드로 모든 카테고리에 대해 최저가 상품의 브랜드와 카테고리 가격, 총액을 조회합니다.",
+            description = "단일 브랜드로 모든 카테고리에 대해 최저가 상품의 브랜드와 카테고리 가격, 총액을 조회합니다. "
+                    + "categories 를 주면 해당 카테고리만 보며, 어느 경우든 그 카테고리를 모두 가진 브랜드만 후보입니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -76,12 +163,35 @@ public class ProductController {
                                     schema = @Schema(implementation = Map.class)
                             )
                     ),
+                    @ApiResponse(responseCode = "400", description = "알 수 없는 카테고리 또는 카테고리를 모두 가진 브랜드 없음"),
                     @ApiResponse(responseCode = "500", description = "서버 오류")
             }
     )
     @GetMapping("/brand/lowest-price")
-    public Map<String, Object> getLowestPriceBrandInfo() {
-        return productService.getLowestPriceBrandInfo();
+    public Map<String, Object> getLowestPriceBrandInfo(@RequestParam(required = false) List<String> categories) {
+        return productService.getLowestPriceBrandInfo(categories);
+    }
+
+    @Operation(
+            summary = "브랜드 총액 랭킹 조회",
+            description = "카테고리별 최저가 합계(한 카테고리에 상품이 여럿이면 가장 싼 상품만 더함)가 낮은 순으로 브랜드를 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BrandRankingDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 limit 또는 cursor"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/brand/ranking")
+    public BrandRankingDto getBrandRanking(@RequestParam(defaultValue = "20") int limit,
+                                           @RequestParam(required = false) String cursor) {
+        return productService.getBrandRanking(limit, cursor);
     }
 
     @Operation(
@@ -104,6 +214,123 @@ public class ProductController {
         return productService.getCategoryPriceInfo(category);
     }
 
+    @Operation(
+            summary = "카테고리 가격 순위 조회",
+            description = "카테고리 상품을 order=lowest 면 싼 순, highest 면 비싼 순으로 k 개씩 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CategoryRankingDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 k, order 또는 cursor"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/category/{category}/ranking")
+    public CategoryRankingDto getCategoryRanking(@PathVariable String category,
+                                                 @RequestParam(defaultValue = "lowest") String order,
+                                                 @RequestParam(defaultValue = "20") int k,
+                                                 @RequestParam(required = false) String cursor) {
+        return productService.getCategoryRanking(category, order, k, cursor);
+    }
+
+    @Operation(
+            summary = "카테고리 가격 범위 상품 수 조회",
+            description = "카테고리에서 가격이 min 이상 max 이하인 상품 수와 그 브랜드를 가격순으로 최대 brands 개 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceRangeDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 가격 범위 또는 brands"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/category/{category}/price-range")
+    public PriceRangeDto getPriceRange(@PathVariable String category,
+                                       @RequestParam(defaultValue = "0") long min,
+                                       @RequestParam(required = false) Long max,
+                                       @RequestParam(defaultValue = "20") int brands) {
+        return productService.getPriceRange(category, min, max, brands);
+    }
+
+    @Operation(
+            summary = "카테고리 가격 분포 조회",
+            description = "카테고리 상품 수를 width 원 단위 가격 구간별로 조회합니다. width 는 1,000 의 배수이며 max 가 없으면 카테고리 최고가까지 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceHistogramDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 가격 범위, width 또는 너무 많은 구간"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/category/{category}/price-histogram")
+    public PriceHistogramDto getPriceHistogram(@PathVariable String category,
+                                               @RequestParam(defaultValue = "0") long min,
+                                               @RequestParam(required = false) Long max,
+                                               @RequestParam(defaultValue = "1000") long width) {
+        return productService.getPriceHistogram(category, min, max, width);
+    }
+
+    @Operation(
+            summary = "브랜드 수 제한 최저가 코디 조회",
+            description = "categories(없으면 전체 카테고리) 마다 상품 하나씩, 서로 다른 브랜드를 maxBrands 개 이하로 써서 총액이 가장 낮은 조합을 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = OutfitDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 maxBrands 또는 카테고리, 조건을 만족하는 조합 없음"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/outfit/cheapest")
+    public OutfitDto getCheapestOutfit(@RequestParam(required = false) List<String> categories,
+                                       @RequestParam(defaultValue = "1") int maxBrands) {
+        return outfitService.getCheapestOutfit(categories, maxBrands);
+    }
+
+    @Operation(
+            summary = "예산 내 코디 조회",
+            description = "categories(없으면 전체 카테고리) 마다 상품 하나씩 골라 총액이 budget 이하인 조합 중 총액이 가장 높은 조합을 조회합니다. "
+                    + "탐색 한도에 걸리면 optimal 이 false 입니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = OutfitDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 budget 또는 카테고리, 예산 안의 조합 없음"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/outfit/budget")
+    public OutfitDto getBudgetOutfit(@RequestParam(required = false) List<String> categories,
+                                     @RequestParam long budget) {
+        return outfitService.getBudgetOutfit(categories, budget);
+    }
+
     @Operation(
             summary = "브랜드 및 상품 추가",
             description = "브랜드 및 상품 추가합니다.",
@@ -125,6 +352,47 @@ public class ProductController {
         return ResponseEntity.status(CREATED).body(response);
     }
 
+    @Operation(
+            summary = "브랜드 및 상품 대량 적재",
+            description = "한 줄에 하나씩 브랜드({\"type\":\"brand\",\"name\":...}) 또는 상품({\"type\":\"product\",\"brand\":...,\"category\":...,\"price\":...}) 을 담은 NDJSON 을 적재합니다. "
+                    + "청크 단위로 커밋되며 잘못된 줄과 실패한 청크는 건너뛰고 결과 요약에 기록합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "적재 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CatalogImportResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public CatalogImportResultDto importCatalog(InputStream body) {
+        return catalogImportService.importNdjson(body);
+    }
+
+    @Operation(
+            summary = "삭제 데이터 아카이브 지표 조회",
+            description = "보존 기간이 지난 삭제 브랜드와 상품을 이력 테이블로 옮기는 작업의 누적 이동 행 수, 마지막 실행 결과, 지연(초)을 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CatalogArchiveStatsDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/archive/stats")
+    public CatalogArchiveStatsDto getArchiveStats() {
+        return catalogArchiveService.getStats();
+    }
+
     @Operation(
             summary = "브랜드 및 상품 업데이트",
             description = "브랜드 및 상품 업데이트 합니다.",
@@ -146,6 +414,111 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "상품 가격 일괄 변경",
+            description = "(brandId, category, price) 목록으로 브랜드의 해당 카테고리 활성 상품 가격을 한 번에 변경합니다. 반영할 상품이 없는 항목은 conflicts 로 반환합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "변경 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceUpdateResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "비어 있거나 너무 큰 변경 목록"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PutMapping("/prices")
+    public PriceUpdateResultDto updatePrices(@RequestBody PriceUpdateRequestDto request) {
+        return priceUpdateService.updatePrices(request.getUpdates());
+    }
+
+    @Operation(
+            summary = "상품 가격 변경 지연 반영",
+            description = "(brandId, category, price) 목록을 로컬 저널에 기록한 뒤 큐에 넣고 곧바로 응답합니다. 같은 (brandId, category) 는 마지막 값만 남아 주기적으로 한 번에 반영됩니다. catalog.price-write-behind.enabled 가 켜져 있어야 합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "접수 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceQueueResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "비활성화, 잘못된 변경 목록 또는 큐가 가득 참"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PutMapping("/prices/queue")
+    public PriceQueueResultDto enqueuePrices(@RequestBody PriceUpdateRequestDto request) {
+        return priceWriteBehindService.enqueue(request.getUpdates());
+    }
+
+    @Operation(
+            summary = "가격 변경 큐 지표 조회",
+            description = "쓰기 지연 큐의 대기 키 수, 누적 접수/합쳐진 변경 수, DB 반영 횟수와 마지막 반영 결과를 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 조회됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceQueueStatsDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @GetMapping("/prices/queue/stats")
+    public PriceQueueStatsDto getPriceQueueStats() {
+        return priceWriteBehindService.getStats();
+    }
+
+    @Operation(
+            summary = "상품 부분 수정",
+            description = "상품 하나의 카테고리와 가격 중 요청에 담긴 필드만 변경합니다. 값이 같으면 변경하지 않습니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "수정 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProductPatchResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PatchMapping("/products/{productId}")
+    public ProductPatchResultDto patchProduct(@PathVariable Long productId, @RequestBody ProductPatchDto patch) {
+        return productPatchService.patchProduct(productId, patch);
+    }
+
+    @Operation(
+            summary = "브랜드 및 상품 일부 수정",
+            description = "브랜드 이름과 요청에 담긴 상품만 변경합니다. 상품은 id 로 지정하거나, id 없이 category 로 지정하면 그 카테고리의 활성 상품 가격을 변경합니다. "
+                    + "반영하지 못한 항목은 conflicts 로 반환합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "수정 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProductPatchResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 없는 브랜드"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @PatchMapping("/brands/{brandId}")
+    public ProductPatchResultDto patchBrand(@PathVariable Long brandId, @RequestBody BrandPatchRequestDto request) {
+        return productPatchService.patchBrand(brandId, request);
+    }
+
     @Operation(
             summary = "브랜드 및 상품 삭제",
             description = "브랜드 및 상품 삭제 합니다.",
@@ -166,4 +539,25 @@ public class ProductController {
         ApiResponseDto response = brandProductService.deleteBrandAndProducts(request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "브랜드 일괄 삭제",
+            description = "brandIds 의 브랜드와 그 상품을 한 번에 삭제합니다. 없거나 이미 삭제된 브랜드는 notFoundBrandIds 로 반환합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "삭제 완료",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BrandDeleteResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "비어 있거나 너무 큰 브랜드 ID 목록"),
+                    @ApiResponse(responseCode = "500", description = "서버 오류")
+            }
+    )
+    @DeleteMapping("/brands")
+    public BrandDeleteResultDto deleteBrands(@RequestBody BrandDeleteRequestDto request) {
+        return brandProductService.deleteBrands(request.getBrandIds());
+    }
 }
@@ -0,0 +1,56 @@
+package org.musinsa.category.api.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * 카탈로그 버전 하나에 대해 렌더링된 응답 본문과 gzip 본문. ETag 는 스냅샷 버전과 본문의 SHA-256 이므로 본문이 다르면
+ * 요청 경로나 파라미터와 무관하게 늘 다르다.
+ */
+@Getter
+class CachedResponseBody {
+    private final long version;
+    private final String contentType;
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+    private final String gzipEtag;
+
+    CachedResponseBody(long version, String contentType, byte[] body) {
+        this.version = version;
+        this.contentType = contentType;
+        this.body = body;
+        this.gzipBody = gzip(body);
+        String tag = version + "-" + sha256(body);
+        this.etag = "\"" + tag + "\"";
+        this.gzipEtag = "\"" + tag + "-gzip\"";
+    }
+
+    String etag(boolean gzip) {
+        return gzip ? gzipEtag : etag;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
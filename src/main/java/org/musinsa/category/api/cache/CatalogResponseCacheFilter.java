@@ -0,0 +1,160 @@
+package org.musinsa.category.api.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 카탈로그 조회 응답을 스냅샷 버전 단위로 직렬화된 바이트(와 gzip 바이트)로 캐시하고 ETag 로 재검증한다.
+ * <p>
+ * ETag 는 스냅샷 버전과 본문 다이제스트이므로, 같은 버전의 본문이 캐시에 있고 {@code If-None-Match} 가 일치하면 서비스나
+ * DB 를 거치지 않고 304 를 돌려준다. 캐시에 없으면 렌더링한 본문으로 비교한다. 스냅샷이 다시 공개되면 버전이 바뀌어 이전
+ * 본문은 자연히 무효가 된다. 캐시는 {@code catalog.http-cache.max-entries} 개까지 가장 오래 쓰이지 않은 키부터 내보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.http-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CACHEABLE_PATHS = Set.of(
+            "/product/v1/lowest-price",
+            "/product/v1/brand/lowest-price",
+            "/product/v1/category/price"
+    );
+    private static final String GZIP = "gzip";
+
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final String cacheControl;
+    private final Map<String, CachedResponseBody> bodies;
+
+    public CatalogResponseCacheFilter(CatalogSnapshotPublisher catalogSnapshotPublisher,
+                                      @Value("${catalog.http-cache.max-age:0s}") Duration maxAge,
+                                      @Value("${catalog.http-cache.max-entries:1024}") int maxEntries) {
+        this.catalogSnapshotPublisher = catalogSnapshotPublisher;
+        this.cacheControl = CacheControl.maxAge(maxAge).mustRevalidate().getHeaderValue();
+        this.bodies = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponseBody> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !CACHEABLE_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+        if (snapshot == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long version = snapshot.getVersion();
+        String key = cacheKey(request);
+        boolean gzip = acceptsGzip(request);
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        CachedResponseBody cached = bodies.get(key);
+        if (cached == null || cached.getVersion() != version) {
+            cached = render(request, response, chain, key, version);
+            if (cached == null) {
+                return;
+            }
+        }
+
+        String etag = cached.etag(gzip);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        write(response, cached, etag, gzip);
+    }
+
+    /**
+     * 컨트롤러를 실행해 본문을 얻는다. 200 이 아니거나 실행 중 스냅샷이 바뀌었으면 캐시하지 않고 그대로 내보낸다.
+     */
+    private CachedResponseBody render(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                                      String key, long version) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        CatalogSnapshot after = catalogSnapshotPublisher.getCurrent();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || after == null || after.getVersion() != version) {
+            wrapper.copyBodyToResponse();
+            return null;
+        }
+
+        CachedResponseBody rendered = new CachedResponseBody(version, wrapper.getContentType(),
+                wrapper.getContentAsByteArray());
+        bodies.put(key, rendered);
+        wrapper.resetBuffer();
+        return rendered;
+    }
+
+    private void write(HttpServletResponse response, CachedResponseBody cached, String etag, boolean gzip)
+            throws IOException {
+        byte[] body = gzip ? cached.getGzipBody() : cached.getBody();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String key = request.getRequestURI();
+        String category = request.getParameter("category");
+        if (category != null) {
+            key += "?category=" + category;
+        }
+        String[] categories = request.getParameterValues("categories");
+        if (categories != null) {
+            key += (category == null ? "?" : "&") + "categories=" + String.join(",", categories);
+        }
+        return key;
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class BrandDeleteRequestDto {
+
+    private List<Long> brandIds;
+
+    public BrandDeleteRequestDto(List<Long> brandIds) {
+        this.brandIds = brandIds;
+    }
+}
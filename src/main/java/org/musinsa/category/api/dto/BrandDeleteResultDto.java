@@ -0,0 +1,25 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브랜드 일괄 삭제 결과. 없거나 이미 삭제된 브랜드는 notFoundBrandIds 로 돌려준다.
+ */
+@NoArgsConstructor
+@Getter
+public class BrandDeleteResultDto {
+
+    private int requested;
+    private int deletedBrands;
+    private int deletedProducts;
+    private List<Long> notFoundBrandIds;
+
+    public BrandDeleteResultDto(int requested, int deletedBrands, int deletedProducts, List<Long> notFoundBrandIds) {
+        this.requested = requested;
+        this.deletedBrands = deletedBrands;
+        this.deletedProducts = deletedProducts;
+        this.notFoundBrandIds = notFoundBrandIds;
+    }
+}
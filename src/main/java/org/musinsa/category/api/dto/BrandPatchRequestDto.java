@@ -0,0 +1,21 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.musinsa.category.domain.dto.ProductPatchDto;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class BrandPatchRequestDto {
+
+    private String name;
+    private List<ProductPatchDto> products;
+
+    public BrandPatchRequestDto(String name, List<ProductPatchDto> products) {
+        this.name = name;
+        this.products = products;
+    }
+}
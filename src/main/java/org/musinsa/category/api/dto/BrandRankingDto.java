@@ -0,0 +1,21 @@
+package org.musinsa.category.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+
+@NoArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BrandRankingDto {
+
+    private List<BrandTotalPriceDto> brands;
+    private String nextCursor;
+
+    public BrandRankingDto(List<BrandTotalPriceDto> brands, String nextCursor) {
+        this.brands = brands;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,32 @@
+package org.musinsa.category.api.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아카이브 작업 지표. 누적 이동 행 수와 마지막 실행 결과, 보존 기간을 넘겨 아직 남아 있는 삭제 행의 지연을 담는다.
+ */
+@NoArgsConstructor
+@Getter
+public class CatalogArchiveStatsDto {
+
+    private long brandsArchived;
+    private long productsArchived;
+    private long lastRunBrands;
+    private long lastRunProducts;
+    private LocalDateTime lastRunAt;
+    private long lastRunMillis;
+    private long lagSeconds;
+
+    public CatalogArchiveStatsDto(long brandsArchived, long productsArchived, long lastRunBrands, long lastRunProducts,
+                                  LocalDateTime lastRunAt, long lastRunMillis, long lagSeconds) {
+        this.brandsArchived = brandsArchived;
+        this.productsArchived = productsArchived;
+        this.lastRunBrands = lastRunBrands;
+        this.lastRunProducts = lastRunProducts;
+        this.lastRunAt = lastRunAt;
+        this.lastRunMillis = lastRunMillis;
+        this.lagSeconds = lagSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package org.musinsa.category.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * NDJSON 대량 적재의 한 줄.
+ * <pre>
+ * {"type":"brand","name":"A"}
+ * {"type":"product","brand":"A","category":"상의","price":11200}
+ * </pre>
+ * 상품 줄의 brand 는 같은 작업에서 먼저 만든 브랜드나 이미 있는 활성 브랜드의 이름이다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportLineDto {
+    public static final String TYPE_BRAND = "brand";
+    public static final String TYPE_PRODUCT = "product";
+
+    private String type;
+    private String name;
+    private String brand;
+    private String category;
+    private Long price;
+}
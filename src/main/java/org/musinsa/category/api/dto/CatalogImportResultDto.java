@@ -0,0 +1,34 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 적재 결과 요약. 실패한 청크와 거부된 줄은 건너뛰고 나머지는 커밋된다.
+ */
+@NoArgsConstructor
+@Getter
+public class CatalogImportResultDto {
+
+    private long linesRead;
+    private long brandsImported;
+    private long productsImported;
+    private long rejectedLines;
+    private int committedChunks;
+    private int failedChunks;
+    private long elapsedMillis;
+    private List<String> errors;
+
+    public CatalogImportResultDto(long linesRead, long brandsImported, long productsImported, long rejectedLines,
+                                  int committedChunks, int failedChunks, long elapsedMillis, List<String> errors) {
+        this.linesRead = linesRead;
+        this.brandsImported = brandsImported;
+        this.productsImported = productsImported;
+        this.rejectedLines = rejectedLines;
+        this.committedChunks = committedChunks;
+        this.failedChunks = failedChunks;
+        this.elapsedMillis = elapsedMillis;
+        this.errors = errors;
+    }
+}
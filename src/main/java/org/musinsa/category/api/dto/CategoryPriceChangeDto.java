@@ -0,0 +1,35 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 하나의 최저가/최고가와 그 가격의 브랜드. 브랜드 목록은 이름 오름차순이며, 카테고리에 활성 상품이 없어지면 가격과
+ * 브랜드 목록이 모두 null 이다. version 은 이 값이 처음 나타난 스냅샷 버전이다.
+ */
+@NoArgsConstructor
+@Getter
+public class CategoryPriceChangeDto {
+
+    private String category;
+    private long version;
+    private Long lowestPrice;
+    private List<String> lowestPriceBrands;
+    private Long highestPrice;
+    private List<String> highestPriceBrands;
+
+    public CategoryPriceChangeDto(String category, long version, Long lowestPrice, List<String> lowestPriceBrands,
+                                  Long highestPrice, List<String> highestPriceBrands) {
+        this.category = category;
+        this.version = version;
+        this.lowestPrice = lowestPrice;
+        this.lowestPriceBrands = lowestPriceBrands;
+        this.highestPrice = highestPrice;
+        this.highestPriceBrands = highestPriceBrands;
+    }
+
+    public boolean isRemoved() {
+        return lowestPrice == null;
+    }
+}
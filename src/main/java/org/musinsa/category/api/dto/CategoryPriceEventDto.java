@@ -0,0 +1,25 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가격 변경 스트림으로 보내는 이벤트 하나. 구독자가 따라오지 못하는 동안 쌓인 변경은 카테고리마다 마지막 값만 남아 함께
+ * 전달된다. dropped 는 버퍼가 가득 차 버린 카테고리 수이며, 0 보다 크면 이 이벤트는 {@code price-resync} 로 보내지고
+ * changes 에 구독한 카테고리의 현재 상태 전체가 담긴다.
+ */
+@NoArgsConstructor
+@Getter
+public class CategoryPriceEventDto {
+
+    private long version;
+    private List<CategoryPriceChangeDto> changes;
+    private int dropped;
+
+    public CategoryPriceEventDto(long version, List<CategoryPriceChangeDto> changes, int dropped) {
+        this.version = version;
+        this.changes = changes;
+        this.dropped = dropped;
+    }
+}
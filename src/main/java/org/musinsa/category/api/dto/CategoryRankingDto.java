@@ -0,0 +1,38 @@
+package org.musinsa.category.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 가격 순위 한 페이지. nextCursor 가 있으면 cursor 로 넘겨 다음 페이지를 조회한다.
+ */
+@NoArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CategoryRankingDto {
+
+    private String category;
+    private String order;
+    private List<Entry> products;
+    private String nextCursor;
+
+    public CategoryRankingDto(String category, String order, List<Entry> products, String nextCursor) {
+        this.category = category;
+        this.order = order;
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class Entry {
+        private Long productId;
+        private Long brandId;
+        private String brand;
+        private Long price;
+    }
+}
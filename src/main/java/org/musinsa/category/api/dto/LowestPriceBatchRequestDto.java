@@ -0,0 +1,18 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class LowestPriceBatchRequestDto {
+
+    private List<List<String>> subsets;
+
+    public LowestPriceBatchRequestDto(List<List<String>> subsets) {
+        this.subsets = subsets;
+    }
+}
@@ -0,0 +1,21 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 부분집합별 최저가 조합. results 는 요청한 부분집합 순서이며, 모두 같은 스냅샷 version 에서 계산되었다.
+ */
+@NoArgsConstructor
+@Getter
+public class LowestPriceBatchResultDto {
+
+    private long version;
+    private List<LowestPriceInfoDto> results;
+
+    public LowestPriceBatchResultDto(long version, List<LowestPriceInfoDto> results) {
+        this.version = version;
+        this.results = results;
+    }
+}
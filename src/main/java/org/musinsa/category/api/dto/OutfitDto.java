@@ -0,0 +1,26 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.musinsa.category.domain.dto.CategoryPriceDto;
+
+/**
+ * 카테고리마다 상품 하나씩 고른 코디 조합. optimal 이 false 면 탐색 한도에 걸려 더 나은 조합이 있을 수 있다.
+ */
+@NoArgsConstructor
+@Getter
+public class OutfitDto {
+
+    private List<CategoryPriceDto> categories;
+    private long totalPrice;
+    private int brandCount;
+    private boolean optimal;
+
+    public OutfitDto(List<CategoryPriceDto> categories, long totalPrice, int brandCount, boolean optimal) {
+        this.categories = categories;
+        this.totalPrice = totalPrice;
+        this.brandCount = brandCount;
+        this.optimal = optimal;
+    }
+}
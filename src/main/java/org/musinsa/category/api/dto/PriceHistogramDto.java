@@ -0,0 +1,24 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.musinsa.category.domain.dto.PriceBucketDto;
+
+/**
+ * 카테고리 가격 분포. 구간은 bucketWidth 단위로 나뉘며 상품이 없는 구간도 count 0 으로 담긴다.
+ */
+@NoArgsConstructor
+@Getter
+public class PriceHistogramDto {
+
+    private String category;
+    private long bucketWidth;
+    private List<PriceBucketDto> buckets;
+
+    public PriceHistogramDto(String category, long bucketWidth, List<PriceBucketDto> buckets) {
+        this.category = category;
+        this.bucketWidth = bucketWidth;
+        this.buckets = buckets;
+    }
+}
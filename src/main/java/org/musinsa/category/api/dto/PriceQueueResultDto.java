@@ -0,0 +1,29 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.musinsa.category.api.dto.PriceUpdateResultDto.Conflict;
+
+/**
+ * 쓰기 지연 큐 접수 결과. accepted 는 저널에 기록된 변경 수, coalesced 는 같은 (브랜드, 카테고리) 의 이전 값을 덮어써
+ * DB 에 따로 쓰이지 않을 변경 수다.
+ */
+@NoArgsConstructor
+@Getter
+public class PriceQueueResultDto {
+
+    private int requested;
+    private int accepted;
+    private int coalesced;
+    private int pendingKeys;
+    private List<Conflict> conflicts;
+
+    public PriceQueueResultDto(int requested, int accepted, int coalesced, int pendingKeys, List<Conflict> conflicts) {
+        this.requested = requested;
+        this.accepted = accepted;
+        this.coalesced = coalesced;
+        this.pendingKeys = pendingKeys;
+        this.conflicts = conflicts;
+    }
+}
@@ -0,0 +1,40 @@
+package org.musinsa.category.api.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쓰기 지연 큐 지표. accepted 대비 flushedChanges 가 합쳐진 비율이고, droppedChanges 는 반영할 활성 상품이 없거나 수락 뒤
+ * 더 새로운 가격으로 바뀌어 버려진 변경 수다.
+ */
+@NoArgsConstructor
+@Getter
+public class PriceQueueStatsDto {
+
+    private boolean enabled;
+    private int pendingKeys;
+    private long accepted;
+    private long coalesced;
+    private long flushes;
+    private long flushedChanges;
+    private long updatedRows;
+    private long droppedChanges;
+    private LocalDateTime lastFlushAt;
+    private long lastFlushMillis;
+
+    public PriceQueueStatsDto(boolean enabled, int pendingKeys, long accepted, long coalesced, long flushes,
+                              long flushedChanges, long updatedRows, long droppedChanges, LocalDateTime lastFlushAt,
+                              long lastFlushMillis) {
+        this.enabled = enabled;
+        this.pendingKeys = pendingKeys;
+        this.accepted = accepted;
+        this.coalesced = coalesced;
+        this.flushes = flushes;
+        this.flushedChanges = flushedChanges;
+        this.updatedRows = updatedRows;
+        this.droppedChanges = droppedChanges;
+        this.lastFlushAt = lastFlushAt;
+        this.lastFlushMillis = lastFlushMillis;
+    }
+}
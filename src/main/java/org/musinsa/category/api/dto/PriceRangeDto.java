@@ -0,0 +1,30 @@
+package org.musinsa.category.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리에서 가격이 [minPrice, maxPrice] 인 상품 수와 그 브랜드 목록(가격순, 최대 요청한 개수). maxPrice 가 없으면 상한이
+ * 없다.
+ */
+@NoArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PriceRangeDto {
+
+    private String category;
+    private long minPrice;
+    private Long maxPrice;
+    private int count;
+    private List<String> brands;
+
+    public PriceRangeDto(String category, long minPrice, Long maxPrice, int count, List<String> brands) {
+        this.category = category;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.count = count;
+        this.brands = brands;
+    }
+}
@@ -0,0 +1,19 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class PriceUpdateRequestDto {
+
+    private List<PriceUpdateDto> updates;
+
+    public PriceUpdateRequestDto(List<PriceUpdateDto> updates) {
+        this.updates = updates;
+    }
+}
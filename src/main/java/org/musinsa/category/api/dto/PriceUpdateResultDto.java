@@ -0,0 +1,34 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가격 일괄 변경 결과. 반영되지 않은 항목은 요청 목록에서의 위치와 함께 conflicts 에 담긴다.
+ */
+@NoArgsConstructor
+@Getter
+public class PriceUpdateResultDto {
+
+    private int requested;
+    private int updatedRows;
+    private List<Conflict> conflicts;
+
+    public PriceUpdateResultDto(int requested, int updatedRows, List<Conflict> conflicts) {
+        this.requested = requested;
+        this.updatedRows = updatedRows;
+        this.conflicts = conflicts;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class Conflict {
+        private int index;
+        private Long brandId;
+        private String category;
+        private String reason;
+    }
+}
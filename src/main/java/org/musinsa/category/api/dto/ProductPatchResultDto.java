@@ -0,0 +1,40 @@
+package org.musinsa.category.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 부분 수정 결과. 값이 같아 바꾸지 않은 상품은 unchangedProducts 로 세고, 반영하지 못한 항목은 요청 목록에서의 위치와 함께
+ * conflicts 에 담긴다.
+ */
+@NoArgsConstructor
+@Getter
+public class ProductPatchResultDto {
+
+    private int requested;
+    private boolean brandUpdated;
+    private int updatedProducts;
+    private int unchangedProducts;
+    private List<Conflict> conflicts;
+
+    public ProductPatchResultDto(int requested, boolean brandUpdated, int updatedProducts, int unchangedProducts,
+                                 List<Conflict> conflicts) {
+        this.requested = requested;
+        this.brandUpdated = brandUpdated;
+        this.updatedProducts = updatedProducts;
+        this.unchangedProducts = unchangedProducts;
+        this.conflicts = conflicts;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class Conflict {
+        private int index;
+        private Long productId;
+        private String category;
+        private String reason;
+    }
+}
@@ -0,0 +1,47 @@
+package org.musinsa.category.api.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.musinsa.category.domain.replica.ReplicaReadConsistency;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * {@value #MIN_VERSION_HEADER} 헤더로 받은 카탈로그 스냅샷 버전을 요청 동안 읽기 라우팅에 넘긴다. 이 버전을 아직 반영하지
+ * 못한 복제본 대신 주 데이터소스에서 읽으므로, 응답의 ETag 나 일괄 조회 결과로 받은 버전을 다시 보내면 그보다 오래된 데이터를
+ * 보지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.replica.enabled", havingValue = "true")
+public class ReplicaConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String MIN_VERSION_HEADER = "X-Catalog-Min-Version";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(MIN_VERSION_HEADER);
+        if (header == null || header.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long minVersion;
+        try {
+            minVersion = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, MIN_VERSION_HEADER + " must be a number");
+            return;
+        }
+        ReplicaReadConsistency.setMinVersion(minVersion);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaReadConsistency.clear();
+        }
+    }
+}
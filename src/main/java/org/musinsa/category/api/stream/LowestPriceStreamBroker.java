@@ -0,0 +1,431 @@
+package org.musinsa.category.api.stream;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.CategoryPriceChangeDto;
+import org.musinsa.category.api.dto.CategoryPriceEventDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogSnapshotPublishedEvent;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CategoryPriceSummary;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 카테고리 최저가/최고가 변경을 SSE 구독자에게 전달한다.
+ * <p>
+ * 스냅샷이 공개될 때마다 카테고리별 (최저가, 최저가 브랜드, 최고가, 최고가 브랜드) 를 직전 값과 비교해 실제로 바뀐 카테고리만
+ * 보낸다. 공개 리스너는 스냅샷만 넘겨받고 바로 돌아가며, 비교와 구독자 분배는 전용 스레드 하나에서 가장 최근 스냅샷으로 모아
+ * 수행하므로 스냅샷 공개 락을 구독자 수만큼 붙잡지 않는다.
+ * <p>
+ * 구독자마다 카테고리를 키로 하는 버퍼를 두어 느린 구독자에게는 카테고리별 마지막 값만 남긴다. 버퍼가
+ * {@code catalog.price-stream.max-buffered-categories} 를 넘으면 가장 오래된 카테고리를 버리고, 다음 전송은 변경 대신
+ * 구독한 카테고리의 현재 상태 전체를 {@value #RESYNC_EVENT_NAME} 이벤트로 보내 버린 변경이 빠지지 않게 한다.
+ * 전송은 {@code delivery-threads} 개 스레드와 {@code delivery-queue} 길이의 대기열로 제한된 전용 실행기에서 구독자당
+ * 하나의 작업으로만 이루어진다. 한 번의 전송이 {@code send-timeout} 을 넘기면 하트비트 때 그 구독자를 빼고, 막혀 있던 전송이
+ * 끝나는 대로 연결을 닫는다.
+ * <p>
+ * 이벤트 ID 는 {@code <기동 식별자>:<스냅샷 버전>} 이다. 재연결 때 Last-Event-ID 를 주면 그 버전 이후 바뀐 카테고리만
+ * 보내고, 다른 기동에서 받은 ID 거나 해석할 수 없으면 현재 상태 전체를 보낸다.
+ */
+@Slf4j
+@Component
+public class LowestPriceStreamBroker {
+
+    static final String EVENT_NAME = "price-change";
+    static final String RESYNC_EVENT_NAME = "price-resync";
+
+    private final Executor dispatcher;
+    private final Executor delivery;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final int maxBufferedCategories;
+    private final long sendTimeoutNanos;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong droppedChanges = new AtomicLong();
+    private final AtomicLong stalledSubscribers = new AtomicLong();
+    private final AtomicReference<CatalogSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private CatalogSnapshot dispatched;
+    private volatile long version;
+    private volatile Map<String, CategoryPriceChangeDto> latest = Map.of();
+
+    @Autowired
+    public LowestPriceStreamBroker(@Value("${catalog.price-stream.max-subscribers:10000}") int maxSubscribers,
+                                   @Value("${catalog.price-stream.timeout:30m}") Duration timeout,
+                                   @Value("${catalog.price-stream.max-buffered-categories:64}") int maxBufferedCategories,
+                                   @Value("${catalog.price-stream.delivery-threads:8}") int deliveryThreads,
+                                   @Value("${catalog.price-stream.delivery-queue:10000}") int deliveryQueue,
+                                   @Value("${catalog.price-stream.send-timeout:10s}") Duration sendTimeout) {
+        this(Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "price-stream-dispatch")),
+                newDeliveryExecutor(deliveryThreads, deliveryQueue),
+                maxSubscribers, timeout, maxBufferedCategories, sendTimeout);
+    }
+
+    LowestPriceStreamBroker(Executor dispatcher, Executor delivery, int maxSubscribers, Duration timeout,
+                            int maxBufferedCategories, Duration sendTimeout) {
+        this.dispatcher = dispatcher;
+        this.delivery = delivery;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.maxBufferedCategories = maxBufferedCategories;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+
+    private static ExecutorService newDeliveryExecutor(int threads, int queue) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queue),
+                runnable -> daemon(runnable, "price-stream-" + count.getAndIncrement()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 구독을 등록한다. categories 가 비어 있으면 모든 카테고리를 받는다.
+     */
+    public SseEmitter subscribe(Collection<String> categories, String lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException("TOO_MANY_SUBSCRIBERS", "Price stream subscriber limit exceeded: " + maxSubscribers);
+        }
+        Subscriber subscriber = new Subscriber(newEmitter(), categories == null ? Set.of() : Set.copyOf(categories));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        register(subscriber, lastEventId);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 스냅샷 공개 락 안에서 불리므로 가장 최근 스냅샷만 넘겨 두고 돌아간다. 분배 작업이 돌고 있지 않을 때만 새로 넣는다.
+     */
+    @EventListener
+    public void onSnapshotPublished(CatalogSnapshotPublishedEvent event) {
+        pendingSnapshot.accumulateAndGet(event.getCurrent(),
+                (pending, current) -> pending != null && pending.getVersion() > current.getVersion() ? pending : current);
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * 프록시와 로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보낸다. 보낼 변경이 쌓여 있으면 그 전송으로 대신한다.
+     * 전송 하나가 {@code send-timeout} 을 넘긴 구독자는 이때 뺀다.
+     */
+    @Scheduled(initialDelayString = "${catalog.price-stream.heartbeat:PT15S}",
+            fixedDelayString = "${catalog.price-stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.forEach(subscriber -> {
+            if (subscriber.stalled(now)) {
+                log.warn("price stream subscriber dropped: send stalled longer than {}ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                stalledSubscribers.incrementAndGet();
+                remove(subscriber);
+            } else {
+                subscriber.heartbeat();
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDroppedChanges() {
+        return droppedChanges.get();
+    }
+
+    public long getStalledSubscribers() {
+        return stalledSubscribers.get();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        if (delivery instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void dispatch() {
+        // 분배 도중 공개된 스냅샷이 다음 분배를 예약할 수 있도록 먼저 플래그를 내린다.
+        dispatchScheduled.set(false);
+        CatalogSnapshot current = pendingSnapshot.getAndSet(null);
+        if (current == null) {
+            return;
+        }
+        try {
+            fanOut(current);
+        } catch (RuntimeException e) {
+            log.error("price stream dispatch failed: version={}", current.getVersion(), e);
+        }
+    }
+
+    /**
+     * 등록과 같은 락 안에서 바뀐 값을 기록하고 구독자 버퍼에 넣는다. 버퍼에 넣는 일은 짧은 락만 잡고, 전송은 실행기에 맡긴다.
+     */
+    private synchronized void fanOut(CatalogSnapshot current) {
+        if (dispatched != null && dispatched.getVersion() >= current.getVersion()) {
+            return;
+        }
+        List<CategoryPriceChangeDto> changes = diff(dispatched, current);
+        dispatched = current;
+        if (changes.isEmpty()) {
+            return;
+        }
+        Map<String, CategoryPriceChangeDto> updated = new HashMap<>(latest);
+        changes.forEach(change -> updated.put(change.getCategory(), change));
+        latest = Map.copyOf(updated);
+        version = current.getVersion();
+        subscribers.forEach(subscriber -> subscriber.offer(changes));
+    }
+
+    /**
+     * 분배와 같은 락 안에서 등록하고 시작 상태를 넣으므로, 그 사이 공개된 변경이 빠지거나 이미 보낸 값보다 오래된 값이 뒤에
+     * 보내지지 않는다.
+     */
+    private synchronized void register(Subscriber subscriber, String lastEventId) {
+        subscribers.add(subscriber);
+        long since = resumeVersion(lastEventId);
+        subscriber.offer(latest.values().stream()
+                .filter(change -> change.getVersion() > since)
+                .filter(change -> since > 0 || !change.isRemoved())
+                .toList());
+    }
+
+    private long resumeVersion(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + ":")) {
+            return 0L;
+        }
+        try {
+            long resumed = Long.parseLong(lastEventId.substring(epoch.length() + 1));
+            return resumed <= version ? resumed : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private List<CategoryPriceChangeDto> diff(CatalogSnapshot previous, CatalogSnapshot current) {
+        List<CategoryPriceChangeDto> changes = new ArrayList<>();
+        for (CategoryPriceSummary summary : current.getCategorySummaries()) {
+            // 변경이 없는 카테고리는 인덱스가 요약 객체를 그대로 재사용한다.
+            if (previous != null && latest.containsKey(summary.getCategory())
+                    && previous.getCategorySummary(summary.getCategory()).orElse(null) == summary) {
+                continue;
+            }
+            CategoryPriceChangeDto change = toChange(summary, current.getVersion());
+            if (!samePrices(latest.get(summary.getCategory()), change)) {
+                changes.add(change);
+            }
+        }
+        latest.values().stream()
+                .filter(change -> !change.isRemoved())
+                .filter(change -> current.getCategorySummary(change.getCategory()).isEmpty())
+                .forEach(change -> changes.add(new CategoryPriceChangeDto(change.getCategory(), current.getVersion(),
+                        null, null, null, null)));
+        return changes;
+    }
+
+    private static CategoryPriceChangeDto toChange(CategoryPriceSummary summary, long version) {
+        return new CategoryPriceChangeDto(summary.getCategory(), version,
+                summary.getLowestPrice(), brandNames(summary.getLowestPriceProducts()),
+                summary.getHighestPrice(), brandNames(summary.getHighestPriceProducts()));
+    }
+
+    private static List<String> brandNames(List<ProductPriceDto> products) {
+        return products.stream().map(ProductPriceDto::brandName).toList();
+    }
+
+    private static boolean samePrices(CategoryPriceChangeDto before, CategoryPriceChangeDto after) {
+        return before != null
+                && Objects.equals(before.getLowestPrice(), after.getLowestPrice())
+                && Objects.equals(before.getLowestPriceBrands(), after.getLowestPriceBrands())
+                && Objects.equals(before.getHighestPrice(), after.getHighestPrice())
+                && Objects.equals(before.getHighestPriceBrands(), after.getHighestPriceBrands());
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 구독자 하나의 버퍼. 버퍼 조작은 짧은 락 안에서만 하고, 전송은 draining 플래그를 세운 작업 하나가 버퍼가 빌 때까지 맡는다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> categories;
+        private final LinkedHashMap<String, CategoryPriceChangeDto> pending = new LinkedHashMap<>();
+        private int dropped;
+        private boolean resyncDue;
+        private boolean heartbeatDue;
+        private boolean draining;
+        private volatile boolean sending;
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, Set<String> categories) {
+            this.emitter = emitter;
+            this.categories = categories;
+        }
+
+        void offer(List<CategoryPriceChangeDto> changes) {
+            boolean start;
+            synchronized (this) {
+                for (CategoryPriceChangeDto change : changes) {
+                    if (!subscribed(change)) {
+                        continue;
+                    }
+                    CategoryPriceChangeDto queued = pending.get(change.getCategory());
+                    if (queued == null && pending.size() >= maxBufferedCategories) {
+                        Iterator<CategoryPriceChangeDto> eldest = pending.values().iterator();
+                        eldest.next();
+                        eldest.remove();
+                        dropped++;
+                        resyncDue = true;
+                        droppedChanges.incrementAndGet();
+                    }
+                    if (queued == null || queued.getVersion() < change.getVersion()) {
+                        pending.put(change.getCategory(), change);
+                    }
+                }
+                start = startDraining(!pending.isEmpty());
+            }
+            if (start) {
+                submit();
+            }
+        }
+
+        void heartbeat() {
+            boolean start;
+            synchronized (this) {
+                heartbeatDue = true;
+                start = startDraining(true);
+            }
+            if (start) {
+                submit();
+            }
+        }
+
+        boolean stalled(long now) {
+            return sending && now - sendStartedAt > sendTimeoutNanos;
+        }
+
+        private boolean subscribed(CategoryPriceChangeDto change) {
+            return categories.isEmpty() || categories.contains(change.getCategory());
+        }
+
+        private boolean startDraining(boolean hasWork) {
+            if (!hasWork || draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        private void submit() {
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.warn("price stream subscriber dropped: executor rejected delivery");
+                remove(this);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<CategoryPriceChangeDto> changes;
+                int droppedSinceLastSend;
+                boolean resync;
+                synchronized (this) {
+                    if (pending.isEmpty() && !heartbeatDue) {
+                        draining = false;
+                        return;
+                    }
+                    changes = List.copyOf(pending.values());
+                    pending.clear();
+                    droppedSinceLastSend = dropped;
+                    dropped = 0;
+                    resync = resyncDue;
+                    resyncDue = false;
+                    heartbeatDue = false;
+                }
+                if (resync) {
+                    // 버린 카테고리가 있으므로 현재 상태 전체로 바꿔 보낸다. latest 는 버퍼의 어떤 값보다도 새롭다.
+                    changes = latest.values().stream().filter(this::subscribed).toList();
+                }
+                sendStartedAt = System.nanoTime();
+                sending = true;
+                try {
+                    if (changes.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        long eventVersion = changes.stream().mapToLong(CategoryPriceChangeDto::getVersion).max().orElseThrow();
+                        emitter.send(SseEmitter.event()
+                                .id(epoch + ":" + eventVersion)
+                                .name(resync ? RESYNC_EVENT_NAME : EVENT_NAME)
+                                .data(new CategoryPriceEventDto(eventVersion, changes, droppedSinceLastSend),
+                                        MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 연결이 끊긴 구독자. draining 을 내리지 않아 이후 변경은 더 이상 전송 작업을 만들지 않는다.
+                    log.debug("price stream subscriber disconnected: {}", e.getMessage());
+                    remove(this);
+                    return;
+                } finally {
+                    sending = false;
+                }
+                if (!subscribers.contains(this)) {
+                    // 전송이 막혀 하트비트가 뺀 구독자. 막혀 있던 전송이 끝났으므로 이제 연결을 닫는다.
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+    }
+}
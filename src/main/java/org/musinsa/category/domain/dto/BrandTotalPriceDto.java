@@ -0,0 +1,7 @@
+package org.musinsa.category.domain.dto;
+
+/**
+ * 브랜드별 활성 상품 가격 합계 프로젝션.
+ */
+public record BrandTotalPriceDto(Long brandId, String brand, Long totalPrice) {
+}
@@ -0,0 +1,7 @@
+package org.musinsa.category.domain.dto;
+
+/**
+ * 카테고리 최저가와 그 가격의 브랜드 프로젝션. 동률이면 이름이 가장 큰 브랜드 하나만 담긴다.
+ */
+public record CategoryLowestPriceDto(String category, String brandName, Long price) {
+}
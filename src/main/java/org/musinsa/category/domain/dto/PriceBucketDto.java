@@ -0,0 +1,7 @@
+package org.musinsa.category.domain.dto;
+
+/**
+ * 가격 구간 [fromPrice, toPrice] 에 든 활성 상품 수.
+ */
+public record PriceBucketDto(long fromPrice, long toPrice, int count) {
+}
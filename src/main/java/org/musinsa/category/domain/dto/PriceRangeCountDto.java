@@ -0,0 +1,9 @@
+package org.musinsa.category.domain.dto;
+
+import java.util.List;
+
+/**
+ * 가격 범위에 든 활성 상품 수와, 그 상품의 브랜드 이름(가격순, 중복 없음). brands 는 요청한 개수까지만 담긴다.
+ */
+public record PriceRangeCountDto(int count, List<String> brands) {
+}
@@ -0,0 +1,17 @@
+package org.musinsa.category.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateDto {
+    private Long brandId;
+    private String category;
+    private Long price;
+
+}
@@ -0,0 +1,23 @@
+package org.musinsa.category.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품 부분 수정 항목. null 인 필드는 바꾸지 않는다.
+ * <p>
+ * id 가 있으면 그 상품의 카테고리와 가격을 바꾸고, id 가 없으면 category 는 대상을 찾는 키가 되어 브랜드의 그 카테고리 활성
+ * 상품 가격을 바꾼다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatchDto {
+    private Long id;
+    private String category;
+    private Long price;
+
+}
@@ -0,0 +1,15 @@
+package org.musinsa.category.domain.dto;
+
+/**
+ * 상품 가격 조회용 읽기 전용 프로젝션. 영속성 컨텍스트에 올라가지 않는다.
+ */
+public record ProductPriceDto(Long productId, Long brandId, String brandName, String category, Long price) {
+
+    public ProductPriceDto withPrice(Long newPrice) {
+        return new ProductPriceDto(productId, brandId, brandName, category, newPrice);
+    }
+
+    public ProductPriceDto withCategoryAndPrice(String newCategory, Long newPrice) {
+        return new ProductPriceDto(productId, brandId, brandName, newCategory, newPrice);
+    }
+}
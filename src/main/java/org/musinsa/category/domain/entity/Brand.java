@@ -7,7 +7,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,14 +22,15 @@ import org.musinsa.category.domain.AbstractDomain;
 @Entity
 @Getter
 @Setter
-@Table(name = "BRAND")
+@Table(name = "BRAND", indexes = @Index(name = "IDX_BRAND_NAME", columnList = "name, DEL_DT"))
 @EqualsAndHashCode(callSuper = false, exclude = "products")
 @ToString(exclude = "products")
 public class Brand extends AbstractDomain<Brand, Long> {
     private static final long serialVersionUID = 7901688954583211313L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_seq")
+    @SequenceGenerator(name = "brand_seq", sequenceName = "BRAND_SEQ", allocationSize = 50)
     @Column(name = "ID", nullable = false)
     private Long id;
 
@@ -0,0 +1,35 @@
+package org.musinsa.category.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.musinsa.category.domain.AbstractDomain;
+
+/**
+ * 보존 기간이 지나 BRAND 에서 옮겨진 삭제 브랜드. ID 와 감사 컬럼은 원래 행의 값을 그대로 가진다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "BRAND_HISTORY")
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class BrandHistory extends AbstractDomain<BrandHistory, Long> {
+    private static final long serialVersionUID = -2214906380651872301L;
+
+    @Id
+    @Column(name = "ID", nullable = false)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "ARCHIVE_DT", nullable = false)
+    private LocalDateTime archivedDate;
+}
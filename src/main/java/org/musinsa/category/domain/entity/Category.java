@@ -0,0 +1,39 @@
+package org.musinsa.category.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.musinsa.category.domain.AbstractDomain;
+
+/**
+ * 카테고리 사전. 상품은 이름 대신 조밀한 정수 ID 로 카테고리를 참조하고, 화면 노출 순서는 displayOrder 로 정한다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "CATEGORY")
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class Category extends AbstractDomain<Category, Integer> {
+    private static final long serialVersionUID = -3419652265311628453L;
+
+    public static final int MAX_NAME_LENGTH = 20;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID", nullable = false)
+    private Integer id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH, unique = true)
+    private String name;
+
+    @Column(name = "DISPLAY_ORD", nullable = false)
+    private int displayOrder;
+}
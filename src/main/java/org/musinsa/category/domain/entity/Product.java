@@ -6,8 +6,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -15,25 +17,41 @@ import lombok.Setter;
 import lombok.ToString;
 import org.musinsa.category.domain.AbstractDomain;
 
+/**
+ * 브랜드의 카테고리별 상품 가격.
+ * <p>
+ * 모든 조회가 {@code DEL_DT IS NULL} 로 활성 상품만 읽으므로 두 인덱스 모두 등호 조건 컬럼 바로 뒤에 DEL_DT 를 둔다.
+ * NULL 이 앞쪽으로 정렬되어 활성 행은 각 키 범위의 앞부분에 모이고 삭제된 행은 그 뒤로 밀려나므로, 삭제 행이
+ * 쌓여도 활성 범위만 읽는다. 나머지 컬럼은 테이블을 다시 읽지 않도록 조회에 필요한 값을 덮는다.
+ * <ul>
+ *     <li>IDX_PRODUCT_CATEGORY_PRICE: 카테고리별 최저/최고가와 그 가격의 브랜드</li>
+ *     <li>IDX_PRODUCT_BRAND_CATEGORY: 브랜드별 가격 합계, 브랜드 상품 조회, (브랜드, 카테고리) 가격 변경</li>
+ * </ul>
+ */
 @Entity
 @Getter
 @Setter
-@Table(name = "PRODUCT")
-@EqualsAndHashCode(callSuper = false, exclude = "brand")
-@ToString(exclude = "brand")
+@Table(name = "PRODUCT", indexes = {
+        @Index(name = "IDX_PRODUCT_CATEGORY_PRICE", columnList = "category_id, DEL_DT, price, brand_id"),
+        @Index(name = "IDX_PRODUCT_BRAND_CATEGORY", columnList = "brand_id, DEL_DT, category_id, price")
+})
+@EqualsAndHashCode(callSuper = false, exclude = {"brand", "category"})
+@ToString(exclude = {"brand", "category"})
 public class Product extends AbstractDomain<Product, Long> {
     private static final long serialVersionUID = 8803184959729142564L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "PRODUCT_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id", nullable = false)
     private Brand brand;
 
-    @Column(nullable = false, length = 20)
-    private String category;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
 
     @Column(nullable = false)
     private Long price;
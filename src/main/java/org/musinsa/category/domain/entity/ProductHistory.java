@@ -0,0 +1,41 @@
+package org.musinsa.category.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.musinsa.category.domain.AbstractDomain;
+
+/**
+ * 보존 기간이 지나 PRODUCT 에서 옮겨진 삭제 상품. 브랜드도 뒤이어 이력으로 옮겨지므로 외래 키 없이 ID 만 보관한다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "PRODUCT_HISTORY")
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class ProductHistory extends AbstractDomain<ProductHistory, Long> {
+    private static final long serialVersionUID = 5127093846120745518L;
+
+    @Id
+    @Column(name = "ID", nullable = false)
+    private Long id;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    @Column(nullable = false)
+    private Long price;
+
+    @Column(name = "ARCHIVE_DT", nullable = false)
+    private LocalDateTime archivedDate;
+}
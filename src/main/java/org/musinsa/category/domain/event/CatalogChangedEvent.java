@@ -0,0 +1,20 @@
+package org.musinsa.category.domain.event;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 브랜드/상품 변경이 커밋된 뒤 인메모리 인덱스를 갱신하기 위해 발행되는 이벤트.
+ */
+@Getter
+public class CatalogChangedEvent {
+    private final Set<Long> brandIds;
+
+    public CatalogChangedEvent(Long brandId) {
+        this.brandIds = Set.of(brandId);
+    }
+
+    public CatalogChangedEvent(Set<Long> brandIds) {
+        this.brandIds = Set.copyOf(brandIds);
+    }
+}
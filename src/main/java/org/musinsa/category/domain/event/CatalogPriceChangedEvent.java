@@ -0,0 +1,19 @@
+package org.musinsa.category.domain.event;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 가격 일괄 변경이 커밋된 뒤 발행되는 이벤트. 바뀐 (브랜드, 카테고리, 가격) 만 담고 있어 인덱스가 DB 를 다시 읽지 않고 반영한다.
+ */
+@Getter
+public class CatalogPriceChangedEvent {
+    private final List<CategoryPrice> prices;
+
+    public CatalogPriceChangedEvent(List<CategoryPrice> prices) {
+        this.prices = List.copyOf(prices);
+    }
+
+    public record CategoryPrice(Long brandId, String category, Long price) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.musinsa.category.domain.event;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 상품 부분 수정이 커밋된 뒤 발행되는 이벤트. 바뀐 상품의 카테고리와 가격만 담고 있어 인덱스가 브랜드 전체를 다시 읽지 않고 반영한다.
+ */
+@Getter
+public class CatalogProductChangedEvent {
+    private final List<ProductChange> products;
+
+    public CatalogProductChangedEvent(List<ProductChange> products) {
+        this.products = List.copyOf(products);
+    }
+
+    public record ProductChange(Long productId, Long brandId, String category, Long price) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.musinsa.category.domain.event;
+
+import lombok.Getter;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+
+/**
+ * 새 카탈로그 스냅샷이 공개된 직후 발행되는 이벤트. 직전 스냅샷과 비교해 실제로 바뀐 카테고리만 구독자에게 보낼 때 쓴다.
+ * 최초 적재 때는 previous 가 null 이다.
+ */
+@Getter
+public class CatalogSnapshotPublishedEvent {
+    private final CatalogSnapshot previous;
+    private final CatalogSnapshot current;
+
+    public CatalogSnapshotPublishedEvent(CatalogSnapshot previous, CatalogSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+}
@@ -0,0 +1,241 @@
+package org.musinsa.category.domain.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드 × 카테고리 최저가 행렬. 브랜드마다 카테고리 열 순서의 {@code long[]} 가격 행과, 상품이 있는 열을 나타내는 비트마스크를
+ * 함께 둔다.
+ * <p>
+ * 쓰기는 브랜드 행 하나를 새 배열로 교체하므로 {@link #freeze()} 가 만드는 {@link View} 는 바뀌지 않은 행을 그대로 공유한다.
+ * 행은 카테고리별 최저가 합계 순으로 유지되어, 모든 카테고리를 채우는 브랜드는 앞에서부터 마스크만 비교하다 처음 맞는 행에서 멈춘다.
+ * 열은 처음 보는 카테고리마다 하나씩 붙으며, 비트마스크 크기인 {@link #MAX_CATEGORIES} 개를 넘는 카테고리는 행렬에 넣지 않는다.
+ */
+@Component
+public class BrandCategoryMatrix {
+
+    public static final int MAX_CATEGORIES = Long.SIZE;
+
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<String> columnNames = new ArrayList<>();
+    private final int[] brandsPerColumn = new int[MAX_CATEGORIES];
+    private final Map<Long, Row> rowsByBrand = new HashMap<>();
+    private final NavigableSet<Row> rows = new TreeSet<>(Row.TOTAL_ORDER);
+
+    /**
+     * 브랜드 목록으로 새 행렬을 만들어 바로 뷰로 돌려준다. 행렬을 따로 유지하지 않는 스냅샷에서 쓴다.
+     */
+    public static View of(Collection<BrandPriceTotal> brands) {
+        BrandCategoryMatrix matrix = new BrandCategoryMatrix();
+        brands.forEach(brand -> matrix.replaceBrand(brand.getBrandId(), brand.getProducts()));
+        return matrix.freeze();
+    }
+
+    public synchronized void reload(List<ProductPriceDto> products) {
+        columns.clear();
+        columnNames.clear();
+        Arrays.fill(brandsPerColumn, 0);
+        rowsByBrand.clear();
+        rows.clear();
+        products.stream()
+                .collect(Collectors.groupingBy(ProductPriceDto::brandId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::replaceBrand);
+    }
+
+    /**
+     * 브랜드의 활성 상품 전체로 행을 다시 만든다. 한 카테고리에 상품이 여럿이면 가장 싼 상품만 남고, 빈 목록이면 행이 제거된다.
+     */
+    public synchronized void replaceBrand(Long brandId, List<ProductPriceDto> products) {
+        Row previous = rowsByBrand.remove(brandId);
+        if (previous != null) {
+            rows.remove(previous);
+            count(previous.coverage, -1);
+        }
+        if (products.isEmpty()) {
+            return;
+        }
+
+        long[] prices = new long[columnNames.size()];
+        ProductPriceDto[] cheapest = new ProductPriceDto[columnNames.size()];
+        long coverage = 0;
+        for (ProductPriceDto product : products) {
+            int column = columnOf(product.category());
+            if (column < 0) {
+                continue;
+            }
+            if (column >= prices.length) {
+                prices = Arrays.copyOf(prices, columnNames.size());
+                cheapest = Arrays.copyOf(cheapest, columnNames.size());
+            }
+            if (cheapest[column] == null || product.price() < prices[column]) {
+                cheapest[column] = product;
+                prices[column] = product.price();
+            }
+            coverage |= 1L << column;
+        }
+        Row current = new Row(brandId, products.get(0).brandName(), coverage, prices, cheapest);
+        rowsByBrand.put(brandId, current);
+        rows.add(current);
+        count(coverage, 1);
+    }
+
+    /**
+     * 현재 행렬의 불변 뷰. 브랜드 수만큼의 참조 복사만 든다.
+     */
+    public synchronized View freeze() {
+        long allCategories = 0;
+        for (int column = 0; column < columnNames.size(); column++) {
+            if (brandsPerColumn[column] > 0) {
+                allCategories |= 1L << column;
+            }
+        }
+        return new View(List.copyOf(columnNames), allCategories, rows.toArray(Row[]::new));
+    }
+
+    private int columnOf(String category) {
+        Integer column = columns.get(category);
+        if (column != null) {
+            return column;
+        }
+        if (columnNames.size() == MAX_CATEGORIES) {
+            return -1;
+        }
+        columns.put(category, columnNames.size());
+        columnNames.add(category);
+        return columnNames.size() - 1;
+    }
+
+    private void count(long coverage, int delta) {
+        for (long rest = coverage; rest != 0; rest &= rest - 1) {
+            brandsPerColumn[Long.numberOfTrailingZeros(rest)] += delta;
+        }
+    }
+
+    /**
+     * 브랜드 한 행. prices 와 products 는 열 번호로 읽으며, coverage 에 켜진 열만 유효하다.
+     */
+    static final class Row {
+
+        static final Comparator<Row> TOTAL_ORDER = Comparator
+                .comparingLong((Row row) -> row.totalPrice)
+                .thenComparing(row -> row.brandId);
+
+        private final Long brandId;
+        private final String brandName;
+        private final long coverage;
+        private final long[] prices;
+        private final ProductPriceDto[] products;
+        private final long totalPrice;
+
+        private Row(Long brandId, String brandName, long coverage, long[] prices, ProductPriceDto[] products) {
+            this.brandId = brandId;
+            this.brandName = brandName;
+            this.coverage = coverage;
+            this.prices = prices;
+            this.products = products;
+            this.totalPrice = Arrays.stream(prices).sum();
+        }
+
+        private BrandPriceTotal toTotal(long mask) {
+            List<ProductPriceDto> selected = new ArrayList<>(Long.bitCount(mask));
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                selected.add(products[Long.numberOfTrailingZeros(rest)]);
+            }
+            return new BrandPriceTotal(brandId, brandName, selected);
+        }
+    }
+
+    /**
+     * 특정 시점의 행렬. 만들어진 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 공유한다.
+     */
+    public static final class View {
+
+        private final List<String> categories;
+        private final long allCategories;
+        private final Row[] rows;
+
+        private View(List<String> categories, long allCategories, Row[] rows) {
+            this.categories = categories;
+            this.allCategories = allCategories;
+            this.rows = rows;
+        }
+
+        /**
+         * 상품이 하나라도 있는 카테고리 전체의 마스크.
+         */
+        public long allCategories() {
+            return allCategories;
+        }
+
+        /**
+         * 카테고리 이름 목록을 열 마스크로 바꾼다. 상품이 없는 카테고리가 있으면 비어 있다.
+         */
+        public OptionalLong maskOf(Collection<String> names) {
+            long mask = 0;
+            for (String name : names) {
+                int column = categories.indexOf(name);
+                if (column < 0 || (allCategories & (1L << column)) == 0) {
+                    return OptionalLong.empty();
+                }
+                mask |= 1L << column;
+            }
+            return OptionalLong.of(mask);
+        }
+
+        /**
+         * mask 의 카테고리를 모두 가진 브랜드 중 그 카테고리 최저가 합계가 가장 낮은 브랜드. 같으면 브랜드 ID 가 작은 쪽이다.
+         * 돌려받은 {@link BrandPriceTotal} 에는 mask 의 카테고리마다 브랜드의 가장 싼 상품 하나만 들어 있다.
+         * <p>
+         * 전체 카테고리는 행이 합계 순이므로 처음 맞는 행이 답이다. 일부 카테고리는 행마다 mask 의 열만 더해 비교한다.
+         */
+        public Optional<BrandPriceTotal> cheapestCovering(long mask) {
+            if (mask == 0) {
+                return Optional.empty();
+            }
+            if (mask == allCategories) {
+                for (Row row : rows) {
+                    if (row.coverage == mask) {
+                        return Optional.of(row.toTotal(mask));
+                    }
+                }
+                return Optional.empty();
+            }
+
+            int[] selected = new int[Long.bitCount(mask)];
+            int n = 0;
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                selected[n++] = Long.numberOfTrailingZeros(rest);
+            }
+            Row best = null;
+            long bestTotal = Long.MAX_VALUE;
+            for (Row row : rows) {
+                if ((row.coverage & mask) != mask) {
+                    continue;
+                }
+                long[] prices = row.prices;
+                long total = 0;
+                for (int column : selected) {
+                    total += prices[column];
+                }
+                if (total < bestTotal || (total == bestTotal && row.brandId < best.brandId)) {
+                    best = row;
+                    bestTotal = total;
+                }
+            }
+            return best == null ? Optional.empty() : Optional.of(best.toTotal(mask));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.musinsa.category.domain.index;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 브랜드 ID 로 나눈 스트라이프 락. 커밋 뒤 브랜드를 다시 읽어 반영하는 일과 가격/상품 변경분을 반영하는 일을 같은 브랜드에
+ * 대해 직렬화해, 먼저 읽은 오래된 행이 그 사이 반영된 더 새로운 변경을 덮지 않게 한다.
+ * <p>
+ * 락 안에서 DB 를 읽으므로 모니터 대신 {@link ReentrantLock} 을 쓰고, 여러 브랜드를 잡을 때는 스트라이프 번호 순으로 잡아
+ * 교착을 피한다.
+ */
+public class BrandLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public BrandLocks(int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * brandIds 가 속한 스트라이프를 모두 잡은 채 action 을 실행한다.
+     */
+    public void run(Collection<Long> brandIds, Runnable action) {
+        int[] indexes = brandIds.stream()
+                .mapToInt(brandId -> Math.floorMod(Long.hashCode(brandId), stripes.length))
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            action.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+}
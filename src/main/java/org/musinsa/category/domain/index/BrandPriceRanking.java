@@ -0,0 +1,65 @@
+package org.musinsa.category.domain.index;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드별 카테고리 최저가 합계를 {@link BrandPriceTotal#TOTAL_ORDER} 순으로 유지하는 랭킹.
+ * 읽기는 {@link ConcurrentSkipListSet} 위에서 락 없이 수행된다.
+ */
+@Component
+public class BrandPriceRanking {
+
+    private final Map<Long, BrandPriceTotal> totalsByBrand = new ConcurrentHashMap<>();
+    private final NavigableSet<BrandPriceTotal> ranking = new ConcurrentSkipListSet<>(BrandPriceTotal.TOTAL_ORDER);
+
+    public Optional<BrandPriceTotal> getLowest() {
+        return Optional.ofNullable(ranking.isEmpty() ? null : ranking.first());
+    }
+
+    /**
+     * 현재 순위 전체를 복사해 돌려준다.
+     */
+    public List<BrandPriceTotal> getRanking() {
+        return List.copyOf(ranking);
+    }
+
+    public synchronized void reload(List<ProductPriceDto> products) {
+        totalsByBrand.clear();
+        ranking.clear();
+        products.stream()
+                .collect(Collectors.groupingBy(ProductPriceDto::brandId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::replaceBrand);
+    }
+
+    /**
+     * 브랜드의 활성 상품 전체로 카테고리별 최저가 합계를 다시 계산한다. 빈 목록이면 브랜드가 랭킹에서 제거된다.
+     */
+    public synchronized void replaceBrand(Long brandId, List<ProductPriceDto> products) {
+        BrandPriceTotal previous = products.isEmpty()
+                ? totalsByBrand.remove(brandId)
+                : totalsByBrand.put(brandId, new BrandPriceTotal(brandId, products.get(0).brandName(), products));
+        BrandPriceTotal current = totalsByBrand.get(brandId);
+
+        // 새 항목을 먼저 넣고 이전 항목을 지워 읽는 쪽에서 브랜드가 사라져 보이는 순간을 줄인다.
+        if (previous != null && current != null && BrandPriceTotal.TOTAL_ORDER.compare(previous, current) == 0) {
+            ranking.remove(previous);
+            ranking.add(current);
+            return;
+        }
+        if (current != null) {
+            ranking.add(current);
+        }
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.musinsa.category.domain.index;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+/**
+ * 브랜드 하나의 활성 상품 목록과 카테고리별 최저가 합계. 한 카테고리에 상품이 여럿이면 가장 싼 상품만 합계에 들어가므로,
+ * 랭킹의 합계는 {@link BrandCategoryMatrix.View#cheapestCovering(long)} 가 전체 카테고리에 대해 돌려주는 합계와 같다.
+ */
+@Getter
+public class BrandPriceTotal {
+
+    /**
+     * 합계 오름차순, 같으면 브랜드 ID 순. (합계, 브랜드 ID) 쌍이 랭킹 페이지 커서가 된다.
+     */
+    public static final Comparator<BrandPriceTotal> TOTAL_ORDER = Comparator
+            .comparingLong(BrandPriceTotal::getTotalPrice)
+            .thenComparing(BrandPriceTotal::getBrandId);
+
+    private final Long brandId;
+    private final String brandName;
+    private final long totalPrice;
+    private final List<ProductPriceDto> products;
+
+    public BrandPriceTotal(Long brandId, String brandName, List<ProductPriceDto> products) {
+        this.brandId = brandId;
+        this.brandName = brandName;
+        this.products = List.copyOf(products);
+        this.totalPrice = this.products.stream()
+                .collect(Collectors.toMap(ProductPriceDto::category, ProductPriceDto::price, Math::min))
+                .values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 랭킹 탐색 위치를 나타내는 상품 없는 키.
+     */
+    BrandPriceTotal(Long brandId, long totalPrice) {
+        this.brandId = brandId;
+        this.brandName = null;
+        this.products = List.of();
+        this.totalPrice = totalPrice;
+    }
+}
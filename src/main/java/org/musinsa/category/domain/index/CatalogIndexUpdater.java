@@ -0,0 +1,95 @@
+package org.musinsa.category.domain.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.replica.ReplicaReadConsistency;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기동 시 전체 활성 상품으로 인덱스를 채우고, 이후에는 커밋된 브랜드만 다시 읽어 반영한다.
+ * <p>
+ * 커밋 후 리스너는 커밋 순서대로 불리지 않으므로, 브랜드를 다시 읽어 반영하는 동안과 변경분을 반영하는 동안 그 브랜드의
+ * {@link BrandLocks} 를 잡는다. 다시 읽은 행은 그보다 먼저 반영된 변경분을 이미 담고 있고, 읽은 뒤에 커밋된 변경분은 교체가
+ * 끝난 뒤에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogIndexUpdater {
+
+    static final int BRAND_BATCH_SIZE = 100;
+    static final int BRAND_LOCK_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final BrandLocks brandLocks = new BrandLocks(BRAND_LOCK_STRIPES);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reload() {
+        List<ProductPriceDto> products = productRepository.findAllActiveProductPrices();
+        catalogSnapshotPublisher.reload(products);
+        log.info("catalog index loaded: products={}, version={}", products.size(),
+                catalogSnapshotPublisher.getCurrent().getVersion());
+    }
+
+    /**
+     * 변경된 브랜드의 활성 상품을 {@value #BRAND_BATCH_SIZE} 개 브랜드씩 IN 조회로 읽어 반영한다. 상품이 남지 않은 브랜드는
+     * 빈 목록으로 반영되어 인덱스에서 빠진다. 읽기와 반영은 배치 브랜드의 락 안에서 한다.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        List<Long> brandIds = List.copyOf(event.getBrandIds());
+        for (int from = 0; from < brandIds.size(); from += BRAND_BATCH_SIZE) {
+            List<Long> batch = brandIds.subList(from, Math.min(from + BRAND_BATCH_SIZE, brandIds.size()));
+            brandLocks.run(batch, () -> {
+                Map<Long, List<ProductPriceDto>> productsByBrand = ReplicaReadConsistency.onPrimary(
+                                () -> productRepository.findActiveProductPricesByBrandIds(batch))
+                        .stream()
+                        .collect(Collectors.groupingBy(ProductPriceDto::brandId));
+                batch.forEach(brandId -> catalogSnapshotPublisher.replaceBrand(
+                        brandId, productsByBrand.getOrDefault(brandId, List.of())));
+            });
+        }
+    }
+
+    /**
+     * 가격 일괄 변경은 DB 를 다시 읽지 않고 인덱스의 상품 가격만 바꾼다. 같은 (브랜드, 카테고리) 가 여러 번 오면 마지막 가격이 남는다.
+     */
+    @TransactionalEventListener
+    public void onPricesChanged(CatalogPriceChangedEvent event) {
+        Map<Long, Map<String, Long>> pricesByBrand = new HashMap<>();
+        event.getPrices().forEach(change -> pricesByBrand
+                .computeIfAbsent(change.brandId(), id -> new HashMap<>())
+                .put(change.category(), change.price()));
+        brandLocks.run(pricesByBrand.keySet(), () -> catalogSnapshotPublisher.changePrices(pricesByBrand));
+    }
+
+    /**
+     * 상품 부분 수정은 바뀐 상품만 상품 ID 로 찾아 반영한다. 브랜드의 다른 상품은 다시 읽지 않는다.
+     */
+    @TransactionalEventListener
+    public void onProductsChanged(CatalogProductChangedEvent event) {
+        Map<Long, Map<Long, ProductChange>> changesByBrand = new HashMap<>();
+        event.getProducts().forEach(change -> changesByBrand
+                .computeIfAbsent(change.brandId(), id -> new HashMap<>())
+                .put(change.productId(), change));
+        brandLocks.run(changesByBrand.keySet(), () -> catalogSnapshotPublisher.changeProducts(changesByBrand));
+    }
+}
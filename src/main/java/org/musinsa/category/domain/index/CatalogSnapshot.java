@@ -0,0 +1,70 @@
+package org.musinsa.category.domain.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+/**
+ * 특정 시점의 카탈로그 읽기 모델. 만들어진 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 공유한다.
+ */
+public class CatalogSnapshot {
+
+    @Getter
+    private final long version;
+    private final Map<String, CategoryPriceSummary> categorySummaries;
+    private final List<BrandPriceTotal> brandRanking;
+    @Getter
+    private final BrandCategoryMatrix.View brandMatrix;
+    private final Map<String, CategoryPrices> categoryPrices;
+
+    public CatalogSnapshot(long version, Map<String, CategoryPriceSummary> categorySummaries,
+                           List<BrandPriceTotal> brandRanking, BrandCategoryMatrix.View brandMatrix,
+                           Map<String, CategoryPrices> categoryPrices) {
+        this.version = version;
+        this.categorySummaries = Map.copyOf(categorySummaries);
+        this.brandRanking = List.copyOf(brandRanking);
+        this.brandMatrix = brandMatrix;
+        this.categoryPrices = Map.copyOf(categoryPrices);
+    }
+
+    public Collection<CategoryPriceSummary> getCategorySummaries() {
+        return categorySummaries.values();
+    }
+
+    public Optional<CategoryPriceSummary> getCategorySummary(String category) {
+        return Optional.ofNullable(categorySummaries.get(category));
+    }
+
+    public Optional<CategoryPrices> getCategoryPrices(String category) {
+        return Optional.ofNullable(categoryPrices.get(category));
+    }
+
+    /**
+     * 카테고리 상품을 가격순으로 after 다음부터 최대 limit 개 돌려준다. 상품이 없는 카테고리는 빈 목록이다.
+     */
+    public List<ProductPriceDto> getCategoryPage(String category, ProductPriceDto after, boolean descending, int limit) {
+        CategoryPrices prices = categoryPrices.get(category);
+        return prices == null ? List.of() : prices.getPage(after, descending, limit);
+    }
+
+    public Optional<BrandPriceTotal> getLowestBrand() {
+        return brandRanking.isEmpty() ? Optional.empty() : Optional.of(brandRanking.get(0));
+    }
+
+    /**
+     * (afterTotalPrice, afterBrandId) 다음 순위부터 최대 limit 개를 돌려준다. 커서가 없으면 1위부터 시작한다.
+     */
+    public List<BrandPriceTotal> getBrandPage(Long afterTotalPrice, Long afterBrandId, int limit) {
+        int from = 0;
+        if (afterTotalPrice != null) {
+            int position = Collections.binarySearch(brandRanking,
+                    new BrandPriceTotal(afterBrandId, afterTotalPrice), BrandPriceTotal.TOTAL_ORDER);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        return brandRanking.subList(from, Math.min(from + limit, brandRanking.size()));
+    }
+}
@@ -0,0 +1,180 @@
+package org.musinsa.category.domain.index;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.event.CatalogSnapshotPublishedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 인덱스를 갱신하고, 그 결과를 불변 {@link CatalogSnapshot} 으로 만들어 하나의 참조 교체로 공개한다.
+ * <p>
+ * 브랜드 변경은 즉시 인덱스에 반영되지만 스냅샷은 {@code catalog.snapshot.coalesce-delay} 동안 모아서 한 번만
+ * 다시 만든다. 따라서 연속된 쓰기 1,000건도 스냅샷 재생성은 한 번으로 끝난다. 공개할 때마다
+ * {@link CatalogSnapshotPublishedEvent} 를 버전 순서대로 발행한다.
+ * <p>
+ * 인덱스 갱신과 스냅샷 생성은 이 객체의 모니터 안에서 메모리 연산만 하고, 이벤트 리스너는 모니터를 놓은 뒤
+ * {@link ReentrantLock} 으로 순서만 지켜 호출한다. 리스너가 오래 걸려도 인덱스 쓰기는 막히지 않고, 가상 스레드가 기다리는
+ * 동안 캐리어 스레드에 고정되지 않는다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotPublisher {
+
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceRanking brandPriceRanking;
+    private final BrandCategoryMatrix brandCategoryMatrix;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration coalesceDelay;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    public CatalogSnapshotPublisher(CategoryPriceIndex categoryPriceIndex,
+                                    BrandPriceRanking brandPriceRanking,
+                                    BrandCategoryMatrix brandCategoryMatrix,
+                                    TaskScheduler taskScheduler,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${catalog.snapshot.coalesce-delay:50ms}") Duration coalesceDelay) {
+        this.categoryPriceIndex = categoryPriceIndex;
+        this.brandPriceRanking = brandPriceRanking;
+        this.brandCategoryMatrix = brandCategoryMatrix;
+        this.taskScheduler = taskScheduler;
+        this.eventPublisher = eventPublisher;
+        this.coalesceDelay = coalesceDelay;
+    }
+
+    /**
+     * 현재 공개된 스냅샷. 최초 적재 전에는 null 이다.
+     */
+    public CatalogSnapshot getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * 전체 상품으로 인덱스를 다시 만들고 곧바로 스냅샷을 공개한다.
+     */
+    public void reload(List<ProductPriceDto> products) {
+        synchronized (this) {
+            categoryPriceIndex.reload(products);
+            brandPriceRanking.reload(products);
+            brandCategoryMatrix.reload(products);
+        }
+        publishNow();
+    }
+
+    /**
+     * 브랜드의 활성 상품을 인덱스에 반영하고 스냅샷 재생성을 예약한다.
+     */
+    public synchronized void replaceBrand(Long brandId, List<ProductPriceDto> products) {
+        categoryPriceIndex.replaceBrand(brandId, products);
+        brandPriceRanking.replaceBrand(brandId, products);
+        brandCategoryMatrix.replaceBrand(brandId, products);
+        requestPublish();
+    }
+
+    /**
+     * 브랜드별로 주어진 카테고리 상품의 가격만 바꿔 반영한다. 가격 일괄 변경의 UPDATE 와 같은 범위(브랜드+카테고리의 활성 상품)를
+     * 바꾸며, 인덱스에 없는 브랜드는 건너뛴다.
+     */
+    public synchronized void changePrices(Map<Long, Map<String, Long>> pricesByBrand) {
+        Map<Long, List<ProductPriceDto>> changed = new HashMap<>();
+        pricesByBrand.forEach((brandId, pricesByCategory) -> {
+            List<ProductPriceDto> products = categoryPriceIndex.getBrandProducts(brandId);
+            if (!products.isEmpty()) {
+                changed.put(brandId, products.stream()
+                        .map(product -> {
+                            Long price = pricesByCategory.get(product.category());
+                            return price == null ? product : product.withPrice(price);
+                        })
+                        .toList());
+            }
+        });
+        if (changed.isEmpty()) {
+            return;
+        }
+        categoryPriceIndex.replaceBrands(changed);
+        changed.forEach(brandPriceRanking::replaceBrand);
+        changed.forEach(brandCategoryMatrix::replaceBrand);
+        requestPublish();
+    }
+
+    /**
+     * 브랜드별로 바뀐 상품의 카테고리와 가격만 상품 ID 로 찾아 반영한다. 브랜드 이름은 인덱스의 값을 그대로 쓰고, 인덱스에 없는
+     * 브랜드나 상품은 건너뛴다.
+     */
+    public synchronized void changeProducts(Map<Long, Map<Long, ProductChange>> changesByBrand) {
+        Map<Long, List<ProductPriceDto>> changed = new HashMap<>();
+        changesByBrand.forEach((brandId, changesByProduct) -> {
+            List<ProductPriceDto> products = categoryPriceIndex.getBrandProducts(brandId);
+            if (!products.isEmpty()) {
+                changed.put(brandId, products.stream()
+                        .map(product -> {
+                            ProductChange change = changesByProduct.get(product.productId());
+                            return change == null ? product : product.withCategoryAndPrice(change.category(), change.price());
+                        })
+                        .toList());
+            }
+        });
+        if (changed.isEmpty()) {
+            return;
+        }
+        categoryPriceIndex.replaceBrands(changed);
+        changed.forEach(brandPriceRanking::replaceBrand);
+        changed.forEach(brandCategoryMatrix::replaceBrand);
+        requestPublish();
+    }
+
+    /**
+     * 스냅샷을 만들어 공개하고 이벤트를 발행한다. 공개 락을 쥔 채 모니터를 잠깐 잡아 스냅샷을 만들므로 이벤트는 버전 순서대로
+     * 나가며, 리스너가 도는 동안 인덱스 쓰기는 계속된다.
+     */
+    public CatalogSnapshot publishNow() {
+        publishLock.lock();
+        try {
+            CatalogSnapshot previous;
+            CatalogSnapshot snapshot;
+            synchronized (this) {
+                previous = current.get();
+                snapshot = new CatalogSnapshot(
+                        previous == null ? 1L : previous.getVersion() + 1,
+                        categoryPriceIndex.getSummaryMap(),
+                        brandPriceRanking.getRanking(),
+                        brandCategoryMatrix.freeze(),
+                        categoryPriceIndex.freeze()
+                );
+                current.set(snapshot);
+            }
+            log.debug("catalog snapshot published: version={}", snapshot.getVersion());
+            eventPublisher.publishEvent(new CatalogSnapshotPublishedEvent(previous, snapshot));
+            return snapshot;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private void requestPublish() {
+        if (publishScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::publishScheduled, Instant.now().plus(coalesceDelay));
+        }
+    }
+
+    private void publishScheduled() {
+        // 재생성 도중 들어온 변경이 다음 재생성을 예약할 수 있도록 먼저 플래그를 내린다.
+        publishScheduled.set(false);
+        publishNow();
+    }
+}
@@ -0,0 +1,78 @@
+package org.musinsa.category.domain.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import org.musinsa.category.domain.entity.Category;
+import org.springframework.stereotype.Component;
+
+/**
+ * category 테이블의 인메모리 사본. 카테고리 ID 를 배열 인덱스로 써서 이름과 노출 순서를 바로 꺼낸다.
+ * <p>
+ * 적재할 때마다 새 배열을 만들어 참조 하나로 교체하므로 읽기에는 락이 없다.
+ */
+@Component
+public class CategoryDictionary {
+
+    /**
+     * 사전에 없는 카테고리의 노출 순서. 알려진 카테고리 뒤로 정렬된다.
+     */
+    public static final int UNKNOWN_ORDER = Integer.MAX_VALUE;
+
+    private volatile Entries entries = new Entries(new String[0], new int[0], Map.of());
+
+    private final Comparator<String> displayOrder = Comparator.<String>comparingInt(this::orderOf)
+            .thenComparing(Comparator.naturalOrder());
+
+    public void reload(List<Category> categories) {
+        int maxId = categories.stream().mapToInt(Category::getId).max().orElse(0);
+        String[] names = new String[maxId + 1];
+        int[] orders = new int[maxId + 1];
+        Arrays.fill(orders, UNKNOWN_ORDER);
+        Map<String, Integer> ids = new HashMap<>(categories.size() * 2);
+        for (Category category : categories) {
+            names[category.getId()] = category.getName();
+            orders[category.getId()] = category.getDisplayOrder();
+            ids.put(category.getName(), category.getId());
+        }
+        entries = new Entries(names, orders, Map.copyOf(ids));
+    }
+
+    public OptionalInt findId(String name) {
+        Integer id = name == null ? null : entries.ids().get(name);
+        return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    public String nameOf(int id) {
+        String[] names = entries.names();
+        return id >= 0 && id < names.length ? names[id] : null;
+    }
+
+    public int orderOf(int id) {
+        int[] orders = entries.orders();
+        return id >= 0 && id < orders.length ? orders[id] : UNKNOWN_ORDER;
+    }
+
+    public int orderOf(String name) {
+        Entries current = entries;
+        Integer id = name == null ? null : current.ids().get(name);
+        return id == null ? UNKNOWN_ORDER : current.orders()[id];
+    }
+
+    /**
+     * 노출 순서, 같으면 이름 순으로 카테고리 이름을 비교한다.
+     */
+    public Comparator<String> displayOrder() {
+        return displayOrder;
+    }
+
+    public int size() {
+        return entries.ids().size();
+    }
+
+    private record Entries(String[] names, int[] orders, Map<String, Integer> ids) {
+    }
+}
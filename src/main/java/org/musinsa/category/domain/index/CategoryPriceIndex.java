@@ -0,0 +1,213 @@
+package org.musinsa.category.domain.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리별 활성 상품을 가격순으로 보관하는 인메모리 인덱스.
+ * <p>
+ * 쓰기는 브랜드 단위로 직렬화되고, 읽기는 쓰기마다 다시 만들어지는 불변 요약 맵을 참조하므로 락 없이 수행된다.
+ * 가격 구간 개수를 위해 카테고리마다 {@link #HISTOGRAM_BUCKET_WIDTH} 단위 {@link PriceHistogram} 을 함께 갱신한다.
+ * 카테고리 페이지와 가격 구간 조회는 {@link #freeze()} 가 스냅샷 공개 시점에 얼린 {@link CategoryPrices} 에서 읽으며,
+ * 그 사이 바뀐 카테고리만 가격순 배열과 히스토그램 사본을 다시 만든다.
+ */
+@Component
+public class CategoryPriceIndex {
+
+    public static final long HISTOGRAM_BUCKET_WIDTH = 1_000L;
+
+    static final Comparator<ProductPriceDto> PRICE_ORDER = Comparator
+            .comparing(ProductPriceDto::price)
+            .thenComparing(ProductPriceDto::brandName)
+            .thenComparing(ProductPriceDto::productId);
+
+    private final Map<Long, List<ProductPriceDto>> productsByBrand = new HashMap<>();
+    private final Map<String, NavigableSet<ProductPriceDto>> productsByCategory = new HashMap<>();
+    private final Map<String, PriceHistogram> histogramsByCategory = new HashMap<>();
+    private final Set<String> changedSinceFreeze = new HashSet<>();
+    private Map<String, CategoryPrices> frozen = Map.of();
+
+    private volatile Map<String, CategoryPriceSummary> summaries = Map.of();
+
+    /**
+     * 브랜드 목록으로 새 인덱스를 만들어 바로 얼린다. 인덱스를 따로 유지하지 않는 스냅샷에서 쓴다.
+     */
+    public static Map<String, CategoryPrices> of(Collection<BrandPriceTotal> brands) {
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.reload(brands.stream().flatMap(brand -> brand.getProducts().stream()).toList());
+        return index.freeze();
+    }
+
+    /**
+     * 현재 요약 맵. 쓰기마다 새 맵으로 교체되므로 돌려받은 맵은 바뀌지 않는다.
+     */
+    public Map<String, CategoryPriceSummary> getSummaryMap() {
+        return summaries;
+    }
+    public Collection<CategoryPriceSummary> getSummaries() {
+        return summaries.values();
+    }
+
+    public Optional<CategoryPriceSummary> getSummary(String category) {
+        return Optional.ofNullable(summaries.get(category));
+    }
+
+    /**
+     * 인덱스에 있는 브랜드의 활성 상품. 없으면 빈 목록이다. 가격 변경을 브랜드 목록으로 바꾸는 쓰기 경로
+     * ({@link CatalogSnapshotPublisher}) 에서만 쓰며, 읽기 API 는 스냅샷을 읽는다.
+     */
+    synchronized List<ProductPriceDto> getBrandProducts(Long brandId) {
+        return List.copyOf(productsByBrand.getOrDefault(brandId, List.of()));
+    }
+
+    /**
+     * 카테고리별 가격순 상품 배열의 불변 맵. 직전 호출 뒤 바뀐 카테고리만 새 배열로 만들고 나머지는 그대로 공유한다.
+     */
+    public synchronized Map<String, CategoryPrices> freeze() {
+        if (changedSinceFreeze.isEmpty()) {
+            return frozen;
+        }
+        Map<String, CategoryPrices> updated = new HashMap<>(frozen);
+        changedSinceFreeze.forEach(category -> {
+            NavigableSet<ProductPriceDto> products = productsByCategory.get(category);
+            if (products == null) {
+                updated.remove(category);
+            } else {
+                updated.put(category, new CategoryPrices(category, products.toArray(ProductPriceDto[]::new),
+                        histogramsByCategory.get(category).copy()));
+            }
+        });
+        changedSinceFreeze.clear();
+        frozen = Map.copyOf(updated);
+        return frozen;
+    }
+
+    public synchronized void reload(List<ProductPriceDto> products) {
+        productsByBrand.clear();
+        productsByCategory.clear();
+        histogramsByCategory.clear();
+        products.forEach(this::add);
+        frozen = Map.of();
+        changedSinceFreeze.clear();
+        changedSinceFreeze.addAll(productsByCategory.keySet());
+
+        Map<String, CategoryPriceSummary> rebuilt = new HashMap<>();
+        productsByCategory.keySet().forEach(category -> summarize(category).ifPresent(s -> rebuilt.put(category, s)));
+        summaries = Map.copyOf(rebuilt);
+    }
+
+    /**
+     * 브랜드의 활성 상품 전체를 새 목록으로 교체한다. 빈 목록이면 브랜드가 인덱스에서 제거된다.
+     * <p>
+     * 이전 목록과 같은 상품은 가격순 집합에서 빼고 다시 넣지 않으므로, 가격 몇 개만 바뀐 브랜드는 바뀐 상품만큼만 비용이 든다.
+     */
+    public synchronized void replaceBrand(Long brandId, List<ProductPriceDto> products) {
+        replaceBrands(Map.of(brandId, products));
+    }
+
+    /**
+     * 여러 브랜드를 한 번에 교체하고, 영향을 받은 카테고리 요약은 마지막에 한 번만 다시 만든다.
+     */
+    public synchronized void replaceBrands(Map<Long, List<ProductPriceDto>> productsByBrandId) {
+        Set<String> touched = new HashSet<>();
+        productsByBrandId.forEach((brandId, products) -> applyBrand(brandId, products, touched));
+        if (touched.isEmpty()) {
+            return;
+        }
+        changedSinceFreeze.addAll(touched);
+
+        Map<String, CategoryPriceSummary> updated = new HashMap<>(summaries);
+        touched.forEach(category -> summarize(category).ifPresentOrElse(
+                summary -> updated.put(category, summary),
+                () -> updated.remove(category)));
+        summaries = Map.copyOf(updated);
+    }
+
+    private void applyBrand(Long brandId, List<ProductPriceDto> products, Set<String> touched) {
+        Set<ProductPriceDto> unchanged = new HashSet<>();
+
+        List<ProductPriceDto> previous = productsByBrand.remove(brandId);
+        if (previous != null) {
+            Set<ProductPriceDto> current = new HashSet<>(products);
+            previous.forEach(product -> {
+                if (current.contains(product)) {
+                    unchanged.add(product);
+                    return;
+                }
+                remove(product);
+                touched.add(product.category());
+            });
+        }
+        if (!products.isEmpty()) {
+            productsByBrand.put(brandId, new ArrayList<>(products));
+        }
+        products.forEach(product -> {
+            if (!unchanged.contains(product)) {
+                addToCategory(product);
+                touched.add(product.category());
+            }
+        });
+    }
+
+    private void add(ProductPriceDto product) {
+        productsByBrand.computeIfAbsent(product.brandId(), id -> new ArrayList<>()).add(product);
+        addToCategory(product);
+    }
+
+    private void addToCategory(ProductPriceDto product) {
+        if (productsByCategory.computeIfAbsent(product.category(), c -> new TreeSet<>(PRICE_ORDER)).add(product)) {
+            histogramsByCategory.computeIfAbsent(product.category(), c -> new PriceHistogram(HISTOGRAM_BUCKET_WIDTH))
+                    .add(product.price());
+        }
+    }
+
+    private void remove(ProductPriceDto product) {
+        NavigableSet<ProductPriceDto> products = productsByCategory.get(product.category());
+        if (products != null && products.remove(product)) {
+            histogramsByCategory.get(product.category()).remove(product.price());
+            if (products.isEmpty()) {
+                productsByCategory.remove(product.category());
+                histogramsByCategory.remove(product.category());
+            }
+        }
+    }
+
+    private Optional<CategoryPriceSummary> summarize(String category) {
+        NavigableSet<ProductPriceDto> products = productsByCategory.get(category);
+        if (products == null || products.isEmpty()) {
+            return Optional.empty();
+        }
+        List<ProductPriceDto> highest = samePriceAs(products.last(), products.descendingIterator());
+        Collections.reverse(highest);
+        return Optional.of(new CategoryPriceSummary(
+                category,
+                samePriceAs(products.first(), products.iterator()),
+                highest
+        ));
+    }
+
+    private List<ProductPriceDto> samePriceAs(ProductPriceDto edge, Iterator<ProductPriceDto> iterator) {
+        List<ProductPriceDto> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ProductPriceDto product = iterator.next();
+            if (!product.price().equals(edge.price())) {
+                break;
+            }
+            result.add(product);
+        }
+        return result;
+    }
+}
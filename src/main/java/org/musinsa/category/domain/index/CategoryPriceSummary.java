@@ -0,0 +1,33 @@
+package org.musinsa.category.domain.index;
+
+import java.util.List;
+import lombok.Getter;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+/**
+ * 카테고리 하나의 최저가/최고가 상품 목록. 같은 가격의 상품은 브랜드 이름 오름차순으로 정렬되어 있다.
+ */
+@Getter
+public class CategoryPriceSummary {
+    private final String category;
+    private final Long lowestPrice;
+    private final Long highestPrice;
+    private final List<ProductPriceDto> lowestPriceProducts;
+    private final List<ProductPriceDto> highestPriceProducts;
+
+    public CategoryPriceSummary(String category, List<ProductPriceDto> lowestPriceProducts,
+                                List<ProductPriceDto> highestPriceProducts) {
+        this.category = category;
+        this.lowestPriceProducts = List.copyOf(lowestPriceProducts);
+        this.highestPriceProducts = List.copyOf(highestPriceProducts);
+        this.lowestPrice = this.lowestPriceProducts.get(0).price();
+        this.highestPrice = this.highestPriceProducts.get(0).price();
+    }
+
+    /**
+     * 최저가가 같은 브랜드가 여럿이면 이름이 가장 큰 브랜드를 돌려준다 (기존 SQL 의 MAX(b.name) 과 동일).
+     */
+    public String getLowestPriceBrand() {
+        return lowestPriceProducts.get(lowestPriceProducts.size() - 1).brandName();
+    }
+}
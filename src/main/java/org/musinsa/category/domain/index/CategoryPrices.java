@@ -0,0 +1,151 @@
+package org.musinsa.category.domain.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.musinsa.category.domain.dto.PriceBucketDto;
+import org.musinsa.category.domain.dto.PriceRangeCountDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+/**
+ * 스냅샷 공개 시점에 얼린 카테고리 하나의 가격순 상품 배열과 가격 히스토그램 사본. 만들어진 뒤에는 바뀌지 않으므로 여러
+ * 스레드가 락 없이 공유한다.
+ * <p>
+ * 가격 구간 개수는 구간 전체가 범위에 드는 구간을 히스토그램으로 세고, 범위가 걸친 경계 구간과 히스토그램 상한 이상의 가격은
+ * 배열에서 경계 위치를 이진 탐색해 센다.
+ */
+public class CategoryPrices {
+
+    private final String category;
+    private final ProductPriceDto[] products;
+    private final PriceHistogram histogram;
+
+    /**
+     * products 는 {@link CategoryPriceIndex#PRICE_ORDER} 순이며 비어 있지 않아야 하고, histogram 은 products 의 가격을
+     * 센 뒤 더는 바뀌지 않는 사본이어야 한다.
+     */
+    CategoryPrices(String category, ProductPriceDto[] products, PriceHistogram histogram) {
+        this.category = category;
+        this.products = products;
+        this.histogram = histogram;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public int size() {
+        return products.length;
+    }
+
+    public long getHighestPrice() {
+        return products[products.length - 1].price();
+    }
+
+    /**
+     * 가격순으로 after 다음부터 최대 limit 개. descending 이면 비싼 순이며 같은 가격은 브랜드 이름 내림차순이다.
+     * after 의 위치는 이진 탐색으로 찾으므로 O(log n + limit) 이다.
+     */
+    public List<ProductPriceDto> getPage(ProductPriceDto after, boolean descending, int limit) {
+        int step = descending ? -1 : 1;
+        int from = descending ? products.length - 1 : 0;
+        if (after != null) {
+            int position = Arrays.binarySearch(products, after, CategoryPriceIndex.PRICE_ORDER);
+            int insertion = position >= 0 ? position : -position - 1;
+            from = descending ? insertion - 1 : (position >= 0 ? position + 1 : insertion);
+        }
+        List<ProductPriceDto> page = new ArrayList<>(Math.min(limit, products.length));
+        for (int i = from; i >= 0 && i < products.length && page.size() < limit; i += step) {
+            page.add(products[i]);
+        }
+        return page;
+    }
+
+    /**
+     * 가격이 minPrice 이상 maxPrice 이하인 상품 수와, 그 상품의 브랜드를 가격순으로 중복 없이 최대 brandLimit 개 돌려준다.
+     * 개수는 O(log B + log n) 이고, 브랜드 목록은 minPrice 위치부터 읽은 상품 수만큼 더 든다.
+     */
+    public PriceRangeCountDto countPriceRange(long minPrice, long maxPrice, int brandLimit) {
+        if (minPrice > maxPrice) {
+            return new PriceRangeCountDto(0, List.of());
+        }
+        Set<String> brands = new LinkedHashSet<>();
+        for (int i = rank(minPrice); i < products.length && products[i].price() <= maxPrice && brands.size() < brandLimit; i++) {
+            brands.add(products[i].brandName());
+        }
+        return new PriceRangeCountDto(count(minPrice, maxPrice), List.copyOf(brands));
+    }
+
+    /**
+     * minPrice 가 속한 width 구간부터 maxPrice 가 속한 구간까지 구간별 상품 수. width 는
+     * {@link CategoryPriceIndex#HISTOGRAM_BUCKET_WIDTH} 의 배수여야 하며, 그러면 구간 하나를 세는 데 O(log B) 가 든다.
+     * 구간 수를 먼저 구해 그만큼만 돌므로 {@code Long.MAX_VALUE} 근처에서도 구간 경계가 넘치지 않고, 마지막 구간의 끝은
+     * {@code Long.MAX_VALUE} 에서 자른다.
+     */
+    public List<PriceBucketDto> getPriceHistogram(long minPrice, long maxPrice, long width) {
+        if (minPrice > maxPrice) {
+            return List.of();
+        }
+        long first = Math.floorDiv(minPrice, width);
+        long bucketCount = Math.floorDiv(maxPrice, width) - first + 1;
+        List<PriceBucketDto> buckets = new ArrayList<>((int) Math.min(bucketCount, PriceHistogram.MAX_BUCKETS));
+        for (long i = 0; i < bucketCount; i++) {
+            long from = (first + i) * width;
+            long to = from > Long.MAX_VALUE - (width - 1) ? Long.MAX_VALUE : from + width - 1;
+            buckets.add(new PriceBucketDto(from, to, count(from, to)));
+        }
+        return buckets;
+    }
+
+    private int count(long minPrice, long maxPrice) {
+        long width = histogram.getBucketWidth();
+        int count = 0;
+        if (maxPrice >= histogram.getLimit()) {
+            count += between(Math.max(minPrice, histogram.getLimit()), maxPrice);
+            maxPrice = histogram.getLimit() - 1;
+        }
+        if (minPrice > maxPrice) {
+            return count;
+        }
+        int from = histogram.bucketOf(minPrice);
+        int to = histogram.bucketOf(maxPrice);
+        boolean lowerPartial = minPrice != from * width;
+        boolean upperPartial = maxPrice != (to + 1) * width - 1;
+        if (from == to) {
+            return count + (lowerPartial || upperPartial ? between(minPrice, maxPrice) : histogram.count(from, to));
+        }
+        if (lowerPartial) {
+            count += between(minPrice, (from + 1) * width - 1);
+            from++;
+        }
+        if (upperPartial) {
+            count += between(to * width, maxPrice);
+            to--;
+        }
+        return count + histogram.count(from, to);
+    }
+
+    private int between(long minPrice, long maxPrice) {
+        int upper = maxPrice == Long.MAX_VALUE ? products.length : rank(maxPrice + 1);
+        return upper - rank(minPrice);
+    }
+
+    /**
+     * 가격이 price 이상인 첫 상품의 위치.
+     */
+    private int rank(long price) {
+        int low = 0;
+        int high = products.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (products[mid].price() < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,326 @@
+package org.musinsa.category.domain.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+/**
+ * 코디(카테고리마다 상품 하나) 조합 문제를 풀기 위한 스냅샷 한 버전의 압축 가격표.
+ * <p>
+ * 카테고리를 비트로 보고, 카테고리 집합 S 마다 "S 를 혼자 모두 채울 수 있는 브랜드 중 S 합계가 가장 싼 브랜드" 만 남긴다.
+ * 브랜드가 아무리 많아도 표는 2<sup>C</sup> 칸이고, 어느 칸에서도 이기지 못한 브랜드는 어떤 최적 조합에도 필요 없으므로
+ * 버린다. 브랜드 수 제한 문제는 이 표 위에서 부분집합 분할 DP 로 O(N·3<sup>C</sup>) 에 푼다.
+ * <p>
+ * 예산 문제는 카테고리마다 서로 다른 가격만 남긴 정렬 배열(같은 가격의 상품은 서로를 대신할 수 있다) 위에서 분기 한정으로
+ * 푼다. 합계는 가격들의 최대공약수의 배수만 될 수 있으므로 예산을 그 배수로 내려 잡고, 그 값에 닿으면 바로 멈춘다. 마지막
+ * 카테고리는 이분 탐색으로 고르며, 탐색 노드가 {@link #MAX_SEARCH_NODES} 를 넘으면 그때까지의 최선을 최적 여부와 함께
+ * 돌려준다.
+ */
+public class OutfitTable {
+
+    public static final int MAX_CATEGORIES = 12;
+    static final int MAX_SEARCH_NODES = 1_000_000;
+
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final long version;
+    private final List<String> categories;
+    private final long[] bestCost;
+    private final ProductPriceDto[][] bestProducts;
+    private final long[][] prices;
+    private final ProductPriceDto[][] priceProducts;
+    private final long[] priceGcd;
+
+    private OutfitTable(long version, List<String> categories, long[] bestCost, ProductPriceDto[][] bestProducts,
+                        long[][] prices, ProductPriceDto[][] priceProducts) {
+        this.version = version;
+        this.categories = categories;
+        this.bestCost = bestCost;
+        this.bestProducts = bestProducts;
+        this.prices = prices;
+        this.priceProducts = priceProducts;
+        this.priceGcd = Arrays.stream(prices)
+                .mapToLong(levelPrices -> Arrays.stream(levelPrices).reduce(0L, OutfitTable::gcd))
+                .toArray();
+    }
+
+    /**
+     * 스냅샷의 모든 브랜드로 표를 만든다. 카테고리 비트 순서는 displayOrder 를 따른다.
+     */
+    public static OutfitTable of(CatalogSnapshot snapshot, Comparator<String> displayOrder) {
+        List<String> categories = snapshot.getCategorySummaries().stream()
+                .map(CategoryPriceSummary::getCategory)
+                .sorted(displayOrder)
+                .toList();
+        if (categories.size() > MAX_CATEGORIES) {
+            throw new IllegalStateException("Outfit table supports up to " + MAX_CATEGORIES + " categories");
+        }
+        Map<String, Integer> bits = new HashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            bits.put(categories.get(i), i);
+        }
+
+        int size = categories.size();
+        long[] bestCost = new long[1 << size];
+        Arrays.fill(bestCost, NONE);
+        ProductPriceDto[][] bestProducts = new ProductPriceDto[1 << size][];
+        List<Map<Long, ProductPriceDto>> distinctPrices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            distinctPrices.add(new HashMap<>());
+        }
+
+        long[] cost = new long[size];
+        ProductPriceDto[] cheapest = new ProductPriceDto[size];
+        long[] subsetCost = new long[1 << size];
+        for (BrandPriceTotal brand : snapshot.getBrandPage(null, null, Integer.MAX_VALUE)) {
+            Arrays.fill(cheapest, null);
+            int covered = 0;
+            for (ProductPriceDto product : brand.getProducts()) {
+                Integer bit = bits.get(product.category());
+                if (bit == null) {
+                    continue;
+                }
+                distinctPrices.get(bit).putIfAbsent(product.price(), product);
+                if (cheapest[bit] == null || product.price() < cost[bit]) {
+                    cheapest[bit] = product;
+                    cost[bit] = product.price();
+                }
+                covered |= 1 << bit;
+            }
+            // covered 의 부분집합을 오름차순으로 돌며 가장 낮은 비트 하나를 뺀 집합의 합계에 더해 나간다.
+            for (int subset = (-covered) & covered; subset != 0; subset = (subset - covered) & covered) {
+                int lowest = Integer.numberOfTrailingZeros(subset);
+                subsetCost[subset] = subsetCost[subset & (subset - 1)] + cost[lowest];
+                if (subsetCost[subset] < bestCost[subset]) {
+                    bestCost[subset] = subsetCost[subset];
+                    bestProducts[subset] = select(cheapest, subset);
+                }
+            }
+        }
+
+        long[][] prices = new long[size][];
+        ProductPriceDto[][] priceProducts = new ProductPriceDto[size][];
+        for (int i = 0; i < size; i++) {
+            Map<Long, ProductPriceDto> byPrice = distinctPrices.get(i);
+            prices[i] = byPrice.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            priceProducts[i] = Arrays.stream(prices[i]).mapToObj(byPrice::get).toArray(ProductPriceDto[]::new);
+        }
+        return new OutfitTable(snapshot.getVersion(), categories, bestCost, bestProducts, prices, priceProducts);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리 이름 목록을 비트 집합으로 바꾼다. 표에 없는 카테고리가 있으면 -1 이다.
+     */
+    public int maskOf(List<String> names) {
+        int mask = 0;
+        for (String name : names) {
+            int bit = categories.indexOf(name);
+            if (bit < 0) {
+                return -1;
+            }
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
+    public int allCategories() {
+        return (1 << categories.size()) - 1;
+    }
+
+    /**
+     * mask 의 모든 카테고리를 브랜드 maxBrands 개 이하로 채우는 가장 싼 조합. 불가능하면 빈 목록이다.
+     * <p>
+     * f<sub>k</sub>[S] 는 S 를 브랜드 k 개 이하로 채우는 최소 합계이며, S 의 가장 낮은 비트를 포함하는 부분집합 하나를 브랜드
+     * 하나에 맡기는 경우만 보아 같은 분할을 두 번 세지 않는다.
+     */
+    public Outfit cheapest(int mask, int maxBrands) {
+        int brands = Math.min(maxBrands, Integer.bitCount(mask));
+        long[] previous = bestCost.clone();
+        int[][] choice = new int[brands + 1][];
+        for (int k = 2; k <= brands; k++) {
+            long[] current = previous.clone();
+            int[] chosen = new int[previous.length];
+            for (int set = mask; set != 0; set = (set - 1) & mask) {
+                int lowest = set & -set;
+                int rest = set ^ lowest;
+                for (int other = rest; ; other = (other - 1) & rest) {
+                    int part = lowest | other;
+                    int remainder = set ^ part;
+                    if (remainder != 0 && bestCost[part] != NONE && previous[remainder] != NONE
+                            && bestCost[part] + previous[remainder] < current[set]) {
+                        current[set] = bestCost[part] + previous[remainder];
+                        chosen[set] = part;
+                    }
+                    if (other == 0) {
+                        break;
+                    }
+                }
+            }
+            choice[k] = chosen;
+            previous = current;
+        }
+        if (mask == 0 || previous[mask] == NONE) {
+            return new Outfit(List.of(), true);
+        }
+
+        List<ProductPriceDto> products = new ArrayList<>();
+        int set = mask;
+        for (int k = brands; k >= 2 && set != 0; k--) {
+            int part = choice[k][set];
+            if (part != 0) {
+                addAll(products, bestProducts[part]);
+                set ^= part;
+            }
+        }
+        if (set != 0) {
+            addAll(products, bestProducts[set]);
+        }
+        return new Outfit(sorted(products), true);
+    }
+
+    /**
+     * mask 의 카테고리마다 상품 하나를 골라 합계가 budget 이하이면서 가장 큰 조합. 가장 싼 조합도 예산을 넘으면 빈 목록이다.
+     */
+    public Outfit withinBudget(int mask, long budget) {
+        int[] order = new int[Integer.bitCount(mask)];
+        int n = 0;
+        for (int bit = 0; bit < categories.size(); bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                order[n++] = bit;
+            }
+        }
+        // 선택지가 적은 카테고리부터 분기하고, 가장 많은 카테고리는 마지막에 이분 탐색으로 고른다.
+        order = Arrays.stream(order).boxed()
+                .sorted(Comparator.comparingInt(bit -> prices[bit].length))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long gcd = Arrays.stream(order).mapToLong(bit -> priceGcd[bit]).reduce(0L, OutfitTable::gcd);
+        BudgetSearch search = new BudgetSearch(order, gcd == 0 ? budget : budget - budget % gcd);
+        if (order.length == 0 || search.minRest[0] > budget) {
+            return new Outfit(List.of(), true);
+        }
+        search.run(0, 0L);
+
+        List<ProductPriceDto> products = new ArrayList<>();
+        for (int level = 0; level < order.length; level++) {
+            products.add(priceProducts[order[level]][search.bestChoice[level]]);
+        }
+        return new Outfit(sorted(products), !search.exhausted);
+    }
+
+    private List<ProductPriceDto> sorted(List<ProductPriceDto> products) {
+        return products.stream()
+                .sorted(Comparator.comparingInt(product -> categories.indexOf(product.category())))
+                .toList();
+    }
+
+    private static ProductPriceDto[] select(ProductPriceDto[] cheapest, int subset) {
+        ProductPriceDto[] selected = new ProductPriceDto[Integer.bitCount(subset)];
+        int i = 0;
+        for (int rest = subset; rest != 0; rest &= rest - 1) {
+            selected[i++] = cheapest[Integer.numberOfTrailingZeros(rest)];
+        }
+        return selected;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static void addAll(List<ProductPriceDto> products, ProductPriceDto[] selected) {
+        products.addAll(Arrays.asList(selected));
+    }
+
+    /**
+     * 코디 조합. optimal 이 false 면 탐색 한도에 걸려 더 나은 조합이 있을 수 있다.
+     */
+    public record Outfit(List<ProductPriceDto> products, boolean optimal) {
+
+        public long totalPrice() {
+            return products.stream().mapToLong(ProductPriceDto::price).sum();
+        }
+
+        public long brandCount() {
+            return products.stream().map(ProductPriceDto::brandId).distinct().count();
+        }
+    }
+
+    private final class BudgetSearch {
+        private final int[] order;
+        private final long budget;
+        private final long[] minRest;
+        private final long[] maxRest;
+        private final int[] choice;
+        private final int[] bestChoice;
+        private long best = -1;
+        private long nodes;
+        private boolean exhausted;
+
+        private BudgetSearch(int[] order, long budget) {
+            this.order = order;
+            this.budget = budget;
+            this.minRest = new long[order.length + 1];
+            this.maxRest = new long[order.length + 1];
+            for (int level = order.length - 1; level >= 0; level--) {
+                long[] levelPrices = prices[order[level]];
+                minRest[level] = minRest[level + 1] + levelPrices[0];
+                maxRest[level] = maxRest[level + 1] + levelPrices[levelPrices.length - 1];
+            }
+            this.choice = new int[order.length];
+            this.bestChoice = new int[order.length];
+        }
+
+        /**
+         * 가격이 큰 것부터 분기한다. 남은 카테고리를 모두 가장 비싼 상품으로 채워도 지금까지의 최선을 넘지 못하면, 더 싼
+         * 가격은 볼 필요가 없으므로 그 자리에서 멈춘다.
+         */
+        private boolean run(int level, long spent) {
+            long[] levelPrices = prices[order[level]];
+            long room = budget - spent - minRest[level + 1];
+            int index = upperIndex(levelPrices, room);
+            if (level == order.length - 1) {
+                if (index >= 0 && spent + levelPrices[index] > best) {
+                    choice[level] = index;
+                    best = spent + levelPrices[index];
+                    System.arraycopy(choice, 0, bestChoice, 0, choice.length);
+                }
+                return best == budget;
+            }
+            for (; index >= 0; index--) {
+                if (spent + levelPrices[index] + Math.min(maxRest[level + 1], room - levelPrices[index]
+                        + minRest[level + 1]) <= best) {
+                    break;
+                }
+                if (++nodes > MAX_SEARCH_NODES) {
+                    exhausted = true;
+                    return true;
+                }
+                choice[level] = index;
+                if (run(level + 1, spent + levelPrices[index])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * limit 이하인 가장 큰 가격의 위치. 없으면 -1 이다.
+         */
+        private int upperIndex(long[] levelPrices, long limit) {
+            int position = Arrays.binarySearch(levelPrices, limit);
+            return position >= 0 ? position : -position - 2;
+        }
+    }
+}
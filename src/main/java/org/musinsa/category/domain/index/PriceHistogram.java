@@ -0,0 +1,110 @@
+package org.musinsa.category.domain.index;
+
+import java.util.Arrays;
+
+/**
+ * 카테고리 하나의 가격을 {@code bucketWidth} 단위 구간으로 나눠 구간별 상품 수를 펜윅 트리로 보관한다.
+ * <p>
+ * 상품 추가/제거와 구간 누적 개수가 모두 O(log B) 다 (B 는 가장 비싼 상품까지의 구간 수). 더 비싼 상품이 들어오면 트리를
+ * 두 배로 늘리는데, 크기가 2의 거듭제곱이면 기존 노드는 그대로 두고 새 루트에 전체 개수만 넣으면 된다.
+ * {@link #getLimit()} 이상인 가격은 트리에 넣지 않으므로 호출하는 쪽이 가격순 집합에서 직접 센다. 음수 가격은 구간이
+ * -1 이 되어 트리 인덱스가 0 에 머무르므로 받지 않는다.
+ * {@link CategoryPriceIndex} 의 락 안에서만 바꾸며, 스냅샷에는 {@link #copy()} 로 만든 사본을 넣어 읽기만 한다.
+ */
+class PriceHistogram {
+
+    static final int MAX_BUCKETS = 1 << 20;
+    private static final int INITIAL_BUCKETS = 16;
+
+    private final long bucketWidth;
+    private int[] tree = new int[INITIAL_BUCKETS + 1];
+    private int total;
+
+    PriceHistogram(long bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    void add(long price) {
+        requireNotNegative(price);
+        if (price < getLimit()) {
+            update(bucketOf(price), 1);
+        }
+    }
+
+    void remove(long price) {
+        requireNotNegative(price);
+        if (price < getLimit()) {
+            update(bucketOf(price), -1);
+        }
+    }
+
+    /**
+     * 트리 배열을 복사한 사본. 스냅샷 공개 때 바뀐 카테고리만 복사하므로 O(B) 가 공개마다 카테고리 수만큼 들지는 않는다.
+     */
+    PriceHistogram copy() {
+        PriceHistogram copy = new PriceHistogram(bucketWidth);
+        copy.tree = tree.clone();
+        copy.total = total;
+        return copy;
+    }
+
+    long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * 트리로 셀 수 있는 가격의 상한(미포함).
+     */
+    long getLimit() {
+        return bucketWidth * MAX_BUCKETS;
+    }
+
+    int bucketOf(long price) {
+        return (int) (price / bucketWidth);
+    }
+
+    /**
+     * fromBucket 부터 toBucket 까지(양 끝 포함) 구간의 상품 수.
+     */
+    int count(int fromBucket, int toBucket) {
+        if (fromBucket > toBucket) {
+            return 0;
+        }
+        return countThrough(toBucket) - countThrough(fromBucket - 1);
+    }
+
+    private static void requireNotNegative(long price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("price must be zero or positive: " + price);
+        }
+    }
+
+    private int countThrough(int bucket) {
+        int sum = 0;
+        for (int i = Math.min(bucket + 1, capacity()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void update(int bucket, int delta) {
+        while (bucket >= capacity()) {
+            grow();
+        }
+        for (int i = bucket + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    private void grow() {
+        int doubled = capacity() * 2;
+        tree = Arrays.copyOf(tree, doubled + 1);
+        // 새로 생긴 노드 중 (N, 2N] 전체를 덮는 루트만 값이 있고 나머지가 덮는 구간은 아직 비어 있다.
+        tree[doubled] = total;
+    }
+
+    private int capacity() {
+        return tree.length - 1;
+    }
+}
@@ -0,0 +1,166 @@
+package org.musinsa.category.domain.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * 주 데이터소스와 읽기 복제본들. 복제본마다 반영을 마친 카탈로그 스냅샷 버전을 두고, 읽기 전용 트랜잭션이 쓸 복제본을 고른다.
+ * <p>
+ * 가장 최근 스냅샷 버전보다 {@code maxLag} 넘게 뒤처졌거나 호출자가 요구한 버전보다 뒤처진 복제본은 후보에서 빠진다. 남은
+ * 후보가 없으면 주 데이터소스에서 읽는다. 고르는 동안 목록을 새로 만들지 않는다.
+ */
+public class CatalogReplicaSet implements AutoCloseable {
+
+    public enum LoadBalancing {
+        ROUND_ROBIN, RANDOM, LEAST_LAG;
+
+        public static LoadBalancing of(String name) {
+            try {
+                return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown replica load balancing: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * 아직 한 번도 전체 복사를 마치지 못했거나 복제가 깨져 후보에서 빠진 복제본의 버전.
+     */
+    public static final long NOT_SYNCED = -1L;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final LoadBalancing loadBalancing;
+    private final long maxLag;
+    private final AtomicLong latestVersion = new AtomicLong();
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public CatalogReplicaSet(HikariDataSource primary, List<Replica> replicas, LoadBalancing loadBalancing, long maxLag) {
+        if (maxLag < 0) {
+            throw new IllegalArgumentException("catalog.replica.max-lag must not be negative");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.loadBalancing = loadBalancing;
+        this.maxLag = maxLag;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public LoadBalancing getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    public long getLatestVersion() {
+        return latestVersion.get();
+    }
+
+    /**
+     * 복제본 대신 주 데이터소스로 보낸 읽기 전용 연결 수.
+     */
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    /**
+     * 새 스냅샷 버전이 공개되었음을 기록한다. 복제본의 지연은 이 버전을 기준으로 잰다.
+     */
+    public void publish(long version) {
+        latestVersion.accumulateAndGet(version, Math::max);
+    }
+
+    /**
+     * minVersion 이상이면서 허용 지연 안에 있는 복제본 하나를 부하 분산 방식대로 고른다. 없으면 비어 있고 주 데이터소스 읽기로 센다.
+     */
+    public Optional<Replica> choose(long minVersion) {
+        long required = Math.max(minVersion, Math.max(latestVersion.get() - maxLag, 0L));
+        int size = replicas.size();
+        Replica chosen = null;
+        if (size > 0) {
+            if (loadBalancing == LoadBalancing.LEAST_LAG) {
+                for (Replica replica : replicas) {
+                    long applied = replica.getAppliedVersion();
+                    if (applied >= required && (chosen == null || applied > chosen.getAppliedVersion())) {
+                        chosen = replica;
+                    }
+                }
+            } else {
+                int start = loadBalancing == LoadBalancing.RANDOM
+                        ? ThreadLocalRandom.current().nextInt(size)
+                        : Math.floorMod(next.getAndIncrement(), size);
+                for (int i = 0; i < size && chosen == null; i++) {
+                    Replica replica = replicas.get((start + i) % size);
+                    if (replica.getAppliedVersion() >= required) {
+                        chosen = replica;
+                    }
+                }
+            }
+        }
+        if (chosen == null) {
+            primaryReads.increment();
+            return Optional.empty();
+        }
+        chosen.reads.increment();
+        return Optional.of(chosen);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    /**
+     * 읽기 복제본 하나. appliedVersion 은 복제 스레드만 올리고, 라우팅은 읽기만 한다.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final AtomicLong appliedVersion = new AtomicLong(NOT_SYNCED);
+        private final LongAdder reads = new LongAdder();
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public long getAppliedVersion() {
+            return appliedVersion.get();
+        }
+
+        public long getReads() {
+            return reads.sum();
+        }
+
+        void markApplied(long version) {
+            appliedVersion.accumulateAndGet(version, Math::max);
+        }
+
+        void markBroken() {
+            appliedVersion.set(NOT_SYNCED);
+        }
+    }
+}
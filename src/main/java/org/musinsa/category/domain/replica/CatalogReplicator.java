@@ -0,0 +1,204 @@
+package org.musinsa.category.domain.replica;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.event.CatalogSnapshotPublishedEvent;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.Replica;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내장 H2 복제본을 위한 복제 대역. 기동 때 주 데이터소스 전체를 H2 {@code SCRIPT}/{@code RUNSCRIPT} 로 복사하고, 이후에는
+ * 커밋된 카탈로그 이벤트의 브랜드만 다시 복사한다.
+ * <p>
+ * 작업은 스레드 하나에서 도착 순서대로 {@code replication-delay} 만큼 늦게 실행되어 복제 지연을 흉내 낸다. 스냅샷이 공개되면
+ * 그 시점까지 들어온 브랜드 복사 뒤에 버전 표시를 넣으므로, 복제본의 버전은 그 버전의 스냅샷에 반영된 변경을 모두 복사했다는
+ * 뜻이다. 인덱스 갱신보다 먼저 브랜드 복사를 넣도록 커밋 후 리스너 중 가장 먼저 실행된다.
+ * <p>
+ * 브랜드 복사에 실패한 복제본은 전체를 다시 복사하고, 그것도 실패하면 라우팅 후보에서 뺀다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.replica.enabled", havingValue = "true")
+public class CatalogReplicator {
+
+    static final int BRAND_BATCH_SIZE = 100;
+
+    private final CatalogReplicaSet replicaSet;
+    private final JdbcTemplate primary;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-replicator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogReplicator(CatalogReplicaSet replicaSet,
+                             @Value("${catalog.replica.replication-delay:0ms}") Duration replicationDelay) {
+        this.replicaSet = replicaSet;
+        this.primary = new JdbcTemplate(replicaSet.getPrimary());
+        this.delayMillis = replicationDelay.toMillis();
+    }
+
+    /**
+     * 카테고리 사전 적재 뒤, 카탈로그 인덱스 적재 전에 전체 복사를 넣는다. 인덱스 적재가 공개하는 첫 스냅샷 버전은 이 복사 뒤에 표시된다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long version = replicaSet.getLatestVersion();
+        executor.execute(() -> replicaSet.getReplicas().forEach(replica -> copyAll(replica, version)));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        enqueue(event.getBrandIds());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPricesChanged(CatalogPriceChangedEvent event) {
+        enqueue(event.getPrices().stream().map(CategoryPrice::brandId).collect(Collectors.toSet()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onProductsChanged(CatalogProductChangedEvent event) {
+        enqueue(event.getProducts().stream().map(ProductChange::brandId).collect(Collectors.toSet()));
+    }
+
+    @EventListener
+    public void onSnapshotPublished(CatalogSnapshotPublishedEvent event) {
+        long version = event.getCurrent().getVersion();
+        replicaSet.publish(version);
+        schedule(() -> replicaSet.getReplicas().stream()
+                .filter(replica -> replica.getAppliedVersion() != CatalogReplicaSet.NOT_SYNCED)
+                .forEach(replica -> replica.markApplied(version)));
+    }
+
+    private void enqueue(Set<Long> brandIds) {
+        List<Long> ids = List.copyOf(brandIds);
+        schedule(() -> {
+            for (int from = 0; from < ids.size(); from += BRAND_BATCH_SIZE) {
+                copyBrands(ids.subList(from, Math.min(from + BRAND_BATCH_SIZE, ids.size())));
+            }
+        });
+    }
+
+    private void schedule(Runnable task) {
+        executor.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("catalog replication task failed", e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 브랜드 행과 그 상품 행을 주 데이터소스에서 한 번 읽어 복제본마다 지우고 다시 넣는다. 상품이 참조하는 카테고리는 먼저 합친다.
+     */
+    private void copyBrands(List<Long> brandIds) {
+        String in = String.join(", ", Collections.nCopies(brandIds.size(), "?"));
+        Object[] args = brandIds.toArray();
+        List<Map<String, Object>> categories = primary.queryForList("SELECT * FROM category");
+        List<Map<String, Object>> brands = primary.queryForList("SELECT * FROM brand WHERE id IN (" + in + ")", args);
+        List<Map<String, Object>> products = primary.queryForList("SELECT * FROM product WHERE brand_id IN (" + in + ")", args);
+
+        for (Replica replica : replicaSet.getReplicas()) {
+            if (replica.getAppliedVersion() == CatalogReplicaSet.NOT_SYNCED) {
+                continue;
+            }
+            try {
+                JdbcTemplate jdbc = new JdbcTemplate(replica.getDataSource());
+                new TransactionTemplate(new DataSourceTransactionManager(replica.getDataSource())).executeWithoutResult(status -> {
+                    write(jdbc, "MERGE INTO category", " KEY (id)", categories);
+                    jdbc.update("DELETE FROM product WHERE brand_id IN (" + in + ")", args);
+                    jdbc.update("DELETE FROM brand WHERE id IN (" + in + ")", args);
+                    write(jdbc, "INSERT INTO brand", "", brands);
+                    write(jdbc, "INSERT INTO product", "", products);
+                });
+            } catch (RuntimeException e) {
+                log.warn("catalog replica brand copy failed, resyncing: replica={}", replica.getName(), e);
+                copyAll(replica, replica.getAppliedVersion());
+            }
+        }
+    }
+
+    private static void write(JdbcTemplate jdbc, String statement, String key, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = List.copyOf(rows.get(0).keySet());
+        String sql = statement + " (" + String.join(", ", columns) + ")" + key
+                + " VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        jdbc.batchUpdate(sql, rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList());
+    }
+
+    /**
+     * 주 데이터소스의 스크립트로 복제본을 처음부터 다시 만든다. 스크립트는 복사 시점의 커밋 상태이므로 version 이상이다.
+     */
+    private void copyAll(Replica replica, long version) {
+        Path script = null;
+        try {
+            script = Files.createTempFile("catalog-replica-", ".sql");
+            String file = script.toAbsolutePath().toString().replace("'", "''");
+            primary.execute("SCRIPT TO '" + file + "'");
+            JdbcTemplate jdbc = new JdbcTemplate(replica.getDataSource());
+            jdbc.execute("DROP ALL OBJECTS");
+            jdbc.execute("RUNSCRIPT FROM '" + file + "'");
+            replica.markApplied(version);
+            log.info("catalog replica synced: replica={}, version={}", replica.getName(), version);
+        } catch (IOException | RuntimeException e) {
+            replica.markBroken();
+            log.error("catalog replica sync failed, removed from routing: replica={}", replica.getName(), e);
+        } finally {
+            deleteQuietly(script);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("failed to delete replica script: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,59 @@
+package org.musinsa.category.domain.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.LoadBalancing;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.Replica;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * {@code catalog.replica.enabled} 가 켜지면 기본 DataSource 대신 주 데이터소스와 복제본을 라우팅하는 DataSource 를 등록한다.
+ * <p>
+ * 주 데이터소스는 {@code spring.datasource.*} 로 직접 만들고, 복제본은 같은 계정으로 {@code url-pattern} 의 URL 마다 만든다.
+ * DataSource 빈은 라우팅 DataSource 를 감싼 하나뿐이므로 JPA 와 JdbcTemplate 이 모두 라우팅을 거친다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "catalog.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public CatalogReplicaSet catalogReplicaSet(
+            DataSourceProperties properties,
+            @Value("${catalog.replica.count:2}") int count,
+            @Value("${catalog.replica.url-pattern:jdbc:h2:mem:catalog-replica-%d;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1}")
+            String urlPattern,
+            @Value("${catalog.replica.load-balancing:round-robin}") String loadBalancing,
+            @Value("${catalog.replica.max-lag:5}") long maxLag) {
+        if (count < 1) {
+            throw new IllegalArgumentException("catalog.replica.count must be at least 1");
+        }
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("catalog-primary");
+        List<Replica> replicas = IntStream.range(0, count)
+                .mapToObj(index -> {
+                    HikariDataSource replica = DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(String.format(urlPattern, index))
+                            .username(properties.determineUsername())
+                            .password(properties.determinePassword())
+                            .build();
+                    replica.setPoolName("catalog-replica-" + index);
+                    return new Replica("replica-" + index, replica);
+                })
+                .toList();
+        return new CatalogReplicaSet(primary, replicas, LoadBalancing.of(loadBalancing), maxLag);
+    }
+
+    @Bean
+    public DataSource dataSource(CatalogReplicaSet catalogReplicaSet) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(catalogReplicaSet));
+    }
+}
@@ -0,0 +1,45 @@
+package org.musinsa.category.domain.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기가 요구하는 최소 카탈로그 스냅샷 버전. 이 버전을 아직 반영하지 못한 복제본은 라우팅 후보에서 빠진다.
+ */
+public final class ReplicaReadConsistency {
+
+    private static final ThreadLocal<Long> MIN_VERSION = new ThreadLocal<>();
+
+    private ReplicaReadConsistency() {
+    }
+
+    public static long minVersion() {
+        Long version = MIN_VERSION.get();
+        return version == null ? 0L : version;
+    }
+
+    public static void setMinVersion(long version) {
+        MIN_VERSION.set(version);
+    }
+
+    public static void clear() {
+        MIN_VERSION.remove();
+    }
+
+    /**
+     * 어떤 복제본도 따라올 수 없는 버전을 요구해 read 를 주 데이터소스에서 읽는다. 방금 커밋한 변경을 커밋 직후 다시 읽을 때 쓴다.
+     * 복제본 라우팅이 꺼져 있으면 아무 효과가 없다.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        Long previous = MIN_VERSION.get();
+        MIN_VERSION.set(Long.MAX_VALUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                MIN_VERSION.remove();
+            } else {
+                MIN_VERSION.set(previous);
+            }
+        }
+    }
+}
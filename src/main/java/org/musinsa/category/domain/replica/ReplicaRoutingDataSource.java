@@ -0,0 +1,42 @@
+package org.musinsa.category.domain.replica;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.Replica;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션의 연결은 복제본으로, 나머지는 주 데이터소스로 보낸다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션이 시작된 뒤에야 정해지므로, 실제 연결을 첫 문장까지 미루는
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 쓴다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final CatalogReplicaSet replicaSet;
+
+    public ReplicaRoutingDataSource(CatalogReplicaSet replicaSet) {
+        this.replicaSet = replicaSet;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, replicaSet.getPrimary());
+        replicaSet.getReplicas().forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(replicaSet.getPrimary());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicaSet.choose(ReplicaReadConsistency.minVersion())
+                .map(Replica::getName)
+                .orElse(PRIMARY);
+    }
+}
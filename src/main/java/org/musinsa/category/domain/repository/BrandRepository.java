@@ -1,9 +1,36 @@
 package org.musinsa.category.domain.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.musinsa.category.domain.entity.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long> {
+
+    /**
+     * 이름으로 활성 브랜드 ID 를 찾는다. 대량 적재 중 쌓인 INSERT 를 이 조회 때문에 flush 하지 않도록 COMMIT 플러시 모드로 실행한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT b.id FROM Brand b WHERE b.name = :name AND b.deletedDate IS NULL ORDER BY b.id")
+    List<Long> findActiveIdsByName(@Param("name") String name);
+
+    @Query("SELECT b.id FROM Brand b WHERE b.id IN :ids AND b.deletedDate IS NULL")
+    List<Long> findActiveIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 활성 브랜드를 한 번의 UPDATE 로 삭제 처리하고 버전을 올린다. 영속성 컨텍스트의 브랜드는 비워지므로 다시 읽어야 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Brand b SET b.deletedDate = :deletedAt, b.lastModifiedDate = :deletedAt, b.version = b.version + 1 "
+            + "WHERE b.id IN :ids AND b.deletedDate IS NULL")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
 }
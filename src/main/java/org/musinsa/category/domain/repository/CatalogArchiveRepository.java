@@ -0,0 +1,102 @@
+package org.musinsa.category.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보존 기간이 지난 삭제 행을 이력 테이블로 옮긴다. 대상은 ID 키셋으로 끊어 읽고, 옮기기와 지우기는 현재 트랜잭션에서
+ * 같은 조건으로 다시 걸러 그 사이 바뀐 행은 건드리지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogArchiveRepository {
+
+    private static final String FIND_PRODUCTS_SQL = "SELECT id FROM product "
+            + "WHERE id > :afterId AND del_dt < :cutoff ORDER BY id LIMIT :limit";
+    private static final String COPY_PRODUCTS_SQL = "INSERT INTO product_history "
+            + "(id, brand_id, category_id, price, create_dt, update_dt, del_dt, ver_no, archive_dt) "
+            + "SELECT id, brand_id, category_id, price, create_dt, update_dt, del_dt, ver_no, :archivedAt "
+            + "FROM product WHERE id IN (:ids) AND del_dt < :cutoff";
+    private static final String DELETE_PRODUCTS_SQL = "DELETE FROM product WHERE id IN (:ids) AND del_dt < :cutoff";
+
+    /**
+     * 상품이 남아 있는 브랜드는 외래 키 때문에 옮길 수 없으므로, 삭제 상품이 모두 이력으로 옮겨진 브랜드만 고른다.
+     */
+    private static final String ORPHAN_CONDITION = "NOT EXISTS (SELECT 1 FROM product p WHERE p.brand_id = b.id)";
+    private static final String FIND_BRANDS_SQL = "SELECT b.id FROM brand b "
+            + "WHERE b.id > :afterId AND b.del_dt < :cutoff AND " + ORPHAN_CONDITION + " ORDER BY b.id LIMIT :limit";
+    private static final String COPY_BRANDS_SQL = "INSERT INTO brand_history "
+            + "(id, name, create_dt, update_dt, del_dt, ver_no, archive_dt) "
+            + "SELECT b.id, b.name, b.create_dt, b.update_dt, b.del_dt, b.ver_no, :archivedAt "
+            + "FROM brand b WHERE b.id IN (:ids) AND b.del_dt < :cutoff AND " + ORPHAN_CONDITION;
+    private static final String DELETE_BRANDS_SQL = "DELETE FROM brand b "
+            + "WHERE b.id IN (:ids) AND b.del_dt < :cutoff AND " + ORPHAN_CONDITION;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findArchivableProductIds(LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(FIND_PRODUCTS_SQL, page(cutoff, afterId, limit), Long.class);
+    }
+
+    /**
+     * 상품을 이력으로 복사한 뒤 지운다. 반환값은 옮긴 행 수다.
+     */
+    public int archiveProducts(List<Long> ids, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = move(ids, cutoff, archivedAt);
+        int copied = jdbcTemplate.update(COPY_PRODUCTS_SQL, params);
+        int deleted = jdbcTemplate.update(DELETE_PRODUCTS_SQL, params);
+        return checkMoved("product", copied, deleted);
+    }
+
+    public List<Long> findArchivableBrandIds(LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(FIND_BRANDS_SQL, page(cutoff, afterId, limit), Long.class);
+    }
+
+    public int archiveBrands(List<Long> ids, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = move(ids, cutoff, archivedAt);
+        int copied = jdbcTemplate.update(COPY_BRANDS_SQL, params);
+        int deleted = jdbcTemplate.update(DELETE_BRANDS_SQL, params);
+        return checkMoved("brand", copied, deleted);
+    }
+
+    /**
+     * 아직 옮겨지지 않은 가장 오래된 삭제 일시. 브랜드와 상품 중 더 이른 값이다.
+     */
+    public Optional<LocalDateTime> findOldestDeletedDate() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(del_dt) FROM ("
+                + "SELECT MIN(del_dt) AS del_dt FROM product WHERE del_dt IS NOT NULL UNION ALL "
+                + "SELECT MIN(del_dt) AS del_dt FROM brand WHERE del_dt IS NOT NULL) oldest", Map.of(), Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private static MapSqlParameterSource page(LocalDateTime cutoff, long afterId, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", limit);
+    }
+
+    private static MapSqlParameterSource move(List<Long> ids, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        return new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+    }
+
+    /**
+     * 복사와 삭제는 같은 조건을 같은 트랜잭션에서 평가하므로 수가 다르면 이력이 빠지거나 겹친 것이다. 롤백시킨다.
+     */
+    private static int checkMoved(String table, int copied, int deleted) {
+        if (copied != deleted) {
+            throw new IllegalStateException(String.format("%s archive copied %d rows but deleted %d", table, copied, deleted));
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,16 @@
+package org.musinsa.category.domain.repository;
+
+import java.util.Optional;
+import org.musinsa.category.domain.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    Optional<Category> findByName(String name);
+
+    @Query("SELECT COALESCE(MAX(c.displayOrder), -1) FROM Category c")
+    int findMaxDisplayOrder();
+}
@@ -0,0 +1,76 @@
+package org.musinsa.category.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상품 가격을 엔티티를 읽지 않고 JDBC 배치 UPDATE 로 바꾼다. 현재 트랜잭션의 커넥션을 그대로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductPriceBatchRepository {
+
+    private static final String UPDATE_PRICE_SQL = "UPDATE product SET price = ?, ver_no = ver_no + 1, update_dt = ? "
+            + "WHERE brand_id = ? AND category_id = ? AND del_dt IS NULL";
+
+    private static final String UPDATE_ACCEPTED_PRICE_SQL = UPDATE_PRICE_SQL
+            + " AND (update_dt IS NULL OR update_dt <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 브랜드와 카테고리가 같은 활성 상품의 가격을 바꾸고 버전을 올린다. 반환값은 변경마다 바뀐 행 수다.
+     */
+    public int[] updatePrices(List<PriceChange> changes, LocalDateTime modifiedAt) {
+        Timestamp timestamp = Timestamp.valueOf(modifiedAt);
+        return jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PriceChange change = changes.get(i);
+                ps.setLong(1, change.price());
+                ps.setTimestamp(2, timestamp);
+                ps.setLong(3, change.brandId());
+                ps.setInt(4, change.categoryId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    /**
+     * acceptedAt[i] 에 수락된 changes[i] 를 반영하되, 그 뒤에 수정된 상품은 건너뛴다. 수정 일시는 반영 시각이 아니라 수락
+     * 시각으로 남기므로, 이 반영이 커밋되기 전에 수락된 다음 변경도 오래된 값으로 취급되지 않는다.
+     */
+    public int[] updateAcceptedPrices(List<PriceChange> changes, List<LocalDateTime> acceptedAt) {
+        return jdbcTemplate.batchUpdate(UPDATE_ACCEPTED_PRICE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PriceChange change = changes.get(i);
+                Timestamp timestamp = Timestamp.valueOf(acceptedAt.get(i));
+                ps.setLong(1, change.price());
+                ps.setTimestamp(2, timestamp);
+                ps.setLong(3, change.brandId());
+                ps.setInt(4, change.categoryId());
+                ps.setTimestamp(5, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    public record PriceChange(long brandId, int categoryId, long price) {
+    }
+}
@@ -1,8 +1,14 @@
 package org.musinsa.category.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
 import org.musinsa.category.domain.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,52 +16,90 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query(value = "SELECT p.category, b.name, p.price " +
-            "FROM product p " +
-            "JOIN brand b ON p.brand_id = b.id " +
-            "WHERE (p.category, p.price) IN (" +
-            "    SELECT category, MIN(price) " +
-            "    FROM product " +
-            "    WHERE DEL_DT IS NULL " +
-            "    GROUP BY category" +
-            ") " +
-            "AND (p.category, b.name) IN (" +
-            "    SELECT p2.category, MAX(b2.name) " +  // Changed MIN to MAX
-            "    FROM product p2 " +
-            "    JOIN brand b2 ON p2.brand_id = b2.id " +
-            "    WHERE (p2.category, p2.price) IN (" +
-            "        SELECT category, MIN(price) " +
-            "        FROM product " +
-            "        WHERE DEL_DT IS NULL " +
-            "        GROUP BY category" +
-            "    ) " +
-            "    AND p2.DEL_DT IS NULL " +
-            "    GROUP BY p2.category" +
-            ") " +
-            "AND p.DEL_DT IS NULL " +
-            "ORDER BY p.category",
-            nativeQuery = true)
-    List<Object[]> findLowestPriceByCategory();
-
-    @Query("SELECT p FROM Product p WHERE p.category = :category "
-            + "AND p.price = (SELECT MIN(p2.price) FROM Product p2 WHERE p2.category = :category AND p2.deletedDate IS NULL) "
-            + "AND p.deletedDate IS NULL")
-    List<Product> findLowestPriceProductsByCategory(@Param("category") String category);
-
-
-    @Query("SELECT p FROM Product p WHERE p.category = :category "
-            + "AND p.price = (SELECT MAX(p2.price) FROM Product p2 WHERE p2.category = :category AND p2.deletedDate IS NULL) "
-            + "AND p.deletedDate IS NULL")
-    List<Product> findHighestPriceProductsByCategory(@Param("category") String category);
-
-
-    @Query("SELECT b.name as brandName, SUM(p.price) as totalPrice " +
-            "FROM Brand b JOIN b.products p " +
-            "WHERE p.deletedDate IS NULL AND b.deletedDate IS NULL " +
-            "GROUP BY b.id " +
-            "ORDER BY totalPrice ASC")
-    List<Object[]> findBrandWithLowestTotalPrice();
-
-    List<Product> findByBrandNameAndDeletedDateIsNull(String brandName);
+    /**
+     * 카테고리별 최저가와 그 가격의 브랜드를 카테고리 이름 순으로 조회한다. 동률이면 이름이 가장 큰 브랜드를 고른다.
+     */
+    @Query("SELECT new org.musinsa.category.domain.dto.CategoryLowestPriceDto(c.name, MAX(b.name), p.price) "
+            + "FROM Product p JOIN p.brand b JOIN p.category c "
+            + "WHERE p.deletedDate IS NULL "
+            + "AND p.price = (SELECT MIN(p2.price) FROM Product p2 WHERE p2.category = p.category AND p2.deletedDate IS NULL) "
+            + "GROUP BY c.name, p.price "
+            + "ORDER BY c.name")
+    List<CategoryLowestPriceDto> findLowestPriceByCategory();
+
+    /**
+     * 카테고리의 최저가와 최고가 상품을 브랜드 이름과 함께 한 번의 쿼리로 조회한다. 가격, 브랜드 이름 순으로 정렬된다.
+     */
+    @Query("SELECT new org.musinsa.category.domain.dto.ProductPriceDto(p.id, b.id, b.name, c.name, p.price) "
+            + "FROM Product p JOIN p.brand b JOIN p.category c "
+            + "WHERE c.id = :categoryId AND p.deletedDate IS NULL "
+            + "AND (p.price = (SELECT MIN(p2.price) FROM Product p2 WHERE p2.category.id = :categoryId AND p2.deletedDate IS NULL) "
+            + "OR p.price = (SELECT MAX(p3.price) FROM Product p3 WHERE p3.category.id = :categoryId AND p3.deletedDate IS NULL)) "
+            + "ORDER BY p.price, b.name")
+    List<ProductPriceDto> findLowestAndHighestPriceProductsByCategory(@Param("categoryId") Integer categoryId);
+
+    /**
+     * 활성 상품이 있는 모든 카테고리를 가진 브랜드의 카테고리 최저가 합계를 낮은 순으로 조회한다. 카테고리마다 가장 싼 상품
+     * 하나(같은 가격이면 ID 가 작은 상품)만 더하고 일부 카테고리만 가진 브랜드는 빼므로 인메모리 랭킹과 같은 기준이다.
+     */
+    @Query("SELECT new org.musinsa.category.domain.dto.BrandTotalPriceDto(b.id, b.name, SUM(p.price)) "
+            + "FROM Brand b JOIN b.products p "
+            + "WHERE p.deletedDate IS NULL AND b.deletedDate IS NULL "
+            + "AND p.id = (SELECT MIN(p2.id) FROM Product p2 WHERE p2.brand = b AND p2.category = p.category "
+            + "AND p2.deletedDate IS NULL AND p2.price = (SELECT MIN(p3.price) FROM Product p3 "
+            + "WHERE p3.brand = b AND p3.category = p.category AND p3.deletedDate IS NULL)) "
+            + "GROUP BY b.id, b.name "
+            + "HAVING COUNT(DISTINCT p.category) = (SELECT COUNT(c) FROM Category c WHERE EXISTS (SELECT p4.id FROM Product p4 "
+            + "WHERE p4.category = c AND p4.deletedDate IS NULL AND p4.brand.deletedDate IS NULL)) "
+            + "ORDER BY SUM(p.price) ASC")
+    List<BrandTotalPriceDto> findBrandWithLowestTotalPrice();
+
+    /**
+     * 브랜드의 카테고리마다 가장 싼 활성 상품 하나(같은 가격이면 ID 가 작은 상품)를 조회한다.
+     * {@link #findBrandWithLowestTotalPrice()} 의 합계를 이루는 상품들이다.
+     */
+    @Query("SELECT new org.musinsa.category.domain.dto.ProductPriceDto(p.id, b.id, b.name, c.name, p.price) "
+            + "FROM Product p JOIN p.brand b JOIN p.category c "
+            + "WHERE b.id = :brandId AND p.deletedDate IS NULL AND b.deletedDate IS NULL "
+            + "AND p.id = (SELECT MIN(p2.id) FROM Product p2 WHERE p2.brand = b AND p2.category = p.category "
+            + "AND p2.deletedDate IS NULL AND p2.price = (SELECT MIN(p3.price) FROM Product p3 "
+            + "WHERE p3.brand = b AND p3.category = p.category AND p3.deletedDate IS NULL))")
+    List<ProductPriceDto> findCheapestActiveProductPricesByBrandId(@Param("brandId") Long brandId);
+
+    @Query("SELECT new org.musinsa.category.domain.dto.ProductPriceDto(p.id, b.id, b.name, c.name, p.price) " +
+            "FROM Product p JOIN p.brand b JOIN p.category c " +
+            "WHERE p.deletedDate IS NULL AND b.deletedDate IS NULL")
+    List<ProductPriceDto> findAllActiveProductPrices();
+
+    @Query("SELECT new org.musinsa.category.domain.dto.ProductPriceDto(p.id, b.id, b.name, c.name, p.price) " +
+            "FROM Product p JOIN p.brand b JOIN p.category c " +
+            "WHERE b.id = :brandId AND p.deletedDate IS NULL AND b.deletedDate IS NULL")
+    List<ProductPriceDto> findActiveProductPricesByBrandId(@Param("brandId") Long brandId);
+
+    /**
+     * 여러 브랜드의 활성 상품을 한 번에 조회한다. 인덱스 갱신에서 브랜드마다 쿼리를 보내지 않기 위해 쓴다.
+     */
+    @Query("SELECT new org.musinsa.category.domain.dto.ProductPriceDto(p.id, b.id, b.name, c.name, p.price) " +
+            "FROM Product p JOIN p.brand b JOIN p.category c " +
+            "WHERE p.brand.id IN :brandIds AND p.deletedDate IS NULL AND b.deletedDate IS NULL")
+    List<ProductPriceDto> findActiveProductPricesByBrandIds(@Param("brandIds") Collection<Long> brandIds);
+
+    /**
+     * 부분 수정 대상 상품만 ID 로 읽는다. 브랜드와 카테고리는 프록시로 남아 초기화되지 않는다.
+     */
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.deletedDate IS NULL")
+    List<Product> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Product p WHERE p.brand.id = :brandId AND p.category.id IN :categoryIds AND p.deletedDate IS NULL")
+    List<Product> findActiveByBrandIdAndCategoryIdIn(@Param("brandId") Long brandId,
+                                                     @Param("categoryIds") Collection<Integer> categoryIds);
+
+    /**
+     * 브랜드들의 활성 상품을 컬렉션을 읽지 않고 한 번의 UPDATE 로 삭제 처리하고 버전을 올린다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.deletedDate = :deletedAt, p.lastModifiedDate = :deletedAt, p.version = p.version + 1 "
+            + "WHERE p.brand.id IN :brandIds AND p.deletedDate IS NULL")
+    int softDeleteByBrandIdIn(@Param("brandIds") Collection<Long> brandIds, @Param("deletedAt") LocalDateTime deletedAt);
 
 }
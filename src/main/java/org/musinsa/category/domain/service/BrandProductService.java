@@ -2,17 +2,26 @@ package org.musinsa.category.domain.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandDeleteResultDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
 import org.musinsa.category.domain.dto.ProductDto;
 import org.musinsa.category.domain.entity.Brand;
 import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
 import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +29,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class BrandProductService {
+
+    static final int MAX_DELETE_BRANDS = 1_000;
+
     private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponseDto addBrandAndProducts(BrandProductRequestDto request) {
@@ -28,6 +43,7 @@ public class BrandProductService {
             if (request.getBrand() == null || request.getBrand().getName() == null || request.getProducts() == null || request.getProducts().isEmpty()) {
                 return new ApiResponseDto(false, "Failed to add brand and products: Product list is empty");
             }
+            validateProducts(request.getProducts());
 
             Brand brand = new Brand();
             brand.setName(request.getBrand().getName());
@@ -37,7 +53,7 @@ public class BrandProductService {
 
             request.getProducts().forEach(productDto -> {
                 Product product = new Product();
-                product.setCategory(productDto.getCategory());
+                product.setCategory(categoryService.resolve(productDto.getCategory()));
                 product.setPrice(productDto.getPrice());
                 product.setCreatedDate(now);
                 product.setVersion(1L);
@@ -45,7 +61,10 @@ public class BrandProductService {
             });
 
             Brand result= brandRepository.save(brand);
+            // 시퀀스 ID 라 INSERT 는 flush 때 배치로 나간다. 제약 위반을 이 메서드의 실패 응답으로 돌려주기 위해 여기서 flush 한다.
+            brandRepository.flush();
             System.out.println("result>>" + result);
+            eventPublisher.publishEvent(new CatalogChangedEvent(result.getId()));
 
             return new ApiResponseDto(true, "Brand and products added successfully");
         } catch (Exception e) {
@@ -56,6 +75,7 @@ public class BrandProductService {
     @Transactional
     public ApiResponseDto updateBrandAndProducts(BrandProductRequestDto request) {
         try {
+            validateProducts(request.getProducts());
             Brand brand = brandRepository.findById(request.getBrand().getId())
                     .orElseThrow(() -> new EntityNotFoundException("Brand not found"));
 
@@ -69,7 +89,7 @@ public class BrandProductService {
             brand.getProducts().forEach(product -> {
                 ProductDto productDto = productDtoMap.get(product.getId());
                 if (productDto != null) {
-                    product.setCategory(productDto.getCategory());
+                    product.setCategory(categoryService.resolve(productDto.getCategory()));
                     product.setPrice(productDto.getPrice());
                     product.setLastModifiedDate(LocalDateTime.now());
                     product.incrementVersion();
@@ -79,12 +99,13 @@ public class BrandProductService {
 
             productDtoMap.values().forEach(productDto -> {
                 Product newProduct = new Product();
-                newProduct.setCategory(productDto.getCategory());
+                newProduct.setCategory(categoryService.resolve(productDto.getCategory()));
                 newProduct.setPrice(productDto.getPrice());
                 newProduct.setLastModifiedDate(LocalDateTime.now());
                 newProduct.setVersion(1L);
                 brand.addProduct(newProduct);
             });
+            eventPublisher.publishEvent(new CatalogChangedEvent(brand.getId()));
 
             return new ApiResponseDto(true, "Brand and products updated successfully");
         } catch (Exception e) {
@@ -96,13 +117,10 @@ public class BrandProductService {
     @Transactional
     public ApiResponseDto deleteBrandAndProducts(BrandProductRequestDto request) {
         try {
-            Brand brand = brandRepository.findById(request.getBrand().getId())
-                    .orElseThrow(() -> new EntityNotFoundException("Brand not found"));
-
-            LocalDateTime now = LocalDateTime.now();
-            deleteBrand(brand, now);
-
-            brand.getProducts().forEach(product -> deleteProduct(product, now));
+            BrandDeleteResultDto result = softDeleteBrands(List.of(request.getBrand().getId()));
+            if (result.getDeletedBrands() == 0) {
+                throw new EntityNotFoundException("Brand not found");
+            }
 
             return new ApiResponseDto(true, "Brand and products deleted successfully");
         } catch (Exception e) {
@@ -110,16 +128,59 @@ public class BrandProductService {
         }
     }
 
-    private void deleteBrand(Brand brand, LocalDateTime deleteTime) {
-        brand.setDeletedDate(deleteTime);
-        brand.setLastModifiedDate(deleteTime);
-        brand.incrementVersion();
+    /**
+     * 상품 목록 전체를 엔티티를 바꾸거나 카테고리를 등록하기 전에 검사한다. 음수 가격은 가격 인덱스의 구간 계산을 깨뜨린다.
+     */
+    private void validateProducts(List<ProductDto> products) {
+        if (products == null) {
+            throw new CustomException("INVALID_PARAMETER", "Product list is required");
+        }
+        for (ProductDto product : products) {
+            if (product == null) {
+                throw new CustomException("INVALID_PARAMETER", "Product must not be null");
+            }
+            if (product.getCategory() == null || product.getCategory().isBlank()) {
+                throw new CustomException("INVALID_PARAMETER", "Product category is required");
+            }
+            categoryService.validateName(product.getCategory());
+            if (product.getPrice() == null || product.getPrice() < 0) {
+                throw new CustomException("INVALID_PARAMETER", "Product price must be zero or positive");
+            }
+        }
+    }
+
+    /**
+     * 여러 브랜드와 그 상품을 한 번에 삭제 처리한다. 없거나 이미 삭제된 브랜드는 실패시키지 않고 결과에 담는다.
+     */
+    @Transactional
+    public BrandDeleteResultDto deleteBrands(List<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty() || brandIds.stream().anyMatch(Objects::isNull)) {
+            throw new CustomException("INVALID_PARAMETER", "Brand id list is empty or contains null");
+        }
+        if (brandIds.size() > MAX_DELETE_BRANDS) {
+            throw new CustomException("INVALID_PARAMETER", "Brand id list must not exceed " + MAX_DELETE_BRANDS);
+        }
+        return softDeleteBrands(brandIds);
     }
 
-    private void deleteProduct(Product product, LocalDateTime deleteTime) {
-        product.setDeletedDate(deleteTime);
-        product.setLastModifiedDate(deleteTime);
-        product.incrementVersion();
+    /**
+     * 브랜드와 상품 컬렉션을 읽지 않고 상품, 브랜드 순으로 UPDATE 두 번에 삭제 처리한다. 버전과 수정 일시도 함께 올린다.
+     */
+    private BrandDeleteResultDto softDeleteBrands(List<Long> brandIds) {
+        Set<Long> requested = new LinkedHashSet<>(brandIds);
+        List<Long> activeIds = brandRepository.findActiveIdsByIdIn(requested);
+        requested.removeAll(activeIds);
+        if (activeIds.isEmpty()) {
+            return new BrandDeleteResultDto(brandIds.size(), 0, 0, List.copyOf(requested));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int products = productRepository.softDeleteByBrandIdIn(activeIds, now);
+        int brands = brandRepository.softDeleteByIdIn(activeIds, now);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.copyOf(activeIds)));
+
+        log.info("brands deleted: brands={}, products={}", brands, products);
+        return new BrandDeleteResultDto(brandIds.size(), brands, products, List.copyOf(requested));
     }
 
 }
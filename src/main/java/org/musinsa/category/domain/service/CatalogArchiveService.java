@@ -0,0 +1,191 @@
+package org.musinsa.category.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.CatalogArchiveStatsDto;
+import org.musinsa.category.domain.repository.CatalogArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보존 기간({@code catalog.archive.retention})보다 오래 전에 삭제된 상품과 브랜드를 이력 테이블로 옮긴다.
+ * <p>
+ * 대상은 ID 순 키셋으로 {@code batch-size} 개씩 끊고 배치마다 짧은 트랜잭션으로 커밋하므로 락을 오래 잡지 않는다.
+ * 배치 사이에는 {@code batch-pause} 만큼 쉬고, 한 번 실행에서 {@code max-batches-per-run} 을 넘기면 남은 행은 다음
+ * 실행으로 미룬다. 상품을 먼저 옮겨 외래 키가 풀린 브랜드만 옮긴다. 삭제된 행은 이미 인덱스에서 빠져 있으므로 인덱스
+ * 갱신은 없다.
+ * <p>
+ * 한 번 실행은 배치 대기까지 수십 초가 걸릴 수 있다. 기본 스케줄러 스레드는 하나뿐이라 그동안 스냅샷 공개, 가격 쓰기
+ * 지연 반영, 하트비트가 밀리므로, 스케줄은 실행을 전용 스레드에 넘기기만 하고 곧바로 돌아온다.
+ */
+@Slf4j
+@Service
+public class CatalogArchiveService {
+
+    private final CatalogArchiveRepository archiveRepository;
+    private final TransactionTemplate requiresNew;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+
+    private final ReentrantLock archiveLock = new ReentrantLock();
+    private final AtomicBoolean runQueued = new AtomicBoolean();
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long brandsArchived;
+    private long productsArchived;
+    private volatile CatalogArchiveStatsDto stats = new CatalogArchiveStatsDto();
+
+    public CatalogArchiveService(CatalogArchiveRepository archiveRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${catalog.archive.enabled:true}") boolean enabled,
+                                 @Value("${catalog.archive.retention:30d}") Duration retention,
+                                 @Value("${catalog.archive.batch-size:500}") int batchSize,
+                                 @Value("${catalog.archive.batch-pause:100ms}") Duration batchPause,
+                                 @Value("${catalog.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.archiveRepository = archiveRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${catalog.archive.initial-delay:PT1M}",
+            fixedDelayString = "${catalog.archive.interval:PT10M}")
+    public void scheduledArchive() {
+        if (!enabled || !runQueued.compareAndSet(false, true)) {
+            return;
+        }
+        archiveExecutor.execute(() -> {
+            try {
+                archive();
+            } catch (RuntimeException e) {
+                log.error("catalog archive failed", e);
+            } finally {
+                runQueued.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        archiveExecutor.shutdownNow();
+    }
+
+    public CatalogArchiveStatsDto getStats() {
+        return stats;
+    }
+
+    /**
+     * 한 번 실행한다. 스케줄과 수동 실행이 겹치지 않도록 직렬화되며, 배치 사이 대기와 DB 호출이 락 안에 있으므로 가상
+     * 스레드를 캐리어에 고정하지 않는 {@link ReentrantLock} 을 쓴다.
+     */
+    public CatalogArchiveStatsDto archive() {
+        archiveLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime cutoff = now.minus(retention);
+
+            Run run = new Run();
+            long products = moveAll(run, () -> moveBatch(run, cutoff, now, true));
+            long brands = moveAll(run, () -> moveBatch(run, cutoff, now, false));
+            brandsArchived += brands;
+            productsArchived += products;
+
+            long lagSeconds = archiveRepository.findOldestDeletedDate()
+                    .filter(oldest -> oldest.isBefore(cutoff))
+                    .map(oldest -> Duration.between(oldest, cutoff).toSeconds())
+                    .orElse(0L);
+            stats = new CatalogArchiveStatsDto(brandsArchived, productsArchived, brands, products, now,
+                    System.currentTimeMillis() - startedAt, lagSeconds);
+
+            if (brands > 0 || products > 0 || lagSeconds > 0) {
+                log.info("catalog archive finished: brands={}, products={}, batches={}, lagSeconds={}",
+                        brands, products, run.batches, lagSeconds);
+            }
+            return stats;
+        } finally {
+            archiveLock.unlock();
+        }
+    }
+
+    /**
+     * 배치가 비거나 실행당 배치 수를 다 쓸 때까지 옮긴다. 반환값은 옮긴 행 수다.
+     */
+    private long moveAll(Run run, LongSupplier batch) {
+        run.afterId = 0L;
+        long moved = 0;
+        while (run.batches < maxBatchesPerRun) {
+            long count = batch.getAsLong();
+            if (count < 0) {
+                break;
+            }
+            moved += count;
+            if (!pause()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * 다음 키셋 배치를 옮긴다. 더 옮길 행이 없으면 -1 이다.
+     */
+    private long moveBatch(Run run, LocalDateTime cutoff, LocalDateTime now, boolean products) {
+        Integer moved = requiresNew.execute(status -> {
+            List<Long> ids = products
+                    ? archiveRepository.findArchivableProductIds(cutoff, run.afterId, batchSize)
+                    : archiveRepository.findArchivableBrandIds(cutoff, run.afterId, batchSize);
+            if (ids.isEmpty()) {
+                return -1;
+            }
+            run.afterId = ids.get(ids.size() - 1);
+            return products
+                    ? archiveRepository.archiveProducts(ids, cutoff, now)
+                    : archiveRepository.archiveBrands(ids, cutoff, now);
+        });
+        if (moved != null && moved >= 0) {
+            run.batches++;
+        }
+        return moved == null ? -1 : moved;
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class Run {
+        private long afterId;
+        private int batches;
+    }
+}
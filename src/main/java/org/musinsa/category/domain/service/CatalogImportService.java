@@ -0,0 +1,347 @@
+package org.musinsa.category.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.CatalogImportLineDto;
+import org.musinsa.category.api.dto.CatalogImportResultDto;
+import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * NDJSON 본문을 한 줄씩 읽어 브랜드와 상품을 대량 적재한다.
+ * <p>
+ * 읽은 줄은 {@code catalog.import.chunk-size} 개씩 모아 청크마다 별도 트랜잭션으로 커밋한다. 청크가 끝나면
+ * 영속성 컨텍스트가 닫히고 인덱스도 그 청크의 브랜드만 반영하므로, 힙 사용량은 본문 크기가 아니라 청크 크기와
+ * {@code catalog.import.brand-cache-size} 에 비례한다. 한 줄은 {@code catalog.import.max-line-length} 자까지만 읽는다.
+ * 한 청크가 실패하면 그 청크만 롤백되고 나머지 청크는 계속 진행된다.
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_ERROR_SAMPLES = 100;
+
+    private final EntityManager entityManager;
+    private final BrandRepository brandRepository;
+    private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader lineReader;
+    private final TransactionTemplate requiresNew;
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final int brandCacheSize;
+
+    public CatalogImportService(EntityManager entityManager,
+                                BrandRepository brandRepository,
+                                CategoryService categoryService,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${catalog.import.chunk-size:1000}") int chunkSize,
+                                @Value("${catalog.import.max-line-length:65536}") int maxLineLength,
+                                @Value("${catalog.import.brand-cache-size:10000}") int brandCacheSize) {
+        this.entityManager = entityManager;
+        this.brandRepository = brandRepository;
+        this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.lineReader = objectMapper.readerFor(CatalogImportLineDto.class);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.brandCacheSize = brandCacheSize;
+    }
+
+    public CatalogImportResultDto importNdjson(InputStream body) {
+        long startedAt = System.currentTimeMillis();
+        ImportJob job = new ImportJob(brandCacheSize);
+        List<NumberedLine> chunk = new ArrayList<>(chunkSize);
+
+        try (BoundedLineReader reader = new BoundedLineReader(new InputStreamReader(body, StandardCharsets.UTF_8),
+                maxLineLength)) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                long lineNo = ++job.linesRead;
+                if (reader.isOversized()) {
+                    job.reject(lineNo, "line exceeds " + maxLineLength + " characters");
+                    continue;
+                }
+                if (text.isBlank()) {
+                    continue;
+                }
+                CatalogImportLineDto line = parse(job, lineNo, text);
+                if (line != null) {
+                    chunk.add(new NumberedLine(lineNo, line));
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            job.error("read aborted after line " + job.linesRead + ": " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(job, chunk);
+        }
+
+        log.info("catalog import finished: lines={}, brands={}, products={}, rejected={}, failedChunks={}",
+                job.linesRead, job.brandsImported, job.productsImported, job.rejectedLines, job.failedChunks);
+        return new CatalogImportResultDto(job.linesRead, job.brandsImported, job.productsImported, job.rejectedLines,
+                job.committedChunks, job.failedChunks, System.currentTimeMillis() - startedAt, job.errors);
+    }
+
+    private CatalogImportLineDto parse(ImportJob job, long lineNo, String text) {
+        CatalogImportLineDto line;
+        try {
+            line = lineReader.readValue(text);
+        } catch (JsonProcessingException e) {
+            job.reject(lineNo, "malformed JSON");
+            return null;
+        }
+        String error = validate(line);
+        if (error != null) {
+            job.reject(lineNo, error);
+            return null;
+        }
+        return line;
+    }
+
+    private String validate(CatalogImportLineDto line) {
+        if (CatalogImportLineDto.TYPE_BRAND.equals(line.getType())) {
+            return isBlank(line.getName()) ? "brand name is required" : null;
+        }
+        if (CatalogImportLineDto.TYPE_PRODUCT.equals(line.getType())) {
+            if (isBlank(line.getBrand()) || isBlank(line.getCategory())) {
+                return "product brand and category are required";
+            }
+            return line.getPrice() == null || line.getPrice() < 0 ? "product price must be zero or positive" : null;
+        }
+        return "unknown type: " + line.getType();
+    }
+
+    private void writeChunk(ImportJob job, List<NumberedLine> chunk) {
+        ChunkResult result = new ChunkResult();
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                chunk.forEach(line -> write(job, result, line, now));
+            });
+        } catch (RuntimeException e) {
+            job.failedChunks++;
+            result.createdBrandNames.forEach(job.brandIds::remove);
+            job.error(String.format("chunk %d (lines %d-%d) rolled back: %s", job.committedChunks + job.failedChunks,
+                    chunk.get(0).lineNo(), chunk.get(chunk.size() - 1).lineNo(), e.getMessage()));
+            log.warn("catalog import chunk rolled back: lines={}-{}", chunk.get(0).lineNo(),
+                    chunk.get(chunk.size() - 1).lineNo(), e);
+            return;
+        }
+
+        job.committedChunks++;
+        job.brandsImported += result.brands;
+        job.productsImported += result.products;
+        refreshIndex(result.touchedBrandIds);
+        result.rejections.forEach(job::reject);
+        log.info("catalog import progress: chunks={}, lines={}, products={}",
+                job.committedChunks, job.linesRead, job.productsImported);
+    }
+
+    private void write(ImportJob job, ChunkResult result, NumberedLine numbered, LocalDateTime now) {
+        CatalogImportLineDto line = numbered.line();
+        if (CatalogImportLineDto.TYPE_BRAND.equals(line.getType())) {
+            if (job.brandIds.containsKey(line.getName()) || !brandRepository.findActiveIdsByName(line.getName()).isEmpty()) {
+                result.rejections.put(numbered.lineNo(), "duplicate brand: " + line.getName());
+                return;
+            }
+            Brand brand = new Brand();
+            brand.setName(line.getName());
+            result.unknownBrandNames.remove(line.getName());
+            brand.setCreatedDate(now);
+            brand.setVersion(1L);
+            entityManager.persist(brand);
+            job.brandIds.put(brand.getName(), brand.getId());
+            result.createdBrandNames.add(brand.getName());
+            result.brands++;
+            return;
+        }
+
+        Long brandId = resolveBrand(job, result, line.getBrand());
+        if (brandId == null) {
+            result.rejections.put(numbered.lineNo(), "unknown brand: " + line.getBrand());
+            return;
+        }
+        Product product = new Product();
+        product.setBrand(entityManager.getReference(Brand.class, brandId));
+        product.setCategory(categoryService.resolve(line.getCategory()));
+        product.setPrice(line.getPrice());
+        product.setCreatedDate(now);
+        product.setVersion(1L);
+        entityManager.persist(product);
+        result.products++;
+        result.touchedBrandIds.add(brandId);
+    }
+
+    /**
+     * 캐시에 없는 브랜드는 DB 에서 찾는다. 없는 브랜드는 청크가 끝날 때까지만 기억해 같은 청크의 줄마다 다시 조회하지 않으며,
+     * 다음 청크에서는 그 사이 적재됐을 수 있으므로 다시 찾는다.
+     */
+    private Long resolveBrand(ImportJob job, ChunkResult result, String name) {
+        Long brandId = job.brandIds.get(name);
+        if (brandId != null || result.unknownBrandNames.contains(name)) {
+            return brandId;
+        }
+        brandId = brandRepository.findActiveIdsByName(name).stream().findFirst().orElse(null);
+        if (brandId == null) {
+            result.unknownBrandNames.add(name);
+        } else {
+            job.brandIds.put(name, brandId);
+        }
+        return brandId;
+    }
+
+    /**
+     * 커밋한 청크의 브랜드만 바로 반영한다. 여러 청크에 걸친 브랜드는 청크마다 다시 읽지만, 작업 전체의 브랜드 ID 를
+     * 끝까지 들고 있지 않아도 되고 적재 중에도 조회 결과가 따라온다.
+     */
+    private void refreshIndex(Set<Long> brandIds) {
+        if (!brandIds.isEmpty()) {
+            requiresNew.executeWithoutResult(status -> eventPublisher.publishEvent(new CatalogChangedEvent(brandIds)));
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record NumberedLine(long lineNo, CatalogImportLineDto line) {
+    }
+
+    private static class ImportJob {
+        private final Map<String, Long> brandIds;
+        private final List<String> errors = new ArrayList<>();
+        private long linesRead;
+        private long brandsImported;
+        private long productsImported;
+        private long rejectedLines;
+        private int committedChunks;
+        private int failedChunks;
+
+        ImportJob(int brandCacheSize) {
+            this.brandIds = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > brandCacheSize;
+                }
+            };
+        }
+
+        void reject(long lineNo, String reason) {
+            rejectedLines++;
+            error("line " + lineNo + ": " + reason);
+        }
+
+        void error(String message) {
+            if (errors.size() < MAX_ERROR_SAMPLES) {
+                errors.add(message);
+            }
+        }
+    }
+
+    private static class ChunkResult {
+        private final List<String> createdBrandNames = new ArrayList<>();
+        private final Set<String> unknownBrandNames = new HashSet<>();
+        private final Set<Long> touchedBrandIds = new HashSet<>();
+        private final Map<Long, String> rejections = new LinkedHashMap<>();
+        private long brands;
+        private long products;
+    }
+
+    /**
+     * {@link java.io.BufferedReader#readLine()} 과 같이 줄을 나누되 한 줄에 maxLength 자까지만 담는다. 넘는 부분은 다음
+     * 줄바꿈까지 읽어 버리고 {@link #isOversized()} 로 알리므로, 줄바꿈 없이 큰 본문이 와도 힙에는 상한만큼만 쌓인다.
+     */
+    private static final class BoundedLineReader implements AutoCloseable {
+
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean oversized;
+
+        BoundedLineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * 다음 줄을 줄바꿈 문자 없이 돌려주고, 본문이 끝났으면 null 을 돌려준다.
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            oversized = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return read ? trimCarriageReturn() : null;
+                    }
+                }
+                read = true;
+                char c = buffer[position++];
+                if (c == '\n') {
+                    return trimCarriageReturn();
+                }
+                if (line.length() < maxLength) {
+                    line.append(c);
+                } else {
+                    oversized = true;
+                }
+            }
+        }
+
+        boolean isOversized() {
+            return oversized;
+        }
+
+        private String trimCarriageReturn() {
+            int length = line.length();
+            if (!oversized && length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            return line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.musinsa.category.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.CategoryRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카테고리 사전을 관리한다. 상품 쓰기에서 처음 보는 카테고리는 그 쓰기의 트랜잭션 안에서 등록하고 커밋된 뒤 사전에
+ * 반영하므로, 재배포 없이 새 카테고리를 받으면서도 롤백된 쓰기의 카테고리는 DB 에도 사전에도 남지 않는다.
+ */
+@Slf4j
+@Service
+public class CategoryService {
+
+    static final List<String> DEFAULT_CATEGORIES = List.of(
+            "상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리"
+    );
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate required;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           CategoryDictionary categoryDictionary,
+                           PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.required = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 카테고리 테이블이 비어 있으면 기본 카테고리를 채우고 사전을 적재한다. 카탈로그 인덱스보다 먼저 실행된다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        requiresNew.executeWithoutResult(status -> {
+            if (categoryRepository.count() == 0) {
+                for (int order = 0; order < DEFAULT_CATEGORIES.size(); order++) {
+                    categoryRepository.save(newCategory(DEFAULT_CATEGORIES.get(order), order));
+                }
+            }
+        });
+        reload();
+        log.info("category dictionary loaded: categories={}", categoryDictionary.size());
+    }
+
+    /**
+     * 커밋된 카테고리 전체로 사전을 다시 만든다. 호출한 쪽 영속성 컨텍스트에 카테고리 엔티티를 남기지 않도록 별도 트랜잭션에서 읽는다.
+     */
+    public void reload() {
+        requiresNew.executeWithoutResult(status -> categoryDictionary.reload(categoryRepository.findAll()));
+    }
+
+    /**
+     * 카테고리 이름을 현재 트랜잭션에서 쓸 수 있는 참조로 바꾼다. 사전에 있으면 SELECT 없이 프록시만 만든다.
+     */
+    public Category resolve(String name) {
+        validateName(name);
+        OptionalInt id = categoryDictionary.findId(name);
+        return categoryRepository.getReferenceById(id.isPresent() ? id.getAsInt() : register(name));
+    }
+
+    /**
+     * 등록할 수 있는 카테고리 이름인지 검사한다. 쓰기 요청 전체를 엔티티를 바꾸기 전에 검사할 때도 쓴다.
+     */
+    public void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new CustomException("INVALID_PARAMETER", "Category name is required");
+        }
+        if (name.length() > Category.MAX_NAME_LENGTH) {
+            throw new CustomException("INVALID_PARAMETER",
+                    "Category name must not exceed " + Category.MAX_NAME_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * 호출한 쪽 트랜잭션에 참여해 등록하므로 그 쓰기와 함께 커밋되거나 롤백된다. 커밋 전에는 다른 트랜잭션이 이 카테고리를
+     * 볼 수 없으므로 사전에도 커밋된 뒤에 반영하며, 그 사이 같은 이름을 등록하려는 쓰기는 이름의 유일 제약으로 실패한다.
+     */
+    private int register(String name) {
+        Integer id = required.execute(status -> categoryRepository.findByName(name)
+                .orElseGet(() -> categoryRepository.save(newCategory(name, categoryRepository.findMaxDisplayOrder() + 1)))
+                .getId());
+        reloadAfterCommit();
+        log.info("category registered: name={}, id={}", name, id);
+        return id;
+    }
+
+    /**
+     * 한 트랜잭션에서 여러 카테고리를 등록해도 커밋 뒤 한 번만 다시 읽는다. 커밋 뒤 인덱스를 갱신하는 리스너가 새 카테고리의
+     * 노출 순서를 보도록 그보다 먼저 실행된다.
+     */
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(CategoryService.this);
+            }
+        });
+    }
+
+    private Category newCategory(String name, int displayOrder) {
+        Category category = new Category();
+        category.setName(name);
+        category.setDisplayOrder(displayOrder);
+        category.setCreatedDate(LocalDateTime.now());
+        category.setVersion(1L);
+        return category;
+    }
+}
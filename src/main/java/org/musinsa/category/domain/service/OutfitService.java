@@ -0,0 +1,107 @@
+package org.musinsa.category.domain.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.OutfitDto;
+import org.musinsa.category.domain.dto.CategoryPriceDto;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.index.OutfitTable;
+import org.musinsa.category.domain.index.OutfitTable.Outfit;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 브랜드 수 제한이나 예산 안에서 카테고리마다 상품 하나씩 고르는 코디 조합을 찾는다.
+ * <p>
+ * DB 를 읽지 않고 현재 스냅샷으로 만든 {@link OutfitTable} 위에서 푼다. 표는 스냅샷 버전마다 첫 요청 때 한 번만 만들고,
+ * 이후 요청은 표만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutfitService {
+
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final CategoryDictionary categoryDictionary;
+
+    private volatile OutfitTable table;
+
+    /**
+     * categories(없으면 전체) 를 브랜드 maxBrands 개 이하로 모두 채우는 가장 싼 조합.
+     */
+    public OutfitDto getCheapestOutfit(List<String> categories, int maxBrands) {
+        if (maxBrands < 1) {
+            throw new CustomException("INVALID_PARAMETER", "maxBrands must be at least 1");
+        }
+        OutfitTable outfitTable = currentTable();
+        Outfit outfit = outfitTable.cheapest(maskOf(outfitTable, categories), maxBrands);
+        if (outfit.products().isEmpty()) {
+            throw new CustomException("OUTFIT_NOT_FOUND", "No outfit covers the categories with at most " + maxBrands + " brands");
+        }
+        return toDto(outfit);
+    }
+
+    /**
+     * categories(없으면 전체) 마다 상품 하나를 골라 합계가 budget 이하인 조합 중 가장 비싼 조합.
+     */
+    public OutfitDto getBudgetOutfit(List<String> categories, long budget) {
+        if (budget < 0) {
+            throw new CustomException("INVALID_PARAMETER", "budget must be zero or positive");
+        }
+        OutfitTable outfitTable = currentTable();
+        Outfit outfit = outfitTable.withinBudget(maskOf(outfitTable, categories), budget);
+        if (outfit.products().isEmpty()) {
+            throw new CustomException("OUTFIT_NOT_FOUND", "No outfit fits within budget " + budget);
+        }
+        return toDto(outfit);
+    }
+
+    private OutfitTable currentTable() {
+        CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+        if (snapshot == null) {
+            throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "Catalog snapshot is not loaded yet");
+        }
+        OutfitTable cached = table;
+        if (cached != null && cached.getVersion() == snapshot.getVersion()) {
+            return cached;
+        }
+        return build(snapshot);
+    }
+
+    private synchronized OutfitTable build(CatalogSnapshot snapshot) {
+        OutfitTable cached = table;
+        if (cached != null && cached.getVersion() >= snapshot.getVersion()) {
+            return cached;
+        }
+        if (snapshot.getCategorySummaries().size() > OutfitTable.MAX_CATEGORIES) {
+            throw new CustomException("INVALID_PARAMETER",
+                    "Outfit solver supports up to " + OutfitTable.MAX_CATEGORIES + " categories");
+        }
+        long started = System.nanoTime();
+        OutfitTable built = OutfitTable.of(snapshot, categoryDictionary.displayOrder());
+        log.debug("outfit table built: version={}, elapsed={}ms", built.getVersion(), (System.nanoTime() - started) / 1_000_000);
+        table = built;
+        return built;
+    }
+
+    private static int maskOf(OutfitTable outfitTable, List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return outfitTable.allCategories();
+        }
+        int mask = outfitTable.maskOf(categories);
+        if (mask < 0) {
+            throw new CustomException("INVALID_PARAMETER", "Unknown or empty category in " + categories);
+        }
+        return mask;
+    }
+
+    private static OutfitDto toDto(Outfit outfit) {
+        List<CategoryPriceDto> categories = outfit.products().stream()
+                .map(product -> new CategoryPriceDto(product.category(), product.brandName(), product.price()))
+                .toList();
+        return new OutfitDto(categories, outfit.totalPrice(), (int) outfit.brandCount(), outfit.optimal());
+    }
+}
@@ -0,0 +1,181 @@
+package org.musinsa.category.domain.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 쓰기 지연 큐 스트라이프 하나의 로컬 저널. {@code price-<stripe>-<segment>.v2.log} 파일에 (브랜드, 카테고리, 가격,
+ * 수락 시각) 고정 길이 레코드를 덧붙이고 fsync 한 뒤에야 변경을 수락한다. 수락 시각은 다시 읽은 변경이 그 뒤의 더 새로운
+ * 가격을 덮지 않도록 DB 반영 조건에 쓰인다.
+ * <p>
+ * 큐를 비울 때 세그먼트를 바꾸고, DB 반영이 커밋되면 그 이전 세그먼트를 지운다. 세그먼트를 만들거나 지운 뒤에는 디렉터리도
+ * fsync 해 파일 항목이 사라지지 않게 한다. 재기동 때는 남은 세그먼트를 순서대로 읽으며, 마지막 레코드가 잘렸거나 CRC 가
+ * 맞지 않으면 그 지점에서 멈춘다. 스레드 안전하지 않으므로 스트라이프 락 안에서만 쓴다.
+ */
+class PriceChangeJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+    private static final Pattern SEGMENT_NAME = Pattern.compile("price-(\\d+)-(\\d+)\\.v2\\.log");
+
+    private final Path directory;
+    private final int stripe;
+    private long segment;
+    private FileChannel channel;
+
+    /**
+     * 스트라이프의 기존 세그먼트 다음 번호로 새 세그먼트를 연다. 기존 세그먼트는 {@link #replay()} 로 읽을 수 있도록 남겨 둔다.
+     */
+    PriceChangeJournal(Path directory, int stripe) {
+        this.directory = directory;
+        this.stripe = stripe;
+        try {
+            Files.createDirectories(directory);
+            this.segment = segments().stream().mapToLong(Long::longValue).max().orElse(0L) + 1;
+            this.channel = open(segment);
+            syncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open price journal: " + directory, e);
+        }
+    }
+
+    /**
+     * 현재 세그먼트보다 앞선 세그먼트의 레코드를 기록된 순서대로 읽는다.
+     */
+    List<Entry> replay() {
+        List<Entry> entries = new ArrayList<>();
+        try {
+            for (long previous : segments()) {
+                if (previous < segment) {
+                    readSegment(path(previous), entries);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay price journal: " + directory, e);
+        }
+        return entries;
+    }
+
+    /**
+     * 레코드를 덧붙이고 디스크에 내려질 때까지 기다린다.
+     */
+    void append(List<Entry> entries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(entries.size() * RECORD_SIZE);
+        CRC32 crc = new CRC32();
+        for (Entry entry : entries) {
+            int start = buffer.position();
+            buffer.putLong(entry.brandId()).putInt(entry.categoryId()).putLong(entry.price())
+                    .putLong(toEpochMicros(entry.acceptedAt()));
+            crc.reset();
+            crc.update(buffer.array(), start, RECORD_SIZE - Integer.BYTES);
+            buffer.putInt((int) crc.getValue());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * 새 세그먼트로 바꾸고 닫은 세그먼트 번호를 돌려준다. 그 번호까지의 레코드는 이후 {@link #deleteThrough(long)} 로 지운다.
+     */
+    long rotate() throws IOException {
+        long closed = segment;
+        channel.close();
+        segment++;
+        channel = open(segment);
+        syncDirectory();
+        return closed;
+    }
+
+    void deleteThrough(long lastSegment) throws IOException {
+        for (long previous : segments()) {
+            if (previous <= lastSegment) {
+                Files.deleteIfExists(path(previous));
+            }
+        }
+        syncDirectory();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(path(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path path(long number) {
+        return directory.resolve("price-" + stripe + "-" + number + ".v2.log");
+    }
+
+    /**
+     * 파일을 만들거나 지운 디렉터리 항목을 디스크에 내린다. 디렉터리를 채널로 열 수 없는 Windows 에서는 건너뛴다.
+     */
+    private void syncDirectory() throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .filter(matcher -> Integer.parseInt(matcher.group(1)) == stripe)
+                    .map(matcher -> Long.parseLong(matcher.group(2)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void readSegment(Path file, List<Entry> entries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            Entry entry = new Entry(buffer.getLong(), buffer.getInt(), buffer.getLong(), fromEpochMicros(buffer.getLong()));
+            crc.reset();
+            crc.update(buffer.array(), start, RECORD_SIZE - Integer.BYTES);
+            if (buffer.getInt() != (int) crc.getValue()) {
+                return;
+            }
+            entries.add(entry);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * acceptedAt 은 DB 수정 일시와 같은 로컬 시각이며 마이크로초까지 기록된다.
+     */
+    record Entry(long brandId, int categoryId, long price, LocalDateTime acceptedAt) {
+    }
+}
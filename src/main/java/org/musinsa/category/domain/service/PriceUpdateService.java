@@ -0,0 +1,125 @@
+package org.musinsa.category.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto.Conflict;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.ProductPriceBatchRepository;
+import org.musinsa.category.domain.repository.ProductPriceBatchRepository.PriceChange;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가격 피드의 (브랜드, 카테고리, 가격) 목록을 집합 기반 UPDATE 로 한 번에 반영한다.
+ * <p>
+ * 엔티티를 읽거나 더티 체킹하지 않으므로 변경 수에 비례한 JDBC 배치 한 번으로 끝나고, 커밋 뒤 인덱스에는 바뀐 가격만
+ * 반영된다. 반영할 상품이 없는 항목은 전체를 실패시키지 않고 conflicts 로 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceUpdateService {
+
+    static final int MAX_UPDATES = 100_000;
+
+    private final ProductPriceBatchRepository productPriceBatchRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public PriceUpdateResultDto updatePrices(List<PriceUpdateDto> updates) {
+        LocalDateTime now = LocalDateTime.now();
+        return apply(updates, "no active product",
+                (changes, indexes) -> productPriceBatchRepository.updatePrices(changes, now));
+    }
+
+    /**
+     * 쓰기 지연 큐가 비울 때 쓴다. acceptedAt[i] 는 updates[i] 가 큐에 수락된 시각이며, 그 뒤에 동기 가격 변경이나 상품
+     * 수정으로 바뀐 상품에는 반영하지 않고 conflicts 로 돌려준다. 저널을 다시 읽어도 더 새로운 가격을 덮지 않는다.
+     */
+    @Transactional
+    public PriceUpdateResultDto updateQueuedPrices(List<PriceUpdateDto> updates, List<LocalDateTime> acceptedAt) {
+        if (updates != null && updates.size() != acceptedAt.size()) {
+            throw new CustomException("INVALID_PARAMETER", "Accepted times must match price updates");
+        }
+        return apply(updates, "no active product or newer price", (changes, indexes) -> {
+            List<LocalDateTime> changeAcceptedAt = new ArrayList<>(changes.size());
+            for (int j = 0; j < changes.size(); j++) {
+                changeAcceptedAt.add(acceptedAt.get(indexes[j]));
+            }
+            return productPriceBatchRepository.updateAcceptedPrices(changes, changeAcceptedAt);
+        });
+    }
+
+    /**
+     * 유효한 항목만 batch 로 반영한다. batch 는 변경 목록과 변경마다의 요청 위치를 받아 변경마다 바뀐 행 수를 돌려주며,
+     * 바뀐 행이 없는 항목은 skippedReason 으로 돌려준다.
+     */
+    private PriceUpdateResultDto apply(List<PriceUpdateDto> updates, String skippedReason,
+                                       BiFunction<List<PriceChange>, int[], int[]> batch) {
+        if (updates == null || updates.isEmpty()) {
+            throw new CustomException("INVALID_PARAMETER", "Price update list is empty");
+        }
+        if (updates.size() > MAX_UPDATES) {
+            throw new CustomException("INVALID_PARAMETER", "Price update list must not exceed " + MAX_UPDATES);
+        }
+
+        List<Conflict> conflicts = new ArrayList<>();
+        List<PriceChange> changes = new ArrayList<>(updates.size());
+        int[] requestIndexes = new int[updates.size()];
+        for (int i = 0; i < updates.size(); i++) {
+            PriceUpdateDto update = updates.get(i);
+            if (update == null || update.getBrandId() == null || update.getPrice() == null || update.getPrice() < 0) {
+                conflicts.add(conflict(i, update, "invalid price update"));
+                continue;
+            }
+            OptionalInt categoryId = categoryDictionary.findId(update.getCategory());
+            if (categoryId.isEmpty()) {
+                conflicts.add(conflict(i, update, "unknown category"));
+                continue;
+            }
+            requestIndexes[changes.size()] = i;
+            changes.add(new PriceChange(update.getBrandId(), categoryId.getAsInt(), update.getPrice()));
+        }
+
+        int updatedRows = 0;
+        List<CategoryPrice> applied = new ArrayList<>(changes.size());
+        if (!changes.isEmpty()) {
+            int[] counts = batch.apply(changes, requestIndexes);
+            for (int j = 0; j < counts.length; j++) {
+                if (counts[j] == 0) {
+                    conflicts.add(conflict(requestIndexes[j], updates.get(requestIndexes[j]), skippedReason));
+                    continue;
+                }
+                updatedRows += Math.max(counts[j], 0);
+                PriceUpdateDto update = updates.get(requestIndexes[j]);
+                applied.add(new CategoryPrice(update.getBrandId(), update.getCategory(), update.getPrice()));
+            }
+        }
+        if (!applied.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogPriceChangedEvent(applied));
+        }
+
+        conflicts.sort(Comparator.comparingInt(Conflict::getIndex));
+        log.info("price feed applied: requested={}, updatedRows={}, conflicts={}", updates.size(), updatedRows, conflicts.size());
+        return new PriceUpdateResultDto(updates.size(), updatedRows, conflicts);
+    }
+
+    private Conflict conflict(int index, PriceUpdateDto update, String reason) {
+        return update == null
+                ? new Conflict(index, null, null, reason)
+                : new Conflict(index, update.getBrandId(), update.getCategory(), reason);
+    }
+}
@@ -0,0 +1,432 @@
+package org.musinsa.category.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.PriceQueueResultDto;
+import org.musinsa.category.api.dto.PriceQueueStatsDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto.Conflict;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.service.PriceChangeJournal.Entry;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 같은 (브랜드, 카테고리) 가격이 짧은 시간에 여러 번 바뀌는 피드를 위한 쓰기 지연 큐.
+ * <p>
+ * 변경은 (브랜드, 카테고리) 로 나눈 스트라이프에 키마다 마지막 값과 수락 시각만 남기고, 스트라이프 저널에 fsync 된 뒤에
+ * 수락된다. 대기 키가 {@code flush-size} 에 이르거나 {@code flush-interval} 이 지나면 한꺼번에 {@link PriceUpdateService} 로
+ * 반영하므로 같은 키의 변경 N 건은 UPDATE 한 건이 된다. 수락 뒤에 동기 경로로 바뀐 상품에는 반영하지 않으므로 늦게
+ * 비워지거나 저널에서 복구된 값이 더 새로운 가격을 덮지 않는다. 대기 키는 {@code max-pending} 을 넘지 않으며, 가득 차면 요청은
+ * {@code offer-timeout} 동안 비워지기를 기다린 뒤 거절된다. {@code catalog.price-write-behind.enabled} 가 꺼져 있으면
+ * 저널을 만들지 않고 요청을 받지 않는다.
+ */
+@Slf4j
+@Service
+public class PriceWriteBehindService {
+
+    private final PriceUpdateService priceUpdateService;
+    private final CategoryDictionary categoryDictionary;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int flushSize;
+    private final Duration offerTimeout;
+    private final Stripe[] stripes;
+
+    /**
+     * 아직 DB 에 쓰이지 않은 키 수와 접수 중인 요청이 예약한 자리의 합. {@link #capacityLock} 안에서만 늘린다.
+     * <p>
+     * 락 안에서 fsync, DB 호출, 대기가 일어나므로 모니터 대신 {@link ReentrantLock} 을 써서 가상 스레드가 캐리어에 고정되지
+     * 않게 한다.
+     */
+    private final AtomicInteger occupancy = new AtomicInteger();
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final Condition notFull = capacityLock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile boolean ready;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedChanges = new AtomicLong();
+    private final AtomicLong updatedRows = new AtomicLong();
+    private final AtomicLong droppedChanges = new AtomicLong();
+    private volatile LocalDateTime lastFlushAt;
+    private volatile long lastFlushMillis;
+
+    public PriceWriteBehindService(PriceUpdateService priceUpdateService,
+                                   CategoryDictionary categoryDictionary,
+                                   TaskScheduler taskScheduler,
+                                   @Value("${catalog.price-write-behind.enabled:false}") boolean enabled,
+                                   @Value("${catalog.price-write-behind.stripes:16}") int stripeCount,
+                                   @Value("${catalog.price-write-behind.max-pending:100000}") int maxPending,
+                                   @Value("${catalog.price-write-behind.flush-size:1000}") int flushSize,
+                                   @Value("${catalog.price-write-behind.offer-timeout:1s}") Duration offerTimeout,
+                                   @Value("${catalog.price-write-behind.journal-dir:${java.io.tmpdir}/category-price-journal}")
+                                   String journalDir) {
+        this.priceUpdateService = priceUpdateService;
+        this.categoryDictionary = categoryDictionary;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.flushSize = flushSize;
+        this.offerTimeout = offerTimeout;
+        this.stripes = new Stripe[enabled ? stripeCount : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(new PriceChangeJournal(Path.of(journalDir), i));
+            occupancy.addAndGet(stripes[i].recover());
+        }
+        if (occupancy.get() > 0) {
+            log.info("price write-behind journal recovered: pendingKeys={}, dir={}", occupancy.get(), journalDir);
+        }
+    }
+
+    /**
+     * 카테고리 사전이 적재된 뒤부터 비우기를 시작한다. 저널에서 복구한 변경이 있으면 곧바로 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ready = true;
+        if (occupancy.get() > 0) {
+            requestFlush();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalog.price-write-behind.flush-interval:PT0.2S}",
+            fixedDelayString = "${catalog.price-write-behind.flush-interval:PT0.2S}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * 가격 변경을 저널에 기록하고 큐에 넣는다. 반환 시점에 수락된 변경은 프로세스가 죽어도 재기동 때 반영된다.
+     */
+    public PriceQueueResultDto enqueue(List<PriceUpdateDto> updates) {
+        if (!enabled) {
+            throw new CustomException("INVALID_PARAMETER", "Price write-behind is disabled");
+        }
+        if (updates == null || updates.isEmpty()) {
+            throw new CustomException("INVALID_PARAMETER", "Price update list is empty");
+        }
+        if (updates.size() > PriceUpdateService.MAX_UPDATES) {
+            throw new CustomException("INVALID_PARAMETER", "Price update list must not exceed " + PriceUpdateService.MAX_UPDATES);
+        }
+
+        List<Conflict> conflicts = new ArrayList<>();
+        Map<Integer, Map<Key, Long>> changesByStripe = new TreeMap<>();
+        int valid = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            PriceUpdateDto update = updates.get(i);
+            if (update == null || update.getBrandId() == null || update.getPrice() == null || update.getPrice() < 0) {
+                conflicts.add(conflict(i, update, "invalid price update"));
+                continue;
+            }
+            OptionalInt categoryId = categoryDictionary.findId(update.getCategory());
+            if (categoryId.isEmpty()) {
+                conflicts.add(conflict(i, update, "unknown category"));
+                continue;
+            }
+            Key key = new Key(update.getBrandId(), categoryId.getAsInt());
+            changesByStripe.computeIfAbsent(stripeOf(key), stripe -> new LinkedHashMap<>()).put(key, update.getPrice());
+            valid++;
+        }
+
+        int distinct = changesByStripe.values().stream().mapToInt(Map::size).sum();
+        if (distinct > maxPending) {
+            throw new CustomException("INVALID_PARAMETER", "Distinct price keys must not exceed " + maxPending);
+        }
+        reserve(distinct);
+        int added = 0;
+        try {
+            for (Map.Entry<Integer, Map<Key, Long>> changes : changesByStripe.entrySet()) {
+                added += stripes[changes.getKey()].offer(changes.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal price changes", e);
+        } finally {
+            release(distinct - added);
+        }
+
+        accepted.add(valid);
+        coalesced.add(valid - added);
+        if (occupancy.get() >= flushSize) {
+            requestFlush();
+        }
+        conflicts.sort(Comparator.comparingInt(Conflict::getIndex));
+        return new PriceQueueResultDto(updates.size(), valid, valid - added, occupancy.get(), conflicts);
+    }
+
+    /**
+     * 대기 중인 변경을 모두 DB 에 반영한다. 반영이 실패하면 그 사이 들어온 더 새로운 값을 덮지 않도록 비어 있는 키만 되돌리고
+     * 저널 세그먼트는 남겨 둔다. 스케줄과 크기 트리거가 겹치지 않도록 직렬화된다.
+     */
+    public PriceQueueStatsDto flush() {
+        if (!enabled || !ready) {
+            return getStats();
+        }
+        flushLock.lock();
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+        return getStats();
+    }
+
+    private void writePending() {
+        long startedAt = System.currentTimeMillis();
+        List<Drain> drains = new ArrayList<>();
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.drain().ifPresent(drains::add);
+            }
+            List<PriceUpdateDto> changes = new ArrayList<>();
+            List<LocalDateTime> acceptedAt = new ArrayList<>();
+            drains.forEach(drain -> drain.changes().forEach((key, change) -> {
+                changes.add(new PriceUpdateDto(key.brandId(), categoryDictionary.nameOf(key.categoryId()), change.price()));
+                acceptedAt.add(change.acceptedAt());
+            }));
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            for (int from = 0; from < changes.size(); from += flushSize) {
+                int to = Math.min(from + flushSize, changes.size());
+                PriceUpdateResultDto result = priceUpdateService.updateQueuedPrices(changes.subList(from, to),
+                        acceptedAt.subList(from, to));
+                updatedRows.addAndGet(result.getUpdatedRows());
+                droppedChanges.addAndGet(result.getConflicts().size());
+            }
+            for (Drain drain : drains) {
+                drain.stripe().commit(drain.segment());
+            }
+            release(changes.size());
+
+            flushes.incrementAndGet();
+            flushedChanges.addAndGet(changes.size());
+            lastFlushAt = LocalDateTime.now();
+            lastFlushMillis = System.currentTimeMillis() - startedAt;
+            log.debug("price write-behind flushed: changes={}, millis={}", changes.size(), lastFlushMillis);
+        } catch (IOException | RuntimeException e) {
+            int kept = drains.stream().mapToInt(drain -> drain.stripe().restore(drain.changes())).sum();
+            release(drains.stream().mapToInt(drain -> drain.changes().size()).sum() - kept);
+            log.error("price write-behind flush failed, {} changes re-queued", kept, e);
+        }
+    }
+
+    public PriceQueueStatsDto getStats() {
+        return new PriceQueueStatsDto(enabled, occupancy.get(), accepted.sum(), coalesced.sum(), flushes.get(),
+                flushedChanges.get(), updatedRows.get(), droppedChanges.get(), lastFlushAt, lastFlushMillis);
+    }
+
+    /**
+     * 종료 전에 남은 변경을 반영해 본다. 실패한 변경은 저널에 남아 다음 기동 때 반영된다.
+     */
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        for (Stripe stripe : stripes) {
+            stripe.close();
+        }
+    }
+
+    /**
+     * 요청의 서로 다른 키 수만큼 자리를 예약한다. 이미 대기 중인 키도 자리를 예약하므로 대기 키 수는 max-pending 을 넘지 않는다.
+     */
+    private void reserve(int count) {
+        long deadline = System.nanoTime() + offerTimeout.toNanos();
+        capacityLock.lock();
+        try {
+            while (occupancy.get() + count > maxPending) {
+                requestFlush();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new CustomException("PRICE_QUEUE_FULL", "Price queue is full, retry later");
+                }
+                notFull.awaitNanos(remaining);
+            }
+            occupancy.addAndGet(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("PRICE_QUEUE_FULL", "Interrupted while waiting for price queue");
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    private void release(int count) {
+        if (count <= 0) {
+            return;
+        }
+        capacityLock.lock();
+        try {
+            occupancy.addAndGet(-count);
+            notFull.signalAll();
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    private void requestFlush() {
+        if (ready && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    private int stripeOf(Key key) {
+        return Math.floorMod(31 * Long.hashCode(key.brandId()) + key.categoryId(), stripes.length);
+    }
+
+    private Conflict conflict(int index, PriceUpdateDto update, String reason) {
+        return update == null
+                ? new Conflict(index, null, null, reason)
+                : new Conflict(index, update.getBrandId(), update.getCategory(), reason);
+    }
+
+    private record Key(long brandId, int categoryId) {
+    }
+
+    private record Change(long price, LocalDateTime acceptedAt) {
+    }
+
+    private record Drain(Stripe stripe, Map<Key, Change> changes, long segment) {
+    }
+
+    /**
+     * 키마다 마지막 가격과 그 저널. 저널 기록과 맵 갱신을 같은 락 안에서 하므로 저널 순서와 맵의 마지막 값이 어긋나지 않고,
+     * 수락 시각도 락 안에서 정하므로 같은 키에서는 나중 값의 수락 시각이 앞서지 않는다.
+     */
+    private static final class Stripe {
+
+        private final PriceChangeJournal journal;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Key, Change> pending = new LinkedHashMap<>();
+
+        private Stripe(PriceChangeJournal journal) {
+            this.journal = journal;
+        }
+
+        int recover() {
+            lock.lock();
+            try {
+                journal.replay().forEach(entry -> pending.put(new Key(entry.brandId(), entry.categoryId()),
+                        new Change(entry.price(), entry.acceptedAt())));
+                return pending.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 저널에 기록한 뒤 맵에 넣고, 새로 생긴 키 수를 돌려준다.
+         */
+        int offer(Map<Key, Long> changes) throws IOException {
+            lock.lock();
+            try {
+                LocalDateTime acceptedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                List<Entry> entries = new ArrayList<>(changes.size());
+                changes.forEach((key, price) -> entries.add(new Entry(key.brandId(), key.categoryId(), price, acceptedAt)));
+                journal.append(entries);
+
+                int added = 0;
+                for (Map.Entry<Key, Long> change : changes.entrySet()) {
+                    if (pending.put(change.getKey(), new Change(change.getValue(), acceptedAt)) == null) {
+                        added++;
+                    }
+                }
+                return added;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Optional<Drain> drain() throws IOException {
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return Optional.empty();
+                }
+                Drain drain = new Drain(this, pending, journal.rotate());
+                pending = new LinkedHashMap<>();
+                return Optional.of(drain);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 반영하지 못한 값을 되돌린다. 그 사이 같은 키에 새 값이 들어왔으면 새 값을 남긴다. 되돌린 키 수를 돌려준다.
+         */
+        int restore(Map<Key, Change> changes) {
+            lock.lock();
+            try {
+                int kept = 0;
+                for (Map.Entry<Key, Change> change : changes.entrySet()) {
+                    if (pending.putIfAbsent(change.getKey(), change.getValue()) == null) {
+                        kept++;
+                    }
+                }
+                return kept;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void commit(long segment) throws IOException {
+            lock.lock();
+            try {
+                journal.deleteThrough(segment);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("failed to close price journal", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
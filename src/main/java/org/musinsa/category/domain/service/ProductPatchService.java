@@ -0,0 +1,232 @@
+package org.musinsa.category.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.api.dto.BrandPatchRequestDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto.Conflict;
+import org.musinsa.category.domain.dto.ProductPatchDto;
+import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 일부만 바꾸는 PATCH 요청을 처리한다.
+ * <p>
+ * 요청에 나온 상품만 ID 또는 (브랜드, 카테고리) 로 읽고 값이 다른 필드만 바꾼다. 브랜드의 상품 컬렉션은 읽지 않고, 바뀐
+ * 엔티티는 커밋 때 JDBC 배치 UPDATE 로 나가므로 처리 시간은 브랜드의 상품 수가 아니라 요청 크기에 비례한다. 커밋 뒤 인덱스에도
+ * 바뀐 상품만 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductPatchService {
+
+    static final int MAX_PATCHES = 1_000;
+
+    private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ProductPatchResultDto patchProduct(Long productId, ProductPatchDto patch) {
+        if (productId == null || patch == null) {
+            throw new CustomException("INVALID_PARAMETER", "Product id and patch are required");
+        }
+        return patch(null, null, List.of(new ProductPatchDto(productId, patch.getCategory(), patch.getPrice())));
+    }
+
+    /**
+     * 브랜드 이름과 브랜드 상품 일부를 바꾼다. 이름이 null 이면 브랜드 행은 읽지 않는다.
+     */
+    @Transactional
+    public ProductPatchResultDto patchBrand(Long brandId, BrandPatchRequestDto request) {
+        if (brandId == null || request == null) {
+            throw new CustomException("INVALID_PARAMETER", "Brand id and patch are required");
+        }
+        List<ProductPatchDto> patches = request.getProducts() == null ? List.of() : request.getProducts();
+        if (request.getName() == null && patches.isEmpty()) {
+            throw new CustomException("INVALID_PARAMETER", "Brand patch has nothing to change");
+        }
+        if (patches.size() > MAX_PATCHES) {
+            throw new CustomException("INVALID_PARAMETER", "Product patch list must not exceed " + MAX_PATCHES);
+        }
+        return patch(brandId, request.getName(), patches);
+    }
+
+    private ProductPatchResultDto patch(Long brandId, String brandName, List<ProductPatchDto> patches) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean brandUpdated = brandName != null && renameBrand(brandId, brandName, now);
+
+        List<Conflict> conflicts = new ArrayList<>();
+        Set<Long> productIds = new HashSet<>();
+        Set<Integer> categoryIds = new HashSet<>();
+        boolean[] rejected = new boolean[patches.size()];
+        for (int i = 0; i < patches.size(); i++) {
+            String reason = validate(brandId, patches.get(i));
+            if (reason != null) {
+                conflicts.add(conflict(i, patches.get(i), reason));
+                rejected[i] = true;
+            } else if (patches.get(i).getId() != null) {
+                productIds.add(patches.get(i).getId());
+            } else {
+                categoryIds.add(categoryId(patches.get(i)));
+            }
+        }
+
+        Map<Long, Product> productsById = productIds.isEmpty() ? Map.of() : productRepository.findActiveByIdIn(productIds)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Integer, List<Product>> productsByCategory = categoryIds.isEmpty() ? Map.of()
+                : productRepository.findActiveByBrandIdAndCategoryIdIn(brandId, categoryIds)
+                .stream()
+                .collect(Collectors.groupingBy(product -> product.getCategory().getId()));
+
+        Set<Long> matched = new HashSet<>();
+        Map<Long, Product> changed = new LinkedHashMap<>();
+        for (int i = 0; i < patches.size(); i++) {
+            if (rejected[i]) {
+                continue;
+            }
+            ProductPatchDto patch = patches.get(i);
+            List<Product> targets = patch.getId() != null
+                    ? targetById(brandId, productsById.get(patch.getId()))
+                    : productsByCategory.getOrDefault(categoryId(patch), List.of());
+            if (targets.isEmpty()) {
+                conflicts.add(conflict(i, patch, patch.getId() != null ? "product not found" : "no active product"));
+                continue;
+            }
+            String category = patch.getId() != null ? patch.getCategory() : null;
+            targets.forEach(product -> {
+                matched.add(product.getId());
+                if (apply(product, category, patch.getPrice(), now)) {
+                    changed.put(product.getId(), product);
+                }
+            });
+        }
+
+        publish(brandId, brandUpdated, changed.values());
+        return new ProductPatchResultDto(patches.size(), brandUpdated, changed.size(), matched.size() - changed.size(),
+                conflicts);
+    }
+
+    private boolean renameBrand(Long brandId, String name, LocalDateTime now) {
+        if (name.isBlank()) {
+            throw new CustomException("INVALID_PARAMETER", "Brand name must not be blank");
+        }
+        Brand brand = brandRepository.findById(brandId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new CustomException("INVALID_PARAMETER", "Brand not found: " + brandId));
+        if (name.equals(brand.getName())) {
+            return false;
+        }
+        brand.setName(name);
+        brand.setLastModifiedDate(now);
+        return true;
+    }
+
+    private String validate(Long brandId, ProductPatchDto patch) {
+        if (patch == null) {
+            return "invalid product patch";
+        }
+        if (patch.getPrice() != null && patch.getPrice() < 0) {
+            return "price must be zero or positive";
+        }
+        if (patch.getId() != null) {
+            if (patch.getCategory() != null && patch.getCategory().isBlank()) {
+                return "category must not be blank";
+            }
+            return patch.getCategory() != null && patch.getCategory().length() > Category.MAX_NAME_LENGTH
+                    ? "category name is too long" : null;
+        }
+        if (brandId == null || patch.getCategory() == null || patch.getPrice() == null) {
+            return "category and price are required without product id";
+        }
+        return categoryDictionary.findId(patch.getCategory()).isEmpty() ? "unknown category" : null;
+    }
+
+    private List<Product> targetById(Long brandId, Product product) {
+        if (product == null || (brandId != null && !brandId.equals(product.getBrand().getId()))) {
+            return List.of();
+        }
+        return List.of(product);
+    }
+
+    /**
+     * 값이 다른 필드만 바꾼다. 버전은 flush 때 {@code @Version} 으로 올라가므로 여기서는 수정 일시만 기록한다.
+     */
+    private boolean apply(Product product, String category, Long price, LocalDateTime now) {
+        boolean changed = false;
+        if (category != null) {
+            OptionalInt categoryId = categoryDictionary.findId(category);
+            if (categoryId.isEmpty() || categoryId.getAsInt() != product.getCategory().getId()) {
+                product.setCategory(categoryService.resolve(category));
+                changed = true;
+            }
+        }
+        if (price != null && !price.equals(product.getPrice())) {
+            product.setPrice(price);
+            changed = true;
+        }
+        if (changed) {
+            product.setLastModifiedDate(now);
+        }
+        return changed;
+    }
+
+    /**
+     * 브랜드 이름이 바뀌면 인덱스의 모든 상품이 이름을 들고 있으므로 브랜드를 다시 읽게 하고, 아니면 바뀐 상품만 넘긴다.
+     */
+    private void publish(Long brandId, boolean brandUpdated, Iterable<Product> changed) {
+        if (brandUpdated) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(brandId));
+            return;
+        }
+        List<ProductChange> changes = new ArrayList<>();
+        changed.forEach(product -> changes.add(new ProductChange(product.getId(), product.getBrand().getId(),
+                categoryName(product), product.getPrice())));
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogProductChangedEvent(changes));
+        }
+    }
+
+    /**
+     * 이 트랜잭션에서 등록한 카테고리는 커밋 뒤에야 사전에 들어가므로, 사전에 없으면 상품이 가리키는 카테고리 엔티티의 이름을 쓴다.
+     */
+    private String categoryName(Product product) {
+        String name = categoryDictionary.nameOf(product.getCategory().getId());
+        return name != null ? name : product.getCategory().getName();
+    }
+
+    private int categoryId(ProductPatchDto patch) {
+        return categoryDictionary.findId(patch.getCategory()).getAsInt();
+    }
+
+    private static Conflict conflict(int index, ProductPatchDto patch, String reason) {
+        return patch == null
+                ? new Conflict(index, null, null, reason)
+                : new Conflict(index, patch.getId(), patch.getCategory(), reason);
+    }
+}
@@ -1,52 +1,83 @@
 package org.musinsa.category.domain.service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.musinsa.category.api.dto.BrandRankingDto;
+import org.musinsa.category.api.dto.CategoryRankingDto;
+import org.musinsa.category.api.dto.LowestPriceBatchResultDto;
 import org.musinsa.category.api.dto.LowestPriceInfoDto;
+import org.musinsa.category.api.dto.PriceHistogramDto;
+import org.musinsa.category.api.dto.PriceRangeDto;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
 import org.musinsa.category.domain.dto.CategoryPriceDto;
-import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.dto.PriceRangeCountDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.BrandCategoryMatrix;
+import org.musinsa.category.domain.index.BrandPriceTotal;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.index.CategoryPriceIndex;
+import org.musinsa.category.domain.index.CategoryPriceSummary;
+import org.musinsa.category.domain.index.CategoryPrices;
 import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.domain.shard.ShardedCatalogStore;
 import org.musinsa.category.exception.CustomException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final CategoryDictionary categoryDictionary;
+    private final ShardedCatalogStore shardedCatalogStore;
 
-    private static final List<String> CATEGORY_ORDER = Arrays.asList(
-            "상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리"
-    );
+    private static final int MAX_RANKING_LIMIT = 100;
+    private static final String LOWEST_ORDER = "lowest";
+    private static final String HIGHEST_ORDER = "highest";
+    private static final int MAX_HISTOGRAM_BUCKETS = 200;
+    static final int MAX_BATCH_SUBSETS = 10_000;
 
     public LowestPriceInfoDto getLowestPriceByCategory() {
         try {
-            List<Object[]> results = productRepository.findLowestPriceByCategory();
+            CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+            List<CategoryPriceDto> categoryPriceList;
+            if (snapshot != null) {
+                categoryPriceList = snapshot.getCategorySummaries().stream()
+                        .map(summary -> new CategoryPriceDto(
+                                summary.getCategory(),
+                                summary.getLowestPriceBrand(),
+                                summary.getLowestPrice()
+                        ))
+                        .toList();
+            } else {
+                categoryPriceList = (shardedCatalogStore.isEnabled()
+                        ? shardedCatalogStore.findLowestPriceByCategory()
+                        : productRepository.findLowestPriceByCategory()).stream()
+                        .map(row -> new CategoryPriceDto(row.category(), row.brandName(), row.price()))
+                        .toList();
+            }
 
-            if (results.isEmpty()) {
+            if (categoryPriceList.isEmpty()) {
                 return new LowestPriceInfoDto(Collections.emptyList(), 0L);
             }
 
-            List<CategoryPriceDto> categoryPriceList = results.stream()
-                    .map(result -> new CategoryPriceDto(
-                            (String) result[0],
-                            (String) result[1],
-                            ((Number) result[2]).longValue()
-                    ))
-                    .toList();
-
             List<CategoryPriceDto> sortedCategoryPriceList = categoryPriceList.stream()
-                    .sorted(Comparator.<CategoryPriceDto, Integer>comparing(dto -> {
-                        int index = CATEGORY_ORDER.indexOf(dto.getCategory());
-                        return index == -1 ? Integer.MAX_VALUE : index;
-                    }).thenComparing(CategoryPriceDto::getCategory))
+                    .sorted(Comparator.comparing(CategoryPriceDto::getCategory, categoryDictionary.displayOrder()))
                     .toList();
 
             return new LowestPriceInfoDto(
@@ -58,26 +89,225 @@ public class ProductService {
         }
     }
 
+    /**
+     * categories 의 카테고리별 최저가와 그 합계를 조회한다. 없으면 전체 카테고리를 조회한다.
+     * <p>
+     * 스냅샷의 카테고리 요약을 이름으로 바로 찾으므로 전체 카테고리 수와 무관하게 요청한 카테고리 수만큼만 든다.
+     */
+    public LowestPriceInfoDto getLowestPriceByCategory(List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return getLowestPriceByCategory();
+        }
+        return lowestPriceOf(requireSnapshot(), categories);
+    }
+
+    /**
+     * 여러 카테고리 부분집합의 최저가 조합을 한 스냅샷에서 한 번에 계산한다. 결과는 요청 순서다.
+     */
+    public LowestPriceBatchResultDto getLowestPricesByCategories(List<List<String>> subsets) {
+        if (subsets == null || subsets.isEmpty()) {
+            throw new CustomException("INVALID_PARAMETER", "Category subset list is empty");
+        }
+        if (subsets.size() > MAX_BATCH_SUBSETS) {
+            throw new CustomException("INVALID_PARAMETER", "Category subset list must not exceed " + MAX_BATCH_SUBSETS);
+        }
+        CatalogSnapshot snapshot = requireSnapshot();
+        List<LowestPriceInfoDto> results = new ArrayList<>(subsets.size());
+        for (int i = 0; i < subsets.size(); i++) {
+            List<String> subset = subsets.get(i);
+            if (subset == null || subset.isEmpty()) {
+                throw new CustomException("INVALID_PARAMETER", "Category subset at index " + i + " is empty");
+            }
+            results.add(lowestPriceOf(snapshot, subset));
+        }
+        return new LowestPriceBatchResultDto(snapshot.getVersion(), results);
+    }
+
     public Map<String, Object> getLowestPriceBrandInfo() {
+        return getLowestPriceBrandInfo(null);
+    }
+
+    /**
+     * categories(없으면 상품이 있는 전체 카테고리) 를 모두 가진 브랜드 중 카테고리별 최저가 합계가 가장 낮은 브랜드를 조회한다.
+     * 일부 카테고리만 가진 브랜드는 합계가 낮아도 후보가 아니다.
+     */
+    public Map<String, Object> getLowestPriceBrandInfo(List<String> categories) {
+        CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+        Long mask = null;
+        if (categories != null && !categories.isEmpty()) {
+            if (snapshot == null) {
+                throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "Catalog snapshot is not loaded yet");
+            }
+            mask = snapshot.getBrandMatrix().maskOf(categories)
+                    .orElseThrow(() -> new CustomException("INVALID_PARAMETER", "Unknown or empty category in " + categories));
+        }
+
         try {
-            List<Object[]> result = productRepository.findBrandWithLowestTotalPrice();
+            if (snapshot != null) {
+                BrandCategoryMatrix.View matrix = snapshot.getBrandMatrix();
+                BrandPriceTotal lowest = matrix.cheapestCovering(mask != null ? mask : matrix.allCategories())
+                        .orElseThrow(() -> new CustomException("PRODUCT_RETRIEVAL_FAILED", "No brand covers all requested categories"));
+                return createLowestPriceResponse(lowest.getBrandName(), lowest.getProducts(), lowest.getTotalPrice());
+            }
+            if (shardedCatalogStore.isEnabled()) {
+                BrandPriceTotal lowest = shardedCatalogStore.findLowestTotalBrand()
+                        .orElseThrow(() -> new CustomException("PRODUCT_RETRIEVAL_FAILED", "No brand covers all requested categories"));
+                return createLowestPriceResponse(lowest.getBrandName(), lowest.getProducts(), lowest.getTotalPrice());
+            }
+
+            List<BrandTotalPriceDto> result = productRepository.findBrandWithLowestTotalPrice();
 
             if (result.isEmpty()) {
                 throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "No brand found with the lowest total price");
             }
 
-            String lowestPriceBrand = (String) result.get(0)[0];
-            Long totalPrice = (Long) result.get(0)[1];
+            BrandTotalPriceDto lowest = result.get(0);
+            List<ProductPriceDto> products = productRepository.findCheapestActiveProductPricesByBrandId(lowest.brandId());
 
-            List<Product> products = productRepository.findByBrandNameAndDeletedDateIsNull(lowestPriceBrand);
-
-            return createLowestPriceResponse(lowestPriceBrand, products, totalPrice);
+            return createLowestPriceResponse(lowest.brand(), products, lowest.totalPrice());
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "Failed to add product in getLowestPriceBrandInfo method: " + e.getMessage());
         }
     }
 
-    private Map<String, Object> createLowestPriceResponse(String brand, List<Product> products, Long totalPrice) {
+    public BrandRankingDto getBrandRanking(int limit, String cursor) {
+        if (limit < 1 || limit > MAX_RANKING_LIMIT) {
+            throw new CustomException("INVALID_PARAMETER", "limit must be between 1 and " + MAX_RANKING_LIMIT);
+        }
+        CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+        if (snapshot == null) {
+            throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "Brand ranking is not loaded yet");
+        }
+
+        Long afterTotalPrice = null;
+        Long afterBrandId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                afterTotalPrice = Long.parseLong(parts[0]);
+                afterBrandId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new CustomException("INVALID_PARAMETER", "Invalid cursor: " + cursor);
+            }
+        }
+
+        List<BrandPriceTotal> page = snapshot.getBrandPage(afterTotalPrice, afterBrandId, limit);
+        List<BrandTotalPriceDto> brands = page.stream()
+                .map(total -> new BrandTotalPriceDto(total.getBrandId(), total.getBrandName(), total.getTotalPrice()))
+                .toList();
+
+        String nextCursor = null;
+        if (page.size() == limit) {
+            BrandPriceTotal last = page.get(page.size() - 1);
+            nextCursor = last.getTotalPrice() + ":" + last.getBrandId();
+        }
+        return new BrandRankingDto(brands, nextCursor);
+    }
+
+    /**
+     * 카테고리 상품을 가격순으로 k 개씩 조회한다. order 가 lowest 면 싼 순(같은 가격은 브랜드 이름 오름차순), highest 면 비싼
+     * 순(같은 가격은 브랜드 이름 내림차순)이다. 커서는 직전 페이지 마지막 상품의 {@code 가격:상품ID:브랜드이름} 이다.
+     */
+    public CategoryRankingDto getCategoryRanking(String category, String order, int k, String cursor) {
+        if (k < 1 || k > MAX_RANKING_LIMIT) {
+            throw new CustomException("INVALID_PARAMETER", "k must be between 1 and " + MAX_RANKING_LIMIT);
+        }
+        if (!LOWEST_ORDER.equals(order) && !HIGHEST_ORDER.equals(order)) {
+            throw new CustomException("INVALID_PARAMETER", "order must be " + LOWEST_ORDER + " or " + HIGHEST_ORDER);
+        }
+        CatalogSnapshot snapshot = requireSnapshot();
+
+        ProductPriceDto after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":", 3);
+            try {
+                after = new ProductPriceDto(Long.parseLong(parts[1]), null, parts[2], category, Long.parseLong(parts[0]));
+            } catch (RuntimeException e) {
+                throw new CustomException("INVALID_PARAMETER", "Invalid cursor: " + cursor);
+            }
+        }
+
+        List<ProductPriceDto> page = snapshot.getCategoryPage(category, after, HIGHEST_ORDER.equals(order), k);
+        List<CategoryRankingDto.Entry> products = page.stream()
+                .map(product -> new CategoryRankingDto.Entry(product.productId(), product.brandId(), product.brandName(),
+                        product.price()))
+                .toList();
+
+        String nextCursor = null;
+        if (page.size() == k) {
+            ProductPriceDto last = page.get(page.size() - 1);
+            nextCursor = last.price() + ":" + last.productId() + ":" + last.brandName();
+        }
+        return new CategoryRankingDto(category, order, products, nextCursor);
+    }
+
+    /**
+     * 카테고리에서 가격이 [minPrice, maxPrice] 인 상품 수와 그 브랜드를 가격순으로 최대 brandLimit 개 조회한다. maxPrice 가
+     * 없으면 상한 없이 센다.
+     */
+    public PriceRangeDto getPriceRange(String category, long minPrice, Long maxPrice, int brandLimit) {
+        if (minPrice < 0 || (maxPrice != null && maxPrice < minPrice)) {
+            throw new CustomException("INVALID_PARAMETER", "Price range must satisfy 0 <= min <= max");
+        }
+        if (brandLimit < 0 || brandLimit > MAX_RANKING_LIMIT) {
+            throw new CustomException("INVALID_PARAMETER", "brands must be between 0 and " + MAX_RANKING_LIMIT);
+        }
+        long upper = maxPrice != null ? maxPrice : Long.MAX_VALUE;
+        PriceRangeCountDto range = requireSnapshot().getCategoryPrices(category)
+                .map(prices -> prices.countPriceRange(minPrice, upper, brandLimit))
+                .orElseGet(() -> new PriceRangeCountDto(0, List.of()));
+        return new PriceRangeDto(category, minPrice, maxPrice, range.count(), range.brands());
+    }
+
+    /**
+     * 카테고리 가격 분포를 width 단위 구간으로 조회한다. maxPrice 가 없으면 카테고리의 최고가까지 조회한다.
+     */
+    public PriceHistogramDto getPriceHistogram(String category, long minPrice, Long maxPrice, long width) {
+        if (width < CategoryPriceIndex.HISTOGRAM_BUCKET_WIDTH || width % CategoryPriceIndex.HISTOGRAM_BUCKET_WIDTH != 0) {
+            throw new CustomException("INVALID_PARAMETER",
+                    "width must be a multiple of " + CategoryPriceIndex.HISTOGRAM_BUCKET_WIDTH);
+        }
+        if (minPrice < 0 || (maxPrice != null && maxPrice < minPrice)) {
+            throw new CustomException("INVALID_PARAMETER", "Price range must satisfy 0 <= min <= max");
+        }
+        Optional<CategoryPrices> prices = requireSnapshot().getCategoryPrices(category);
+        Long upper = maxPrice != null ? maxPrice : prices.map(CategoryPrices::getHighestPrice).orElse(null);
+        if (upper == null || upper < minPrice) {
+            return new PriceHistogramDto(category, width, List.of());
+        }
+        if (upper / width - minPrice / width >= MAX_HISTOGRAM_BUCKETS) {
+            throw new CustomException("INVALID_PARAMETER",
+                    "Histogram must not exceed " + MAX_HISTOGRAM_BUCKETS + " buckets; use a larger width");
+        }
+        return new PriceHistogramDto(category, width, prices
+                .map(categoryPrices -> categoryPrices.getPriceHistogram(minPrice, upper, width))
+                .orElse(List.of()));
+    }
+
+    private LowestPriceInfoDto lowestPriceOf(CatalogSnapshot snapshot, List<String> categories) {
+        List<CategoryPriceDto> prices = new ArrayList<>(categories.size());
+        long total = 0;
+        for (String category : new LinkedHashSet<>(categories)) {
+            CategoryPriceSummary summary = snapshot.getCategorySummary(category)
+                    .orElseThrow(() -> new CustomException("INVALID_PARAMETER", "Unknown category: " + category));
+            prices.add(new CategoryPriceDto(category, summary.getLowestPriceBrand(), summary.getLowestPrice()));
+            total += summary.getLowestPrice();
+        }
+        prices.sort(Comparator.comparing(CategoryPriceDto::getCategory, categoryDictionary.displayOrder()));
+        return new LowestPriceInfoDto(prices, total);
+    }
+
+    private CatalogSnapshot requireSnapshot() {
+        CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+        if (snapshot == null) {
+            throw new CustomException("PRODUCT_RETRIEVAL_FAILED", "Catalog snapshot is not loaded yet");
+        }
+        return snapshot;
+    }
+
+    private Map<String, Object> createLowestPriceResponse(String brand, List<ProductPriceDto> products, Long totalPrice) {
         Map<String, Object> lowestPrice = new LinkedHashMap<>();
 
         lowestPrice.put("브랜드", brand);
@@ -90,12 +320,12 @@ public class ProductService {
         return response;
     }
 
-    private List<Map<String, String>> formatProductCategories(List<Product> products) {
+    private List<Map<String, String>> formatProductCategories(List<ProductPriceDto> products) {
         return products.stream()
-                .sorted(Comparator.comparingInt(p -> CATEGORY_ORDER.indexOf(p.getCategory())))
+                .sorted(Comparator.comparing(ProductPriceDto::category, categoryDictionary.displayOrder()))
                 .map(p -> Map.of(
-                        "카테고리", p.getCategory(),
-                        "가격", formatPrice(p.getPrice())
+                        "카테고리", p.category(),
+                        "가격", formatPrice(p.price())
                 ))
                 .collect(Collectors.toList());
     }
@@ -106,13 +336,33 @@ public class ProductService {
 
     public Map<String, Object> getCategoryPriceInfo(String category) {
         try {
-            List<Product> lowestPriceProducts = productRepository.findLowestPriceProductsByCategory(category);
-            List<Product> highestPriceProducts = productRepository.findHighestPriceProductsByCategory(category);
-
             Map<String, Object> result = new LinkedHashMap<>();
             result.put("카테고리", category);
-            result.put("최저가", mapToResponse(lowestPriceProducts));
-            result.put("최고가", mapToResponse(highestPriceProducts));
+
+            CatalogSnapshot snapshot = catalogSnapshotPublisher.getCurrent();
+            if (snapshot != null) {
+                Optional<CategoryPriceSummary> summary = snapshot.getCategorySummary(category);
+                result.put("최저가", mapPricesToResponse(summary.map(CategoryPriceSummary::getLowestPriceProducts)
+                        .orElse(Collections.emptyList())));
+                result.put("최고가", mapPricesToResponse(summary.map(CategoryPriceSummary::getHighestPriceProducts)
+                        .orElse(Collections.emptyList())));
+                return result;
+            }
+
+            OptionalInt categoryId = categoryDictionary.findId(category);
+            List<ProductPriceDto> products = categoryId.isPresent()
+                    ? productRepository.findLowestAndHighestPriceProductsByCategory(categoryId.getAsInt())
+                    : Collections.emptyList();
+            if (products.isEmpty()) {
+                result.put("최저가", Collections.emptyList());
+                result.put("최고가", Collections.emptyList());
+                return result;
+            }
+
+            Long lowestPrice = products.get(0).price();
+            Long highestPrice = products.get(products.size() - 1).price();
+            result.put("최저가", mapPricesToResponse(products.stream().filter(p -> p.price().equals(lowestPrice)).toList()));
+            result.put("최고가", mapPricesToResponse(products.stream().filter(p -> p.price().equals(highestPrice)).toList()));
 
             return result;
         } catch (Exception e) {
@@ -120,11 +370,11 @@ public class ProductService {
         }
     }
 
-    private List<Map<String, String>> mapToResponse(List<Product> products) {
+    private List<Map<String, String>> mapPricesToResponse(List<ProductPriceDto> products) {
         return products.stream().map(p -> {
             Map<String, String> map = new HashMap<>();
-            map.put("브랜드", p.getBrand().getName());
-            map.put("가격", formatPrice(p.getPrice()));
+            map.put("브랜드", p.brandName());
+            map.put("가격", formatPrice(p.price()));
             return map;
         }).collect(Collectors.toList());
     }
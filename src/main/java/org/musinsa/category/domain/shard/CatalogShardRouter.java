@@ -0,0 +1,61 @@
+package org.musinsa.category.domain.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * 상품 행의 소유 샤드를 정한다.
+ * <p>
+ * {@link Strategy#CATEGORY} 는 카테고리 이름으로 나누므로 카테고리 하나의 상품이 한 샤드에 모이고, 브랜드 하나의 상품은
+ * 여러 샤드에 흩어진다. {@link Strategy#BRAND} 는 브랜드 ID 로 나누므로 그 반대다.
+ * <p>
+ * 카테고리 키는 이름의 UTF-8 CRC32 다. 카테고리 사전의 ID 는 등록이 커밋되기 전에는 없으므로, 사전 상태에 따라 키가 바뀌면
+ * 같은 상품이 쓸 때와 고칠 때 다른 샤드로 간다. 이름 해시는 사전이나 JVM 과 무관하게 늘 같은 샤드를 고른다.
+ */
+public class CatalogShardRouter {
+
+    public enum Strategy {
+        CATEGORY, BRAND;
+
+        public static Strategy of(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sharding strategy: " + name, e);
+            }
+        }
+    }
+
+    private final Strategy strategy;
+    private final int shardCount;
+
+    public CatalogShardRouter(Strategy strategy, int shardCount) {
+        this.strategy = strategy;
+        this.shardCount = shardCount;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long brandId, String category) {
+        if (strategy == Strategy.BRAND) {
+            return Math.floorMod(brandId, shardCount);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(category.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    /**
+     * 브랜드 상품이 모두 한 샤드에 있으면 그 샤드, 여러 샤드에 흩어질 수 있으면 -1 이다.
+     */
+    public int brandShard(long brandId) {
+        return strategy == Strategy.BRAND ? Math.floorMod(brandId, shardCount) : -1;
+    }
+}
@@ -0,0 +1,159 @@
+package org.musinsa.category.domain.shard;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.index.BrandLocks;
+import org.musinsa.category.domain.replica.ReplicaReadConsistency;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주 데이터소스에 커밋된 상품 변경을 소유 샤드로 옮긴다. 인메모리 인덱스와 같은 커밋 후 이벤트를 받으므로, 한 JPA 트랜잭션이
+ * 여러 데이터소스에 걸치지 않고도 샤드는 커밋된 상태만 본다.
+ * <p>
+ * 쓰기에 실패한 샤드는 주 데이터소스의 활성 상품 전체로 그 샤드만 다시 채운다. 다시 채우는 동안에는 다른 샤드 쓰기를 막아
+ * 다시 읽은 상태가 그 사이 반영된 변경을 덮어쓰지 않게 하고, 그것도 실패하면 다음 변경이나
+ * {@code catalog.sharding.resync-interval} 마다 다시 시도한다.
+ * <p>
+ * 브랜드를 다시 읽어 교체하는 일과 가격 변경 UPDATE 는 그 브랜드의 {@link BrandLocks} 안에서 해, 먼저 읽은 행이 그 사이
+ * 반영된 더 새로운 가격을 되돌리지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.sharding.enabled", havingValue = "true")
+public class CatalogShardUpdater {
+
+    static final int BRAND_BATCH_SIZE = 100;
+    static final int BRAND_LOCK_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final ShardedCatalogStore shardedCatalogStore;
+    private final Set<Integer> staleShards = ConcurrentHashMap.newKeySet();
+    private final ReentrantReadWriteLock resyncLock = new ReentrantReadWriteLock();
+    private final BrandLocks brandLocks = new BrandLocks(BRAND_LOCK_STRIPES);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reload() {
+        List<ProductPriceDto> products = productRepository.findAllActiveProductPrices();
+        shardedCatalogStore.reload(products);
+        log.info("catalog shards loaded: products={}, shards={}", products.size(),
+                shardedCatalogStore.getRouter().getShardCount());
+    }
+
+    /**
+     * 변경된 브랜드의 활성 상품을 {@value #BRAND_BATCH_SIZE} 개 브랜드씩 다시 읽어 샤드의 행을 교체한다.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        write(() -> replaceBrands(event.getBrandIds()));
+    }
+
+    /**
+     * 가격 일괄 변경은 DB 를 다시 읽지 않고 (브랜드, 카테고리) 의 소유 샤드에만 UPDATE 를 보낸다.
+     */
+    @TransactionalEventListener
+    public void onPricesChanged(CatalogPriceChangedEvent event) {
+        Set<Long> brandIds = event.getPrices().stream().map(CategoryPrice::brandId).collect(Collectors.toSet());
+        write(() -> brandLocks.run(brandIds, () -> shardedCatalogStore.changePrices(event.getPrices())));
+    }
+
+    /**
+     * 상품 부분 수정은 카테고리가 바뀌면 소유 샤드도 바뀔 수 있으므로 바뀐 상품의 브랜드를 다시 읽는다.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductsChanged(CatalogProductChangedEvent event) {
+        write(() -> replaceBrands(event.getProducts().stream().map(ProductChange::brandId).collect(Collectors.toSet())));
+    }
+
+    @Scheduled(initialDelayString = "${catalog.sharding.resync-interval:PT10S}",
+            fixedDelayString = "${catalog.sharding.resync-interval:PT10S}")
+    public void retryResync() {
+        resyncStaleShards();
+    }
+
+    Set<Integer> getStaleShards() {
+        return Set.copyOf(staleShards);
+    }
+
+    private void write(Runnable task) {
+        resyncLock.readLock().lock();
+        try {
+            task.run();
+        } catch (ShardWriteException e) {
+            log.warn("catalog shard write failed, resyncing: shards={}", e.getShards(), e);
+            staleShards.addAll(e.getShards());
+        } catch (RuntimeException e) {
+            log.warn("catalog shard update failed before writing, resyncing all shards", e);
+            for (int shard = 0; shard < shardedCatalogStore.getRouter().getShardCount(); shard++) {
+                staleShards.add(shard);
+            }
+        } finally {
+            resyncLock.readLock().unlock();
+        }
+        resyncStaleShards();
+    }
+
+    private void resyncStaleShards() {
+        if (staleShards.isEmpty()) {
+            return;
+        }
+        resyncLock.writeLock().lock();
+        try {
+            Set<Integer> shards = Set.copyOf(staleShards);
+            if (shards.isEmpty()) {
+                return;
+            }
+            List<ProductPriceDto> products = ReplicaReadConsistency.onPrimary(productRepository::findAllActiveProductPrices);
+            shardedCatalogStore.reload(products, shards);
+            staleShards.removeAll(shards);
+            log.info("catalog shards resynced: shards={}, products={}", shards, products.size());
+        } catch (ShardWriteException e) {
+            staleShards.retainAll(e.getShards());
+            log.error("catalog shard resync failed, retrying later: shards={}", e.getShards(), e);
+        } catch (RuntimeException e) {
+            log.error("catalog shard resync failed, retrying later: shards={}", staleShards, e);
+        } finally {
+            resyncLock.writeLock().unlock();
+        }
+    }
+
+    private void replaceBrands(Set<Long> changedBrandIds) {
+        List<Long> brandIds = List.copyOf(changedBrandIds);
+        for (int from = 0; from < brandIds.size(); from += BRAND_BATCH_SIZE) {
+            List<Long> batch = brandIds.subList(from, Math.min(from + BRAND_BATCH_SIZE, brandIds.size()));
+            brandLocks.run(batch, () -> {
+                Map<Long, List<ProductPriceDto>> productsByBrand = ReplicaReadConsistency.onPrimary(
+                                () -> productRepository.findActiveProductPricesByBrandIds(batch))
+                        .stream()
+                        .collect(Collectors.groupingBy(ProductPriceDto::brandId));
+                Map<Long, List<ProductPriceDto>> replacements = new LinkedHashMap<>();
+                batch.forEach(brandId -> replacements.put(brandId, productsByBrand.getOrDefault(brandId, List.of())));
+                shardedCatalogStore.replaceBrands(replacements);
+            });
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.musinsa.category.domain.shard;
+
+import java.util.Set;
+
+/**
+ * 샤드 쓰기 중 일부 샤드가 실패했다. 다른 샤드의 로컬 트랜잭션은 이미 커밋됐을 수 있으므로, 받은 쪽은 실패한 샤드를 주
+ * 데이터소스에서 다시 채워야 한다.
+ */
+class ShardWriteException extends RuntimeException {
+
+    private final Set<Integer> shards;
+
+    ShardWriteException(Set<Integer> shards, Throwable cause) {
+        super("Catalog shard write failed: shards=" + shards, cause);
+        this.shards = Set.copyOf(shards);
+    }
+
+    Set<Integer> getShards() {
+        return shards;
+    }
+}
@@ -0,0 +1,325 @@
+package org.musinsa.category.domain.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.index.BrandPriceTotal;
+import org.musinsa.category.domain.shard.CatalogShardRouter.Strategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 활성 상품 가격을 여러 데이터소스에 나눠 담는 샤드 저장소. {@code catalog.sharding.enabled} 가 켜져 있을 때만 샤드를 만든다.
+ * <p>
+ * 샤드마다 {@code catalog_product} 한 테이블에 브랜드 이름까지 펼친 활성 상품 행만 둔다. 브랜드, 카테고리, 이력은 기존 주
+ * 데이터소스에 남고, 상품 행은 {@link CatalogShardRouter} 가 정한 소유 샤드에만 쓰인다. 쓰기는 샤드마다 로컬 트랜잭션으로
+ * 나뉘어 병렬로 실행되며, 일부 샤드가 실패하면 그 샤드 번호를 담은 {@link ShardWriteException} 을 던진다.
+ * <p>
+ * 조회는 모든 샤드에 같은 집계를 병렬로 보내고 결과를 합친다. 카테고리 최저가는 샤드별 최저가 중 가장 낮은 값을 고르며,
+ * 브랜드 샤딩에서는 최저 총액 브랜드도 샤드마다 1건만 받아 고른다. 카테고리 샤딩에서는 브랜드 총액이 여러 샤드에 흩어지므로
+ * 샤드마다 브랜드별 부분 합계를 받아 브랜드 ID 로 더한다.
+ */
+@Slf4j
+@Component
+public class ShardedCatalogStore {
+
+    private static final List<String> SCHEMA_SQL = List.of(
+            "CREATE TABLE IF NOT EXISTS catalog_product (product_id BIGINT PRIMARY KEY, brand_id BIGINT NOT NULL, "
+                    + "brand_name VARCHAR(255) NOT NULL, category VARCHAR(255) NOT NULL, price BIGINT NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS idx_catalog_product_category_price ON catalog_product (category, price)",
+            "CREATE INDEX IF NOT EXISTS idx_catalog_product_brand ON catalog_product (brand_id, category, price)"
+    );
+    private static final String TRUNCATE_SQL = "TRUNCATE TABLE catalog_product";
+    private static final String INSERT_SQL = "INSERT INTO catalog_product (product_id, brand_id, brand_name, category, price) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_BRAND_SQL = "DELETE FROM catalog_product WHERE brand_id = ?";
+    private static final String UPDATE_PRICE_SQL = "UPDATE catalog_product SET price = ? WHERE brand_id = ? AND category = ?";
+    private static final String LOWEST_BY_CATEGORY_SQL = "SELECT p.category, MAX(p.brand_name) AS brand_name, p.price "
+            + "FROM catalog_product p "
+            + "WHERE p.price = (SELECT MIN(p2.price) FROM catalog_product p2 WHERE p2.category = p.category) "
+            + "GROUP BY p.category, p.price";
+    private static final String CATEGORIES_SQL = "SELECT DISTINCT category FROM catalog_product";
+    private static final String BRAND_TOTALS_SQL = "SELECT brand_id, MAX(brand_name) AS brand_name, COUNT(*) AS categories, "
+            + "SUM(price) AS total FROM (SELECT brand_id, MAX(brand_name) AS brand_name, category, MIN(price) AS price "
+            + "FROM catalog_product GROUP BY brand_id, category) t GROUP BY brand_id";
+    private static final String LOWEST_COVERING_BRAND_SQL = BRAND_TOTALS_SQL
+            + " HAVING COUNT(*) = ? ORDER BY total, brand_id LIMIT 1";
+    private static final String BRAND_PRODUCTS_SQL = "SELECT product_id, brand_id, brand_name, category, price "
+            + "FROM catalog_product WHERE brand_id = ? ORDER BY price, product_id";
+
+    private static final Comparator<BrandPartial> TOTAL_ORDER = Comparator
+            .comparingLong(BrandPartial::total)
+            .thenComparingLong(BrandPartial::brandId);
+
+    private final CatalogShardRouter router;
+    private final List<Shard> shards;
+    private final ExecutorService executor;
+
+    public ShardedCatalogStore(@Value("${catalog.sharding.enabled:false}") boolean enabled,
+                               @Value("${catalog.sharding.strategy:category}") String strategy,
+                               @Value("${catalog.sharding.count:4}") int count,
+                               @Value("${catalog.sharding.url-pattern:jdbc:h2:mem:catalog-shard-%d;DB_CLOSE_DELAY=-1}")
+                               String urlPattern) {
+        int shardCount = enabled ? count : 0;
+        if (enabled && shardCount < 1) {
+            throw new IllegalArgumentException("catalog.sharding.count must be at least 1");
+        }
+        this.router = new CatalogShardRouter(Strategy.of(strategy), Math.max(shardCount, 1));
+        this.shards = IntStream.range(0, shardCount)
+                .mapToObj(index -> Shard.open(index, String.format(urlPattern, index)))
+                .toList();
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = enabled ? Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "catalog-shard-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (enabled) {
+            log.info("catalog sharding enabled: strategy={}, shards={}", router.getStrategy(), shardCount);
+        }
+    }
+
+    public boolean isEnabled() {
+        return !shards.isEmpty();
+    }
+
+    public CatalogShardRouter getRouter() {
+        return router;
+    }
+
+    /**
+     * 모든 샤드를 비우고 상품을 소유 샤드에 나눠 다시 담는다.
+     */
+    public void reload(List<ProductPriceDto> products) {
+        reload(products, Set.copyOf(allShards()));
+    }
+
+    /**
+     * 주어진 샤드만 비우고 그 샤드가 소유한 상품을 다시 담는다. 쓰기에 실패한 샤드를 다시 맞출 때 쓴다.
+     */
+    public void reload(List<ProductPriceDto> products, Set<Integer> shardIndexes) {
+        Map<Integer, List<ProductPriceDto>> routed = route(products);
+        scatterWrites(List.copyOf(shardIndexes), shard -> shard.tx().execute(status -> {
+            shard.jdbc().update(TRUNCATE_SQL);
+            insert(shard, routed.getOrDefault(shard.index(), List.of()));
+            return null;
+        }));
+    }
+
+    /**
+     * 브랜드들의 활성 상품 전체를 새 목록으로 교체한다. 브랜드가 흩어질 수 있는 카테고리 샤딩에서는 모든 샤드에서 이전 행을
+     * 지운다. 빈 목록이면 브랜드가 샤드에서 빠진다.
+     */
+    public void replaceBrands(Map<Long, List<ProductPriceDto>> productsByBrand) {
+        Map<Integer, List<Long>> deletes = new HashMap<>();
+        productsByBrand.keySet().forEach(brandId -> {
+            int owner = router.brandShard(brandId);
+            for (int index : owner >= 0 ? List.of(owner) : allShards()) {
+                deletes.computeIfAbsent(index, i -> new ArrayList<>()).add(brandId);
+            }
+        });
+        Map<Integer, List<ProductPriceDto>> inserts = route(productsByBrand.values().stream().flatMap(List::stream).toList());
+        Set<Integer> touched = new HashSet<>(deletes.keySet());
+        touched.addAll(inserts.keySet());
+
+        scatterWrites(List.copyOf(touched), shard -> shard.tx().execute(status -> {
+            List<Long> brandIds = deletes.getOrDefault(shard.index(), List.of());
+            shard.jdbc().batchUpdate(DELETE_BRAND_SQL, brandIds, brandIds.size(), (ps, brandId) -> ps.setLong(1, brandId));
+            insert(shard, inserts.getOrDefault(shard.index(), List.of()));
+            return null;
+        }));
+    }
+
+    /**
+     * (브랜드, 카테고리) 마다 소유 샤드 하나에만 가격 UPDATE 를 보낸다.
+     */
+    public void changePrices(List<CategoryPrice> prices) {
+        Map<Integer, List<CategoryPrice>> routed = new HashMap<>();
+        prices.forEach(price -> routed.computeIfAbsent(router.shardOf(price.brandId(), price.category()),
+                index -> new ArrayList<>()).add(price));
+        scatterWrites(List.copyOf(routed.keySet()), shard -> {
+            List<CategoryPrice> changes = routed.get(shard.index());
+            shard.jdbc().batchUpdate(UPDATE_PRICE_SQL, changes, changes.size(), (ps, change) -> {
+                ps.setLong(1, change.price());
+                ps.setLong(2, change.brandId());
+                ps.setString(3, change.category());
+            });
+        });
+    }
+
+    /**
+     * 카테고리별 최저가와 그 가격의 브랜드를 카테고리 이름 순으로 조회한다. 동률이면 이름이 가장 큰 브랜드를 고른다.
+     */
+    public List<CategoryLowestPriceDto> findLowestPriceByCategory() {
+        Map<String, CategoryLowestPriceDto> lowest = new HashMap<>();
+        scatter(allShards(), shard -> shard.jdbc().query(LOWEST_BY_CATEGORY_SQL, (rs, rowNum) ->
+                new CategoryLowestPriceDto(rs.getString("category"), rs.getString("brand_name"), rs.getLong("price"))))
+                .forEach(rows -> rows.forEach(row -> lowest.merge(row.category(), row, (a, b) -> {
+                    int byPrice = Long.compare(a.price(), b.price());
+                    return byPrice < 0 || (byPrice == 0 && a.brandName().compareTo(b.brandName()) >= 0) ? a : b;
+                })));
+        return lowest.values().stream()
+                .sorted(Comparator.comparing(CategoryLowestPriceDto::category))
+                .toList();
+    }
+
+    /**
+     * 상품이 있는 모든 카테고리를 가진 브랜드 중 카테고리별 최저가 합계가 가장 낮은 브랜드와, 카테고리마다 그 브랜드의 가장 싼
+     * 상품. 같으면 브랜드 ID 가 작은 쪽이다.
+     */
+    public Optional<BrandPriceTotal> findLowestTotalBrand() {
+        Set<String> categories = new HashSet<>();
+        scatter(allShards(), shard -> shard.jdbc().queryForList(CATEGORIES_SQL, String.class)).forEach(categories::addAll);
+        if (categories.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<BrandPartial> lowest;
+        if (router.getStrategy() == Strategy.BRAND) {
+            lowest = scatter(allShards(), shard -> shard.jdbc().query(LOWEST_COVERING_BRAND_SQL, BrandPartial.ROW_MAPPER,
+                    categories.size())).stream()
+                    .flatMap(List::stream)
+                    .min(TOTAL_ORDER);
+        } else {
+            Map<Long, BrandPartial> totals = new HashMap<>();
+            scatter(allShards(), shard -> shard.jdbc().query(BRAND_TOTALS_SQL, BrandPartial.ROW_MAPPER))
+                    .forEach(rows -> rows.forEach(row -> totals.merge(row.brandId(), row, BrandPartial::plus)));
+            lowest = totals.values().stream()
+                    .filter(total -> total.categories() == categories.size())
+                    .min(TOTAL_ORDER);
+        }
+        return lowest.map(brand -> new BrandPriceTotal(brand.brandId(), brand.brandName(), cheapestProducts(brand.brandId())));
+    }
+
+    private List<ProductPriceDto> cheapestProducts(long brandId) {
+        int owner = router.brandShard(brandId);
+        Map<String, ProductPriceDto> cheapest = new LinkedHashMap<>();
+        scatter(owner >= 0 ? List.of(owner) : allShards(), shard -> shard.jdbc().query(BRAND_PRODUCTS_SQL, (rs, rowNum) ->
+                new ProductPriceDto(rs.getLong("product_id"), rs.getLong("brand_id"), rs.getString("brand_name"),
+                        rs.getString("category"), rs.getLong("price")), brandId))
+                .forEach(rows -> rows.forEach(product -> cheapest.putIfAbsent(product.category(), product)));
+        return List.copyOf(cheapest.values());
+    }
+
+    private Map<Integer, List<ProductPriceDto>> route(List<ProductPriceDto> products) {
+        Map<Integer, List<ProductPriceDto>> routed = new HashMap<>();
+        products.forEach(product -> routed.computeIfAbsent(router.shardOf(product.brandId(), product.category()),
+                index -> new ArrayList<>()).add(product));
+        return routed;
+    }
+
+    private static void insert(Shard shard, List<ProductPriceDto> products) {
+        shard.jdbc().batchUpdate(INSERT_SQL, products, 1_000, (ps, product) -> {
+            ps.setLong(1, product.productId());
+            ps.setLong(2, product.brandId());
+            ps.setString(3, product.brandName());
+            ps.setString(4, product.category());
+            ps.setLong(5, product.price());
+        });
+    }
+
+    private List<Integer> allShards() {
+        return IntStream.range(0, shards.size()).boxed().toList();
+    }
+
+    /**
+     * 샤드마다 task 를 병렬로 실행하고 모두 끝날 때까지 기다린다. 결과는 indexes 순서다.
+     */
+    private <T> List<T> scatter(List<Integer> indexes, Function<Shard, T> task) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("Catalog sharding is not enabled");
+        }
+        List<CompletableFuture<T>> futures = indexes.stream()
+                .map(index -> CompletableFuture.supplyAsync(() -> task.apply(shards.get(index)), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 샤드마다 쓰기를 병렬로 실행하고 모두 끝날 때까지 기다린다. 하나가 실패해도 나머지 샤드의 쓰기는 끝까지 기다린 뒤 실패한
+     * 샤드를 모아 알린다.
+     */
+    private void scatterWrites(List<Integer> indexes, Consumer<Shard> task) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("Catalog sharding is not enabled");
+        }
+        Map<Integer, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        indexes.forEach(index -> futures.put(index, CompletableFuture.runAsync(() -> task.accept(shards.get(index)), executor)));
+        Set<Integer> failed = new TreeSet<>();
+        Throwable cause = null;
+        for (Map.Entry<Integer, CompletableFuture<Void>> future : futures.entrySet()) {
+            try {
+                future.getValue().join();
+            } catch (CompletionException e) {
+                failed.add(future.getKey());
+                cause = cause == null ? e.getCause() : cause;
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new ShardWriteException(failed, cause);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        shards.forEach(shard -> shard.dataSource().close());
+    }
+
+    private record Shard(int index, JdbcTemplate jdbc, TransactionTemplate tx, HikariDataSource dataSource) {
+
+        static Shard open(int index, String url) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .build();
+            dataSource.setPoolName("catalog-shard-" + index);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            SCHEMA_SQL.forEach(jdbc::execute);
+            return new Shard(index, jdbc, new TransactionTemplate(new DataSourceTransactionManager(dataSource)), dataSource);
+        }
+    }
+
+    private record BrandPartial(long brandId, String brandName, int categories, long total) {
+
+        static final RowMapper<BrandPartial> ROW_MAPPER = (rs, rowNum) -> new BrandPartial(
+                rs.getLong("brand_id"), rs.getString("brand_name"), rs.getInt("categories"), rs.getLong("total"));
+
+        BrandPartial plus(BrandPartial other) {
+            String name = brandName.compareTo(other.brandName) >= 0 ? brandName : other.brandName;
+            return new BrandPartial(brandId, name, categories + other.categories, total + other.total);
+        }
+    }
+}
@@ -1,95 +1,110 @@
 -- 브랜드 삽입
-INSERT INTO brand (name, CREATE_DT, UPDATE_DT, VER_NO) VALUES
-                                                            ('A', NOW(), NOW(), 1),
-                                                            ('B', NOW(), NOW(), 1),
-                                                            ('C', NOW(), NOW(), 1),
-                                                            ('D', NOW(), NOW(), 1),
-                                                            ('E', NOW(), NOW(), 1),
-                                                            ('F', NOW(), NOW(), 1),
-                                                            ('G', NOW(), NOW(), 1),
-                                                            ('H', NOW(), NOW(), 1),
-                                                            ('I', NOW(), NOW(), 1);
+INSERT INTO brand (id, name, CREATE_DT, UPDATE_DT, VER_NO) VALUES
+                                                            (1, 'A', NOW(), NOW(), 1),
+                                                            (2, 'B', NOW(), NOW(), 1),
+                                                            (3, 'C', NOW(), NOW(), 1),
+                                                            (4, 'D', NOW(), NOW(), 1),
+                                                            (5, 'E', NOW(), NOW(), 1),
+                                                            (6, 'F', NOW(), NOW(), 1),
+                                                            (7, 'G', NOW(), NOW(), 1),
+                                                            (8, 'H', NOW(), NOW(), 1),
+                                                            (9, 'I', NOW(), NOW(), 1);
+
+-- 카테고리 삽입
+INSERT INTO category (name, DISPLAY_ORD, CREATE_DT, UPDATE_DT, VER_NO) VALUES
+                                                            ('상의', 0, NOW(), NOW(), 1),
+                                                            ('아우터', 1, NOW(), NOW(), 1),
+                                                            ('바지', 2, NOW(), NOW(), 1),
+                                                            ('스니커즈', 3, NOW(), NOW(), 1),
+                                                            ('가방', 4, NOW(), NOW(), 1),
+                                                            ('모자', 5, NOW(), NOW(), 1),
+                                                            ('양말', 6, NOW(), NOW(), 1),
+                                                            ('액세서리', 7, NOW(), NOW(), 1);
 
 -- 상품 삽입
-INSERT INTO product (brand_id, category, price, CREATE_DT, UPDATE_DT, VER_NO) VALUES
+INSERT INTO product (id, brand_id, category_id, price, CREATE_DT, UPDATE_DT, VER_NO) VALUES
 -- 브랜드 A의 상품
-(1, '상의', 11200, NOW(), NOW(), 1),
-(1, '아우터', 5500, NOW(), NOW(), 1),
-(1, '바지', 4200, NOW(), NOW(), 1),
-(1, '스니커즈', 9000, NOW(), NOW(), 1),
-(1, '가방', 2000, NOW(), NOW(), 1),
-(1, '모자', 1700, NOW(), NOW(), 1),
-(1, '양말', 1800, NOW(), NOW(), 1),
-(1, '액세서리', 2300, NOW(), NOW(), 1),
+(1, 1, 1, 11200, NOW(), NOW(), 1),
+(2, 1, 2, 5500, NOW(), NOW(), 1),
+(3, 1, 3, 4200, NOW(), NOW(), 1),
+(4, 1, 4, 9000, NOW(), NOW(), 1),
+(5, 1, 5, 2000, NOW(), NOW(), 1),
+(6, 1, 6, 1700, NOW(), NOW(), 1),
+(7, 1, 7, 1800, NOW(), NOW(), 1),
+(8, 1, 8, 2300, NOW(), NOW(), 1),
 -- 브랜드 B의 상품
-(2, '상의', 10500, NOW(), NOW(), 1),
-(2, '아우터', 5900, NOW(), NOW(), 1),
-(2, '바지', 3800, NOW(), NOW(), 1),
-(2, '스니커즈', 9100, NOW(), NOW(), 1),
-(2, '가방', 2100, NOW(), NOW(), 1),
-(2, '모자', 2000, NOW(), NOW(), 1),
-(2, '양말', 2000, NOW(), NOW(), 1),
-(2, '액세서리', 2200, NOW(), NOW(), 1),
+(9, 2, 1, 10500, NOW(), NOW(), 1),
+(10, 2, 2, 5900, NOW(), NOW(), 1),
+(11, 2, 3, 3800, NOW(), NOW(), 1),
+(12, 2, 4, 9100, NOW(), NOW(), 1),
+(13, 2, 5, 2100, NOW(), NOW(), 1),
+(14, 2, 6, 2000, NOW(), NOW(), 1),
+(15, 2, 7, 2000, NOW(), NOW(), 1),
+(16, 2, 8, 2200, NOW(), NOW(), 1),
 -- 브랜드 C의 상품
-(3, '상의', 10000, NOW(), NOW(), 1),
-(3, '아우터', 6200, NOW(), NOW(), 1),
-(3, '바지', 3300, NOW(), NOW(), 1),
-(3, '스니커즈', 9200, NOW(), NOW(), 1),
-(3, '가방', 2200, NOW(), NOW(), 1),
-(3, '모자', 1900, NOW(), NOW(), 1),
-(3, '양말', 2200, NOW(), NOW(), 1),
-(3, '액세서리', 2100, NOW(), NOW(), 1),
+(17, 3, 1, 10000, NOW(), NOW(), 1),
+(18, 3, 2, 6200, NOW(), NOW(), 1),
+(19, 3, 3, 3300, NOW(), NOW(), 1),
+(20, 3, 4, 9200, NOW(), NOW(), 1),
+(21, 3, 5, 2200, NOW(), NOW(), 1),
+(22, 3, 6, 1900, NOW(), NOW(), 1),
+(23, 3, 7, 2200, NOW(), NOW(), 1),
+(24, 3, 8, 2100, NOW(), NOW(), 1),
 -- 브랜드 D의 상품
-(4, '상의', 10100, NOW(), NOW(), 1),
-(4, '아우터', 5100, NOW(), NOW(), 1),
-(4, '바지', 3000, NOW(), NOW(), 1),
-(4, '스니커즈', 9500, NOW(), NOW(), 1),
-(4, '가방', 2500, NOW(), NOW(), 1),
-(4, '모자', 1500, NOW(), NOW(), 1),
-(4, '양말', 2400, NOW(), NOW(), 1),
-(4, '액세서리', 2000, NOW(), NOW(), 1),
+(25, 4, 1, 10100, NOW(), NOW(), 1),
+(26, 4, 2, 5100, NOW(), NOW(), 1),
+(27, 4, 3, 3000, NOW(), NOW(), 1),
+(28, 4, 4, 9500, NOW(), NOW(), 1),
+(29, 4, 5, 2500, NOW(), NOW(), 1),
+(30, 4, 6, 1500, NOW(), NOW(), 1),
+(31, 4, 7, 2400, NOW(), NOW(), 1),
+(32, 4, 8, 2000, NOW(), NOW(), 1),
 -- 브랜드 E의 상품
-(5, '상의', 10700, NOW(), NOW(), 1),
-(5, '아우터', 5000, NOW(), NOW(), 1),
-(5, '바지', 3800, NOW(), NOW(), 1),
-(5, '스니커즈', 9900, NOW(), NOW(), 1),
-(5, '가방', 2300, NOW(), NOW(), 1),
-(5, '모자', 1800, NOW(), NOW(), 1),
-(5, '양말', 2100, NOW(), NOW(), 1),
-(5, '액세서리', 2100, NOW(), NOW(), 1),
+(33, 5, 1, 10700, NOW(), NOW(), 1),
+(34, 5, 2, 5000, NOW(), NOW(), 1),
+(35, 5, 3, 3800, NOW(), NOW(), 1),
+(36, 5, 4, 9900, NOW(), NOW(), 1),
+(37, 5, 5, 2300, NOW(), NOW(), 1),
+(38, 5, 6, 1800, NOW(), NOW(), 1),
+(39, 5, 7, 2100, NOW(), NOW(), 1),
+(40, 5, 8, 2100, NOW(), NOW(), 1),
 -- 브랜드 F의 상품
-(6, '상의', 11200, NOW(), NOW(), 1),
-(6, '아우터', 7200, NOW(), NOW(), 1),
-(6, '바지', 4000, NOW(), NOW(), 1),
-(6, '스니커즈', 9300, NOW(), NOW(), 1),
-(6, '가방', 2100, NOW(), NOW(), 1),
-(6, '모자', 1600, NOW(), NOW(), 1),
-(6, '양말', 2300, NOW(), NOW(), 1),
-(6, '액세서리', 1900, NOW(), NOW(), 1),
+(41, 6, 1, 11200, NOW(), NOW(), 1),
+(42, 6, 2, 7200, NOW(), NOW(), 1),
+(43, 6, 3, 4000, NOW(), NOW(), 1),
+(44, 6, 4, 9300, NOW(), NOW(), 1),
+(45, 6, 5, 2100, NOW(), NOW(), 1),
+(46, 6, 6, 1600, NOW(), NOW(), 1),
+(47, 6, 7, 2300, NOW(), NOW(), 1),
+(48, 6, 8, 1900, NOW(), NOW(), 1),
 -- 브랜드 G의 상품
-(7, '상의', 10500, NOW(), NOW(), 1),
-(7, '아우터', 5800, NOW(), NOW(), 1),
-(7, '바지', 3900, NOW(), NOW(), 1),
-(7, '스니커즈', 9000, NOW(), NOW(), 1),
-(7, '가방', 2200, NOW(), NOW(), 1),
-(7, '모자', 1700, NOW(), NOW(), 1),
-(7, '양말', 2100, NOW(), NOW(), 1),
-(7, '액세서리', 2000, NOW(), NOW(), 1),
+(49, 7, 1, 10500, NOW(), NOW(), 1),
+(50, 7, 2, 5800, NOW(), NOW(), 1),
+(51, 7, 3, 3900, NOW(), NOW(), 1),
+(52, 7, 4, 9000, NOW(), NOW(), 1),
+(53, 7, 5, 2200, NOW(), NOW(), 1),
+(54, 7, 6, 1700, NOW(), NOW(), 1),
+(55, 7, 7, 2100, NOW(), NOW(), 1),
+(56, 7, 8, 2000, NOW(), NOW(), 1),
 -- 브랜드 H의 상품
-(8, '상의', 10800, NOW(), NOW(), 1),
-(8, '아우터', 6300, NOW(), NOW(), 1),
-(8, '바지', 3100, NOW(), NOW(), 1),
-(8, '스니커즈', 9700, NOW(), NOW(), 1),
-(8, '가방', 2100, NOW(), NOW(), 1),
-(8, '모자', 1600, NOW(), NOW(), 1),
-(8, '양말', 2000, NOW(), NOW(), 1),
-(8, '액세서리', 2000, NOW(), NOW(), 1),
+(57, 8, 1, 10800, NOW(), NOW(), 1),
+(58, 8, 2, 6300, NOW(), NOW(), 1),
+(59, 8, 3, 3100, NOW(), NOW(), 1),
+(60, 8, 4, 9700, NOW(), NOW(), 1),
+(61, 8, 5, 2100, NOW(), NOW(), 1),
+(62, 8, 6, 1600, NOW(), NOW(), 1),
+(63, 8, 7, 2000, NOW(), NOW(), 1),
+(64, 8, 8, 2000, NOW(), NOW(), 1),
 -- 브랜드 I의 상품
-(9, '상의', 11400, NOW(), NOW(), 1),
-(9, '아우터', 6700, NOW(), NOW(), 1),
-(9, '바지', 3200, NOW(), NOW(), 1),
-(9, '스니커즈', 9500, NOW(), NOW(), 1),
-(9, '가방', 2400, NOW(), NOW(), 1),
-(9, '모자', 1700, NOW(), NOW(), 1),
-(9, '양말', 1700, NOW(), NOW(), 1),
-(9, '액세서리', 2400, NOW(), NOW(), 1);
+(65, 9, 1, 11400, NOW(), NOW(), 1),
+(66, 9, 2, 6700, NOW(), NOW(), 1),
+(67, 9, 3, 3200, NOW(), NOW(), 1),
+(68, 9, 4, 9500, NOW(), NOW(), 1),
+(69, 9, 5, 2400, NOW(), NOW(), 1),
+(70, 9, 6, 1700, NOW(), NOW(), 1),
+(71, 9, 7, 1700, NOW(), NOW(), 1),
+(72, 9, 8, 2400, NOW(), NOW(), 1);
+
+-- 명시한 ID 다음부터 채번하도록 시퀀스를 옮긴다. pooled-lo 최적화기는 시퀀스 값을 할당 구간의 시작으로 쓴다.
+ALTER SEQUENCE brand_seq RESTART WITH 10;
+ALTER SEQUENCE product_seq RESTART WITH 73;
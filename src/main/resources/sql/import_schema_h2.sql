@@ -1,25 +1,72 @@
--- 브랜드 테이블 생성
-CREATE TABLE brands
+-- 브랜드와 상품 ID 는 엔티티의 @SequenceGenerator 와 같은 시퀀스에서 받는다. 할당 크기 50 과 증가폭을 맞춰야
+-- Hibernate 가 미리 잡은 ID 구간이 겹치지 않는다.
+CREATE SEQUENCE brand_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE product_seq START WITH 1 INCREMENT BY 50;
+
+-- 브랜드 테이블 생성. 삭제한 브랜드와 같은 이름으로 다시 등록할 수 있도록 이름은 유일 제약 없이 인덱스만 둔다.
+CREATE TABLE brand
 (
-    id        INT AUTO_INCREMENT PRIMARY KEY COMMENT '브랜드 ID',
-    name      VARCHAR(255) NOT NULL UNIQUE COMMENT '브랜드 이름',
+    id        BIGINT PRIMARY KEY COMMENT '브랜드 ID (brand_seq)',
+    name      VARCHAR(50)  NOT NULL COMMENT '브랜드 이름',
     CREATE_DT DATETIME     NOT NULL COMMENT '생성일시',
     UPDATE_DT DATETIME DEFAULT NULL COMMENT '수정일시',
     DEL_DT    DATETIME DEFAULT NULL COMMENT '삭제일시',
     VER_NO    BIGINT(20) UNSIGNED NOT NULL COMMENT '버전번호'
 ) COMMENT '브랜드 정보 테이블';
 
--- 상품 가격 테이블 생성
-CREATE TABLE products
+-- 카테고리 테이블 생성. Category 엔티티는 IDENTITY 전략이므로 AUTO_INCREMENT 를 그대로 쓴다.
+CREATE TABLE category
+(
+    id          INT AUTO_INCREMENT PRIMARY KEY COMMENT '카테고리 ID',
+    name        VARCHAR(20) NOT NULL UNIQUE COMMENT '카테고리 이름',
+    DISPLAY_ORD INT         NOT NULL COMMENT '노출 순서',
+    CREATE_DT   DATETIME    NOT NULL COMMENT '생성일시',
+    UPDATE_DT   DATETIME DEFAULT NULL COMMENT '수정일시',
+    DEL_DT      DATETIME DEFAULT NULL COMMENT '삭제일시',
+    VER_NO      BIGINT(20) UNSIGNED NOT NULL COMMENT '버전번호'
+) COMMENT '카테고리 사전 테이블';
+
+-- 상품 가격 테이블 생성. 삭제 행이 남아 있는 브랜드·카테고리에 상품을 다시 등록할 수 있도록 유일 제약은 두지 않는다.
+CREATE TABLE product
 (
-    id        INT AUTO_INCREMENT PRIMARY KEY COMMENT '상품 ID',
-    brand_id  INT         NOT NULL COMMENT '브랜드 ID (brands 테이블의 FK)',
-    category  VARCHAR(50) NOT NULL COMMENT '상품 카테고리',
+    id        BIGINT PRIMARY KEY COMMENT '상품 ID (product_seq)',
+    brand_id  BIGINT      NOT NULL COMMENT '브랜드 ID (brand 테이블의 FK)',
+    category_id INT       NOT NULL COMMENT '카테고리 ID (category 테이블의 FK)',
     price     BIGINT(20)  NOT NULL COMMENT '상품 가격',
     CREATE_DT DATETIME    NOT NULL COMMENT '생성일시',
     UPDATE_DT DATETIME DEFAULT NULL COMMENT '수정일시',
     DEL_DT    DATETIME DEFAULT NULL COMMENT '삭제일시',
     VER_NO    BIGINT(20) UNSIGNED NOT NULL COMMENT '버전번호',
-    FOREIGN KEY (brand_id) REFERENCES brands (id),
-    UNIQUE (brand_id, category)
-) COMMENT '상품 정보 테이블';
\ No newline at end of file
+    FOREIGN KEY (brand_id) REFERENCES brand (id),
+    FOREIGN KEY (category_id) REFERENCES category (id)
+) COMMENT '상품 정보 테이블';
+
+-- 활성 행만 읽는 조회용 커버링 인덱스. DEL_DT 를 등호 조건 컬럼 바로 뒤에 두어 활성 행(NULL)이 키 범위 앞쪽에 모이게 한다.
+CREATE INDEX idx_product_category_price ON product (category_id, DEL_DT, price, brand_id);
+CREATE INDEX idx_product_brand_category ON product (brand_id, DEL_DT, category_id, price);
+CREATE INDEX idx_brand_name ON brand (name, DEL_DT);
+
+-- 보존 기간이 지난 삭제 행의 이력 테이블. 원래 행의 ID 와 감사 컬럼을 그대로 옮긴다.
+CREATE TABLE brand_history
+(
+    id         BIGINT PRIMARY KEY COMMENT '브랜드 ID',
+    name       VARCHAR(50)  NOT NULL COMMENT '브랜드 이름',
+    CREATE_DT  DATETIME     NOT NULL COMMENT '생성일시',
+    UPDATE_DT  DATETIME DEFAULT NULL COMMENT '수정일시',
+    DEL_DT     DATETIME DEFAULT NULL COMMENT '삭제일시',
+    VER_NO     BIGINT(20) UNSIGNED NOT NULL COMMENT '버전번호',
+    ARCHIVE_DT DATETIME     NOT NULL COMMENT '이력 이동일시'
+) COMMENT '삭제 브랜드 이력 테이블';
+
+CREATE TABLE product_history
+(
+    id          BIGINT PRIMARY KEY COMMENT '상품 ID',
+    brand_id    BIGINT      NOT NULL COMMENT '브랜드 ID',
+    category_id INT         NOT NULL COMMENT '카테고리 ID',
+    price       BIGINT(20)  NOT NULL COMMENT '상품 가격',
+    CREATE_DT   DATETIME    NOT NULL COMMENT '생성일시',
+    UPDATE_DT   DATETIME DEFAULT NULL COMMENT '수정일시',
+    DEL_DT      DATETIME DEFAULT NULL COMMENT '삭제일시',
+    VER_NO      BIGINT(20) UNSIGNED NOT NULL COMMENT '버전번호',
+    ARCHIVE_DT  DATETIME    NOT NULL COMMENT '이력 이동일시'
+) COMMENT '삭제 상품 이력 테이블';
@@ -17,8 +17,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.musinsa.category.api.dto.ApiResponseDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.BrandRankingDto;
+import org.musinsa.category.api.dto.LowestPriceBatchRequestDto;
+import org.musinsa.category.api.dto.LowestPriceBatchResultDto;
 import org.musinsa.category.api.dto.LowestPriceInfoDto;
 import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
 import org.musinsa.category.domain.dto.CategoryPriceDto;
 import org.musinsa.category.domain.dto.ProductDto;
 import org.musinsa.category.domain.service.BrandProductService;
@@ -31,7 +35,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-@SpringBootTest
+// 서비스가 목으로 대체되어 카탈로그 버전이 바뀌지 않으므로 응답 캐시는 끈다.
+@SpringBootTest(properties = "catalog.http-cache.enabled=false")
 @AutoConfigureMockMvc
 class ProductControllerIntegrationTest {
 
@@ -55,7 +60,7 @@ class ProductControllerIntegrationTest {
                 List.of(new CategoryPriceDto("상의", "A", 10000L)),
                 10000L
         );
-        when(productService.getLowestPriceByCategory()).thenReturn(lowestPriceInfo);
+        when(productService.getLowestPriceByCategory(null)).thenReturn(lowestPriceInfo);
 
         // When & Then
         mockMvc.perform(get("/product/v1/lowest-price")
@@ -74,7 +79,7 @@ class ProductControllerIntegrationTest {
         Map<String, Object> brandInfo = new HashMap<>();
         brandInfo.put("brand", "A");
         brandInfo.put("totalPrice", 20000L);
-        when(productService.getLowestPriceBrandInfo()).thenReturn(brandInfo);
+        when(productService.getLowestPriceBrandInfo(null)).thenReturn(brandInfo);
 
         // When & Then
         mockMvc.perform(get("/product/v1/brand/lowest-price")
@@ -88,7 +93,7 @@ class ProductControllerIntegrationTest {
     @DisplayName("단일 브랜드 최저가 상품 조회 실패 테스트")
     void testGetLowestPriceBrandInfoFailure() throws Exception {
         // Given
-        when(productService.getLowestPriceBrandInfo()).thenThrow(new CustomException("PRODUCT_RETRIEVAL_FAILED", "Failed to retrieve lowest price brand info"));
+        when(productService.getLowestPriceBrandInfo(null)).thenThrow(new CustomException("PRODUCT_RETRIEVAL_FAILED", "Failed to retrieve lowest price brand info"));
 
         // When & Then
         mockMvc.perform(get("/product/v1/brand/lowest-price")
@@ -98,6 +103,28 @@ class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.error.errorMessage").value("Failed to retrieve lowest price brand info"));
     }
 
+    @Test
+    @DisplayName("브랜드 총액 랭킹 조회 테스트")
+    void testGetBrandRanking() throws Exception {
+        // Given
+        BrandRankingDto ranking = new BrandRankingDto(
+                List.of(new BrandTotalPriceDto(4L, "D", 36100L), new BrandTotalPriceDto(3L, "C", 37100L)),
+                "37100:3"
+        );
+        when(productService.getBrandRanking(2, "30000:1")).thenReturn(ranking);
+
+        // When & Then
+        mockMvc.perform(get("/product/v1/brand/ranking")
+                        .param("limit", "2")
+                        .param("cursor", "30000:1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brands[0].brand").value("D"))
+                .andExpect(jsonPath("$.brands[0].totalPrice").value(36100L))
+                .andExpect(jsonPath("$.brands[1].brandId").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value("37100:3"));
+    }
+
     @Test
     @DisplayName("카테고리별 최저 및 최고 가격 상품 조회 테스트")
     void testGetCategoryPriceInfo() throws Exception {
@@ -121,7 +148,7 @@ class ProductControllerIntegrationTest {
     @DisplayName("카테고리별 최저가 상품 조회 실패 테스트")
     void testGetLowestPriceByCategoryFailure() throws Exception {
         // Given
-        when(productService.getLowestPriceByCategory()).thenThrow(new CustomException("PRODUCT_RETRIEVAL_FAILED", "Failed to retrieve lowest price by category"));
+        when(productService.getLowestPriceByCategory(null)).thenThrow(new CustomException("PRODUCT_RETRIEVAL_FAILED", "Failed to retrieve lowest price by category"));
 
         // When & Then
         mockMvc.perform(get("/product/v1/lowest-price")
@@ -131,6 +158,27 @@ class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.error.errorMessage").value("Failed to retrieve lowest price by category"));
     }
 
+    @Test
+    @DisplayName("카테고리 부분집합 최저가 일괄 조회 테스트")
+    void testGetLowestPricesByCategories() throws Exception {
+        // Given
+        List<List<String>> subsets = List.of(List.of("상의", "바지"), List.of("상의"));
+        LowestPriceBatchResultDto batch = new LowestPriceBatchResultDto(3L, List.of(
+                new LowestPriceInfoDto(List.of(new CategoryPriceDto("상의", "A", 10000L),
+                        new CategoryPriceDto("바지", "B", 3000L)), 13000L),
+                new LowestPriceInfoDto(List.of(new CategoryPriceDto("상의", "A", 10000L)), 10000L)));
+        when(productService.getLowestPricesByCategories(subsets)).thenReturn(batch);
+
+        // When & Then
+        mockMvc.perform(post("/product/v1/lowest-price/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LowestPriceBatchRequestDto(subsets))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3L))
+                .andExpect(jsonPath("$.results[0].totalPrice").value(13000L))
+                .andExpect(jsonPath("$.results[1].categories[0].brand").value("A"));
+    }
+
     @Test
     @DisplayName("브랜드 및 상품 추가 테스트")
     void testAddBrandAndProducts() throws Exception {
@@ -6,6 +6,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.CREATED;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,13 +18,40 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandDeleteRequestDto;
+import org.musinsa.category.api.dto.BrandDeleteResultDto;
+import org.musinsa.category.api.dto.BrandPatchRequestDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.BrandRankingDto;
+import org.musinsa.category.api.dto.CatalogArchiveStatsDto;
+import org.musinsa.category.api.dto.CatalogImportResultDto;
+import org.musinsa.category.api.dto.CategoryRankingDto;
 import org.musinsa.category.api.dto.LowestPriceInfoDto;
+import org.musinsa.category.api.dto.OutfitDto;
+import org.musinsa.category.api.dto.PriceHistogramDto;
+import org.musinsa.category.api.dto.PriceQueueResultDto;
+import org.musinsa.category.api.dto.PriceQueueStatsDto;
+import org.musinsa.category.api.dto.PriceRangeDto;
+import org.musinsa.category.api.dto.PriceUpdateRequestDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto;
+import org.musinsa.category.api.stream.LowestPriceStreamBroker;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
 import org.musinsa.category.domain.dto.CategoryPriceDto;
+import org.musinsa.category.domain.dto.PriceBucketDto;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.dto.ProductPatchDto;
 import org.musinsa.category.domain.service.BrandProductService;
+import org.musinsa.category.domain.service.CatalogArchiveService;
+import org.musinsa.category.domain.service.CatalogImportService;
+import org.musinsa.category.domain.service.OutfitService;
+import org.musinsa.category.domain.service.PriceUpdateService;
+import org.musinsa.category.domain.service.PriceWriteBehindService;
+import org.musinsa.category.domain.service.ProductPatchService;
 import org.musinsa.category.domain.service.ProductService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 class ProductControllerTest {
 
@@ -31,6 +61,27 @@ class ProductControllerTest {
     @Mock
     private BrandProductService brandProductService;
 
+    @Mock
+    private CatalogImportService catalogImportService;
+
+    @Mock
+    private PriceUpdateService priceUpdateService;
+
+    @Mock
+    private PriceWriteBehindService priceWriteBehindService;
+
+    @Mock
+    private CatalogArchiveService catalogArchiveService;
+
+    @Mock
+    private ProductPatchService productPatchService;
+
+    @Mock
+    private LowestPriceStreamBroker lowestPriceStreamBroker;
+
+    @Mock
+    private OutfitService outfitService;
+
     @InjectMocks
     private ProductController productController;
 
@@ -42,24 +93,92 @@ class ProductControllerTest {
     @Test
     void testGetLowestPriceByCategory() {
         LowestPriceInfoDto expectedDto = new LowestPriceInfoDto(List.of(new CategoryPriceDto("카테고리", "브랜드", 1000L)), 1000L);
-        when(productService.getLowestPriceByCategory()).thenReturn(expectedDto);
+        when(productService.getLowestPriceByCategory(null)).thenReturn(expectedDto);
 
-        LowestPriceInfoDto result = productController.getLowestPriceByCategory();
+        LowestPriceInfoDto result = productController.getLowestPriceByCategory(null);
 
         assertEquals(expectedDto, result);
-        verify(productService).getLowestPriceByCategory();
+        verify(productService).getLowestPriceByCategory(null);
+    }
+
+    @Test
+    void testStreamLowestPrices() {
+        SseEmitter emitter = new SseEmitter();
+        when(lowestPriceStreamBroker.subscribe(List.of("상의"), "1:3")).thenReturn(emitter);
+
+        SseEmitter result = productController.streamLowestPrices(List.of("상의"), "1:3");
+
+        assertEquals(emitter, result);
+        verify(lowestPriceStreamBroker).subscribe(List.of("상의"), "1:3");
     }
 
     @Test
     void testGetLowestPriceBrandInfo() {
         Map<String, Object> expectedMap = new HashMap<>();
         expectedMap.put("브랜드", "테스트브랜드");
-        when(productService.getLowestPriceBrandInfo()).thenReturn(expectedMap);
+        when(productService.getLowestPriceBrandInfo(List.of("상의", "바지"))).thenReturn(expectedMap);
 
-        Map<String, Object> result = productController.getLowestPriceBrandInfo();
+        Map<String, Object> result = productController.getLowestPriceBrandInfo(List.of("상의", "바지"));
 
         assertEquals(expectedMap, result);
-        verify(productService).getLowestPriceBrandInfo();
+        verify(productService).getLowestPriceBrandInfo(List.of("상의", "바지"));
+    }
+
+    @Test
+    void testGetBrandRanking() {
+        BrandRankingDto expectedDto = new BrandRankingDto(List.of(new BrandTotalPriceDto(1L, "브랜드", 1000L)), "1000:1");
+        when(productService.getBrandRanking(1, null)).thenReturn(expectedDto);
+
+        BrandRankingDto result = productController.getBrandRanking(1, null);
+
+        assertEquals(expectedDto, result);
+        verify(productService).getBrandRanking(1, null);
+    }
+
+    @Test
+    void testGetCategoryRanking() {
+        CategoryRankingDto expectedDto = new CategoryRankingDto("상의", "lowest",
+                List.of(new CategoryRankingDto.Entry(1L, 1L, "브랜드", 1000L)), "1000:1:브랜드");
+        when(productService.getCategoryRanking("상의", "lowest", 1, null)).thenReturn(expectedDto);
+
+        CategoryRankingDto result = productController.getCategoryRanking("상의", "lowest", 1, null);
+
+        assertEquals(expectedDto, result);
+        verify(productService).getCategoryRanking("상의", "lowest", 1, null);
+    }
+
+    @Test
+    void testGetPriceRange() {
+        PriceRangeDto expectedDto = new PriceRangeDto("바지", 3000L, 8000L, 1, List.of("브랜드"));
+        when(productService.getPriceRange("바지", 3000L, 8000L, 20)).thenReturn(expectedDto);
+
+        PriceRangeDto result = productController.getPriceRange("바지", 3000L, 8000L, 20);
+
+        assertEquals(expectedDto, result);
+        verify(productService).getPriceRange("바지", 3000L, 8000L, 20);
+    }
+
+    @Test
+    void testGetPriceHistogram() {
+        PriceHistogramDto expectedDto = new PriceHistogramDto("바지", 1000L, List.of(new PriceBucketDto(3000L, 3999L, 1)));
+        when(productService.getPriceHistogram("바지", 0L, null, 1000L)).thenReturn(expectedDto);
+
+        PriceHistogramDto result = productController.getPriceHistogram("바지", 0L, null, 1000L);
+
+        assertEquals(expectedDto, result);
+        verify(productService).getPriceHistogram("바지", 0L, null, 1000L);
+    }
+
+    @Test
+    void testGetOutfits() {
+        OutfitDto expectedDto = new OutfitDto(List.of(new CategoryPriceDto("상의", "브랜드", 1000L)), 1000L, 1, true);
+        when(outfitService.getCheapestOutfit(null, 2)).thenReturn(expectedDto);
+        when(outfitService.getBudgetOutfit(List.of("상의"), 5000L)).thenReturn(expectedDto);
+
+        assertEquals(expectedDto, productController.getCheapestOutfit(null, 2));
+        assertEquals(expectedDto, productController.getBudgetOutfit(List.of("상의"), 5000L));
+        verify(outfitService).getCheapestOutfit(null, 2);
+        verify(outfitService).getBudgetOutfit(List.of("상의"), 5000L);
     }
 
     @Test
@@ -88,6 +207,18 @@ class ProductControllerTest {
         verify(brandProductService).addBrandAndProducts(requestDto);
     }
 
+    @Test
+    void testImportCatalog() {
+        InputStream body = new ByteArrayInputStream("{\"type\":\"brand\",\"name\":\"브랜드\"}".getBytes(StandardCharsets.UTF_8));
+        CatalogImportResultDto expectedDto = new CatalogImportResultDto(1, 1, 0, 0, 1, 0, 5, List.of());
+        when(catalogImportService.importNdjson(body)).thenReturn(expectedDto);
+
+        CatalogImportResultDto result = productController.importCatalog(body);
+
+        assertEquals(expectedDto, result);
+        verify(catalogImportService).importNdjson(body);
+    }
+
     @Test
     void testUpdateBrandAndProducts() {
         BrandProductRequestDto requestDto = new BrandProductRequestDto();
@@ -101,6 +232,49 @@ class ProductControllerTest {
         verify(brandProductService).updateBrandAndProducts(requestDto);
     }
 
+    @Test
+    void testUpdatePrices() {
+        List<PriceUpdateDto> updates = List.of(new PriceUpdateDto(1L, "상의", 1000L));
+        PriceUpdateResultDto expectedDto = new PriceUpdateResultDto(1, 1, List.of());
+        when(priceUpdateService.updatePrices(updates)).thenReturn(expectedDto);
+
+        PriceUpdateResultDto result = productController.updatePrices(new PriceUpdateRequestDto(updates));
+
+        assertEquals(expectedDto, result);
+        verify(priceUpdateService).updatePrices(updates);
+    }
+
+    @Test
+    void testEnqueuePrices() {
+        List<PriceUpdateDto> updates = List.of(new PriceUpdateDto(1L, "상의", 1000L), new PriceUpdateDto(1L, "상의", 900L));
+        PriceQueueResultDto expectedDto = new PriceQueueResultDto(2, 2, 1, 1, List.of());
+        when(priceWriteBehindService.enqueue(updates)).thenReturn(expectedDto);
+
+        PriceQueueResultDto result = productController.enqueuePrices(new PriceUpdateRequestDto(updates));
+
+        assertEquals(expectedDto, result);
+        verify(priceWriteBehindService).enqueue(updates);
+    }
+
+    @Test
+    void testGetPriceQueueStats() {
+        PriceQueueStatsDto expectedDto = new PriceQueueStatsDto(true, 1, 2, 1, 0, 0, 0, 0, null, 0);
+        when(priceWriteBehindService.getStats()).thenReturn(expectedDto);
+
+        assertEquals(expectedDto, productController.getPriceQueueStats());
+    }
+
+    @Test
+    void testGetArchiveStats() {
+        CatalogArchiveStatsDto expectedDto = new CatalogArchiveStatsDto(1, 3, 1, 3, null, 5, 0);
+        when(catalogArchiveService.getStats()).thenReturn(expectedDto);
+
+        CatalogArchiveStatsDto result = productController.getArchiveStats();
+
+        assertEquals(expectedDto, result);
+        verify(catalogArchiveService).getStats();
+    }
+
     @Test
     void testDeleteBrandAndProducts() {
         BrandProductRequestDto requestDto = new BrandProductRequestDto();
@@ -114,31 +288,67 @@ class ProductControllerTest {
         verify(brandProductService).deleteBrandAndProducts(requestDto);
     }
 
+    @Test
+    void testPatchProduct() {
+        ProductPatchDto patch = new ProductPatchDto(null, null, 900L);
+        ProductPatchResultDto expectedDto = new ProductPatchResultDto(1, false, 1, 0, List.of());
+        when(productPatchService.patchProduct(7L, patch)).thenReturn(expectedDto);
+
+        ProductPatchResultDto result = productController.patchProduct(7L, patch);
+
+        assertEquals(expectedDto, result);
+        verify(productPatchService).patchProduct(7L, patch);
+    }
+
+    @Test
+    void testPatchBrand() {
+        BrandPatchRequestDto request = new BrandPatchRequestDto("New Name", List.of(new ProductPatchDto(null, "상의", 900L)));
+        ProductPatchResultDto expectedDto = new ProductPatchResultDto(1, true, 1, 0, List.of());
+        when(productPatchService.patchBrand(1L, request)).thenReturn(expectedDto);
+
+        ProductPatchResultDto result = productController.patchBrand(1L, request);
+
+        assertEquals(expectedDto, result);
+        verify(productPatchService).patchBrand(1L, request);
+    }
+
+    @Test
+    void testDeleteBrands() {
+        List<Long> brandIds = List.of(1L, 2L);
+        BrandDeleteResultDto expectedDto = new BrandDeleteResultDto(2, 1, 8, List.of(2L));
+        when(brandProductService.deleteBrands(brandIds)).thenReturn(expectedDto);
+
+        BrandDeleteResultDto result = productController.deleteBrands(new BrandDeleteRequestDto(brandIds));
+
+        assertEquals(expectedDto, result);
+        verify(brandProductService).deleteBrands(brandIds);
+    }
+
     @Test
     void testGetLowestPriceByCategory_Success() {
         LowestPriceInfoDto expectedDto = new LowestPriceInfoDto(List.of(new CategoryPriceDto("카테고리", "브랜드", 1000L)), 1000L);
-        when(productService.getLowestPriceByCategory()).thenReturn(expectedDto);
+        when(productService.getLowestPriceByCategory(null)).thenReturn(expectedDto);
 
-        LowestPriceInfoDto result = productController.getLowestPriceByCategory();
+        LowestPriceInfoDto result = productController.getLowestPriceByCategory(null);
 
         assertEquals(expectedDto, result);
-        verify(productService).getLowestPriceByCategory();
+        verify(productService).getLowestPriceByCategory(null);
     }
 
     @Test
     void testGetLowestPriceByCategory_Failure() {
-        when(productService.getLowestPriceByCategory()).thenThrow(new RuntimeException("서비스 오류"));
+        when(productService.getLowestPriceByCategory(null)).thenThrow(new RuntimeException("서비스 오류"));
 
-        assertThrows(RuntimeException.class, () -> productController.getLowestPriceByCategory());
-        verify(productService).getLowestPriceByCategory();
+        assertThrows(RuntimeException.class, () -> productController.getLowestPriceByCategory(null));
+        verify(productService).getLowestPriceByCategory(null);
     }
 
     @Test
     void testGetLowestPriceBrandInfo_Failure() {
-        when(productService.getLowestPriceBrandInfo()).thenThrow(new RuntimeException("서비스 오류"));
+        when(productService.getLowestPriceBrandInfo(null)).thenThrow(new RuntimeException("서비스 오류"));
 
-        assertThrows(RuntimeException.class, () -> productController.getLowestPriceBrandInfo());
-        verify(productService).getLowestPriceBrandInfo();
+        assertThrows(RuntimeException.class, () -> productController.getLowestPriceBrandInfo(null));
+        verify(productService).getLowestPriceBrandInfo(null);
     }
 
     @Test
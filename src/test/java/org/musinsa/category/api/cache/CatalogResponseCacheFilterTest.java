@@ -0,0 +1,194 @@
+package org.musinsa.category.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotFixture;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogResponseCacheFilterTest {
+
+    private static final String BODY = "{\"totalPrice\":1000}";
+
+    @Mock
+    private CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    private CatalogResponseCacheFilter filter;
+    private final AtomicInteger renders = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> {
+        renders.incrementAndGet();
+        String category = request.getParameter("category");
+        String body = category == null ? BODY : "{\"category\":\"" + category + "\"}";
+        response.setContentType("application/json");
+        response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new CatalogResponseCacheFilter(catalogSnapshotPublisher, Duration.ZERO, 16);
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshot(1L));
+    }
+
+    @Test
+    @DisplayName("같은 버전의 두 번째 요청은 컨트롤러를 거치지 않고 캐시된 본문을 돌려준다")
+    void testServesCachedBody() throws Exception {
+        MockHttpServletResponse first = perform(get());
+        MockHttpServletResponse second = perform(get());
+
+        assertEquals(1, renders.get());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=0, must-revalidate", second.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 304 를 돌려준다")
+    void testNotModified() throws Exception {
+        String etag = perform(get()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = perform(request);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 본문을 다시 렌더링하고 ETag 도 바뀐다")
+    void testVersionChangeInvalidates() throws Exception {
+        String etag = perform(get()).getHeader(HttpHeaders.ETAG);
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshot(2L));
+
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = perform(request);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("gzip 을 허용하면 압축된 본문을 돌려준다")
+    void testGzipVariant() throws Exception {
+        perform(get());
+
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = perform(request);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    @DisplayName("카테고리 파라미터마다 따로 캐시한다")
+    void testCachesPerCategory() throws Exception {
+        MockHttpServletRequest top = new MockHttpServletRequest("GET", "/product/v1/category/price");
+        top.setParameter("category", "상의");
+        MockHttpServletRequest pants = new MockHttpServletRequest("GET", "/product/v1/category/price");
+        pants.setParameter("category", "바지");
+
+        String topEtag = perform(top).getHeader(HttpHeaders.ETAG);
+        String pantsEtag = perform(pants).getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(topEtag, pantsEtag);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("categories 파라미터마다 따로 캐시한다")
+    void testCachesPerCategories() throws Exception {
+        MockHttpServletRequest all = new MockHttpServletRequest("GET", "/product/v1/brand/lowest-price");
+        MockHttpServletRequest subset = new MockHttpServletRequest("GET", "/product/v1/brand/lowest-price");
+        subset.setParameter("categories", "상의", "바지");
+
+        String allEtag = perform(all).getHeader(HttpHeaders.ETAG);
+        String subsetEtag = perform(subset).getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(allEtag, subsetEtag);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("ETag 는 경로가 아니라 스냅샷 버전과 본문 다이제스트로 정해진다")
+    void testEtagFromVersionAndBody() throws Exception {
+        MockHttpServletRequest lowest = get();
+        MockHttpServletRequest brand = new MockHttpServletRequest("GET", "/product/v1/brand/lowest-price");
+
+        String lowestEtag = perform(lowest).getHeader(HttpHeaders.ETAG);
+        String brandEtag = perform(brand).getHeader(HttpHeaders.ETAG);
+
+        assertEquals(lowestEtag, brandEtag, "본문이 같으면 ETag 도 같아야 합니다.");
+        assertTrue(lowestEtag.startsWith("\"1-"), "ETag 는 스냅샷 버전으로 시작해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래 쓰이지 않은 키를 내보내고 새 키를 받는다")
+    void testEvictsLeastRecentlyUsed() throws Exception {
+        filter = new CatalogResponseCacheFilter(catalogSnapshotPublisher, Duration.ZERO, 2);
+        perform(category("상의"));
+        perform(category("바지"));
+        perform(category("상의"));
+
+        perform(category("모자"));
+        assertEquals(3, renders.get());
+
+        perform(category("상의"));
+        perform(category("모자"));
+        assertEquals(3, renders.get(), "최근에 쓴 키와 새 키는 캐시에 남아야 합니다.");
+
+        perform(category("바지"));
+        assertEquals(4, renders.get(), "가장 오래 쓰이지 않은 키는 내보내져야 합니다.");
+    }
+
+    private MockHttpServletRequest category(String category) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/v1/category/price");
+        request.setParameter("category", category);
+        return request;
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/product/v1/lowest-price");
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private CatalogSnapshot snapshot(long version) {
+        return CatalogSnapshotFixture.snapshot(version, Map.of(), List.of());
+    }
+}
@@ -0,0 +1,325 @@
+package org.musinsa.category.api.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.CategoryPriceChangeDto;
+import org.musinsa.category.api.dto.CategoryPriceEventDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogSnapshotPublishedEvent;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotFixture;
+import org.musinsa.category.domain.index.CategoryPriceSummary;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class LowestPriceStreamBrokerTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private LowestPriceStreamBroker broker;
+    private CatalogSnapshot current;
+
+    @BeforeEach
+    void setUp() {
+        broker = broker(64, 10);
+        publish(Map.of(
+                "상의", summary("상의", price("A", 10000L), price("B", 12000L)),
+                "바지", summary("바지", price("A", 3000L), price("C", 4000L))));
+    }
+
+    @Test
+    @DisplayName("구독하면 구독한 카테고리의 현재 상태를 먼저 보낸다")
+    void testSubscribeSendsCurrentState() {
+        broker.subscribe(List.of("상의"), null);
+        runTasks();
+
+        List<CategoryPriceEventDto> events = emitters.get(0).events;
+        assertEquals(1, events.size());
+        CategoryPriceChangeDto change = events.get(0).getChanges().get(0);
+        assertEquals("상의", change.getCategory());
+        assertEquals(10000L, change.getLowestPrice());
+        assertEquals(List.of("A"), change.getLowestPriceBrands());
+        assertEquals(List.of("B"), change.getHighestPriceBrands());
+        assertEquals(1, events.get(0).getChanges().size(), "구독하지 않은 카테고리는 보내지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("최저가나 최고가, 그 브랜드가 바뀐 카테고리만 보낸다")
+    void testPublishesOnlyChangedCategories() {
+        broker.subscribe(null, null);
+        runTasks();
+
+        publish(Map.of(
+                "상의", summary("상의", price("A", 10000L), price("B", 12000L)),
+                "바지", summary("바지", price("D", 3000L), price("C", 4000L))));
+        runTasks();
+        publish(Map.of(
+                "상의", summary("상의", price("A", 10000L), price("B", 12000L)),
+                "바지", summary("바지", price("D", 3000L), price("C", 4000L))));
+        runTasks();
+
+        List<CategoryPriceEventDto> events = emitters.get(0).events;
+        assertEquals(2, events.size(), "값이 같은 스냅샷은 이벤트를 만들지 않아야 합니다.");
+        assertEquals(List.of("바지"), categories(events.get(1)));
+        assertEquals(List.of("D"), events.get(1).getChanges().get(0).getLowestPriceBrands());
+    }
+
+    @Test
+    @DisplayName("느린 구독자에게는 카테고리마다 마지막 값만 모아 한 번에 보낸다")
+    void testSlowSubscriberCoalesces() {
+        broker.subscribe(null, null);
+
+        for (long price = 9000L; price > 8000L; price -= 100L) {
+            publish(Map.of(
+                    "상의", summary("상의", price("A", price), price("B", 12000L)),
+                    "바지", summary("바지", price("A", 3000L), price("C", 4000L))));
+        }
+        assertEquals(1, tasks.size(), "구독자당 전송 작업은 하나만 예약되어야 합니다.");
+        runTasks();
+
+        List<CategoryPriceEventDto> events = emitters.get(0).events;
+        assertEquals(1, events.size());
+        assertEquals(current.getVersion(), events.get(0).getVersion());
+        assertEquals(8100L, events.get(0).getChanges().stream()
+                .filter(change -> change.getCategory().equals("상의")).findFirst().orElseThrow().getLowestPrice());
+        assertEquals(0, events.get(0).getDropped());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차 카테고리를 버리면 현재 상태 전체를 재동기화 이벤트로 보내고 버린 수를 알린다")
+    void testFullBufferSendsResync() {
+        broker = broker(1, 10);
+        publish(Map.of("상의", summary("상의", price("A", 10000L), price("B", 12000L))));
+        broker.subscribe(null, null);
+
+        publish(Map.of(
+                "상의", summary("상의", price("A", 9000L), price("B", 12000L)),
+                "바지", summary("바지", price("A", 3000L), price("C", 4000L))));
+        runTasks();
+
+        CategoryPriceEventDto event = emitters.get(0).events.get(0);
+        assertEquals(List.of(LowestPriceStreamBroker.RESYNC_EVENT_NAME), emitters.get(0).names);
+        assertEquals(List.of("바지", "상의"), categories(event), "버린 카테고리도 현재 값으로 다시 보내야 합니다.");
+        assertEquals(9000L, event.getChanges().stream()
+                .filter(change -> change.getCategory().equals("상의")).findFirst().orElseThrow().getLowestPrice());
+        assertEquals(1, event.getDropped());
+        assertEquals(1L, broker.getDroppedChanges());
+    }
+
+    @Test
+    @DisplayName("스냅샷 공개 리스너는 분배를 넘기고 바로 돌아가며, 밀린 공개는 가장 최근 스냅샷 하나로 분배된다")
+    void testPublishHandsOffToDispatcher() {
+        List<Runnable> dispatches = new ArrayList<>();
+        broker = new LowestPriceStreamBroker(dispatches::add, tasks::add, 10, Duration.ofMinutes(1), 64,
+                Duration.ofSeconds(10)) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        broker.subscribe(null, null);
+
+        publish(Map.of("상의", summary("상의", price("A", 10000L), price("B", 12000L))));
+        publish(Map.of("상의", summary("상의", price("A", 9000L), price("B", 12000L))));
+        assertEquals(1, dispatches.size(), "밀린 공개는 분배 작업 하나로 합쳐져야 합니다.");
+        assertTrue(tasks.isEmpty(), "공개 스레드에서 구독자에게 전달하지 않아야 합니다.");
+
+        dispatches.remove(0).run();
+        runTasks();
+
+        List<CategoryPriceEventDto> events = emitters.get(0).events;
+        assertEquals(1, events.size());
+        assertEquals(current.getVersion(), events.get(0).getVersion());
+        assertEquals(9000L, events.get(0).getChanges().get(0).getLowestPrice());
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘겨 막힌 구독자는 하트비트 때 빠지고, 막힌 전송이 끝나면 연결을 닫는다")
+    void testStalledSubscriberDropped() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        broker = new LowestPriceStreamBroker(Runnable::run, runnable -> new Thread(runnable).start(), 10,
+                Duration.ofMinutes(1), 64, Duration.ZERO) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitter.sending = sending;
+                emitter.release = release;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        publish(Map.of("상의", summary("상의", price("A", 10000L), price("B", 12000L))));
+        broker.subscribe(null, null);
+        assertTrue(sending.await(5, TimeUnit.SECONDS), "전송이 시작되어야 합니다.");
+        Thread.sleep(1);
+
+        broker.heartbeat();
+
+        assertEquals(0, broker.getSubscriberCount());
+        assertEquals(1L, broker.getStalledSubscribers());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 그 이후 바뀐 카테고리만 보내고, 다른 기동의 ID 면 전체를 보낸다")
+    void testResumeFromLastEventId() {
+        broker.subscribe(null, null);
+        runTasks();
+        String lastEventId = emitters.get(0).ids.get(0);
+
+        publish(Map.of(
+                "상의", summary("상의", price("A", 9000L), price("B", 12000L)),
+                "바지", summary("바지", price("A", 3000L), price("C", 4000L))));
+
+        broker.subscribe(null, lastEventId);
+        broker.subscribe(null, "other:1");
+        runTasks();
+
+        assertEquals(List.of("상의"), categories(emitters.get(1).events.get(0)));
+        assertEquals(List.of("바지", "상의"), categories(emitters.get(2).events.get(0)));
+        assertTrue(emitters.get(1).ids.get(0).endsWith(":" + current.getVersion()));
+    }
+
+    @Test
+    @DisplayName("상품이 모두 빠진 카테고리는 가격이 비어 있는 변경으로 알린다")
+    void testRemovedCategory() {
+        broker.subscribe(null, null);
+        runTasks();
+
+        publish(Map.of("상의", summary("상의", price("A", 10000L), price("B", 12000L))));
+        runTasks();
+
+        CategoryPriceChangeDto change = emitters.get(0).events.get(1).getChanges().get(0);
+        assertEquals("바지", change.getCategory());
+        assertTrue(change.isRemoved());
+        assertNull(change.getLowestPriceBrands());
+
+        broker.subscribe(null, null);
+        runTasks();
+        assertEquals(List.of("상의"), categories(emitters.get(1).events.get(0)),
+                "새 구독자에게는 사라진 카테고리를 보내지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("구독자 수 한도를 넘으면 거절하고, 끊긴 구독자는 목록에서 빠진다")
+    void testSubscriberLimitAndDisconnect() {
+        broker = broker(64, 1);
+        broker.subscribe(null, null);
+        assertThrows(CustomException.class, () -> broker.subscribe(null, null));
+
+        emitters.get(0).failing = true;
+        broker.onSnapshotPublished(new CatalogSnapshotPublishedEvent(null, CatalogSnapshotFixture.snapshot(1L,
+                Map.of("상의", summary("상의", price("A", 10000L), price("B", 12000L))), List.of())));
+        runTasks();
+
+        assertEquals(0, broker.getSubscriberCount());
+        broker.subscribe(null, null);
+        assertEquals(1, broker.getSubscriberCount());
+    }
+
+    private LowestPriceStreamBroker broker(int maxBufferedCategories, int maxSubscribers) {
+        Executor delivery = tasks::add;
+        current = null;
+        return new LowestPriceStreamBroker(Runnable::run, delivery, maxSubscribers, Duration.ofMinutes(1),
+                maxBufferedCategories, Duration.ofSeconds(10)) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private void publish(Map<String, CategoryPriceSummary> summaries) {
+        CatalogSnapshot previous = current;
+        current = CatalogSnapshotFixture.snapshot(previous == null ? 1L : previous.getVersion() + 1, summaries, List.of());
+        broker.onSnapshotPublished(new CatalogSnapshotPublishedEvent(previous, current));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static List<String> categories(CategoryPriceEventDto event) {
+        return event.getChanges().stream()
+                .map(CategoryPriceChangeDto::getCategory)
+                .sorted()
+                .toList();
+    }
+
+    private static CategoryPriceSummary summary(String category, ProductPriceDto lowest, ProductPriceDto highest) {
+        return new CategoryPriceSummary(category, List.of(withCategory(lowest, category)),
+                List.of(withCategory(highest, category)));
+    }
+
+    private static ProductPriceDto withCategory(ProductPriceDto product, String category) {
+        return product.withCategoryAndPrice(category, product.price());
+    }
+
+    private static ProductPriceDto price(String brand, Long price) {
+        return new ProductPriceDto(1L, 1L, brand, null, price);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<CategoryPriceEventDto> events = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private boolean failing;
+        private CountDownLatch sending;
+        private CountDownLatch release;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (sending != null) {
+                sending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            parts.stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(CategoryPriceEventDto.class::isInstance)
+                    .map(CategoryPriceEventDto.class::cast)
+                    .forEach(events::add);
+            String text = parts.stream()
+                    .filter(part -> !MediaType.APPLICATION_JSON.equals(part.getMediaType()))
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            text.lines()
+                    .filter(line -> line.startsWith("id:"))
+                    .forEach(line -> ids.add(line.substring(3)));
+            text.lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .forEach(line -> names.add(line.substring(6)));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+class BrandCategoryMatrixTest {
+
+    private BrandCategoryMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new BrandCategoryMatrix();
+        matrix.reload(List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 11000L),
+                new ProductPriceDto(2L, 1L, "A", "바지", 3000L),
+                new ProductPriceDto(3L, 1L, "A", "모자", 2000L),
+                new ProductPriceDto(4L, 2L, "B", "상의", 9000L),
+                new ProductPriceDto(5L, 2L, "B", "바지", 5000L),
+                new ProductPriceDto(6L, 2L, "B", "모자", 1500L),
+                new ProductPriceDto(7L, 3L, "C", "상의", 1000L)
+        ));
+    }
+
+    @Test
+    @DisplayName("일부 카테고리만 가진 브랜드는 합계가 낮아도 전체 카테고리 최저가 브랜드가 아니다")
+    void testCheapestCoveringAll() {
+        BrandCategoryMatrix.View view = matrix.freeze();
+
+        BrandPriceTotal lowest = view.cheapestCovering(view.allCategories()).orElseThrow();
+
+        assertEquals("B", lowest.getBrandName());
+        assertEquals(15500L, lowest.getTotalPrice());
+        assertEquals(3, lowest.getProducts().size());
+    }
+
+    @Test
+    @DisplayName("요청한 카테고리만 더해 비교하고 그 카테고리 상품만 돌려준다")
+    void testCheapestCoveringSubset() {
+        BrandCategoryMatrix.View view = matrix.freeze();
+
+        BrandPriceTotal pants = view.cheapestCovering(view.maskOf(List.of("바지")).orElseThrow()).orElseThrow();
+        BrandPriceTotal top = view.cheapestCovering(view.maskOf(List.of("상의")).orElseThrow()).orElseThrow();
+
+        assertEquals("A", pants.getBrandName());
+        assertEquals(List.of(new ProductPriceDto(2L, 1L, "A", "바지", 3000L)), pants.getProducts());
+        assertEquals("C", top.getBrandName());
+        assertTrue(view.maskOf(List.of("가방")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 카테고리에 상품이 여럿이면 가장 싼 상품으로 센다")
+    void testCheapestProductPerCategory() {
+        matrix.replaceBrand(1L, List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 11000L),
+                new ProductPriceDto(8L, 1L, "A", "상의", 4000L),
+                new ProductPriceDto(2L, 1L, "A", "바지", 3000L),
+                new ProductPriceDto(3L, 1L, "A", "모자", 2000L)));
+        BrandCategoryMatrix.View view = matrix.freeze();
+
+        BrandPriceTotal lowest = view.cheapestCovering(view.allCategories()).orElseThrow();
+
+        assertEquals("A", lowest.getBrandName());
+        assertEquals(9000L, lowest.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("브랜드 변경과 삭제가 뷰에 반영되고 이전 뷰는 바뀌지 않는다")
+    void testReplaceBrand() {
+        BrandCategoryMatrix.View before = matrix.freeze();
+
+        matrix.replaceBrand(2L, List.of());
+        matrix.replaceBrand(3L, List.of());
+        BrandCategoryMatrix.View after = matrix.freeze();
+
+        assertEquals("B", before.cheapestCovering(before.allCategories()).orElseThrow().getBrandName());
+        assertEquals("A", after.cheapestCovering(after.allCategories()).orElseThrow().getBrandName());
+    }
+
+    @Test
+    @DisplayName("한 브랜드만 가진 카테고리가 빠지면 전체 카테고리에서도 빠진다")
+    void testAllCategoriesFollowsCoverage() {
+        matrix.replaceBrand(4L, List.of(new ProductPriceDto(9L, 4L, "D", "가방", 500L)));
+        BrandCategoryMatrix.View withBag = matrix.freeze();
+        assertTrue(withBag.cheapestCovering(withBag.allCategories()).isEmpty());
+
+        matrix.replaceBrand(4L, List.of());
+        BrandCategoryMatrix.View withoutBag = matrix.freeze();
+        assertEquals("B", withoutBag.cheapestCovering(withoutBag.allCategories()).orElseThrow().getBrandName());
+    }
+}
@@ -0,0 +1,71 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+class BrandPriceRankingTest {
+
+    private BrandPriceRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new BrandPriceRanking();
+        ranking.reload(List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 10000L),
+                new ProductPriceDto(2L, 1L, "A", "바지", 3000L),
+                new ProductPriceDto(3L, 2L, "B", "상의", 9000L),
+                new ProductPriceDto(4L, 3L, "C", "상의", 13000L)
+        ));
+    }
+
+    @Test
+    @DisplayName("총액이 가장 낮은 브랜드를 조회한다")
+    void testGetLowest() {
+        BrandPriceTotal lowest = ranking.getLowest().orElseThrow();
+
+        assertEquals("B", lowest.getBrandName());
+        assertEquals(9000L, lowest.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("가격 변경과 삭제가 랭킹에 반영된다")
+    void testReplaceBrand() {
+        ranking.replaceBrand(3L, List.of(new ProductPriceDto(4L, 3L, "C", "상의", 1000L)));
+        assertEquals("C", ranking.getLowest().orElseThrow().getBrandName());
+
+        ranking.replaceBrand(3L, List.of());
+        assertEquals("B", ranking.getLowest().orElseThrow().getBrandName());
+        assertEquals(2, ranking.getRanking().size());
+    }
+
+    @Test
+    @DisplayName("합계가 같은 브랜드 정보 변경 시 중복 없이 교체된다")
+    void testReplaceBrandWithSameTotal() {
+        ranking.replaceBrand(2L, List.of(new ProductPriceDto(3L, 2L, "B2", "상의", 9000L)));
+
+        List<BrandPriceTotal> page = ranking.getRanking();
+        assertEquals(3, page.size());
+        assertEquals("B2", page.get(0).getBrandName());
+    }
+
+    @Test
+    @DisplayName("한 카테고리에 상품이 여럿인 브랜드는 카테고리 최저가만 합산해 행렬의 합계와 같다")
+    void testTotalUsesCategoryMinimum() {
+        ranking.replaceBrand(1L, List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 10000L),
+                new ProductPriceDto(5L, 1L, "A", "상의", 8000L),
+                new ProductPriceDto(2L, 1L, "A", "바지", 3000L)));
+
+        BrandPriceTotal brandA = ranking.getRanking().stream()
+                .filter(total -> total.getBrandId() == 1L).findFirst().orElseThrow();
+        assertEquals(11000L, brandA.getTotalPrice());
+
+        BrandCategoryMatrix.View matrix = BrandCategoryMatrix.of(ranking.getRanking());
+        assertEquals(brandA.getTotalPrice(), matrix.cheapestCovering(matrix.allCategories()).orElseThrow().getTotalPrice());
+    }
+}
@@ -0,0 +1,78 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogIndexUpdaterTest {
+
+    private static final ProductPriceDto PRODUCT = new ProductPriceDto(1L, 1L, "A", "상의", 10000L);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogSnapshotPublisher publisher;
+    private CatalogIndexUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new CatalogSnapshotPublisher(new CategoryPriceIndex(), new BrandPriceRanking(), new BrandCategoryMatrix(),
+                taskScheduler, eventPublisher, Duration.ofMillis(50));
+        publisher.reload(List.of(PRODUCT));
+        updater = new CatalogIndexUpdater(productRepository, publisher);
+    }
+
+    @Test
+    @DisplayName("브랜드를 다시 읽는 동안 커밋된 가격 변경은 읽은 행으로 덮이지 않고 교체 뒤에 반영된다")
+    void testPriceChangeNotOverwrittenByBrandReload() throws InterruptedException {
+        // Given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findActiveProductPricesByBrandIds(List.of(1L))).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(PRODUCT);
+        });
+        Thread reload = new Thread(() -> updater.onCatalogChanged(new CatalogChangedEvent(1L)));
+        reload.start();
+        assertTrue(reading.await(5, TimeUnit.SECONDS), "브랜드 읽기가 시작되어야 합니다.");
+
+        // When
+        Thread priceChange = new Thread(() -> updater.onPricesChanged(
+                new CatalogPriceChangedEvent(List.of(new CategoryPrice(1L, "상의", 9000L)))));
+        priceChange.start();
+        priceChange.join(100);
+        assertTrue(priceChange.isAlive(), "가격 변경은 브랜드 교체가 끝날 때까지 기다려야 합니다.");
+        release.countDown();
+        reload.join(5_000);
+        priceChange.join(5_000);
+
+        // Then
+        assertEquals(9000L, publisher.publishNow().getCategorySummary("상의").orElseThrow().getLowestPrice());
+    }
+}
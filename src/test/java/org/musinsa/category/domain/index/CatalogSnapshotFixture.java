@@ -0,0 +1,19 @@
+package org.musinsa.category.domain.index;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 스냅샷. 브랜드 × 카테고리 행렬과 카테고리별 가격순 배열은 brandRanking 으로 새로 만든다.
+ */
+public final class CatalogSnapshotFixture {
+
+    private CatalogSnapshotFixture() {
+    }
+
+    public static CatalogSnapshot snapshot(long version, Map<String, CategoryPriceSummary> categorySummaries,
+                                           List<BrandPriceTotal> brandRanking) {
+        return new CatalogSnapshot(version, categorySummaries, brandRanking, BrandCategoryMatrix.of(brandRanking),
+                CategoryPriceIndex.of(brandRanking));
+    }
+}
@@ -0,0 +1,167 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogProductChangedEvent.ProductChange;
+import org.musinsa.category.domain.event.CatalogSnapshotPublishedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotPublisherTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogSnapshotPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new CatalogSnapshotPublisher(new CategoryPriceIndex(), new BrandPriceRanking(), new BrandCategoryMatrix(),
+                taskScheduler, eventPublisher, Duration.ofMillis(50));
+        publisher.reload(List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 10000L),
+                new ProductPriceDto(2L, 2L, "B", "상의", 9000L),
+                new ProductPriceDto(3L, 3L, "C", "상의", 12000L)
+        ));
+    }
+
+    @Test
+    @DisplayName("전체 적재 시 스냅샷이 즉시 공개된다")
+    void testReloadPublishesImmediately() {
+        CatalogSnapshot snapshot = publisher.getCurrent();
+
+        assertEquals(1L, snapshot.getVersion());
+        assertEquals("B", snapshot.getCategorySummary("상의").orElseThrow().getLowestPriceBrand());
+        assertEquals("B", snapshot.getLowestBrand().orElseThrow().getBrandName());
+    }
+
+    @Test
+    @DisplayName("연속된 변경은 스냅샷 재생성 한 번으로 합쳐진다")
+    void testReplaceBrandCoalescesPublishes() {
+        for (long price = 1000; price > 0; price--) {
+            publisher.replaceBrand(3L, List.of(new ProductPriceDto(3L, 3L, "C", "상의", price)));
+        }
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        assertEquals(1L, publisher.getCurrent().getVersion(), "예약된 재생성 전에는 이전 스냅샷이 유지되어야 합니다.");
+
+        task.getValue().run();
+
+        CatalogSnapshot snapshot = publisher.getCurrent();
+        assertEquals(2L, snapshot.getVersion());
+        assertEquals("C", snapshot.getLowestBrand().orElseThrow().getBrandName());
+        assertEquals(1L, snapshot.getCategorySummary("상의").orElseThrow().getLowestPrice());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 공개할 때마다 직전 스냅샷과 함께 이벤트가 발행된다")
+    void testPublishNowPublishesEvent() {
+        CatalogSnapshot first = publisher.getCurrent();
+        CatalogSnapshot second = publisher.publishNow();
+
+        ArgumentCaptor<CatalogSnapshotPublishedEvent> event = ArgumentCaptor.forClass(CatalogSnapshotPublishedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(event.capture());
+        assertNull(event.getAllValues().get(0).getPrevious());
+        assertSame(first, event.getAllValues().get(0).getCurrent());
+        assertSame(first, event.getAllValues().get(1).getPrevious());
+        assertSame(second, event.getAllValues().get(1).getCurrent());
+    }
+
+    @Test
+    @DisplayName("가격 변경은 브랜드의 해당 카테고리 상품 가격만 바꿔 반영된다")
+    void testChangePrices() {
+        publisher.changePrices(Map.of(1L, Map.of("상의", 8000L), 99L, Map.of("상의", 1L)));
+
+        CatalogSnapshot snapshot = publisher.publishNow();
+        assertEquals("A", snapshot.getCategorySummary("상의").orElseThrow().getLowestPriceBrand());
+        assertEquals(8000L, snapshot.getCategorySummary("상의").orElseThrow().getLowestPrice());
+        assertEquals(8000L, snapshot.getLowestBrand().orElseThrow().getTotalPrice());
+        assertEquals(8000L, snapshot.getBrandMatrix().cheapestCovering(snapshot.getBrandMatrix().allCategories())
+                .orElseThrow().getTotalPrice());
+        assertEquals(3, snapshot.getBrandPage(null, null, 10).size(), "인덱스에 없는 브랜드는 추가되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("상품 변경은 상품 ID 로 찾은 상품의 카테고리와 가격만 바꾸고 브랜드 이름은 유지한다")
+    void testChangeProducts() {
+        publisher.changeProducts(Map.of(
+                1L, Map.of(1L, new ProductChange(1L, 1L, "상의", 8000L)),
+                3L, Map.of(3L, new ProductChange(3L, 3L, "바지", 12000L)),
+                99L, Map.of(99L, new ProductChange(99L, 99L, "상의", 1L))));
+
+        CatalogSnapshot snapshot = publisher.publishNow();
+        assertEquals("A", snapshot.getCategorySummary("상의").orElseThrow().getLowestPriceBrand());
+        assertEquals(8000L, snapshot.getCategorySummary("상의").orElseThrow().getLowestPrice());
+        assertEquals(9000L, snapshot.getCategorySummary("상의").orElseThrow().getHighestPrice(),
+                "다른 카테고리로 옮긴 상품은 이전 카테고리에서 빠져야 합니다.");
+        assertEquals("C", snapshot.getCategorySummary("바지").orElseThrow().getLowestPriceBrand());
+        assertEquals(3, snapshot.getBrandPage(null, null, 10).size(), "인덱스에 없는 브랜드는 추가되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("스냅샷 랭킹은 커서 다음 순위부터 페이지를 돌려준다")
+    void testSnapshotBrandPage() {
+        CatalogSnapshot snapshot = publisher.getCurrent();
+
+        List<BrandPriceTotal> first = snapshot.getBrandPage(null, null, 2);
+        assertEquals(List.of(2L, 1L), first.stream().map(BrandPriceTotal::getBrandId).toList());
+
+        BrandPriceTotal last = first.get(1);
+        List<BrandPriceTotal> second = snapshot.getBrandPage(last.getTotalPrice(), last.getBrandId(), 2);
+        assertEquals(List.of(3L), second.stream().map(BrandPriceTotal::getBrandId).toList());
+
+        assertEquals(List.of(3L), snapshot.getBrandPage(10500L, 0L, 2).stream()
+                .map(BrandPriceTotal::getBrandId).toList(), "커서가 목록에 없어도 다음 위치부터 조회되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("이벤트 리스너가 도는 동안에도 인덱스 쓰기는 막히지 않는다")
+    void testListenerDoesNotBlockWrites() throws InterruptedException {
+        CountDownLatch listening = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            listening.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(eventPublisher).publishEvent(any(CatalogSnapshotPublishedEvent.class));
+        Thread publishing = new Thread(publisher::publishNow);
+        publishing.start();
+        assertTrue(listening.await(5, TimeUnit.SECONDS), "리스너가 호출되어야 합니다.");
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> publisher.replaceBrand(3L,
+                    List.of(new ProductPriceDto(3L, 3L, "C", "상의", 1000L))));
+        } finally {
+            release.countDown();
+            publishing.join(5_000);
+        }
+        assertEquals(2L, publisher.getCurrent().getVersion());
+    }
+}
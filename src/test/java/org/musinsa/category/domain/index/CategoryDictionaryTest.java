@@ -0,0 +1,61 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.entity.Category;
+
+class CategoryDictionaryTest {
+
+    private CategoryDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new CategoryDictionary();
+        dictionary.reload(List.of(category(1, "상의", 0), category(2, "바지", 2), category(3, "아우터", 1)));
+    }
+
+    @Test
+    @DisplayName("이름과 ID 를 서로 변환한다")
+    void testLookup() {
+        assertEquals(2, dictionary.findId("바지").orElseThrow());
+        assertEquals("아우터", dictionary.nameOf(3));
+        assertNull(dictionary.nameOf(9));
+        assertFalse(dictionary.findId("없음").isPresent());
+    }
+
+    @Test
+    @DisplayName("노출 순서로 정렬하고 사전에 없는 카테고리는 이름 순으로 뒤에 둔다")
+    void testDisplayOrder() {
+        List<String> names = new ArrayList<>(List.of("신발", "바지", "가방", "상의", "아우터"));
+        names.sort(dictionary.displayOrder());
+
+        assertEquals(List.of("상의", "아우터", "바지", "가방", "신발"), names);
+        assertEquals(CategoryDictionary.UNKNOWN_ORDER, dictionary.orderOf("신발"));
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 새 카테고리와 순서가 반영된다")
+    void testReload() {
+        dictionary.reload(List.of(category(1, "상의", 1), category(4, "가방", 0)));
+
+        assertEquals(0, dictionary.orderOf("가방"));
+        assertEquals(1, dictionary.orderOf(1));
+        assertFalse(dictionary.findId("바지").isPresent());
+        assertEquals(2, dictionary.size());
+    }
+
+    private Category category(int id, String name, int displayOrder) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setDisplayOrder(displayOrder);
+        return category;
+    }
+}
@@ -0,0 +1,206 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.dto.PriceBucketDto;
+import org.musinsa.category.domain.dto.PriceRangeCountDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+
+class CategoryPriceIndexTest {
+
+    private CategoryPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CategoryPriceIndex();
+        index.reload(List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 10000L),
+                new ProductPriceDto(2L, 2L, "B", "상의", 10000L),
+                new ProductPriceDto(3L, 3L, "C", "상의", 12000L),
+                new ProductPriceDto(4L, 1L, "A", "바지", 3000L)
+        ));
+    }
+
+    @Test
+    @DisplayName("최저가 동률이면 브랜드 이름이 가장 큰 브랜드를 선택한다")
+    void testLowestPriceTieBreak() {
+        CategoryPriceSummary summary = index.getSummary("상의").orElseThrow();
+
+        assertEquals(10000L, summary.getLowestPrice());
+        assertEquals(2, summary.getLowestPriceProducts().size());
+        assertEquals("B", summary.getLowestPriceBrand());
+        assertEquals(12000L, summary.getHighestPrice());
+        assertEquals("C", summary.getHighestPriceProducts().get(0).brandName());
+    }
+
+    @Test
+    @DisplayName("브랜드 상품 교체 시 해당 카테고리 최저/최고가가 갱신된다")
+    void testReplaceBrand() {
+        index.replaceBrand(2L, List.of(new ProductPriceDto(2L, 2L, "B", "상의", 15000L)));
+
+        CategoryPriceSummary summary = index.getSummary("상의").orElseThrow();
+        assertEquals("A", summary.getLowestPriceBrand());
+        assertEquals(1, summary.getLowestPriceProducts().size());
+        assertEquals(15000L, summary.getHighestPrice());
+        assertEquals("B", summary.getHighestPriceProducts().get(0).brandName());
+    }
+
+    @Test
+    @DisplayName("브랜드의 일부 상품만 바뀌면 나머지 상품은 그대로 두고 바뀐 카테고리만 갱신된다")
+    void testReplaceBrandWithPartialChange() {
+        CategoryPriceSummary pants = index.getSummary("바지").orElseThrow();
+
+        index.replaceBrand(1L, List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 9000L),
+                new ProductPriceDto(4L, 1L, "A", "바지", 3000L)
+        ));
+
+        assertEquals(9000L, index.getSummary("상의").orElseThrow().getLowestPrice());
+        assertEquals("A", index.getSummary("상의").orElseThrow().getLowestPriceBrand());
+        assertSame(pants, index.getSummary("바지").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("브랜드 상품이 그대로면 요약 맵을 다시 만들지 않는다")
+    void testReplaceBrandWithoutChange() {
+        Map<String, CategoryPriceSummary> before = index.getSummaryMap();
+
+        index.replaceBrand(3L, List.of(new ProductPriceDto(3L, 3L, "C", "상의", 12000L)));
+
+        assertSame(before, index.getSummaryMap());
+    }
+
+    @Test
+    @DisplayName("브랜드 삭제 시 비어버린 카테고리는 인덱스에서 제거된다")
+    void testRemoveBrand() {
+        index.replaceBrand(1L, List.of());
+
+        assertFalse(index.getSummary("바지").isPresent());
+        assertEquals("B", index.getSummary("상의").orElseThrow().getLowestPriceBrand());
+        assertEquals(1, index.getSummaries().size());
+    }
+
+    @Test
+    @DisplayName("카테고리 페이지는 커서 다음 상품부터 가격순으로 돌려준다")
+    void testCategoryPage() {
+        CategoryPrices tops = index.freeze().get("상의");
+
+        List<ProductPriceDto> first = tops.getPage(null, false, 2);
+        assertEquals(List.of(1L, 2L), first.stream().map(ProductPriceDto::productId).toList());
+
+        List<ProductPriceDto> second = tops.getPage(first.get(1), false, 2);
+        assertEquals(List.of(3L), second.stream().map(ProductPriceDto::productId).toList());
+
+        List<ProductPriceDto> highest = tops.getPage(null, true, 2);
+        assertEquals(List.of(3L, 2L), highest.stream().map(ProductPriceDto::productId).toList());
+        assertEquals(List.of(1L), tops.getPage(highest.get(1), true, 2).stream()
+                .map(ProductPriceDto::productId).toList());
+
+        assertFalse(index.freeze().containsKey("모자"));
+    }
+
+    @Test
+    @DisplayName("얼린 가격 배열은 이후 쓰기에 바뀌지 않고, 다시 얼리면 바뀐 카테고리만 새로 만든다")
+    void testFreezeIsolatedFromWrites() {
+        Map<String, CategoryPrices> before = index.freeze();
+
+        index.replaceBrand(3L, List.of(new ProductPriceDto(3L, 3L, "C", "상의", 8000L)));
+        Map<String, CategoryPrices> after = index.freeze();
+
+        assertEquals(12000L, before.get("상의").getHighestPrice());
+        assertEquals(List.of(3L), before.get("상의").getPage(null, true, 1).stream()
+                .map(ProductPriceDto::productId).toList());
+        assertEquals(10000L, after.get("상의").getHighestPrice());
+        assertEquals(List.of(3L), after.get("상의").getPage(null, false, 1).stream()
+                .map(ProductPriceDto::productId).toList());
+        assertSame(before.get("바지"), after.get("바지"));
+        assertSame(after, index.freeze());
+    }
+
+    @Test
+    @DisplayName("가격 범위 상품 수와 브랜드를 가격순으로 돌려준다")
+    void testCountPriceRange() {
+        CategoryPrices tops = index.freeze().get("상의");
+
+        PriceRangeCountDto range = tops.countPriceRange(10000L, 11999L, 10);
+        assertEquals(2, range.count());
+        assertEquals(List.of("A", "B"), range.brands());
+
+        assertEquals(List.of("A"), tops.countPriceRange(0L, Long.MAX_VALUE, 1).brands());
+        assertEquals(3, tops.countPriceRange(0L, Long.MAX_VALUE, 1).count());
+        assertEquals(0, tops.countPriceRange(12001L, Long.MAX_VALUE, 1).count());
+    }
+
+    @Test
+    @DisplayName("구간 경계와 관계없이 범위 개수는 전체를 센 값과 같고, 변경이 반영된다")
+    void testCountPriceRangeMatchesScan() {
+        Random random = new Random(42);
+        List<ProductPriceDto> products = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            products.add(new ProductPriceDto(id, id % 50, "B" + (id % 50), "바지", (long) random.nextInt(50_000)));
+        }
+        products.add(new ProductPriceDto(9_999L, 1L, "B1", "바지", 5_000_000_000L));
+        index.reload(products);
+        index.replaceBrand(7L, List.of(new ProductPriceDto(7L, 7L, "B7", "바지", 12_000L)));
+        List<ProductPriceDto> current = new ArrayList<>(products.stream().filter(p -> p.brandId() != 7L).toList());
+        current.add(new ProductPriceDto(7L, 7L, "B7", "바지", 12_000L));
+        CategoryPrices pants = index.freeze().get("바지");
+
+        for (int i = 0; i < 200; i++) {
+            long min = random.nextInt(60_000);
+            long max = i % 10 == 0 ? Long.MAX_VALUE : min + random.nextInt(20_000);
+            long expected = current.stream().filter(p -> p.price() >= min && p.price() <= max).count();
+            assertEquals(expected, pants.countPriceRange(min, max, 0).count(), min + ".." + max);
+        }
+    }
+
+    @Test
+    @DisplayName("가격 분포는 width 구간마다 상품 수를 돌려준다")
+    void testPriceHistogram() {
+        List<PriceBucketDto> buckets = index.freeze().get("상의").getPriceHistogram(9500L, 12000L, 2000L);
+
+        assertEquals(List.of(
+                new PriceBucketDto(8000L, 9999L, 0),
+                new PriceBucketDto(10000L, 11999L, 2),
+                new PriceBucketDto(12000L, 13999L, 1)), buckets);
+    }
+
+    @Test
+    @DisplayName("Long.MAX_VALUE 근처 범위도 구간 경계가 넘치지 않고 구간 수만큼만 돌려준다")
+    void testPriceHistogramNearMaxValue() {
+        List<PriceBucketDto> buckets = index.freeze().get("상의")
+                .getPriceHistogram(Long.MAX_VALUE - 1500L, Long.MAX_VALUE, 1000L);
+
+        long lastFrom = Long.MAX_VALUE - Long.MAX_VALUE % 1000L;
+        assertEquals(List.of(
+                new PriceBucketDto(lastFrom - 1000L, lastFrom - 1L, 0),
+                new PriceBucketDto(lastFrom, Long.MAX_VALUE, 0)), buckets);
+    }
+
+    @Test
+    @DisplayName("얼린 히스토그램은 이후 쓰기에 바뀌지 않는다")
+    void testFrozenHistogramIsolatedFromWrites() {
+        CategoryPrices before = index.freeze().get("상의");
+
+        index.replaceBrand(3L, List.of(new ProductPriceDto(3L, 3L, "C", "상의", 10500L)));
+        CategoryPrices after = index.freeze().get("상의");
+
+        assertEquals(List.of(
+                new PriceBucketDto(10000L, 10999L, 2),
+                new PriceBucketDto(11000L, 11999L, 0),
+                new PriceBucketDto(12000L, 12999L, 1)), before.getPriceHistogram(10000L, 12999L, 1000L));
+        assertEquals(List.of(
+                new PriceBucketDto(10000L, 10999L, 3),
+                new PriceBucketDto(11000L, 11999L, 0),
+                new PriceBucketDto(12000L, 12999L, 0)), after.getPriceHistogram(10000L, 12999L, 1000L));
+    }
+}
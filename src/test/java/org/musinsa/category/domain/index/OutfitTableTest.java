@@ -0,0 +1,142 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.OutfitTable.Outfit;
+
+class OutfitTableTest {
+
+    private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈");
+
+    @Test
+    @DisplayName("브랜드 수 제한에 따라 한 브랜드 조합과 카테고리별 최저가 조합 사이에서 가장 싼 조합을 고른다")
+    void testCheapest() {
+        OutfitTable table = table(List.of(
+                new ProductPriceDto(1L, 1L, "A", "상의", 1000L),
+                new ProductPriceDto(2L, 1L, "A", "아우터", 9000L),
+                new ProductPriceDto(3L, 2L, "B", "상의", 5000L),
+                new ProductPriceDto(4L, 2L, "B", "아우터", 2000L),
+                new ProductPriceDto(5L, 3L, "C", "아우터", 1500L)));
+        int mask = table.maskOf(List.of("상의", "아우터"));
+
+        Outfit single = table.cheapest(mask, 1);
+        assertEquals(7000L, single.totalPrice());
+        assertEquals(1, single.brandCount());
+
+        Outfit two = table.cheapest(mask, 2);
+        assertEquals(2500L, two.totalPrice());
+        assertEquals(List.of("A", "C"), two.products().stream().map(ProductPriceDto::brandName).toList());
+    }
+
+    @Test
+    @DisplayName("브랜드 수 제한 최저가 조합은 모든 브랜드 조합을 따져 본 결과와 같다")
+    void testCheapestMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            List<ProductPriceDto> products = randomCatalog(random, 12);
+            OutfitTable table = table(products);
+            for (int maxBrands = 1; maxBrands <= CATEGORIES.size(); maxBrands++) {
+                long expected = bruteForceCheapest(products, maxBrands);
+                Outfit outfit = table.cheapest(table.allCategories(), maxBrands);
+                assertEquals(expected, outfit.products().isEmpty() ? -1L : outfit.totalPrice(), "maxBrands=" + maxBrands);
+                assertTrue(outfit.products().isEmpty() || outfit.brandCount() <= maxBrands);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("예산 조합은 예산 이하 합계 중 가장 큰 값이며 모든 조합을 따져 본 결과와 같다")
+    void testWithinBudgetMatchesBruteForce() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            List<ProductPriceDto> products = randomCatalog(random, 15);
+            OutfitTable table = table(products);
+            long budget = 4_000L + random.nextInt(30_000);
+            long expected = bruteForceBudget(products, budget);
+
+            Outfit outfit = table.withinBudget(table.allCategories(), budget);
+
+            assertEquals(expected, outfit.products().isEmpty() ? -1L : outfit.totalPrice(), "budget=" + budget);
+            assertTrue(outfit.optimal());
+        }
+        assertTrue(table(List.of(new ProductPriceDto(1L, 1L, "A", "상의", 5000L)))
+                .withinBudget(1, 4000L).products().isEmpty());
+    }
+
+    private static OutfitTable table(List<ProductPriceDto> products) {
+        BrandPriceRanking ranking = new BrandPriceRanking();
+        ranking.reload(products);
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.reload(products);
+        CatalogSnapshot snapshot = CatalogSnapshotFixture.snapshot(1L, index.getSummaryMap(), ranking.getRanking());
+        return OutfitTable.of(snapshot, Comparator.comparingInt(CATEGORIES::indexOf));
+    }
+
+    private static List<ProductPriceDto> randomCatalog(Random random, int brands) {
+        List<ProductPriceDto> products = new ArrayList<>();
+        long id = 1;
+        for (long brand = 1; brand <= brands; brand++) {
+            for (String category : CATEGORIES) {
+                if (random.nextInt(3) > 0) {
+                    products.add(new ProductPriceDto(id++, brand, "B" + brand, category, 1_000L + 100L * random.nextInt(80)));
+                }
+            }
+        }
+        return products;
+    }
+
+    /**
+     * 카테고리마다 브랜드를 하나씩 고르는 모든 경우를 센다.
+     */
+    private static long bruteForceCheapest(List<ProductPriceDto> products, int maxBrands) {
+        Map<String, Map<Long, Long>> cheapest = new HashMap<>();
+        products.forEach(product -> cheapest.computeIfAbsent(product.category(), c -> new HashMap<>())
+                .merge(product.brandId(), product.price(), Math::min));
+        return search(CATEGORIES.stream().map(c -> cheapest.getOrDefault(c, Map.of())).toList(), 0, new ArrayList<>(),
+                0L, maxBrands);
+    }
+
+    private static long search(List<Map<Long, Long>> levels, int level, List<Long> brands, long total, int maxBrands) {
+        if (brands.stream().distinct().count() > maxBrands) {
+            return -1L;
+        }
+        if (level == levels.size()) {
+            return total;
+        }
+        long best = -1L;
+        for (Map.Entry<Long, Long> entry : levels.get(level).entrySet()) {
+            brands.add(entry.getKey());
+            long found = search(levels, level + 1, brands, total + entry.getValue(), maxBrands);
+            brands.remove(brands.size() - 1);
+            if (found >= 0 && (best < 0 || found < best)) {
+                best = found;
+            }
+        }
+        return best;
+    }
+
+    private static long bruteForceBudget(List<ProductPriceDto> products, long budget) {
+        Map<String, List<Long>> prices = products.stream().collect(Collectors.groupingBy(ProductPriceDto::category,
+                Collectors.mapping(ProductPriceDto::price, Collectors.toList())));
+        List<Long> sums = List.of(0L);
+        for (String category : CATEGORIES) {
+            List<Long> next = new ArrayList<>();
+            for (long sum : sums) {
+                prices.getOrDefault(category, List.of()).stream().distinct().forEach(price -> next.add(sum + price));
+            }
+            sums = next.stream().distinct().toList();
+        }
+        return sums.stream().filter(sum -> sum <= budget).mapToLong(Long::longValue).max().orElse(-1L);
+    }
+}
@@ -0,0 +1,50 @@
+package org.musinsa.category.domain.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceHistogramTest {
+
+    @Test
+    @DisplayName("구간 개수는 트리가 늘어난 뒤에도 그대로 유지된다")
+    void testCountAfterGrow() {
+        PriceHistogram histogram = new PriceHistogram(1_000L);
+        histogram.add(500L);
+        histogram.add(1_500L);
+        histogram.add(1_999L);
+
+        histogram.add(100_000L);
+
+        assertEquals(1, histogram.count(0, 0));
+        assertEquals(2, histogram.count(1, 1));
+        assertEquals(3, histogram.count(0, 99));
+        assertEquals(4, histogram.count(0, 100));
+        assertEquals(1, histogram.count(100, 1_000));
+    }
+
+    @Test
+    @DisplayName("상품을 빼면 해당 구간 개수가 줄고, 상한 이상의 가격은 트리에 넣지 않는다")
+    void testRemoveAndLimit() {
+        PriceHistogram histogram = new PriceHistogram(1_000L);
+        histogram.add(2_000L);
+        histogram.add(2_500L);
+        histogram.remove(2_000L);
+        histogram.add(histogram.getLimit());
+
+        assertEquals(1, histogram.count(2, 2));
+        assertEquals(1, histogram.count(0, PriceHistogram.MAX_BUCKETS - 1));
+    }
+
+    @Test
+    @DisplayName("음수 가격은 구간 0 에 세지 않고 거부한다")
+    void testRejectsNegativePrice() {
+        PriceHistogram histogram = new PriceHistogram(1_000L);
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(-1L));
+        assertThrows(IllegalArgumentException.class, () -> histogram.remove(-999L));
+        assertEquals(0, histogram.count(0, 0));
+    }
+}
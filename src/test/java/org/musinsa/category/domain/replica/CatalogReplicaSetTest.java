@@ -0,0 +1,77 @@
+package org.musinsa.category.domain.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.LoadBalancing;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.Replica;
+
+class CatalogReplicaSetTest {
+
+    private final Replica first = new Replica("replica-0", new HikariDataSource());
+    private final Replica second = new Replica("replica-1", new HikariDataSource());
+
+    @Test
+    @DisplayName("라운드 로빈은 따라잡은 복제본을 번갈아 고른다")
+    void testRoundRobin() {
+        CatalogReplicaSet replicaSet = replicaSet(LoadBalancing.ROUND_ROBIN, 0);
+        replicaSet.publish(3);
+        first.markApplied(3);
+        second.markApplied(3);
+
+        assertEquals("replica-0", replicaSet.choose(0).orElseThrow().getName());
+        assertEquals("replica-1", replicaSet.choose(0).orElseThrow().getName());
+        assertEquals("replica-0", replicaSet.choose(0).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("허용 지연보다 뒤처진 복제본은 건너뛴다")
+    void testSkipsLaggingReplica() {
+        CatalogReplicaSet replicaSet = replicaSet(LoadBalancing.ROUND_ROBIN, 2);
+        replicaSet.publish(10);
+        first.markApplied(7);
+        second.markApplied(8);
+
+        assertEquals("replica-1", replicaSet.choose(0).orElseThrow().getName());
+        assertEquals("replica-1", replicaSet.choose(0).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("가장 적게 뒤처진 복제본을 고른다")
+    void testLeastLag() {
+        CatalogReplicaSet replicaSet = replicaSet(LoadBalancing.LEAST_LAG, 5);
+        replicaSet.publish(10);
+        first.markApplied(9);
+        second.markApplied(6);
+
+        assertEquals("replica-0", replicaSet.choose(0).orElseThrow().getName());
+        assertEquals(1, first.getReads());
+    }
+
+    @Test
+    @DisplayName("요구한 버전을 반영한 복제본이 없으면 주 데이터소스로 센다")
+    void testFallsBackToPrimary() {
+        CatalogReplicaSet replicaSet = replicaSet(LoadBalancing.RANDOM, 5);
+        replicaSet.publish(4);
+        first.markApplied(4);
+
+        assertTrue(replicaSet.choose(5).isEmpty());
+        assertEquals(1, replicaSet.getPrimaryReads());
+        assertEquals("replica-0", replicaSet.choose(4).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("부하 분산 방식 이름은 대소문자와 하이픈을 가리지 않는다")
+    void testLoadBalancingOf() {
+        assertEquals(LoadBalancing.ROUND_ROBIN, LoadBalancing.of("round-robin"));
+        assertEquals(LoadBalancing.LEAST_LAG, LoadBalancing.of("LEAST_LAG"));
+    }
+
+    private CatalogReplicaSet replicaSet(LoadBalancing loadBalancing, long maxLag) {
+        return new CatalogReplicaSet(new HikariDataSource(), List.of(first, second), loadBalancing, maxLag);
+    }
+}
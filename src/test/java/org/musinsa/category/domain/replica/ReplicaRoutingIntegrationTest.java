@@ -0,0 +1,121 @@
+package org.musinsa.category.domain.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.replica.CatalogReplicaSet.Replica;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.domain.service.BrandProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "catalog.replica.enabled=true",
+        "catalog.replica.count=2",
+        "catalog.replica.url-pattern=jdbc:h2:mem:replica-test-%d;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "catalog.replica.max-lag=0"
+})
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private CatalogReplicaSet catalogReplicaSet;
+
+    @Autowired
+    private CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    @Autowired
+    private BrandProductService brandProductService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaReadConsistency.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 최신 스냅샷 버전을 따라잡은 복제본에서 읽는다")
+    void testReadOnlyRoutedToReplica() {
+        awaitReplicas(catalogSnapshotPublisher.getCurrent().getVersion());
+        long before = replicaReads();
+
+        readOnly.execute(status -> productRepository.findAllActiveProductPrices());
+
+        assertTrue(replicaReads() > before);
+    }
+
+    @Test
+    @DisplayName("커밋된 브랜드 추가가 복제본에 복사되고, 그 버전을 요구한 읽기가 복제본에서 보인다")
+    void testReplicatesCommittedChanges() {
+        brandProductService.addBrandAndProducts(new BrandProductRequestDto(new BrandDto(null, "Replica Brand"), List.of(
+                new ProductDto(null, "상의", 10000L, null))));
+        long version = catalogSnapshotPublisher.publishNow().getVersion();
+        awaitReplicas(version);
+        long before = replicaReads();
+
+        ReplicaReadConsistency.setMinVersion(version);
+        List<Long> brandIds = readOnly.execute(status -> brandRepository.findActiveIdsByName("Replica Brand"));
+
+        assertEquals(1, brandIds.size());
+        assertTrue(replicaReads() > before);
+    }
+
+    @Test
+    @DisplayName("요구한 버전을 반영한 복제본이 없으면 주 데이터소스에서 읽는다")
+    void testFallsBackToPrimaryWhenReplicasBehind() {
+        long before = catalogReplicaSet.getPrimaryReads();
+
+        ReplicaReadConsistency.setMinVersion(catalogReplicaSet.getLatestVersion() + 1);
+        readOnly.execute(status -> productRepository.findAllActiveProductPrices());
+
+        assertTrue(catalogReplicaSet.getPrimaryReads() > before);
+    }
+
+    private long replicaReads() {
+        return catalogReplicaSet.getReplicas().stream().mapToLong(Replica::getReads).sum();
+    }
+
+    private void awaitReplicas(long version) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (catalogReplicaSet.getReplicas().stream().anyMatch(replica -> replica.getAppliedVersion() < version)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("replicas did not reach version " + version);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.musinsa.category.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.entity.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 저장소 쿼리가 Hibernate 로 만들어진 SQL 그대로 커버링 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.musinsa.category.domain.repository.ProductQueryPlanIntegrationTest$CapturingInspector")
+@ActiveProfiles("test")
+class ProductQueryPlanIntegrationTest {
+
+    private static final String CATEGORY_INDEX = "PUBLIC.IDX_PRODUCT_CATEGORY_PRICE";
+    private static final String BRAND_INDEX = "PUBLIC.IDX_PRODUCT_BRAND_CATEGORY";
+    private static final String BRAND_NAME_INDEX = "PUBLIC.IDX_BRAND_NAME";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category top;
+    private Brand brand;
+
+    @BeforeEach
+    void setUp() {
+        top = createCategory("상의", 0);
+        Category outer = createCategory("아우터", 1);
+        for (int i = 0; i < 20; i++) {
+            Brand b = createBrand("Brand " + i);
+            createProduct(b, top, 1_000L + i, i % 4 == 0);
+            createProduct(b, outer, 5_000L + i, false);
+            if (i == 0) {
+                brand = b;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturingInspector.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가 조회의 최저가 서브쿼리는 카테고리 커버링 인덱스를 사용한다")
+    void testLowestPriceByCategoryUsesCategoryIndex() {
+        productRepository.findLowestPriceByCategory();
+
+        String plan = explainCaptured(CapturingInspector.last(sql -> sql.contains("min(")), null);
+        assertTrue(plan.contains(CATEGORY_INDEX), plan);
+        assertFalse(plan.contains("PRODUCT.tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("카테고리 최저/최고가 조회는 본 쿼리와 서브쿼리 모두 카테고리 커버링 인덱스를 사용한다")
+    void testLowestAndHighestByCategoryUsesCategoryIndex() {
+        productRepository.findLowestAndHighestPriceProductsByCategory(top.getId());
+
+        String plan = explainCaptured(CapturingInspector.last(sql -> sql.contains("max(")), top.getId());
+        assertTrue(plan.contains(CATEGORY_INDEX), plan);
+        assertFalse(plan.contains("PRODUCT.tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("브랜드별 가격 합계 조회는 브랜드 커버링 인덱스로 상품을 읽는다")
+    void testBrandTotalPriceUsesBrandIndex() {
+        productRepository.findBrandWithLowestTotalPrice();
+
+        String plan = explainCaptured(CapturingInspector.last(sql -> sql.contains("sum(")), null);
+        assertTrue(plan.contains(BRAND_INDEX), plan);
+        assertFalse(plan.contains("PRODUCT.tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("브랜드 상품 일괄 조회는 브랜드 커버링 인덱스를 사용한다")
+    void testActiveProductsByBrandIdsUsesBrandIndex() {
+        productRepository.findActiveProductPricesByBrandIds(List.of(brand.getId()));
+
+        String plan = explainCaptured(CapturingInspector.last(sql -> sql.contains(" in ")), brand.getId());
+        assertTrue(plan.contains(BRAND_INDEX), plan);
+    }
+
+    @Test
+    @DisplayName("가격 일괄 변경의 (브랜드, 카테고리) 조건은 브랜드 커버링 인덱스를 사용한다")
+    void testPriceChangeLookupUsesBrandIndex() {
+        String plan = explain("SELECT id FROM product WHERE brand_id = ? AND category_id = ? AND del_dt IS NULL",
+                brand.getId(), top.getId());
+        assertTrue(plan.contains(BRAND_INDEX), plan);
+    }
+
+    @Test
+    @DisplayName("이름으로 활성 브랜드를 찾는 조회는 브랜드 이름 인덱스를 사용한다")
+    void testActiveBrandByNameUsesNameIndex() {
+        brandRepository.findActiveIdsByName("Brand 1");
+
+        String plan = explainCaptured(CapturingInspector.last(sql -> sql.contains("from brand")), "Brand 1");
+        assertTrue(plan.contains(BRAND_NAME_INDEX), plan);
+    }
+
+    /**
+     * 캡처한 SQL 의 모든 바인드 파라미터를 같은 값으로 채워 실행 계획을 얻는다. 한 쿼리의 파라미터가 모두 같은 값을
+     * 가리키는 조회만 이 방식으로 검사한다.
+     */
+    private String explainCaptured(String sql, Object value) {
+        int parameters = occurrences(sql, "?");
+        return explain(sql, Collections.nCopies(parameters, value).toArray());
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    private static int occurrences(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private Category createCategory(String name, int displayOrder) {
+        Category category = new Category();
+        category.setName(name);
+        category.setDisplayOrder(displayOrder);
+        category.setCreatedDate(LocalDateTime.now());
+        category.setVersion(1L);
+        entityManager.persist(category);
+        return category;
+    }
+
+    private Brand createBrand(String name) {
+        Brand brand = new Brand();
+        brand.setName(name);
+        brand.setCreatedDate(LocalDateTime.now());
+        brand.setVersion(1L);
+        entityManager.persist(brand);
+        return brand;
+    }
+
+    private void createProduct(Brand brand, Category category, Long price, boolean deleted) {
+        Product product = new Product();
+        product.setBrand(brand);
+        product.setCategory(category);
+        product.setPrice(price);
+        product.setCreatedDate(LocalDateTime.now());
+        product.setVersion(1L);
+        if (deleted) {
+            product.delete();
+        }
+        entityManager.persist(product);
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 그대로 모아 둔다. 이 테스트의 컨텍스트에서만 등록된다.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last(Predicate<String> filter) {
+            synchronized (STATEMENTS) {
+                for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                    if (filter.test(STATEMENTS.get(i))) {
+                        return STATEMENTS.get(i);
+                    }
+                }
+            }
+            throw new AssertionError("no captured statement matched, captured: " + STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -5,11 +5,21 @@ package org.musinsa.category.domain.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
 import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Category;
 import org.musinsa.category.domain.entity.Product;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -25,6 +35,15 @@ class ProductRepositoryIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Map<String, Category> categories = new HashMap<>();
+    private Brand brandB;
+
     @BeforeEach
     void setUp() {
         setupTestData();
@@ -32,10 +51,10 @@ class ProductRepositoryIntegrationTest {
 
     private void setupTestData() {
         Brand brand1 = createBrand("Brand A");
-        Brand brand2 = createBrand("Brand B");
+        brandB = createBrand("Brand B");
 
         createProduct("Category1", 1000L, brand1);
-        createProduct("Category1", 1500L, brand2);
+        createProduct("Category1", 1500L, brandB);
         createProduct("Category2", 2000L, brand1);
     }
 
@@ -47,9 +66,18 @@ class ProductRepositoryIntegrationTest {
         return brandRepository.save(brand);
     }
 
+    private Category createCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setDisplayOrder(categories.size());
+        category.setCreatedDate(LocalDateTime.now());
+        category.setVersion(1L);
+        return categoryRepository.save(category);
+    }
+
     private Product createProduct(String category, Long price, Brand brand) {
         Product product = new Product();
-        product.setCategory(category);
+        product.setCategory(categories.computeIfAbsent(category, this::createCategory));
         product.setPrice(price);
         product.setBrand(brand);
         product.setCreatedDate(LocalDateTime.now());
@@ -60,64 +88,144 @@ class ProductRepositoryIntegrationTest {
     @Test
     @DisplayName("카테고리별 최저가 상품 조회 테스트")
     void testFindLowestPriceByCategory() {
-        List<Object[]> results = productRepository.findLowestPriceByCategory();
+        List<CategoryLowestPriceDto> results = productRepository.findLowestPriceByCategory();
 
         assertNotNull(results, "결과가 null이 아니어야 합니다.");
         assertEquals(2, results.size(), "2개의 카테고리 결과가 있어야 합니다.");
 
-        assertCategoryResult(results.get(0), "Category1", "Brand A", 1000L);
-        assertCategoryResult(results.get(1), "Category2", "Brand A", 2000L);
+        assertEquals(new CategoryLowestPriceDto("Category1", "Brand A", 1000L), results.get(0));
+        assertEquals(new CategoryLowestPriceDto("Category2", "Brand A", 2000L), results.get(1));
     }
 
-    private void assertCategoryResult(Object[] result, String expectedCategory, String expectedBrand, Long expectedPrice) {
-        assertEquals(expectedCategory, result[0], "카테고리가 일치해야 합니다.");
-        assertEquals(expectedBrand, result[1], "브랜드가 일치해야 합니다.");
-        assertEquals(expectedPrice, ((Number) result[2]).longValue(), "가격이 일치해야 합니다.");
+    @Test
+    @DisplayName("카테고리 최저가 동률이면 이름이 가장 큰 브랜드 하나만 조회된다")
+    void testFindLowestPriceByCategoryTieBreak() {
+        Brand brandC = createBrand("Brand C");
+        createProduct("Category1", 1000L, brandC);
+        createProduct("Category1", 1000L, brandC);
+
+        List<CategoryLowestPriceDto> results = productRepository.findLowestPriceByCategory();
+
+        assertEquals(2, results.size(), "카테고리마다 한 행만 조회되어야 합니다.");
+        assertEquals(new CategoryLowestPriceDto("Category1", "Brand C", 1000L), results.get(0));
     }
 
     @Test
-    @DisplayName("최저 총액 브랜드 조회 테스트")
+    @DisplayName("최저 총액 브랜드는 모든 카테고리를 가진 브랜드 중에서만 고른다")
     void testFindBrandWithLowestTotalPrice() {
-        List<Object[]> results = productRepository.findBrandWithLowestTotalPrice();
+        List<BrandTotalPriceDto> results = productRepository.findBrandWithLowestTotalPrice();
 
         assertNotNull(results, "결과가 null이 아니어야 합니다.");
-        assertTrue(results.size() >= 1, "최소 1개 이상의 결과가 있어야 합니다.");
+        assertEquals(1, results.size(), "Category2 가 없는 Brand B 는 총액이 낮아도 후보가 아니어야 합니다.");
 
-        Object[] lowestTotalPrice = results.get(0);
-        assertEquals("Brand B", lowestTotalPrice[0], "최저 총액 브랜드는 'Brand B'여야 합니다.");
-        assertEquals(1500L, ((Number) lowestTotalPrice[1]).longValue(), "Brand B의 총액은 1500이어야 합니다.");
+        BrandTotalPriceDto lowestTotalPrice = results.get(0);
+        assertEquals("Brand A", lowestTotalPrice.brand(), "최저 총액 브랜드는 'Brand A'여야 합니다.");
+        assertEquals(3000L, lowestTotalPrice.totalPrice(), "Brand A의 총액은 3000이어야 합니다.");
     }
 
     @Test
-    @DisplayName("브랜드별 삭제되지 않은 상품 조회 테스트")
-    void testFindByBrandNameAndDeletedDateIsNull() {
-        List<Product> products = productRepository.findByBrandNameAndDeletedDateIsNull("Brand A");
+    @DisplayName("한 카테고리에 상품이 여럿인 브랜드의 총액은 카테고리 최저가만 더한다")
+    void testFindBrandWithLowestTotalPriceUsesCategoryMinimum() {
+        createProduct("Category1", 1800L, brandB);
+        createProduct("Category1", 1500L, brandB);
+        createProduct("Category2", 100L, brandB);
 
-        assertNotNull(products, "결과가 null이 아니어야 합니다.");
-        assertEquals(2, products.size(), "Brand A의 상품은 2개여야 합니다.");
-        assertTrue(products.stream().allMatch(p -> p.getBrand().getName().equals("Brand A")), "모든 상품의 브랜드는 'Brand A'여야 합니다.");
+        BrandTotalPriceDto lowest = productRepository.findBrandWithLowestTotalPrice().get(0);
+
+        assertEquals("Brand B", lowest.brand());
+        assertEquals(1600L, lowest.totalPrice(), "같은 카테고리의 다른 상품과 같은 가격의 상품은 더하지 않아야 합니다.");
     }
 
     @Test
-    @DisplayName("카테고리별 최저가 상품 조회 테스트")
-    void testFindLowestPriceProductsByCategory() {
-        List<Product> products = productRepository.findLowestPriceProductsByCategory("Category1");
+    @DisplayName("브랜드의 카테고리별 최저가 상품만 하나씩 조회한다")
+    void testFindCheapestActiveProductPricesByBrandId() {
+        createProduct("Category1", 1800L, brandB);
+        Product tied = createProduct("Category1", 1500L, brandB);
+        createProduct("Category2", 100L, brandB);
 
-        assertNotNull(products, "결과가 null이 아니어야 합니다.");
-        assertEquals(1, products.size(), "최저가 상품은 1개여야 합니다.");
-        assertEquals(1000L, products.get(0).getPrice(), "최저가는 1000이어야 합니다.");
-        assertEquals("Brand A", products.get(0).getBrand().getName(), "최저가 상품의 브랜드는 'Brand A'여야 합니다.");
+        List<ProductPriceDto> prices = productRepository.findCheapestActiveProductPricesByBrandId(brandB.getId());
+
+        assertEquals(2, prices.size(), "카테고리마다 한 상품만 조회되어야 합니다.");
+        assertEquals(1600L, prices.stream().mapToLong(ProductPriceDto::price).sum());
+        assertTrue(prices.stream().noneMatch(p -> p.productId().equals(tied.getId())), "같은 가격이면 ID 가 작은 상품이어야 합니다.");
     }
 
     @Test
-    @DisplayName("카테고리별 최고가 상품 조회 테스트")
-    void testFindHighestPriceProductsByCategory() {
-        List<Product> products = productRepository.findHighestPriceProductsByCategory("Category1");
+    @DisplayName("조회 쿼리는 관리 엔티티를 만들지 않는다")
+    void testReadQueriesDoNotLoadEntities() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        productRepository.findLowestPriceByCategory();
+        BrandTotalPriceDto lowest = productRepository.findBrandWithLowestTotalPrice().get(0);
+        productRepository.findActiveProductPricesByBrandId(lowest.brandId());
+        productRepository.findLowestAndHighestPriceProductsByCategory(categories.get("Category1").getId());
+        productRepository.findAllActiveProductPrices();
+
+        assertEquals(0, statistics.getEntityLoadCount(), "엔티티를 로드하지 않아야 합니다.");
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount(), "영속성 컨텍스트가 비어 있어야 합니다.");
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가/최고가 상품 조회 테스트")
+    void testFindLowestAndHighestPriceProductsByCategory() {
+        List<ProductPriceDto> products = productRepository.findLowestAndHighestPriceProductsByCategory(categories.get("Category1").getId());
 
         assertNotNull(products, "결과가 null이 아니어야 합니다.");
-        assertEquals(1, products.size(), "최고가 상품은 1개여야 합니다.");
-        assertEquals(1500L, products.get(0).getPrice(), "최고가는 1500이어야 합니다.");
-        assertEquals("Brand B", products.get(0).getBrand().getName(), "최고가 상품의 브랜드는 'Brand B'여야 합니다.");
+        assertEquals(2, products.size(), "최저가와 최고가 상품이 각각 1개여야 합니다.");
+        assertEquals(1000L, products.get(0).price(), "최저가는 1000이어야 합니다.");
+        assertEquals("Brand A", products.get(0).brandName(), "최저가 상품의 브랜드는 'Brand A'여야 합니다.");
+        assertEquals(1500L, products.get(1).price(), "최고가는 1500이어야 합니다.");
+        assertEquals("Brand B", products.get(1).brandName(), "최고가 상품의 브랜드는 'Brand B'여야 합니다.");
     }
-}
 
+    @Test
+    @DisplayName("카테고리별 최저가/최고가 조회는 동률 상품 수와 관계없이 SQL 1회로 끝난다")
+    void testFindLowestAndHighestPriceProductsByCategoryIssuesSingleStatement() {
+        for (int i = 0; i < 5; i++) {
+            createProduct("Category1", 1000L, createBrand("Tie Low " + i));
+            createProduct("Category1", 1500L, createBrand("Tie High " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<ProductPriceDto> products = productRepository.findLowestAndHighestPriceProductsByCategory(categories.get("Category1").getId());
+        products.forEach(ProductPriceDto::brandName);
+
+        assertEquals(12, products.size(), "동률 상품이 모두 조회되어야 합니다.");
+        assertEquals(1, statistics.getPrepareStatementCount(), "SQL 은 한 번만 실행되어야 합니다.");
+        assertEquals(0, statistics.getEntityLoadCount(), "엔티티를 로드하지 않아야 합니다.");
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("활성 상품 가격 프로젝션 조회 테스트")
+    void testFindAllActiveProductPrices() {
+        List<ProductPriceDto> prices = productRepository.findAllActiveProductPrices();
+
+        assertEquals(3, prices.size(), "활성 상품은 3개여야 합니다.");
+        assertTrue(prices.stream().anyMatch(p -> p.brandName().equals("Brand B") && p.price() == 1500L));
+    }
+
+    @Test
+    @DisplayName("브랜드별 활성 상품 가격 프로젝션 조회 테스트")
+    void testFindActiveProductPricesByBrandId() {
+        Long brandId = brandRepository.findAll().stream()
+                .filter(brand -> brand.getName().equals("Brand A"))
+                .findFirst().orElseThrow().getId();
+
+        List<ProductPriceDto> prices = productRepository.findActiveProductPricesByBrandId(brandId);
+
+        assertEquals(2, prices.size(), "Brand A의 활성 상품은 2개여야 합니다.");
+        assertTrue(prices.stream().allMatch(p -> p.brandId().equals(brandId)));
+    }
+}
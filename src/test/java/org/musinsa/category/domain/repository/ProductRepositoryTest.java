@@ -3,17 +3,16 @@ package org.musinsa.category.domain.repository;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.musinsa.category.domain.entity.Brand;
-import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
 
 @ExtendWith(MockitoExtension.class)
 class ProductRepositoryTest {
@@ -21,39 +20,33 @@ class ProductRepositoryTest {
     @Mock
     private ProductRepository productRepository;
 
-    private final Brand mockBrand = new Brand();
-
-    @BeforeEach
-    void setUp() {
-        mockBrand.setName("Brand1");
-    }
     @Test
     @DisplayName("카테고리별 최저가 상품 조회 테스트")
     void testFindLowestPriceByCategory() {
         // given
-        List<Object[]> mockResults = List.of(
-                new Object[]{"상의", "Brand1", 50000L},
-                new Object[]{"아우터", "Brand2", 80000L}
+        List<CategoryLowestPriceDto> mockResults = List.of(
+                new CategoryLowestPriceDto("상의", "Brand1", 50000L),
+                new CategoryLowestPriceDto("아우터", "Brand2", 80000L)
         );
 
         // When
         when(productRepository.findLowestPriceByCategory()).thenReturn(mockResults);
 
-        List<Object[]> result = productRepository.findLowestPriceByCategory();
+        List<CategoryLowestPriceDto> result = productRepository.findLowestPriceByCategory();
 
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
 
-        Object[] consultation = result.get(0);
-        assertEquals("상의", consultation[0]);
-        assertEquals("Brand1", consultation[1]);
-        assertEquals(50000L, consultation[2]);
+        CategoryLowestPriceDto consultation = result.get(0);
+        assertEquals("상의", consultation.category());
+        assertEquals("Brand1", consultation.brandName());
+        assertEquals(50000L, consultation.price());
 
-        Object[] outerwear = result.get(1);
-        assertEquals("아우터", outerwear[0]);
-        assertEquals("Brand2", outerwear[1]);
-        assertEquals(80000L, outerwear[2]);
+        CategoryLowestPriceDto outerwear = result.get(1);
+        assertEquals("아우터", outerwear.category());
+        assertEquals("Brand2", outerwear.brandName());
+        assertEquals(80000L, outerwear.price());
 
         Mockito.verify(productRepository, Mockito.times(1)).findLowestPriceByCategory();
     }
@@ -62,108 +55,75 @@ class ProductRepositoryTest {
     @DisplayName("최저 총액을 가진 브랜드 조회 테스트")
     void testFindBrandWithLowestTotalPrice() {
         // given
-        List<Object[]> mockResults = List.of(
-                new Object[]{"Brand1", 120000L},
-                new Object[]{"Brand2", 180000L}
+        List<BrandTotalPriceDto> mockResults = List.of(
+                new BrandTotalPriceDto(1L, "Brand1", 120000L),
+                new BrandTotalPriceDto(2L, "Brand2", 180000L)
         );
         // when
         when(productRepository.findBrandWithLowestTotalPrice()).thenReturn(mockResults);
 
-        List<Object[]> result = productRepository.findBrandWithLowestTotalPrice();
+        List<BrandTotalPriceDto> result = productRepository.findBrandWithLowestTotalPrice();
 
         // then
         assertNotNull(result);
         assertEquals(2, result.size());
 
-        Object[] brand1 = result.get(0);
-        assertEquals("Brand1", brand1[0]);
-        assertEquals(120000L, ((Number) brand1[1]).longValue());
+        BrandTotalPriceDto brand1 = result.get(0);
+        assertEquals("Brand1", brand1.brand());
+        assertEquals(120000L, brand1.totalPrice());
 
-        Object[] brand2 = result.get(1);
-        assertEquals("Brand2", brand2[0]);
-        assertEquals(180000L, ((Number) brand2[1]).longValue());
+        BrandTotalPriceDto brand2 = result.get(1);
+        assertEquals("Brand2", brand2.brand());
+        assertEquals(180000L, brand2.totalPrice());
 
         Mockito.verify(productRepository, Mockito.times(1)).findBrandWithLowestTotalPrice();
     }
 
     @Test
-    @DisplayName("특정 브랜드의 상품 조회 테스트")
-    void testFindByBrandNameAndDeletedDateIsNull() {
-        List<Product> mockProducts = List.of(
-                createProduct(mockBrand, "A", 50000L),
-                createProduct(mockBrand, "A", 70000L)
+    @DisplayName("특정 브랜드의 활성 상품 가격 조회 테스트")
+    void testFindActiveProductPricesByBrandId() {
+        List<ProductPriceDto> mockProducts = List.of(
+                new ProductPriceDto(1L, 1L, "Brand1", "A", 50000L),
+                new ProductPriceDto(2L, 1L, "Brand1", "A", 70000L)
         );
-        when(productRepository.findByBrandNameAndDeletedDateIsNull("Brand1")).thenReturn(mockProducts);
+        when(productRepository.findActiveProductPricesByBrandId(1L)).thenReturn(mockProducts);
 
-        List<Product> result = productRepository.findByBrandNameAndDeletedDateIsNull("Brand1");
+        List<ProductPriceDto> result = productRepository.findActiveProductPricesByBrandId(1L);
 
         assertNotNull(result);
         assertEquals(2, result.size());
 
-        Product product1 = result.get(0);
-        assertEquals("A", product1.getCategory());
-        assertEquals(50000L, product1.getPrice());
+        ProductPriceDto product1 = result.get(0);
+        assertEquals("A", product1.category());
+        assertEquals(50000L, product1.price());
 
-        Product product2 = result.get(1);
-        assertEquals("A", product2.getCategory());
-        assertEquals(70000L, product2.getPrice());
+        ProductPriceDto product2 = result.get(1);
+        assertEquals("A", product2.category());
+        assertEquals(70000L, product2.price());
 
-        Mockito.verify(productRepository, Mockito.times(1)).findByBrandNameAndDeletedDateIsNull("Brand1");
+        Mockito.verify(productRepository, Mockito.times(1)).findActiveProductPricesByBrandId(1L);
     }
 
     @Test
-    @DisplayName("카테고리별 최저가 상품 조회 테스트")
-    void testFindLowestPriceProductsByCategory() {
+    @DisplayName("카테고리별 최저가/최고가 상품 조회 테스트")
+    void testFindLowestAndHighestPriceProductsByCategory() {
         // Given
-        List<Product> mockProducts = List.of(
-                createProduct(mockBrand, "상의", 50000L)
+        List<ProductPriceDto> mockProducts = List.of(
+                new ProductPriceDto(1L, 1L, "Brand1", "상의", 50000L),
+                new ProductPriceDto(2L, 2L, "Brand2", "상의", 100000L)
         );
-        when(productRepository.findLowestPriceProductsByCategory("상의")).thenReturn(mockProducts);
+        when(productRepository.findLowestAndHighestPriceProductsByCategory(1)).thenReturn(mockProducts);
 
         // When
-        List<Product> result = productRepository.findLowestPriceProductsByCategory("상의");
+        List<ProductPriceDto> result = productRepository.findLowestAndHighestPriceProductsByCategory(1);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-
-        Product product = result.get(0);
-        assertEquals("상의", product.getCategory());
-        assertEquals(50000L, product.getPrice());
-
-        Mockito.verify(productRepository, Mockito.times(1)).findLowestPriceProductsByCategory("상의");
-    }
-
-    @Test
-    @DisplayName("카테고리별 최고가 상품 조회 테스트")
-    void testFindHighestPriceProductsByCategory() {
-        // given
-        List<Product> mockProducts = List.of(
-                createProduct(mockBrand, "아우터", 100000L)
-        );
-        // when
-        when(productRepository.findHighestPriceProductsByCategory("아우터")).thenReturn(mockProducts);
-
-        List<Product> result = productRepository.findHighestPriceProductsByCategory("아우터");
-
-        // then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-
-        Product product = result.get(0);
-        assertEquals("아우터", product.getCategory());
-        assertEquals(100000L, product.getPrice());
-
-        Mockito.verify(productRepository, Mockito.times(1)).findHighestPriceProductsByCategory("아우터");
-    }
+        assertEquals(2, result.size());
+        assertEquals(50000L, result.get(0).price());
+        assertEquals("Brand2", result.get(1).brandName());
+        assertEquals(100000L, result.get(1).price());
 
-    private Product createProduct(Brand brand, String category, Long price) {
-        Product newProduct = new Product();
-        newProduct.setBrand(brand);
-        newProduct.setCategory(category);
-        newProduct.setPrice(price);
-        newProduct.setLastModifiedDate(LocalDateTime.now());
-        newProduct.setVersion(1L);
-        return newProduct;
+        Mockito.verify(productRepository, Mockito.times(1)).findLowestAndHighestPriceProductsByCategory(1);
     }
 }
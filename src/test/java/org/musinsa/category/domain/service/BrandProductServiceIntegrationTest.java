@@ -5,11 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.persistence.EntityManagerFactory;
 import java.util.Arrays;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandDeleteResultDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
 import org.musinsa.category.domain.dto.BrandDto;
 import org.musinsa.category.domain.dto.ProductDto;
@@ -29,6 +33,9 @@ class BrandProductServiceIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private BrandProductRequestDto createTestRequest(String brandName, String... productDetails) {
         BrandDto brandDto = new BrandDto();
         brandDto.setName(brandName);
@@ -202,4 +209,88 @@ class BrandProductServiceIntegrationTest {
         assertTrue(response.getMessage().contains("Failed to update brand and products"), "실패 메시지가 포함되어야 합니다.");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("브랜드와 제품 추가는 행마다 INSERT 하지 않고 배치로 저장한다")
+    void testAddBrandAndProductsUsesBatchInserts() {
+        // Given
+        String[] details = new String[120];
+        for (int i = 0; i < details.length; i++) {
+            details[i] = "상의:" + (10000 + i);
+        }
+        BrandProductRequestDto request = createTestRequest("Batch Brand", details);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        ApiResponseDto response = brandProductService.addBrandAndProducts(request);
+
+        // Then
+        assertTrue(response.isSuccess(), "브랜드와 제품 추가가 성공해야 합니다.");
+        assertEquals(121, statistics.getEntityInsertCount(), "브랜드 1개와 제품 120개가 저장되어야 합니다.");
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "INSERT 는 배치로 묶여야 합니다: statements=" + statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("브랜드 삭제는 상품 컬렉션을 읽지 않고 집합 UPDATE 로 처리하며 버전을 올린다")
+    void testDeleteBrandAndProductsUsesBulkUpdates() {
+        // Given
+        String[] details = new String[120];
+        for (int i = 0; i < details.length; i++) {
+            details[i] = "상의:" + (10000 + i);
+        }
+        brandProductService.addBrandAndProducts(createTestRequest("Bulk Delete Brand", details));
+        Long brandId = brandRepository.findActiveIdsByName("Bulk Delete Brand").get(0);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        ApiResponseDto response = brandProductService.deleteBrandAndProducts(
+                new BrandProductRequestDto(new BrandDto(brandId, null), null));
+
+        // Then
+        assertTrue(response.isSuccess(), "브랜드와 제품 삭제가 성공해야 합니다.");
+        assertEquals(0, statistics.getEntityLoadCount(), "브랜드와 제품 엔티티를 읽지 않아야 합니다.");
+        assertEquals(0, statistics.getEntityUpdateCount(), "엔티티마다 UPDATE 하지 않아야 합니다.");
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "조회 1번과 UPDATE 2번이어야 합니다: statements=" + statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+
+        Brand deletedBrand = brandRepository.findById(brandId).orElseThrow();
+        assertNotNull(deletedBrand.getDeletedDate(), "브랜드의 삭제 일자가 설정되어야 합니다.");
+        assertEquals(2L, deletedBrand.getVersion(), "브랜드 버전이 올라가야 합니다.");
+        assertEquals(120, deletedBrand.getProducts().size());
+        assertTrue(deletedBrand.getProducts().stream().allMatch(p -> p.getDeletedDate() != null
+                && p.getVersion() == 2L && deletedBrand.getDeletedDate().equals(p.getDeletedDate())),
+                "모든 제품이 같은 시각으로 삭제되고 버전이 올라가야 합니다.");
+    }
+
+    @Test
+    @DisplayName("여러 브랜드를 한 번에 삭제하고 없거나 이미 삭제된 브랜드는 결과로 알려준다")
+    void testDeleteBrands() {
+        // Given
+        brandProductService.addBrandAndProducts(createTestRequest("Delete A", "상의:10000", "바지:20000"));
+        brandProductService.addBrandAndProducts(createTestRequest("Delete B", "상의:11000"));
+        brandProductService.addBrandAndProducts(createTestRequest("Delete C", "상의:12000"));
+        Long brandA = brandRepository.findActiveIdsByName("Delete A").get(0);
+        Long brandB = brandRepository.findActiveIdsByName("Delete B").get(0);
+        Long brandC = brandRepository.findActiveIdsByName("Delete C").get(0);
+        brandProductService.deleteBrands(List.of(brandC));
+
+        // When
+        BrandDeleteResultDto result = brandProductService.deleteBrands(List.of(brandA, brandB, brandC, 9999L));
+
+        // Then
+        assertEquals(4, result.getRequested());
+        assertEquals(2, result.getDeletedBrands());
+        assertEquals(3, result.getDeletedProducts());
+        assertEquals(List.of(brandC, 9999L), result.getNotFoundBrandIds());
+        assertTrue(brandRepository.findActiveIdsByIdIn(List.of(brandA, brandB, brandC)).isEmpty());
+        assertEquals(2L, brandRepository.findById(brandC).orElseThrow().getVersion(), "이미 삭제된 브랜드는 다시 바뀌지 않아야 합니다.");
+    }
+}
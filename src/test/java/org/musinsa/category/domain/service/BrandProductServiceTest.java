@@ -3,17 +3,22 @@ package org.musinsa.category.domain.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,12 +26,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandDeleteResultDto;
 import org.musinsa.category.api.dto.BrandProductRequestDto;
 import org.musinsa.category.domain.dto.BrandDto;
 import org.musinsa.category.domain.dto.ProductDto;
 import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Category;
 import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
 import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BrandProductServiceTest {
@@ -34,6 +45,15 @@ class BrandProductServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BrandProductService brandProductService;
 
@@ -69,6 +89,7 @@ class BrandProductServiceTest {
         assertTrue(response.isSuccess());
         assertEquals("Brand and products added successfully", response.getMessage());
         verify(brandRepository, times(1)).save(any(Brand.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CatalogChangedEvent.class));
     }
 
     @Test
@@ -81,12 +102,13 @@ class BrandProductServiceTest {
 
         Product existingProduct = new Product();
         existingProduct.setId(1L);
-        existingProduct.setCategory("Existing Category");
+        existingProduct.setCategory(category("Existing Category"));
         existingProduct.setPrice(500L);
         existingProduct.setVersion(1L);
         existingBrand.addProduct(existingProduct);
 
         when(brandRepository.findById(1L)).thenReturn(Optional.of(existingBrand));
+        when(categoryService.resolve("Updated Category")).thenReturn(category("Updated Category"));
 
         BrandDto updatedBrandDto = new BrandDto();
         updatedBrandDto.setId(1L);
@@ -113,7 +135,7 @@ class BrandProductServiceTest {
         assertNotNull(existingBrand.getLastModifiedDate());
 
         Product updatedProduct = existingBrand.getProducts().get(0);
-        assertEquals("Updated Category", updatedProduct.getCategory());
+        assertEquals("Updated Category", updatedProduct.getCategory().getName());
         assertEquals(1000L, updatedProduct.getPrice());
         assertEquals(2L, updatedProduct.getVersion());
         assertNotNull(updatedProduct.getLastModifiedDate());
@@ -132,21 +154,10 @@ class BrandProductServiceTest {
 
     @Test
     void testDeleteBrandAndProducts() {
-        // Arrange
-        Brand existingBrand = new Brand();
-        existingBrand.setId(1L);
-        existingBrand.setName("Existing Brand");
-        existingBrand.setVersion(1L);
-
-        Product existingProduct = new Product();
-        existingProduct.setId(1L);
-        existingProduct.setCategory("Existing Category");
-        existingProduct.setPrice(500L);
-        existingProduct.setVersion(1L);
-        existingBrand.addProduct(existingProduct);
-
         // when
-        when(brandRepository.findById(1L)).thenReturn(Optional.of(existingBrand));
+        when(brandRepository.findActiveIdsByIdIn(Set.of(1L))).thenReturn(List.of(1L));
+        when(productRepository.softDeleteByBrandIdIn(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(1);
+        when(brandRepository.softDeleteByIdIn(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(1);
 
         BrandDto brandDto = new BrandDto();
         brandDto.setId(1L);
@@ -160,27 +171,48 @@ class BrandProductServiceTest {
         assertTrue(response.isSuccess());
         assertEquals("Brand and products deleted successfully", response.getMessage());
 
-        verify(brandRepository, times(1)).findById(1L);
-
-        assertNotNull(existingBrand.getDeletedDate());
-        assertNotNull(existingBrand.getLastModifiedDate());
-        assertEquals(2L, existingBrand.getVersion());
-
-        Product deletedProduct = existingBrand.getProducts().get(0);
-        assertNotNull(deletedProduct.getDeletedDate());
-        assertNotNull(deletedProduct.getLastModifiedDate());
-        assertEquals(2L, deletedProduct.getVersion());
+        verify(brandRepository, never()).findById(any());
+        verify(productRepository, times(1)).softDeleteByBrandIdIn(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(brandRepository, times(1)).softDeleteByIdIn(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof CatalogChangedEvent changed && changed.getBrandIds().equals(Set.of(1L))));
     }
 
     @Test
     void testDeleteBrandAndProducts_BrandNotFound() {
-        when(brandRepository.findById(1L)).thenReturn(Optional.empty());
+        when(brandRepository.findActiveIdsByIdIn(Set.of(1L))).thenReturn(List.of());
 
         ApiResponseDto response = brandProductService.deleteBrandAndProducts(requestDto);
 
         assertFalse(response.isSuccess());
         assertTrue(response.getMessage().contains("Failed to delete brand and products"));
-        verify(brandRepository, times(1)).findById(1L);
+        verify(brandRepository, times(1)).findActiveIdsByIdIn(Set.of(1L));
+        verify(brandRepository, never()).softDeleteByIdIn(any(), any());
+        verify(productRepository, never()).softDeleteByBrandIdIn(any(), any());
+    }
+
+    @Test
+    void testDeleteBrands() {
+        when(brandRepository.findActiveIdsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+        when(productRepository.softDeleteByBrandIdIn(eq(List.of(1L, 3L)), any(LocalDateTime.class))).thenReturn(16);
+        when(brandRepository.softDeleteByIdIn(eq(List.of(1L, 3L)), any(LocalDateTime.class))).thenReturn(2);
+
+        BrandDeleteResultDto result = brandProductService.deleteBrands(List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getDeletedBrands());
+        assertEquals(16, result.getDeletedProducts());
+        assertEquals(List.of(2L), result.getNotFoundBrandIds());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof CatalogChangedEvent changed && changed.getBrandIds().equals(Set.of(1L, 3L))));
+    }
+
+    @Test
+    void testDeleteBrands_InvalidRequest() {
+        assertThrows(CustomException.class, () -> brandProductService.deleteBrands(List.of()));
+        assertThrows(CustomException.class, () -> brandProductService.deleteBrands(Collections.nCopies(
+                BrandProductService.MAX_DELETE_BRANDS + 1, 1L)));
+        verify(brandRepository, never()).findActiveIdsByIdIn(any());
     }
 
     @Test
@@ -192,6 +224,23 @@ class BrandProductServiceTest {
         assertFalse(response.isSuccess());
         assertTrue(response.getMessage().contains("Failed to add brand and products"));
         verify(brandRepository, times(1)).save(any(Brand.class));
+        verify(eventPublisher, never()).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void testAddBrandAndProducts_NegativePrice() {
+        ProductDto productDto = new ProductDto();
+        productDto.setCategory("Test Category");
+        productDto.setPrice(-1L);
+        requestDto.setProducts(List.of(productDto));
+
+        ApiResponseDto response = brandProductService.addBrandAndProducts(requestDto);
+
+        assertFalse(response.isSuccess());
+        assertTrue(response.getMessage().contains("Product price must be zero or positive"));
+        verify(categoryService, never()).resolve(any());
+        verify(brandRepository, never()).save(any(Brand.class));
+        verify(eventPublisher, never()).publishEvent(any(CatalogChangedEvent.class));
     }
 
     @Test
@@ -227,8 +276,6 @@ class BrandProductServiceTest {
 
     @Test
     void testUpdateBrandAndProducts_NullProductCategory() {
-        when(brandRepository.findById(1L)).thenReturn(Optional.of(brand));
-
         ProductDto productDto = new ProductDto();
         productDto.setId(1L);
         productDto.setCategory(null);
@@ -240,12 +287,12 @@ class BrandProductServiceTest {
 
         assertFalse(response.isSuccess());
         assertTrue(response.getMessage().contains("Failed to update brand and products"));
+        verify(brandRepository, never()).findById(any());
+        verify(categoryService, never()).resolve(any());
     }
 
     @Test
     void testUpdateBrandAndProducts_NegativePrice() {
-        when(brandRepository.findById(1L)).thenReturn(Optional.of(brand));
-
         ProductDto productDto = new ProductDto();
         productDto.setId(1L);
         productDto.setCategory("Test Category");
@@ -257,23 +304,16 @@ class BrandProductServiceTest {
 
         assertFalse(response.isSuccess());
         assertTrue(response.getMessage().contains("Failed to update brand and products"));
+        verify(brandRepository, never()).findById(any());
+        verify(categoryService, never()).resolve(any());
     }
 
     @Test
     void testDeleteBrandAndProducts_ConcurrentModification() {
-        Brand existingBrand = new Brand();
-        existingBrand.setId(1L);
-        existingBrand.setName("Existing Brand");
-        existingBrand.setVersion(1L);
-
-        Product existingProduct = new Product();
-        existingProduct.setId(1L);
-        existingProduct.setCategory("Existing Category");
-        existingProduct.setPrice(500L);
-        existingProduct.setVersion(1L);
-        existingBrand.addProduct(existingProduct);
-
-        when(brandRepository.findById(1L)).thenReturn(Optional.of(existingBrand));
+        // 조회와 UPDATE 사이에 다른 요청이 먼저 삭제한 경우
+        when(brandRepository.findActiveIdsByIdIn(Set.of(1L))).thenReturn(List.of(1L));
+        when(productRepository.softDeleteByBrandIdIn(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(0);
+        when(brandRepository.softDeleteByIdIn(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(0);
 
         BrandDto brandDto = new BrandDto();
         brandDto.setId(1L);
@@ -281,18 +321,14 @@ class BrandProductServiceTest {
 
         ApiResponseDto response = brandProductService.deleteBrandAndProducts(requestDto);
 
-        assertTrue(response.isSuccess());
-        assertEquals("Brand and products deleted successfully", response.getMessage());
-        verify(brandRepository, times(1)).findById(1L);
-
-        assertNotNull(existingBrand.getDeletedDate());
-        assertNotNull(existingBrand.getLastModifiedDate());
-        assertEquals(2L, existingBrand.getVersion());
-
-        Product deletedProduct = existingBrand.getProducts().get(0);
-        assertNotNull(deletedProduct.getDeletedDate());
-        assertNotNull(deletedProduct.getLastModifiedDate());
-        assertEquals(2L, deletedProduct.getVersion());
+        assertFalse(response.isSuccess());
+        assertEquals("Failed to delete brand and products: Brand not found", response.getMessage());
+        verify(brandRepository, times(1)).softDeleteByIdIn(eq(List.of(1L)), any(LocalDateTime.class));
     }
 
-}
\ No newline at end of file
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return category;
+    }
+}
@@ -0,0 +1,164 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.CatalogArchiveStatsDto;
+import org.musinsa.category.domain.entity.Brand;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.CatalogArchiveRepository;
+import org.musinsa.category.domain.repository.CategoryRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 배치마다 커밋하는 작업이므로 테스트 트랜잭션 없이 실행하고, 스케줄 실행은 끈 채 직접 호출한다.
+ * 배치 크기 2, 실행당 배치 3 개로 키셋 페이지와 실행당 한도를 함께 확인한다.
+ */
+@DataJpaTest(properties = {
+        "catalog.archive.enabled=false",
+        "catalog.archive.batch-size=2",
+        "catalog.archive.batch-pause=0ms",
+        "catalog.archive.max-batches-per-run=3"
+})
+@Import({CatalogArchiveService.class, CatalogArchiveRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class CatalogArchiveServiceIntegrationTest {
+
+    private static final LocalDateTime EXPIRED = LocalDateTime.now().minusDays(40);
+    private static final LocalDateTime RECENT = LocalDateTime.now().minusDays(1);
+
+    @Autowired
+    private CatalogArchiveService catalogArchiveService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category top;
+
+    @BeforeEach
+    void setUp() {
+        top = new Category();
+        top.setName("상의");
+        top.setCreatedDate(LocalDateTime.now());
+        top.setVersion(1L);
+        top = categoryRepository.save(top);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_history");
+        jdbcTemplate.update("DELETE FROM brand_history");
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 삭제 브랜드와 상품만 이력 테이블로 옮긴다")
+    void testArchiveExpiredRows() {
+        Brand expired = createBrand("Expired", EXPIRED);
+        Product expiredProduct = createProduct(expired, 1000L, EXPIRED);
+        Brand active = createBrand("Active", null);
+        Product activeProduct = createProduct(active, 2000L, null);
+        Product recentProduct = createProduct(active, 3000L, RECENT);
+
+        CatalogArchiveStatsDto stats = catalogArchiveService.archive();
+
+        assertEquals(1, stats.getLastRunBrands());
+        assertEquals(1, stats.getLastRunProducts());
+        assertEquals(0, stats.getLagSeconds());
+        assertFalse(brandRepository.existsById(expired.getId()));
+        assertFalse(productRepository.existsById(expiredProduct.getId()));
+        assertTrue(productRepository.existsById(activeProduct.getId()));
+        assertTrue(productRepository.existsById(recentProduct.getId()));
+
+        assertEquals("Expired", jdbcTemplate.queryForObject(
+                "SELECT name FROM brand_history WHERE id = ?", String.class, expired.getId()));
+        assertEquals(1000L, jdbcTemplate.queryForObject(
+                "SELECT price FROM product_history WHERE id = ? AND brand_id = ? AND archive_dt IS NOT NULL",
+                Long.class, expiredProduct.getId(), expired.getId()));
+        assertSame(stats, catalogArchiveService.getStats());
+    }
+
+    @Test
+    @DisplayName("보존 기간 안에 삭제된 상품이 남은 브랜드는 옮기지 않는다")
+    void testKeepBrandWhileProductsRemain() {
+        Brand brand = createBrand("Expired", EXPIRED);
+        createProduct(brand, 1000L, EXPIRED);
+        createProduct(brand, 2000L, RECENT);
+
+        CatalogArchiveStatsDto stats = catalogArchiveService.archive();
+
+        assertEquals(0, stats.getLastRunBrands());
+        assertEquals(1, stats.getLastRunProducts());
+        assertTrue(brandRepository.existsById(brand.getId()));
+        assertTrue(stats.getLagSeconds() > 0);
+    }
+
+    @Test
+    @DisplayName("실행당 배치 한도를 넘는 행은 다음 실행에서 이어서 옮기고, 그동안 지연을 보고한다")
+    void testResumeAfterBatchLimit() {
+        Brand brand = createBrand("Expired", EXPIRED);
+        for (int i = 0; i < 9; i++) {
+            createProduct(brand, 1000L + i, EXPIRED);
+        }
+
+        CatalogArchiveStatsDto first = catalogArchiveService.archive();
+        assertEquals(6, first.getLastRunProducts());
+        assertEquals(0, first.getLastRunBrands());
+        assertTrue(first.getLagSeconds() > 0);
+        assertEquals(3, productRepository.count());
+
+        CatalogArchiveStatsDto second = catalogArchiveService.archive();
+        assertEquals(3, second.getLastRunProducts());
+        assertEquals(1, second.getLastRunBrands());
+        assertEquals(0, second.getLagSeconds());
+        assertEquals(first.getProductsArchived() + 3, second.getProductsArchived());
+        assertEquals(0, productRepository.count());
+        assertEquals(9, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_history", Integer.class));
+    }
+
+    private Brand createBrand(String name, LocalDateTime deletedDate) {
+        Brand brand = new Brand();
+        brand.setName(name);
+        brand.setCreatedDate(LocalDateTime.now().minusDays(60));
+        brand.setDeletedDate(deletedDate);
+        brand.setVersion(1L);
+        return brandRepository.save(brand);
+    }
+
+    private Product createProduct(Brand brand, Long price, LocalDateTime deletedDate) {
+        Product product = new Product();
+        product.setBrand(brand);
+        product.setCategory(top);
+        product.setPrice(price);
+        product.setCreatedDate(LocalDateTime.now().minusDays(60));
+        product.setDeletedDate(deletedDate);
+        product.setVersion(1L);
+        return productRepository.save(product);
+    }
+}
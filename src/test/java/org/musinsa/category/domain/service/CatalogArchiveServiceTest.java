@@ -0,0 +1,87 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.BrandCategoryMatrix;
+import org.musinsa.category.domain.index.BrandPriceRanking;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryPriceIndex;
+import org.musinsa.category.domain.repository.CatalogArchiveRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogArchiveServiceTest {
+
+    @Mock
+    private CatalogArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private CatalogArchiveService archiveService;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        if (archiveService != null) {
+            archiveService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("보관 실행이 진행 중이어도 스레드 하나짜리 스케줄러에서 스냅샷 공개가 실행된다")
+    void testSnapshotPublishedWhileArchiveRuns() throws InterruptedException {
+        CountDownLatch archiving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(archiveRepository.findArchivableProductIds(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            archiving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(archiveRepository.findArchivableBrandIds(any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(archiveRepository.findOldestDeletedDate()).thenReturn(Optional.empty());
+
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        archiveService = new CatalogArchiveService(archiveRepository, transactionManager, true, Duration.ofDays(30),
+                500, Duration.ofMillis(100), 200);
+        CatalogSnapshotPublisher publisher = new CatalogSnapshotPublisher(new CategoryPriceIndex(),
+                new BrandPriceRanking(), new BrandCategoryMatrix(), scheduler, eventPublisher, Duration.ofMillis(10));
+        publisher.reload(List.of(new ProductPriceDto(1L, 1L, "A", "상의", 10000L)));
+
+        scheduler.schedule(archiveService::scheduledArchive, Instant.now());
+        assertTrue(archiving.await(5, TimeUnit.SECONDS), "보관 실행이 시작되어야 합니다.");
+        publisher.replaceBrand(1L, List.of(new ProductPriceDto(1L, 1L, "A", "상의", 9000L)));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (publisher.getCurrent().getVersion() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2L, publisher.getCurrent().getVersion(), "보관 실행이 끝나기 전에 스냅샷이 공개되어야 합니다.");
+        release.countDown();
+    }
+}
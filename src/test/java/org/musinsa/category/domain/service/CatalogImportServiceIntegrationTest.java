@@ -0,0 +1,111 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.CatalogImportResultDto;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 청크마다 커밋하는 동작을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리한다.
+ */
+@SpringBootTest(properties = {
+        "catalog.import.chunk-size=2",
+        "catalog.import.max-line-length=200"
+})
+class CatalogImportServiceIntegrationTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+    }
+
+    private CatalogImportResultDto importLines(String... lines) {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return catalogImportService.importNdjson(new ByteArrayInputStream(body));
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 적재 시 잘못된 줄과 실패한 청크만 건너뛰고 나머지는 커밋")
+    void testImportSkipsRejectedLinesAndFailedChunks() {
+        // When
+        CatalogImportResultDto result = importLines(
+                "{\"type\":\"brand\",\"name\":\"A\"}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"상의\",\"price\":1000}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"바지\",\"price\":2000}",
+                "{not json",
+                "{\"type\":\"product\",\"brand\":\"없는브랜드\",\"category\":\"상의\",\"price\":100}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"" + "가".repeat(21) + "\",\"price\":100}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"모자\",\"price\":500}",
+                "",
+                "{\"type\":\"brand\",\"name\":\"B\"}",
+                "{\"type\":\"product\",\"brand\":\"B\",\"category\":\"상의\",\"price\":700}"
+        );
+
+        // Then
+        assertEquals(10, result.getLinesRead(), "빈 줄을 포함해 모든 줄을 읽어야 합니다.");
+        assertEquals(2, result.getBrandsImported(), "두 브랜드가 적재되어야 합니다.");
+        assertEquals(3, result.getProductsImported(), "실패한 청크를 제외한 세 상품이 적재되어야 합니다.");
+        assertEquals(2, result.getRejectedLines(), "잘못된 JSON 과 없는 브랜드 줄이 거부되어야 합니다.");
+        assertEquals(3, result.getCommittedChunks(), "세 청크가 커밋되어야 합니다.");
+        assertEquals(1, result.getFailedChunks(), "카테고리 등록에 실패한 청크 하나만 롤백되어야 합니다.");
+        assertTrue(result.getErrors().stream().anyMatch(error -> error.startsWith("line 4:")), "거부된 줄 번호가 기록되어야 합니다.");
+
+        assertEquals(2, brandRepository.count(), "DB 에 두 브랜드가 있어야 합니다.");
+        assertEquals(3, productRepository.count(), "DB 에 세 상품이 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("이미 있는 브랜드 이름은 거부하고 상품은 기존 브랜드에 적재")
+    void testImportRejectsDuplicateBrandAndAppendsToExistingBrand() {
+        // Given
+        importLines("{\"type\":\"brand\",\"name\":\"A\"}");
+
+        // When
+        CatalogImportResultDto result = importLines(
+                "{\"type\":\"brand\",\"name\":\"A\"}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"가방\",\"price\":3000}"
+        );
+
+        // Then
+        assertEquals(0, result.getBrandsImported(), "중복 브랜드는 적재되지 않아야 합니다.");
+        assertEquals(1, result.getRejectedLines(), "중복 브랜드 줄이 거부되어야 합니다.");
+        assertEquals(1, result.getProductsImported(), "상품은 기존 브랜드에 적재되어야 합니다.");
+        assertEquals(1, brandRepository.count(), "브랜드는 하나만 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("줄 길이 상한을 넘는 줄은 거부하고 다음 줄부터 계속 적재")
+    void testImportRejectsOversizedLine() {
+        // When
+        CatalogImportResultDto result = importLines(
+                "{\"type\":\"brand\",\"name\":\"A\"}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"상의\",\"price\":1000," + " ".repeat(300) + "}",
+                "{\"type\":\"product\",\"brand\":\"A\",\"category\":\"바지\",\"price\":2000}"
+        );
+
+        // Then
+        assertEquals(3, result.getLinesRead(), "상한을 넘는 줄도 한 줄로 세어야 합니다.");
+        assertEquals(1, result.getRejectedLines(), "상한을 넘는 줄만 거부되어야 합니다.");
+        assertEquals(1, result.getProductsImported(), "다음 줄은 적재되어야 합니다.");
+        assertTrue(result.getErrors().contains("line 2: line exceeds 200 characters"), "거부 사유가 기록되어야 합니다.");
+    }
+}
@@ -0,0 +1,103 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.ApiResponseDto;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋과 롤백 뒤의 DB 와 사전을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리한다.
+ */
+@SpringBootTest
+class CategoryServiceIntegrationTest {
+
+    private static final String NEW_CATEGORY = "롤백 카테고리";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private BrandProductService brandProductService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.findByName(NEW_CATEGORY).ifPresent(categoryRepository::delete);
+        categoryService.reload();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 그 안에서 등록한 카테고리는 DB 와 사전에 남지 않는다")
+    void testRegistrationRolledBackWithWrite() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            categoryService.resolve(NEW_CATEGORY);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(categoryRepository.findByName(NEW_CATEGORY).isEmpty(), "카테고리가 DB 에 남지 않아야 합니다.");
+        assertTrue(categoryDictionary.findId(NEW_CATEGORY).isEmpty(), "카테고리가 사전에 남지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 커밋된 뒤에 새 카테고리가 사전에 반영된다")
+    void testRegistrationLoadedAfterCommit() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            categoryService.resolve(NEW_CATEGORY);
+            assertTrue(categoryDictionary.findId(NEW_CATEGORY).isEmpty(), "커밋 전에는 사전에 없어야 합니다.");
+        });
+
+        // Then
+        assertTrue(categoryRepository.findByName(NEW_CATEGORY).isPresent(), "카테고리가 DB 에 있어야 합니다.");
+        assertTrue(categoryDictionary.findId(NEW_CATEGORY).isPresent(), "커밋 뒤에는 사전에 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("요청 안에 잘못된 카테고리가 있으면 앞선 새 카테고리도 등록하지 않는다")
+    void testInvalidRequestRegistersNothing() {
+        // Given
+        BrandProductRequestDto request = new BrandProductRequestDto(new BrandDto(null, "Rollback Brand"), List.of(
+                new ProductDto(null, NEW_CATEGORY, 10000L, null),
+                new ProductDto(null, "가".repeat(Category.MAX_NAME_LENGTH + 1), 20000L, null)));
+
+        // When
+        ApiResponseDto response = brandProductService.addBrandAndProducts(request);
+
+        // Then
+        assertFalse(response.isSuccess(), "잘못된 카테고리 때문에 실패해야 합니다.");
+        assertTrue(categoryRepository.findByName(NEW_CATEGORY).isEmpty(), "앞선 카테고리도 등록되지 않아야 합니다.");
+        assertTrue(categoryDictionary.findId(NEW_CATEGORY).isEmpty(), "앞선 카테고리가 사전에 없어야 합니다.");
+    }
+}
@@ -0,0 +1,115 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.repository.CategoryRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        categoryService = new CategoryService(categoryRepository, categoryDictionary, transactionManager);
+        categoryDictionary.reload(List.of(category(1, "상의", 0)));
+    }
+
+    @Test
+    void testResolve_KnownCategoryUsesReference() {
+        Category reference = category(1, "상의", 0);
+        when(categoryRepository.getReferenceById(1)).thenReturn(reference);
+
+        assertSame(reference, categoryService.resolve("상의"));
+        verify(categoryRepository, never()).findByName(any());
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void testResolve_NewCategoryIsRegistered() {
+        Category saved = category(2, "신발", 1);
+        when(categoryRepository.findByName("신발")).thenReturn(Optional.empty());
+        when(categoryRepository.findMaxDisplayOrder()).thenReturn(0);
+        when(categoryRepository.save(any(Category.class))).thenReturn(saved);
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "상의", 0), saved));
+        when(categoryRepository.getReferenceById(2)).thenReturn(saved);
+
+        assertSame(saved, categoryService.resolve("신발"));
+        assertEquals(2, categoryDictionary.findId("신발").orElseThrow());
+        assertEquals(1, categoryDictionary.orderOf("신발"));
+    }
+
+    @Test
+    void testResolve_NewCategoryLoadedOnlyAfterCommit() {
+        Category saved = category(2, "신발", 1);
+        when(categoryRepository.findByName("신발")).thenReturn(Optional.empty());
+        when(categoryRepository.findMaxDisplayOrder()).thenReturn(0);
+        when(categoryRepository.save(any(Category.class))).thenReturn(saved);
+        when(categoryRepository.getReferenceById(2)).thenReturn(saved);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryService.resolve("신발");
+            assertTrue(categoryDictionary.findId("신발").isEmpty());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(categoryDictionary.findId("신발").isEmpty());
+        verify(categoryRepository, never()).findAll();
+    }
+
+    @Test
+    void testResolve_TooLongName() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> categoryService.resolve("가".repeat(Category.MAX_NAME_LENGTH + 1)));
+
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void testResolve_BlankName() {
+        CustomException exception = assertThrows(CustomException.class, () -> categoryService.resolve(" "));
+
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+    }
+
+    private Category category(int id, String name, int displayOrder) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setDisplayOrder(displayOrder);
+        return category;
+    }
+}
@@ -0,0 +1,96 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.api.dto.OutfitDto;
+import org.musinsa.category.domain.dto.CategoryPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.index.BrandPriceRanking;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotFixture;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.index.CategoryPriceIndex;
+import org.musinsa.category.exception.CustomException;
+
+@ExtendWith(MockitoExtension.class)
+class OutfitServiceTest {
+
+    @Mock
+    private CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    private OutfitService outfitService;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        outfitService = new OutfitService(catalogSnapshotPublisher, new CategoryDictionary());
+        List<ProductPriceDto> products = List.of(
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L),
+                new ProductPriceDto(2L, 1L, "BrandA", "바지", 3000L),
+                new ProductPriceDto(3L, 2L, "BrandB", "상의", 8000L),
+                new ProductPriceDto(4L, 2L, "BrandB", "바지", 6000L));
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.reload(products);
+        BrandPriceRanking ranking = new BrandPriceRanking();
+        ranking.reload(products);
+        snapshot = CatalogSnapshotFixture.snapshot(1L, index.getSummaryMap(), ranking.getRanking());
+    }
+
+    @Test
+    void testGetCheapestOutfit() {
+        // given
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshot);
+
+        // when
+        OutfitDto single = outfitService.getCheapestOutfit(null, 1);
+        OutfitDto two = outfitService.getCheapestOutfit(List.of("상의", "바지"), 2);
+
+        // then
+        assertEquals(13000L, single.getTotalPrice());
+        assertEquals(1, single.getBrandCount());
+        assertEquals(11000L, two.getTotalPrice());
+        assertEquals(Set.of("BrandA", "BrandB"), two.getCategories().stream()
+                .map(CategoryPriceDto::getBrand)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testGetBudgetOutfit() {
+        // given
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshot);
+
+        // when
+        OutfitDto outfit = outfitService.getBudgetOutfit(null, 15000L);
+
+        // then
+        assertEquals(14000L, outfit.getTotalPrice());
+        assertEquals(true, outfit.isOptimal());
+        CustomException exception = assertThrows(CustomException.class, () -> outfitService.getBudgetOutfit(null, 5000L));
+        assertEquals("OUTFIT_NOT_FOUND", exception.getErrorCode());
+    }
+
+    @Test
+    void testInvalidParameter() {
+        assertThrows(CustomException.class, () -> outfitService.getCheapestOutfit(null, 0));
+
+        CustomException notLoaded = assertThrows(CustomException.class, () -> outfitService.getCheapestOutfit(null, 1));
+        assertEquals("PRODUCT_RETRIEVAL_FAILED", notLoaded.getErrorCode());
+
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshot);
+        CustomException unknown = assertThrows(CustomException.class,
+                () -> outfitService.getCheapestOutfit(List.of("모자"), 1));
+        assertEquals("INVALID_PARAMETER", unknown.getErrorCode());
+    }
+}
@@ -0,0 +1,93 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class PriceUpdateServiceIntegrationTest {
+
+    @Autowired
+    private PriceUpdateService priceUpdateService;
+
+    @Autowired
+    private BrandProductService brandProductService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        brandProductService.addBrandAndProducts(new BrandProductRequestDto(new BrandDto(null, "Feed Brand"), List.of(
+                new ProductDto(null, "상의", 10000L, null),
+                new ProductDto(null, "바지", 20000L, null))));
+        brandId = brandRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    @DisplayName("가격 일괄 변경 시 가격과 버전, 수정일이 함께 갱신")
+    void testUpdatePricesBumpsVersionAndModifiedDate() {
+        // When
+        PriceUpdateResultDto result = priceUpdateService.updatePrices(List.of(new PriceUpdateDto(brandId, "상의", 9000L)));
+
+        // Then
+        assertEquals(1, result.getUpdatedRows(), "한 상품이 변경되어야 합니다.");
+        assertEquals(0, result.getConflicts().size(), "충돌이 없어야 합니다.");
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT p.price, p.ver_no, p.update_dt FROM product p JOIN category c ON c.id = p.category_id "
+                        + "WHERE p.brand_id = ? AND c.name = ?", brandId, "상의");
+        assertEquals(9000L, ((Number) row.get("price")).longValue(), "가격이 변경되어야 합니다.");
+        assertEquals(2L, ((Number) row.get("ver_no")).longValue(), "버전이 올라가야 합니다.");
+        assertNotNull(row.get("update_dt"), "수정일이 기록되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("반영할 상품이 없거나 잘못된 항목은 요청 위치와 함께 충돌로 반환")
+    void testUpdatePricesReportsConflictsPerRow() {
+        // When
+        PriceUpdateResultDto result = priceUpdateService.updatePrices(List.of(
+                new PriceUpdateDto(brandId, "바지", 19000L),
+                new PriceUpdateDto(brandId, "모자", 5000L),
+                new PriceUpdateDto(brandId, "없는카테고리", 5000L),
+                new PriceUpdateDto(brandId + 1000, "상의", 5000L),
+                new PriceUpdateDto(brandId, "상의", -1L)));
+
+        // Then
+        assertEquals(5, result.getRequested(), "요청 수가 일치해야 합니다.");
+        assertEquals(1, result.getUpdatedRows(), "바지 상품 하나만 변경되어야 합니다.");
+        assertEquals(List.of(1, 2, 3, 4), result.getConflicts().stream().map(PriceUpdateResultDto.Conflict::getIndex).toList(),
+                "충돌 항목의 요청 위치가 순서대로 반환되어야 합니다.");
+        assertEquals("unknown category", result.getConflicts().get(1).getReason(), "알 수 없는 카테고리 사유가 일치해야 합니다.");
+        assertEquals("no active product", result.getConflicts().get(2).getReason(), "대상 없음 사유가 일치해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("빈 가격 변경 목록은 예외")
+    void testUpdatePricesRejectsEmptyList() {
+        assertThrows(CustomException.class, () -> priceUpdateService.updatePrices(List.of()));
+    }
+}
@@ -0,0 +1,105 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.PriceQueueStatsDto;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {
+        "catalog.price-write-behind.enabled=true",
+        "catalog.price-write-behind.flush-interval=PT1H"
+})
+@Transactional
+class PriceWriteBehindServiceIntegrationTest {
+
+    @Autowired
+    private PriceWriteBehindService priceWriteBehindService;
+
+    @Autowired
+    private BrandProductService brandProductService;
+
+    @Autowired
+    private PriceUpdateService priceUpdateService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long brandId;
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) throws IOException {
+        String dir = Files.createTempDirectory("price-journal").toString();
+        registry.add("catalog.price-write-behind.journal-dir", () -> dir);
+    }
+
+    @BeforeEach
+    void setUp() {
+        brandProductService.addBrandAndProducts(new BrandProductRequestDto(new BrandDto(null, "Queue Brand"), List.of(
+                new ProductDto(null, "상의", 10000L, null),
+                new ProductDto(null, "바지", 20000L, null))));
+        brandId = brandRepository.findActiveIdsByName("Queue Brand").get(0);
+    }
+
+    @Test
+    @DisplayName("같은 키의 가격 변경 1,000건은 DB 에 UPDATE 한 번으로 반영된다")
+    void testHotKeyChurnWritesOnce() {
+        // Given
+        PriceQueueStatsDto before = priceWriteBehindService.getStats();
+        for (long price = 1; price <= 1_000; price++) {
+            priceWriteBehindService.enqueue(List.of(new PriceUpdateDto(brandId, "상의", 9000L + price)));
+        }
+
+        // When
+        PriceQueueStatsDto after = priceWriteBehindService.flush();
+
+        // Then
+        assertEquals(1_000, after.getAccepted() - before.getAccepted());
+        assertEquals(1, after.getFlushedChanges() - before.getFlushedChanges(), "마지막 값 하나만 반영되어야 합니다.");
+        assertEquals(0, after.getPendingKeys());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT p.price, p.ver_no FROM product p JOIN category c ON c.id = p.category_id "
+                        + "WHERE p.brand_id = ? AND c.name = ?", brandId, "상의");
+        assertEquals(10000L, ((Number) row.get("price")).longValue(), "마지막 가격이 반영되어야 합니다.");
+        assertEquals(2L, ((Number) row.get("ver_no")).longValue(), "UPDATE 는 한 번만 실행되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("큐에 수락된 뒤 동기 경로로 바뀐 가격은 늦게 비워진 큐 값이 덮지 않는다")
+    void testQueuedPriceDoesNotOverwriteNewerUpdate() {
+        // Given
+        PriceQueueStatsDto before = priceWriteBehindService.getStats();
+        priceWriteBehindService.enqueue(List.of(new PriceUpdateDto(brandId, "상의", 7000L)));
+        priceUpdateService.updatePrices(List.of(new PriceUpdateDto(brandId, "상의", 8000L)));
+
+        // When
+        PriceQueueStatsDto after = priceWriteBehindService.flush();
+
+        // Then
+        assertEquals(1, after.getDroppedChanges() - before.getDroppedChanges(), "오래된 큐 값은 버려져야 합니다.");
+        Long price = jdbcTemplate.queryForObject(
+                "SELECT p.price FROM product p JOIN category c ON c.id = p.category_id "
+                        + "WHERE p.brand_id = ? AND c.name = ?", Long.class, brandId, "상의");
+        assertEquals(8000L, price, "동기 경로의 가격이 남아야 합니다.");
+    }
+}
@@ -0,0 +1,209 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.api.dto.PriceQueueResultDto;
+import org.musinsa.category.api.dto.PriceUpdateResultDto;
+import org.musinsa.category.domain.dto.PriceUpdateDto;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class PriceWriteBehindServiceTest {
+
+    @Mock
+    private PriceUpdateService priceUpdateService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Captor
+    private ArgumentCaptor<List<PriceUpdateDto>> changesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<LocalDateTime>> acceptedAtCaptor;
+
+    @TempDir
+    private Path journalDir;
+
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    @BeforeEach
+    void setUp() {
+        categoryDictionary.reload(List.of(category(1, "상의"), category(2, "바지")));
+    }
+
+    @Test
+    @DisplayName("같은 키의 변경은 마지막 값 하나로 합쳐져 한 번만 반영된다")
+    void testHotKeyIsCoalesced() {
+        PriceWriteBehindService service = service(100);
+        when(priceUpdateService.updateQueuedPrices(anyList(), anyList())).thenReturn(new PriceUpdateResultDto(1, 1, List.of()));
+
+        for (long price = 1; price <= 1_000; price++) {
+            service.enqueue(List.of(new PriceUpdateDto(1L, "상의", price)));
+        }
+        service.flush();
+
+        verify(priceUpdateService).updateQueuedPrices(changesCaptor.capture(), anyList());
+        assertEquals(1, changesCaptor.getValue().size());
+        assertEquals(1_000L, changesCaptor.getValue().get(0).getPrice());
+        assertEquals(1_000, service.getStats().getAccepted());
+        assertEquals(999, service.getStats().getCoalesced());
+        assertEquals(1, service.getStats().getFlushedChanges());
+        assertEquals(0, service.getStats().getPendingKeys());
+    }
+
+    @Test
+    @DisplayName("잘못된 항목은 충돌로 돌려주고 나머지만 접수한다")
+    void testEnqueueReportsConflicts() {
+        PriceWriteBehindService service = service(100);
+
+        PriceQueueResultDto result = service.enqueue(List.of(
+                new PriceUpdateDto(1L, "상의", 100L),
+                new PriceUpdateDto(1L, "없는카테고리", 100L),
+                new PriceUpdateDto(1L, "상의", -1L),
+                new PriceUpdateDto(1L, "상의", 90L)));
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(1, result.getCoalesced());
+        assertEquals(1, result.getPendingKeys());
+        assertEquals(List.of(1, 2), result.getConflicts().stream().map(PriceUpdateResultDto.Conflict::getIndex).toList());
+    }
+
+    @Test
+    @DisplayName("수락된 변경은 비우기 전에 종료되어도 재기동 때 저널에서 복구되고, 반영된 뒤에는 다시 복구되지 않는다")
+    void testAcknowledgedChangesSurviveRestart() {
+        PriceWriteBehindService crashed = service(100);
+        crashed.enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L), new PriceUpdateDto(2L, "바지", 200L)));
+        crashed.enqueue(List.of(new PriceUpdateDto(1L, "상의", 110L)));
+
+        PriceWriteBehindService restarted = service(100);
+        assertEquals(2, restarted.getStats().getPendingKeys());
+
+        when(priceUpdateService.updateQueuedPrices(anyList(), anyList())).thenReturn(new PriceUpdateResultDto(2, 2, List.of()));
+        restarted.flush();
+        verify(priceUpdateService).updateQueuedPrices(changesCaptor.capture(), anyList());
+        assertEquals(List.of(110L, 200L), changesCaptor.getValue().stream().map(PriceUpdateDto::getPrice).sorted().toList());
+
+        assertEquals(0, service(100).getStats().getPendingKeys());
+    }
+
+    @Test
+    @DisplayName("저널에서 복구한 변경은 처음 수락된 시각으로 반영을 요청한다")
+    void testRecoveredChangeKeepsAcceptedTime() {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        service(100).enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L)));
+        LocalDateTime after = LocalDateTime.now();
+
+        PriceWriteBehindService restarted = service(100);
+        when(priceUpdateService.updateQueuedPrices(anyList(), anyList())).thenReturn(new PriceUpdateResultDto(1, 1, List.of()));
+        restarted.flush();
+
+        verify(priceUpdateService).updateQueuedPrices(changesCaptor.capture(), acceptedAtCaptor.capture());
+        LocalDateTime acceptedAt = acceptedAtCaptor.getValue().get(0);
+        assertFalse(acceptedAt.isBefore(before) || acceptedAt.isAfter(after), "수락 시각이 저널에 남아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("저널 끝의 잘린 레코드는 무시한다")
+    void testTornJournalTailIsIgnored() throws IOException {
+        service(100).enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L)));
+        try (Stream<Path> files = Files.list(journalDir)) {
+            Path segment = files.filter(file -> file.toFile().length() > 0).findFirst().orElseThrow();
+            Files.write(segment, new byte[PriceChangeJournal.RECORD_SIZE - 1], StandardOpenOption.APPEND);
+        }
+
+        assertEquals(1, service(100).getStats().getPendingKeys());
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 변경과 저널을 남겨 두고 다음 비우기에서 다시 반영한다")
+    void testFailedFlushKeepsChanges() {
+        PriceWriteBehindService service = service(100);
+        service.enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L)));
+        when(priceUpdateService.updateQueuedPrices(anyList(), anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(new PriceUpdateResultDto(1, 1, List.of()));
+
+        service.flush();
+        assertEquals(1, service.getStats().getPendingKeys());
+        assertEquals(0, service.getStats().getFlushes());
+        assertEquals(1, service(100).getStats().getPendingKeys(), "저널이 남아 있어야 합니다.");
+
+        service.flush();
+        verify(priceUpdateService, times(2)).updateQueuedPrices(anyList(), anyList());
+        assertEquals(0, service.getStats().getPendingKeys());
+        assertEquals(1, service.getStats().getFlushes());
+    }
+
+    @Test
+    @DisplayName("대기 키가 가득 차면 비우기를 요청하고 기다린 뒤 거절한다")
+    void testFullQueueAppliesBackpressure() {
+        PriceWriteBehindService service = service(2);
+        service.enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L), new PriceUpdateDto(2L, "상의", 100L)));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> service.enqueue(List.of(new PriceUpdateDto(3L, "상의", 100L))));
+        assertEquals("PRICE_QUEUE_FULL", exception.getErrorCode());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        assertEquals(2, service.getStats().getPendingKeys());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 저널을 만들지 않고 요청을 거절한다")
+    void testDisabled() throws IOException {
+        PriceWriteBehindService service = new PriceWriteBehindService(priceUpdateService, categoryDictionary, taskScheduler,
+                false, 4, 100, 100, Duration.ofMillis(20), journalDir.toString());
+
+        assertThrows(CustomException.class, () -> service.enqueue(List.of(new PriceUpdateDto(1L, "상의", 100L))));
+        service.flush();
+        verify(priceUpdateService, never()).updateQueuedPrices(anyList(), anyList());
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private PriceWriteBehindService service(int maxPending) {
+        PriceWriteBehindService service = new PriceWriteBehindService(priceUpdateService, categoryDictionary,
+                taskScheduler, true, 4, maxPending, 1_000, Duration.ofMillis(20), journalDir.toString());
+        service.start();
+        return service;
+    }
+
+    private static Category category(int id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setDisplayOrder(id);
+        return category;
+    }
+}
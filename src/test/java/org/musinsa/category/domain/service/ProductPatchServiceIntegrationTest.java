@@ -0,0 +1,253 @@
+package org.musinsa.category.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.musinsa.category.api.dto.BrandPatchRequestDto;
+import org.musinsa.category.api.dto.BrandProductRequestDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto;
+import org.musinsa.category.api.dto.ProductPatchResultDto.Conflict;
+import org.musinsa.category.domain.dto.BrandDto;
+import org.musinsa.category.domain.dto.ProductDto;
+import org.musinsa.category.domain.dto.ProductPatchDto;
+import org.musinsa.category.domain.index.CatalogIndexUpdater;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryPriceSummary;
+import org.musinsa.category.domain.repository.BrandRepository;
+import org.musinsa.category.exception.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class ProductPatchServiceIntegrationTest {
+
+    private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈");
+    private static final String NEW_CATEGORY = "새 카테고리";
+
+    @Autowired
+    private ProductPatchService productPatchService;
+
+    @Autowired
+    private BrandProductService brandProductService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CatalogIndexUpdater catalogIndexUpdater;
+
+    @Autowired
+    private CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long brandId;
+    private Statistics statistics;
+
+    /**
+     * 카테고리마다 상품 30개씩, 120개 상품을 가진 브랜드를 만든다.
+     */
+    @BeforeEach
+    void setUp() {
+        List<ProductDto> products = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            products.add(new ProductDto(null, CATEGORIES.get(i % CATEGORIES.size()), 10000L + i, null));
+        }
+        brandProductService.addBrandAndProducts(new BrandProductRequestDto(new BrandDto(null, "Patch Brand"), products));
+        brandId = brandRepository.findActiveIdsByName("Patch Brand").get(0);
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("상품 하나의 가격만 바꾸면 그 상품만 읽고 버전과 수정일을 갱신한다")
+    void testPatchProductLoadsOnlyThatProduct() {
+        // Given
+        Long productId = productId("상의", 10000L);
+
+        // When
+        ProductPatchResultDto result = productPatchService.patchProduct(productId, new ProductPatchDto(null, null, 9000L));
+        entityManager.flush();
+
+        // Then
+        assertEquals(1, result.getUpdatedProducts());
+        assertEquals(0, result.getConflicts().size());
+        assertEquals(1, statistics.getEntityLoadCount(), "요청한 상품 하나만 읽어야 합니다.");
+        assertEquals(0, statistics.getCollectionLoadCount(), "브랜드 상품 컬렉션을 읽지 않아야 합니다.");
+
+        Map<String, Object> row = row(productId);
+        assertEquals(9000L, ((Number) row.get("price")).longValue());
+        assertEquals(2L, ((Number) row.get("ver_no")).longValue(), "버전이 한 번만 올라가야 합니다.");
+        assertNotNull(row.get("update_dt"));
+        assertEquals(1L, ((Number) row(productId("상의", 10004L)).get("ver_no")).longValue(), "다른 상품은 바뀌지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("값이 같은 필드는 바꾸지 않고 버전도 올리지 않는다")
+    void testPatchWithSameValuesIsNoop() {
+        Long productId = productId("바지", 10002L);
+
+        ProductPatchResultDto result = productPatchService.patchProduct(productId, new ProductPatchDto(null, "바지", 10002L));
+        entityManager.flush();
+
+        assertEquals(0, result.getUpdatedProducts());
+        assertEquals(1, result.getUnchangedProducts());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        Map<String, Object> row = row(productId);
+        assertEquals(1L, ((Number) row.get("ver_no")).longValue());
+        assertNull(row.get("update_dt"));
+    }
+
+    @Test
+    @DisplayName("상품 ID 로 카테고리를 옮기고, 카테고리로 지정하면 그 카테고리 상품만 배치로 갱신한다")
+    void testPatchBrandByIdAndCategory() {
+        // Given
+        Long movedId = productId("상의", 10000L);
+
+        // When
+        ProductPatchResultDto result = productPatchService.patchBrand(brandId, new BrandPatchRequestDto(null, List.of(
+                new ProductPatchDto(movedId, "모자", null),
+                new ProductPatchDto(null, "아우터", 5000L))));
+        entityManager.flush();
+
+        // Then
+        assertFalse(result.isBrandUpdated());
+        assertEquals(31, result.getUpdatedProducts(), "옮긴 상품 1개와 아우터 상품 30개가 바뀌어야 합니다.");
+        assertEquals(31, statistics.getEntityLoadCount(), "요청이 가리키는 상품만 읽어야 합니다.");
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(31, statistics.getEntityUpdateCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "UPDATE 는 배치로 묶여야 합니다: statements=" + statistics.getPrepareStatementCount());
+
+        assertEquals("모자", jdbcTemplate.queryForObject("SELECT c.name FROM product p JOIN category c ON c.id = p.category_id "
+                + "WHERE p.id = ?", String.class, movedId));
+        assertEquals(30, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product p JOIN category c ON c.id = p.category_id "
+                + "WHERE p.brand_id = ? AND c.name = '아우터' AND p.price = 5000 AND p.ver_no = 2", Integer.class, brandId));
+    }
+
+    @Test
+    @DisplayName("반영할 수 없는 항목은 요청 위치와 함께 충돌로 반환하고 나머지는 반영한다")
+    void testPatchBrandReportsConflicts() {
+        // Given
+        brandProductService.addBrandAndProducts(new BrandProductRequestDto(new BrandDto(null, "Other Brand"),
+                List.of(new ProductDto(null, "상의", 1000L, null))));
+        Long otherBrandId = brandRepository.findActiveIdsByName("Other Brand").get(0);
+        Long otherProductId = jdbcTemplate.queryForObject("SELECT id FROM product WHERE brand_id = ?", Long.class, otherBrandId);
+
+        // When
+        ProductPatchResultDto result = productPatchService.patchBrand(brandId, new BrandPatchRequestDto(null, List.of(
+                new ProductPatchDto(otherProductId, null, 1L),
+                new ProductPatchDto(null, "없는카테고리", 1L),
+                new ProductPatchDto(null, "가방", 1L),
+                new ProductPatchDto(null, "바지", null),
+                new ProductPatchDto(productId("바지", 10002L), null, -1L),
+                new ProductPatchDto(productId("바지", 10002L), null, 7000L))));
+
+        // Then
+        assertEquals(6, result.getRequested());
+        assertEquals(1, result.getUpdatedProducts());
+        assertEquals(List.of(0, 1, 2, 3, 4), result.getConflicts().stream().map(Conflict::getIndex).sorted().toList());
+        assertEquals(1000L, jdbcTemplate.queryForObject("SELECT price FROM product WHERE id = ?", Long.class, otherProductId),
+                "다른 브랜드 상품은 바뀌지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("브랜드 이름을 바꾸면 브랜드 행만 읽어 갱신한다")
+    void testPatchBrandName() {
+        ProductPatchResultDto result = productPatchService.patchBrand(brandId, new BrandPatchRequestDto("Renamed", null));
+        entityManager.flush();
+
+        assertTrue(result.isBrandUpdated());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals("Renamed", jdbcTemplate.queryForObject("SELECT name FROM brand WHERE id = ?", String.class, brandId));
+    }
+
+    @Test
+    @DisplayName("바꿀 내용이 없거나 없는 브랜드 이름을 바꾸려 하면 예외")
+    void testPatchBrandInvalidRequest() {
+        assertThrows(CustomException.class,
+                () -> productPatchService.patchBrand(brandId, new BrandPatchRequestDto(null, List.of())));
+        assertThrows(CustomException.class,
+                () -> productPatchService.patchBrand(brandId + 1000, new BrandPatchRequestDto("Nobody", null)));
+    }
+
+    @Test
+    @DisplayName("아직 없는 카테고리로 옮기면 커밋 뒤 인덱스에 그 카테고리 이름으로 반영된다")
+    void testPatchIntoNewCategoryReachesIndex() {
+        // Given
+        Long productId = productId("상의", 10000L);
+
+        // When
+        productPatchService.patchProduct(productId, new ProductPatchDto(null, NEW_CATEGORY, 1L));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Then
+        try {
+            CategoryPriceSummary summary = catalogSnapshotPublisher.publishNow().getCategorySummary(NEW_CATEGORY)
+                    .orElseThrow(() -> new AssertionError("새 카테고리가 인덱스에 있어야 합니다."));
+            assertEquals(1L, summary.getLowestPrice());
+            assertEquals("Patch Brand", summary.getLowestPriceBrand());
+        } finally {
+            deleteCommittedData();
+        }
+    }
+
+    /**
+     * 커밋까지 확인한 테스트가 남긴 브랜드와 카테고리를 지우고 사전과 인덱스를 다시 읽는다.
+     */
+    private void deleteCommittedData() {
+        jdbcTemplate.update("DELETE FROM product WHERE brand_id = ?", brandId);
+        jdbcTemplate.update("DELETE FROM brand WHERE id = ?", brandId);
+        jdbcTemplate.update("DELETE FROM category WHERE name = ?", NEW_CATEGORY);
+        categoryService.reload();
+        catalogIndexUpdater.reload();
+    }
+
+    private Long productId(String category, Long price) {
+        return jdbcTemplate.queryForObject("SELECT p.id FROM product p JOIN category c ON c.id = p.category_id "
+                + "WHERE p.brand_id = ? AND c.name = ? AND p.price = ?", Long.class, brandId, category, price);
+    }
+
+    private Map<String, Object> row(Long productId) {
+        return jdbcTemplate.queryForMap("SELECT price, ver_no, update_dt FROM product WHERE id = ?", productId);
+    }
+}
@@ -14,6 +14,7 @@ import org.musinsa.category.api.dto.LowestPriceInfoDto;
 import org.musinsa.category.domain.dto.CategoryPriceDto;
 import org.musinsa.category.domain.entity.Brand;
 import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.domain.index.CatalogIndexUpdater;
 import org.musinsa.category.domain.repository.BrandRepository;
 import org.musinsa.category.domain.repository.ProductRepository;
 import org.musinsa.category.exception.CustomException;
@@ -34,6 +35,12 @@ class ProductServiceIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CatalogIndexUpdater catalogIndexUpdater;
+
     @BeforeEach
     void setUp() {
         // 테스트 데이터 설정
@@ -53,12 +60,15 @@ class ProductServiceIntegrationTest {
         createProduct(brand1, "바지", 20000L);
         createProduct(brand2, "상의", 15000L);
         createProduct(brand2, "스니커즈", 25000L);
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 인덱스를 직접 다시 적재한다.
+        catalogIndexUpdater.reload();
     }
 
     private void createProduct(Brand brand, String category, Long price) {
         Product product = new Product();
         product.setBrand(brand);
-        product.setCategory(category);
+        product.setCategory(categoryService.resolve(category));
         product.setPrice(price);
         product.setCreatedDate(LocalDateTime.now());
         product.setVersion(1L);
@@ -81,7 +91,7 @@ class ProductServiceIntegrationTest {
 
     @Test
     void 전체가격_가장낮은_브랜드_확인성공() {
-        Map<String, Object> result = productService.getLowestPriceBrandInfo();
+        Map<String, Object> result = productService.getLowestPriceBrandInfo(List.of("상의", "바지"));
 
         assertNotNull(result);
         assertTrue(result.containsKey("최저가"));
@@ -96,6 +106,14 @@ class ProductServiceIntegrationTest {
         assertEquals("10,000", categories.get(0).get("가격"));
     }
 
+    @Test
+    void 모든_카테고리를_가진_브랜드가_없으면_실패() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getLowestPriceBrandInfo());
+
+        assertTrue(exception.getMessage().contains("No brand covers all requested categories"));
+    }
+
     @Test
     void 특정카테고리_최저가_최고가_확인성공() {
         Map<String, Object> result = productService.getCategoryPriceInfo("상의");
@@ -118,6 +136,7 @@ class ProductServiceIntegrationTest {
     void 카테고리_데이터가_없을때_빈_결과_확인() {
         productRepository.deleteAll();
         brandRepository.deleteAll();
+        catalogIndexUpdater.reload();
 
         LowestPriceInfoDto result = productService.getLowestPriceByCategory();
 
@@ -130,6 +149,7 @@ class ProductServiceIntegrationTest {
     void 최저가_브랜드_정보가_없을때_빈_결과_확인() {
         productRepository.deleteAll();
         brandRepository.deleteAll();
+        catalogIndexUpdater.reload();
 
         CustomException exception = assertThrows(CustomException.class,
                 () -> productService.getLowestPriceBrandInfo());
@@ -2,9 +2,11 @@ package org.musinsa.category.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -15,13 +17,28 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.api.dto.BrandRankingDto;
+import org.musinsa.category.api.dto.CategoryRankingDto;
+import org.musinsa.category.api.dto.LowestPriceBatchResultDto;
 import org.musinsa.category.api.dto.LowestPriceInfoDto;
-import org.musinsa.category.domain.entity.Brand;
-import org.musinsa.category.domain.entity.Product;
+import org.musinsa.category.api.dto.PriceHistogramDto;
+import org.musinsa.category.api.dto.PriceRangeDto;
+import org.musinsa.category.domain.dto.BrandTotalPriceDto;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.entity.Category;
+import org.musinsa.category.domain.index.BrandCategoryMatrix;
+import org.musinsa.category.domain.index.BrandPriceTotal;
+import org.musinsa.category.domain.index.CatalogSnapshot;
+import org.musinsa.category.domain.index.CatalogSnapshotFixture;
+import org.musinsa.category.domain.index.CatalogSnapshotPublisher;
+import org.musinsa.category.domain.index.CategoryDictionary;
+import org.musinsa.category.domain.index.CategoryPriceIndex;
+import org.musinsa.category.domain.index.CategoryPriceSummary;
 import org.musinsa.category.domain.repository.ProductRepository;
+import org.musinsa.category.domain.shard.ShardedCatalogStore;
 import org.musinsa.category.exception.CustomException;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,19 +47,40 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private CatalogSnapshotPublisher catalogSnapshotPublisher;
+
+    @Mock
+    private ShardedCatalogStore shardedCatalogStore;
+
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+
+    private final CategoryPriceIndex categoryPriceIndex = new CategoryPriceIndex();
+
     private ProductService productService;
 
     @BeforeEach
     void setUp() {
+        List<String> names = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리");
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            Category category = new Category();
+            category.setId(i + 1);
+            category.setName(names.get(i));
+            category.setDisplayOrder(i);
+            categories.add(category);
+        }
+        categoryDictionary.reload(categories);
+        productService = new ProductService(productRepository, catalogSnapshotPublisher, categoryDictionary,
+                shardedCatalogStore);
     }
 
     @Test
     void testGetLowestPriceByCategory() {
         // given
-        List<Object[]> mockResult = Arrays.asList(
-                new Object[]{"상의", "BrandA", 10000L},
-                new Object[]{"바지", "BrandB", 20000L}
+        List<CategoryLowestPriceDto> mockResult = Arrays.asList(
+                new CategoryLowestPriceDto("상의", "BrandA", 10000L),
+                new CategoryLowestPriceDto("바지", "BrandB", 20000L)
         );
         // when
         when(productRepository.findLowestPriceByCategory()).thenReturn(mockResult);
@@ -60,26 +98,13 @@ class ProductServiceTest {
     @Test
     void testGetLowestPriceBrandInfo() {
         // given
-        List<Object[]> mockResult = new ArrayList<>();
-        mockResult.add(new Object[]{"BrandA", 100000L});
-        when(productRepository.findBrandWithLowestTotalPrice()).thenReturn(mockResult);
-
-        Brand brand = new Brand();
-        brand.setName("BrandA");
-
-        Product product1 = new Product();
-        product1.setCategory("상의");
-        product1.setPrice(10000L);
-        product1.setBrand(brand);
-
-        Product product2 = new Product();
-        product2.setCategory("바지");
-        product2.setPrice(20000L);
-        product2.setBrand(brand);
+        when(productRepository.findBrandWithLowestTotalPrice())
+                .thenReturn(List.of(new BrandTotalPriceDto(1L, "BrandA", 100000L)));
 
         // when
-        when(productRepository.findByBrandNameAndDeletedDateIsNull("BrandA"))
-                .thenReturn(Arrays.asList(product1, product2));
+        when(productRepository.findCheapestActiveProductPricesByBrandId(1L)).thenReturn(Arrays.asList(
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L),
+                new ProductPriceDto(2L, 1L, "BrandA", "바지", 20000L)));
 
         Map<String, Object> result = productService.getLowestPriceBrandInfo();
 
@@ -96,27 +121,12 @@ class ProductServiceTest {
     @Test
     void testGetCategoryPriceInfo() {
         // given
-        Brand brandA = new Brand();
-        brandA.setName("BrandA");
-
-        Brand brandB = new Brand();
-        brandB.setName("BrandB");
-
-        Product lowestProduct = new Product();
-        lowestProduct.setCategory("상의");
-        lowestProduct.setPrice(10000L);
-        lowestProduct.setBrand(brandA);
-
-        Product highestProduct = new Product();
-        highestProduct.setCategory("상의");
-        highestProduct.setPrice(20000L);
-        highestProduct.setBrand(brandB);
+        ProductPriceDto lowestProduct = new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L);
+        ProductPriceDto highestProduct = new ProductPriceDto(2L, 2L, "BrandB", "상의", 20000L);
 
         // when
-        when(productRepository.findLowestPriceProductsByCategory("상의"))
-                .thenReturn(List.of(lowestProduct));
-        when(productRepository.findHighestPriceProductsByCategory("상의"))
-                .thenReturn(List.of(highestProduct));
+        when(productRepository.findLowestAndHighestPriceProductsByCategory(1))
+                .thenReturn(List.of(lowestProduct, highestProduct));
 
         Map<String, Object> result = productService.getCategoryPriceInfo("상의");
 
@@ -164,17 +174,14 @@ class ProductServiceTest {
                 () -> productService.getLowestPriceBrandInfo());
 
         assertEquals("PRODUCT_RETRIEVAL_FAILED", exception.getErrorCode());
-        assertTrue(exception.getMessage().contains("Failed to add product in getLowestPriceBrandInfo method"));
+        assertEquals("No brand found with the lowest total price", exception.getMessage(),
+                "서비스가 던진 예외는 다시 감싸지 않아야 합니다.");
     }
 
     @Test
     void testGetCategoryPriceInfo_NonExistentCategory() {
         // given
         String nonExistentCategory = "NonExistentCategory";
-        when(productRepository.findLowestPriceProductsByCategory(nonExistentCategory))
-                .thenReturn(Collections.emptyList());
-        when(productRepository.findHighestPriceProductsByCategory(nonExistentCategory))
-                .thenReturn(Collections.emptyList());
 
         // when
         Map<String, Object> result = productService.getCategoryPriceInfo(nonExistentCategory);
@@ -184,6 +191,7 @@ class ProductServiceTest {
         assertEquals(nonExistentCategory, result.get("카테고리"));
         assertTrue(((List<?>) result.get("최저가")).isEmpty());
         assertTrue(((List<?>) result.get("최고가")).isEmpty());
+        verifyNoInteractions(productRepository);
     }
 
     @Test
@@ -222,10 +230,264 @@ class ProductServiceTest {
     @Test
     void testGetCategoryPriceInfo_RepositoryException() {
         // given
-        when(productRepository.findLowestPriceProductsByCategory(anyString())).thenThrow(new RuntimeException("Database error"));
+        when(productRepository.findLowestAndHighestPriceProductsByCategory(anyInt())).thenThrow(new RuntimeException("Database error"));
 
         // when & then
         assertThrows(CustomException.class, () -> productService.getCategoryPriceInfo("상의"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void testGetLowestPriceByCategory_FromSnapshot() {
+        // given
+        CategoryPriceSummary pants = new CategoryPriceSummary("바지",
+                List.of(new ProductPriceDto(3L, 1L, "BrandA", "바지", 3000L)),
+                List.of(new ProductPriceDto(4L, 2L, "BrandB", "바지", 5000L)));
+        CategoryPriceSummary top = new CategoryPriceSummary("상의",
+                List.of(new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L),
+                        new ProductPriceDto(2L, 2L, "BrandB", "상의", 10000L)),
+                List.of(new ProductPriceDto(2L, 2L, "BrandB", "상의", 10000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(
+                CatalogSnapshotFixture.snapshot(1L, Map.of("바지", pants, "상의", top), List.of()));
+
+        // when
+        LowestPriceInfoDto result = productService.getLowestPriceByCategory();
+
+        // then
+        assertEquals(2, result.getCategories().size());
+        assertEquals("상의", result.getCategories().get(0).getCategory());
+        assertEquals("BrandB", result.getCategories().get(0).getBrand());
+        assertEquals("바지", result.getCategories().get(1).getCategory());
+        assertEquals(13000L, result.getTotalPrice());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetLowestPriceByCategory_Subset() {
+        // given
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, summaries(), List.of()));
+
+        // when
+        LowestPriceInfoDto result = productService.getLowestPriceByCategory(List.of("모자", "상의", "모자"));
+
+        // then
+        assertEquals(2, result.getCategories().size());
+        assertEquals("상의", result.getCategories().get(0).getCategory());
+        assertEquals("모자", result.getCategories().get(1).getCategory());
+        assertEquals(11000L, result.getTotalPrice());
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getLowestPriceByCategory(List.of("가방")));
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetLowestPricesByCategories() {
+        // given
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(7L, summaries(), List.of()));
+
+        // when
+        LowestPriceBatchResultDto result = productService.getLowestPricesByCategories(
+                List.of(List.of("상의", "바지"), List.of("바지"), List.of("상의", "바지", "모자")));
+
+        // then
+        assertEquals(7L, result.getVersion());
+        assertEquals(List.of(13000L, 3000L, 14000L),
+                result.getResults().stream().map(LowestPriceInfoDto::getTotalPrice).toList());
+        assertThrows(CustomException.class, () -> productService.getLowestPricesByCategories(List.of()));
+        assertThrows(CustomException.class, () -> productService.getLowestPricesByCategories(List.of(List.of())));
+    }
+
+    private Map<String, CategoryPriceSummary> summaries() {
+        return Map.of(
+                "상의", summary("상의", "BrandA", 10000L),
+                "바지", summary("바지", "BrandB", 3000L),
+                "모자", summary("모자", "BrandC", 1000L));
+    }
+
+    private CategoryPriceSummary summary(String category, String brand, long price) {
+        List<ProductPriceDto> products = List.of(new ProductPriceDto(1L, 1L, brand, category, price));
+        return new CategoryPriceSummary(category, products, products);
+    }
+
+    @Test
+    void testGetCategoryPriceInfo_FromSnapshot() {
+        // given
+        CategoryPriceSummary top = new CategoryPriceSummary("상의",
+                List.of(new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L)),
+                List.of(new ProductPriceDto(2L, 2L, "BrandB", "상의", 20000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of("상의", top), List.of()));
+
+        // when
+        Map<String, Object> result = productService.getCategoryPriceInfo("상의");
+
+        // then
+        List<Map<String, String>> lowestPrice = (List<Map<String, String>>) result.get("최저가");
+        List<Map<String, String>> highestPrice = (List<Map<String, String>>) result.get("최고가");
+        assertEquals("BrandA", lowestPrice.get(0).get("브랜드"));
+        assertEquals("10,000", lowestPrice.get(0).get("가격"));
+        assertEquals("BrandB", highestPrice.get(0).get("브랜드"));
+        assertEquals("20,000", highestPrice.get(0).get("가격"));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetLowestPriceBrandInfo_FromSnapshot() {
+        // given
+        BrandPriceTotal brandA = new BrandPriceTotal(1L, "BrandA", List.of(
+                new ProductPriceDto(2L, 1L, "BrandA", "바지", 20000L),
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of(brandA)));
+
+        // when
+        Map<String, Object> result = productService.getLowestPriceBrandInfo();
+
+        // then
+        Map<String, Object> lowestPrice = (Map<String, Object>) result.get("최저가");
+        assertEquals("BrandA", lowestPrice.get("브랜드"));
+        assertEquals("30,000", lowestPrice.get("총액"));
+        List<Map<String, String>> categories = (List<Map<String, String>>) lowestPrice.get("카테고리");
+        assertEquals("상의", categories.get(0).get("카테고리"));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetLowestPriceBrandInfo_SkipsBrandsMissingCategories() {
+        // given
+        BrandPriceTotal brandA = new BrandPriceTotal(1L, "BrandA", List.of(
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 1000L)));
+        BrandPriceTotal brandB = new BrandPriceTotal(2L, "BrandB", List.of(
+                new ProductPriceDto(2L, 2L, "BrandB", "상의", 10000L),
+                new ProductPriceDto(3L, 2L, "BrandB", "바지", 20000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of(brandA, brandB)));
+
+        // when
+        Map<String, Object> all = (Map<String, Object>) productService.getLowestPriceBrandInfo(null).get("최저가");
+        Map<String, Object> top = (Map<String, Object>) productService.getLowestPriceBrandInfo(List.of("상의")).get("최저가");
+
+        // then
+        assertEquals("BrandB", all.get("브랜드"));
+        assertEquals("30,000", all.get("총액"));
+        assertEquals("BrandA", top.get("브랜드"));
+        assertEquals("1,000", top.get("총액"));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getLowestPriceBrandInfo(List.of("가방")));
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetBrandRanking() {
+        // given
+        BrandPriceTotal brandB = new BrandPriceTotal(2L, "BrandB", List.of(
+                new ProductPriceDto(3L, 2L, "BrandB", "상의", 9000L)));
+        BrandPriceTotal brandA = new BrandPriceTotal(1L, "BrandA", List.of(
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L)));
+        BrandPriceTotal brandC = new BrandPriceTotal(3L, "BrandC", List.of(
+                new ProductPriceDto(4L, 3L, "BrandC", "상의", 12000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(
+                CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of(brandB, brandA, brandC)));
+
+        // when
+        BrandRankingDto result = productService.getBrandRanking(1, "9000:2");
+
+        // then
+        assertEquals(1, result.getBrands().size());
+        assertEquals("BrandA", result.getBrands().get(0).brand());
+        assertEquals(10000L, result.getBrands().get(0).totalPrice());
+        assertEquals("10000:1", result.getNextCursor());
+    }
+
+    @Test
+    void testGetBrandRanking_LastPage() {
+        // given
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of()));
+
+        // when
+        BrandRankingDto result = productService.getBrandRanking(20, null);
+
+        // then
+        assertTrue(result.getBrands().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetBrandRanking_InvalidParameter() {
+        assertThrows(CustomException.class, () -> productService.getBrandRanking(0, null));
+
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of()));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getBrandRanking(10, "not-a-cursor"));
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+    }
+
+    @Test
+    void testGetCategoryRanking() {
+        // given
+        categoryPriceIndex.reload(List.of(
+                new ProductPriceDto(1L, 1L, "BrandA", "상의", 10000L),
+                new ProductPriceDto(2L, 2L, "BrandB", "상의", 9000L),
+                new ProductPriceDto(3L, 3L, "BrandC", "상의", 12000L),
+                new ProductPriceDto(4L, 1L, "BrandA", "바지", 1000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshotOf(categoryPriceIndex));
+
+        // when
+        CategoryRankingDto first = productService.getCategoryRanking("상의", "lowest", 2, null);
+        CategoryRankingDto second = productService.getCategoryRanking("상의", "lowest", 2, first.getNextCursor());
+        CategoryRankingDto highest = productService.getCategoryRanking("상의", "highest", 1, null);
+
+        // then
+        assertEquals(List.of("BrandB", "BrandA"), first.getProducts().stream().map(CategoryRankingDto.Entry::getBrand).toList());
+        assertEquals("10000:1:BrandA", first.getNextCursor());
+        assertEquals(List.of("BrandC"), second.getProducts().stream().map(CategoryRankingDto.Entry::getBrand).toList());
+        assertNull(second.getNextCursor());
+        assertEquals(12000L, highest.getProducts().get(0).getPrice());
+    }
+
+    @Test
+    void testGetCategoryRanking_InvalidParameter() {
+        assertThrows(CustomException.class, () -> productService.getCategoryRanking("상의", "lowest", 0, null));
+        assertThrows(CustomException.class, () -> productService.getCategoryRanking("상의", "cheapest", 10, null));
+
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of()));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getCategoryRanking("상의", "lowest", 10, "not-a-cursor"));
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+    }
+
+    @Test
+    void testGetPriceRangeAndHistogram() {
+        // given
+        categoryPriceIndex.reload(List.of(
+                new ProductPriceDto(1L, 1L, "BrandA", "바지", 3000L),
+                new ProductPriceDto(2L, 2L, "BrandB", "바지", 5500L),
+                new ProductPriceDto(3L, 3L, "BrandC", "바지", 9000L)));
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(snapshotOf(categoryPriceIndex));
+
+        // when
+        PriceRangeDto range = productService.getPriceRange("바지", 3000L, 8000L, 20);
+        PriceHistogramDto histogram = productService.getPriceHistogram("바지", 0L, null, 5000L);
+
+        // then
+        assertEquals(2, range.getCount());
+        assertEquals(List.of("BrandA", "BrandB"), range.getBrands());
+        assertEquals(2, histogram.getBuckets().size());
+        assertEquals(1, histogram.getBuckets().get(0).count());
+        assertEquals(2, histogram.getBuckets().get(1).count());
+        assertEquals(9999L, histogram.getBuckets().get(1).toPrice());
+    }
+
+    @Test
+    void testGetPriceHistogram_InvalidParameter() {
+        assertThrows(CustomException.class, () -> productService.getPriceHistogram("바지", 0L, null, 1500L));
+        assertThrows(CustomException.class, () -> productService.getPriceRange("바지", 5000L, 1000L, 20));
+
+        when(catalogSnapshotPublisher.getCurrent()).thenReturn(CatalogSnapshotFixture.snapshot(1L, Map.of(), List.of()));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getPriceHistogram("바지", 0L, 1_000_000L, 1000L));
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+    }
+
+    private static CatalogSnapshot snapshotOf(CategoryPriceIndex index) {
+        return new CatalogSnapshot(1L, index.getSummaryMap(), List.of(), BrandCategoryMatrix.of(List.of()), index.freeze());
+    }
+}
@@ -0,0 +1,119 @@
+package org.musinsa.category.domain.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogShardUpdaterTest {
+
+    private static final List<ProductPriceDto> PRODUCTS = List.of(new ProductPriceDto(1L, 1L, "A", "상의", 10000L));
+    private static final CatalogPriceChangedEvent PRICE_CHANGED = new CatalogPriceChangedEvent(
+            List.of(new CategoryPrice(1L, "상의", 9000L)));
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedCatalogStore shardedCatalogStore;
+
+    private CatalogShardUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new CatalogShardUpdater(productRepository, shardedCatalogStore);
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패한 샤드만 주 데이터소스의 활성 상품으로 다시 채운다")
+    void testFailedShardResynced() {
+        doThrow(new ShardWriteException(Set.of(1), new IllegalStateException("down")))
+                .when(shardedCatalogStore).changePrices(any());
+        when(productRepository.findAllActiveProductPrices()).thenReturn(PRODUCTS);
+
+        updater.onPricesChanged(PRICE_CHANGED);
+
+        verify(shardedCatalogStore).reload(PRODUCTS, Set.of(1));
+        assertTrue(updater.getStaleShards().isEmpty());
+    }
+
+    @Test
+    @DisplayName("다시 채우기도 실패하면 그 샤드를 기억했다가 다음 시도에서 채운다")
+    void testFailedResyncRetried() {
+        doThrow(new ShardWriteException(Set.of(1), new IllegalStateException("down")))
+                .when(shardedCatalogStore).changePrices(any());
+        when(productRepository.findAllActiveProductPrices()).thenReturn(PRODUCTS);
+        doThrow(new ShardWriteException(Set.of(1), new IllegalStateException("still down")))
+                .doNothing()
+                .when(shardedCatalogStore).reload(PRODUCTS, Set.of(1));
+
+        updater.onPricesChanged(PRICE_CHANGED);
+        assertEquals(Set.of(1), updater.getStaleShards());
+
+        updater.retryResync();
+        assertTrue(updater.getStaleShards().isEmpty());
+    }
+
+    @Test
+    @DisplayName("브랜드를 다시 읽는 동안 커밋된 가격 변경은 브랜드 교체가 끝난 뒤에 샤드에 반영된다")
+    void testPriceChangeWaitsForBrandReplace() throws InterruptedException {
+        // Given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findActiveProductPricesByBrandIds(List.of(1L))).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return PRODUCTS;
+        });
+        Thread replace = new Thread(() -> updater.onCatalogChanged(new CatalogChangedEvent(1L)));
+        replace.start();
+        assertTrue(reading.await(5, TimeUnit.SECONDS), "브랜드 읽기가 시작되어야 합니다.");
+
+        // When
+        Thread priceChange = new Thread(() -> updater.onPricesChanged(PRICE_CHANGED));
+        priceChange.start();
+        priceChange.join(100);
+        assertTrue(priceChange.isAlive(), "가격 변경은 브랜드 교체가 끝날 때까지 기다려야 합니다.");
+        release.countDown();
+        replace.join(5_000);
+        priceChange.join(5_000);
+
+        // Then
+        InOrder inOrder = inOrder(shardedCatalogStore);
+        inOrder.verify(shardedCatalogStore).replaceBrands(Map.of(1L, PRODUCTS));
+        inOrder.verify(shardedCatalogStore).changePrices(PRICE_CHANGED.getPrices());
+    }
+
+    @Test
+    @DisplayName("실패한 샤드가 없으면 다시 채우지 않는다")
+    void testNoResyncWithoutFailure() {
+        updater.onPricesChanged(PRICE_CHANGED);
+        updater.retryResync();
+
+        assertTrue(updater.getStaleShards().isEmpty());
+        verify(productRepository, never()).findAllActiveProductPrices();
+    }
+}
@@ -0,0 +1,113 @@
+package org.musinsa.category.domain.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.musinsa.category.domain.dto.CategoryLowestPriceDto;
+import org.musinsa.category.domain.dto.ProductPriceDto;
+import org.musinsa.category.domain.event.CatalogPriceChangedEvent.CategoryPrice;
+import org.musinsa.category.domain.index.BrandPriceTotal;
+
+class ShardedCatalogStoreTest {
+
+    private static final List<ProductPriceDto> PRODUCTS = List.of(
+            new ProductPriceDto(1L, 1L, "A", "상의", 11000L),
+            new ProductPriceDto(2L, 1L, "A", "바지", 3000L),
+            new ProductPriceDto(3L, 1L, "A", "모자", 2000L),
+            new ProductPriceDto(4L, 2L, "B", "상의", 9000L),
+            new ProductPriceDto(5L, 2L, "B", "바지", 5000L),
+            new ProductPriceDto(6L, 2L, "B", "모자", 1500L),
+            new ProductPriceDto(7L, 3L, "C", "상의", 1000L),
+            new ProductPriceDto(8L, 4L, "D", "바지", 3000L)
+    );
+
+    private ShardedCatalogStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"category", "brand"})
+    @DisplayName("샤드마다 나눠 담은 카테고리 최저가를 합치면 한 곳에 담은 결과와 같다")
+    void testFindLowestPriceByCategory(String strategy) {
+        store = open(strategy);
+        store.reload(PRODUCTS);
+
+        assertEquals(List.of(
+                new CategoryLowestPriceDto("모자", "B", 1500L),
+                new CategoryLowestPriceDto("바지", "D", 3000L),
+                new CategoryLowestPriceDto("상의", "C", 1000L)
+        ), store.findLowestPriceByCategory());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"category", "brand"})
+    @DisplayName("모든 카테고리를 가진 브랜드 중 합계가 가장 낮은 브랜드를 샤드를 가로질러 고른다")
+    void testFindLowestTotalBrand(String strategy) {
+        store = open(strategy);
+        store.reload(PRODUCTS);
+
+        BrandPriceTotal lowest = store.findLowestTotalBrand().orElseThrow();
+
+        assertEquals("B", lowest.getBrandName());
+        assertEquals(15500L, lowest.getTotalPrice());
+        assertEquals(3, lowest.getProducts().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"category", "brand"})
+    @DisplayName("가격 변경과 브랜드 교체가 소유 샤드에 반영된다")
+    void testWritesRoutedToOwnerShard(String strategy) {
+        store = open(strategy);
+        store.reload(PRODUCTS);
+
+        store.changePrices(List.of(new CategoryPrice(1L, "상의", 4000L)));
+        assertEquals("A", store.findLowestTotalBrand().orElseThrow().getBrandName());
+
+        store.replaceBrands(Map.of(1L, List.of(), 3L, List.of(new ProductPriceDto(9L, 3L, "C", "바지", 500L))));
+        List<CategoryLowestPriceDto> lowest = store.findLowestPriceByCategory();
+        assertEquals(new CategoryLowestPriceDto("바지", "C", 500L), lowest.get(1));
+        assertEquals(new CategoryLowestPriceDto("상의", "B", 9000L), lowest.get(2));
+        assertEquals("B", store.findLowestTotalBrand().orElseThrow().getBrandName());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"category", "brand"})
+    @DisplayName("비어 있는 샤드에서는 최저가 브랜드가 없다")
+    void testEmptyShards(String strategy) {
+        store = open(strategy);
+        store.reload(List.of());
+
+        assertTrue(store.findLowestPriceByCategory().isEmpty());
+        assertTrue(store.findLowestTotalBrand().isEmpty());
+    }
+
+    @Test
+    @DisplayName("카테고리 샤딩은 사전 등록 여부와 무관하게 카테고리 이름만으로 같은 샤드를 고른다")
+    void testCategoryRoutingIsStable() {
+        CatalogShardRouter router = new CatalogShardRouter(CatalogShardRouter.Strategy.CATEGORY, 4);
+        CatalogShardRouter other = new CatalogShardRouter(CatalogShardRouter.Strategy.CATEGORY, 4);
+
+        for (String category : List.of("상의", "바지", "모자", "처음 보는 카테고리")) {
+            int shard = router.shardOf(1L, category);
+            assertTrue(shard >= 0 && shard < 4);
+            assertEquals(shard, router.shardOf(2L, category), "브랜드와 무관해야 합니다.");
+            assertEquals(shard, other.shardOf(1L, category), "라우터 인스턴스와 무관해야 합니다.");
+        }
+    }
+
+    private static ShardedCatalogStore open(String strategy) {
+        return new ShardedCatalogStore(true, strategy, 3,
+                "jdbc:h2:mem:test-shard-" + UUID.randomUUID() + "-%d;DB_CLOSE_DELAY=-1");
+    }
+}